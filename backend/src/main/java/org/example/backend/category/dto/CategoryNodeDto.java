@@ -0,0 +1,16 @@
+package org.example.backend.category.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 카테고리 인덱스 적재용 평면 projection (id, 이름, 부모 id)
+ * 연관관계 프록시를 타지 않고 한 번의 SELECT로 전체 카테고리를 읽기 위해 사용
+ */
+@Getter
+@AllArgsConstructor
+public class CategoryNodeDto {
+    private Long categoryId;
+    private String name;
+    private Long parentId;  // 최상위면 null
+}
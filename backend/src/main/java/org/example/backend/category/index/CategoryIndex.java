@@ -0,0 +1,181 @@
+package org.example.backend.category.index;
+
+import org.example.backend.category.dto.CategoryNodeDto;
+import org.example.backend.category.dto.CategoryTreeDto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카테고리 트리의 불변 스냅샷
+ * 노드별 최하위(leaf) 카테고리 ID 배열과 전체 경로 문자열을 적재 시점에 미리 계산해 둔다.
+ * 생성 이후에는 절대 변경되지 않으므로 여러 스레드에서 락 없이 읽어도 안전하다.
+ */
+public final class CategoryIndex {
+
+    private static final String PATH_SEPARATOR = " > ";
+
+    private final long version;
+    private final Map<Long, Node> nodes;
+    private final long[] rootIds;
+
+    private CategoryIndex(long version, Map<Long, Node> nodes, long[] rootIds) {
+        this.version = version;
+        this.nodes = nodes;
+        this.rootIds = rootIds;
+    }
+
+    /**
+     * 평면 노드 리스트로부터 인덱스를 생성
+     * @param version 스냅샷 버전
+     * @param rows 전체 카테고리 노드 (ID 오름차순)
+     * @return 불변 카테고리 인덱스
+     */
+    public static CategoryIndex build(long version, List<CategoryNodeDto> rows) {
+        // 1단계: 부모 → 자식 관계 구성 (입력 순서 = ID 오름차순 유지)
+        Map<Long, CategoryNodeDto> rowById = new LinkedHashMap<>();
+        Map<Long, List<Long>> childrenById = new HashMap<>();
+        List<Long> roots = new ArrayList<>();
+
+        for (CategoryNodeDto row : rows) {
+            rowById.put(row.getCategoryId(), row);
+            childrenById.put(row.getCategoryId(), new ArrayList<>());
+        }
+        for (CategoryNodeDto row : rows) {
+            Long parentId = row.getParentId();
+            if (parentId == null || !childrenById.containsKey(parentId)) {
+                roots.add(row.getCategoryId());
+            } else {
+                childrenById.get(parentId).add(row.getCategoryId());
+            }
+        }
+
+        // 2단계: 루트부터 내려가며 경로/leaf 배열 계산
+        Map<Long, Node> nodes = new HashMap<>(rowById.size() * 2);
+        for (Long rootId : roots) {
+            buildNode(rootId, null, rowById, childrenById, nodes);
+        }
+
+        return new CategoryIndex(version, Collections.unmodifiableMap(nodes), toArray(roots));
+    }
+
+    private static long[] buildNode(Long id, String parentPath,
+                                    Map<Long, CategoryNodeDto> rowById,
+                                    Map<Long, List<Long>> childrenById,
+                                    Map<Long, Node> nodes) {
+        CategoryNodeDto row = rowById.get(id);
+        String fullPath = parentPath == null ? row.getName() : parentPath + PATH_SEPARATOR + row.getName();
+        List<Long> children = childrenById.get(id);
+
+        long[] leafIds;
+        if (children.isEmpty()) {
+            // 하위 카테고리가 없으면 자기 자신이 최하위 카테고리
+            leafIds = new long[]{id};
+        } else {
+            List<long[]> childLeaves = new ArrayList<>(children.size());
+            int total = 0;
+            for (Long childId : children) {
+                long[] leaves = buildNode(childId, fullPath, rowById, childrenById, nodes);
+                childLeaves.add(leaves);
+                total += leaves.length;
+            }
+            leafIds = new long[total];
+            int pos = 0;
+            for (long[] leaves : childLeaves) {
+                System.arraycopy(leaves, 0, leafIds, pos, leaves.length);
+                pos += leaves.length;
+            }
+        }
+
+        nodes.put(id, new Node(id, row.getName(), toArray(children), leafIds, fullPath));
+        return leafIds;
+    }
+
+    private static long[] toArray(List<Long> ids) {
+        long[] result = new long[ids.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = ids.get(i);
+        }
+        return result;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    public boolean contains(Long categoryId) {
+        return categoryId != null && nodes.containsKey(categoryId);
+    }
+
+    /**
+     * 특정 카테고리 하위의 최하위(leaf) 카테고리 ID 목록
+     * @param categoryId 상위 카테고리 ID
+     * @return leaf 카테고리 ID 리스트, 존재하지 않는 카테고리면 null
+     */
+    public List<Long> getLeafCategoryIds(Long categoryId) {
+        Node node = categoryId != null ? nodes.get(categoryId) : null;
+        if (node == null) {
+            return null;
+        }
+        long[] leafIds = node.leafIds;
+        List<Long> result = new ArrayList<>(leafIds.length);
+        for (long leafId : leafIds) {
+            result.add(leafId);
+        }
+        return result;
+    }
+
+    /**
+     * 카테고리 전체 경로 (예: "디자인 > 로고·브랜딩 > 로고 디자인")
+     * @param categoryId 카테고리 ID
+     * @return 전체 경로, 존재하지 않는 카테고리면 null
+     */
+    public String getFullPath(Long categoryId) {
+        Node node = categoryId != null ? nodes.get(categoryId) : null;
+        return node != null ? node.fullPath : null;
+    }
+
+    /**
+     * 인덱스로부터 카테고리 트리 DTO 생성 (DB 조회 없음)
+     * DTO는 가변 객체이므로 호출할 때마다 새로 만든다.
+     */
+    public List<CategoryTreeDto> toTree() {
+        List<CategoryTreeDto> result = new ArrayList<>(rootIds.length);
+        for (long rootId : rootIds) {
+            result.add(toTreeDto(nodes.get(rootId)));
+        }
+        return result;
+    }
+
+    private CategoryTreeDto toTreeDto(Node node) {
+        List<CategoryTreeDto> children = new ArrayList<>(node.childIds.length);
+        for (long childId : node.childIds) {
+            children.add(toTreeDto(nodes.get(childId)));
+        }
+        return new CategoryTreeDto(node.id, node.name, children);
+    }
+
+    private static final class Node {
+        private final long id;
+        private final String name;
+        private final long[] childIds;
+        private final long[] leafIds;
+        private final String fullPath;
+
+        private Node(long id, String name, long[] childIds, long[] leafIds, String fullPath) {
+            this.id = id;
+            this.name = name;
+            this.childIds = childIds;
+            this.leafIds = leafIds;
+            this.fullPath = fullPath;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package org.example.backend.category.index;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.category.dto.CategoryNodeDto;
+import org.example.backend.repository.CategoryRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 현재 카테고리 인덱스 스냅샷을 보관하는 컴포넌트
+ * - 애플리케이션 기동 완료 시점(CategorySeeder 등 CommandLineRunner 이후)에 한 번 적재
+ * - 카테고리가 변경되면 reload()로 새 스냅샷을 만들어 원자적으로 교체
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryIndexHolder {
+
+    private final CategoryRepository categoryRepository;
+
+    private final AtomicReference<CategoryIndex> current = new AtomicReference<>();
+    private final AtomicLong versionSequence = new AtomicLong();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    /**
+     * DB에서 전체 카테고리를 한 번의 쿼리로 읽어 새 인덱스로 교체
+     * @return 새로 적재된 인덱스
+     */
+    public CategoryIndex reload() {
+        List<CategoryNodeDto> rows = categoryRepository.findAllNodes();
+        CategoryIndex index = CategoryIndex.build(versionSequence.incrementAndGet(), rows);
+        current.set(index);
+        log.info("카테고리 인덱스 적재 완료 - version: {}, 노드 수: {}", index.getVersion(), index.size());
+        return index;
+    }
+
+    /**
+     * 현재 인덱스 스냅샷 반환 (기동 이벤트 이전 호출이면 즉시 적재)
+     */
+    public CategoryIndex get() {
+        CategoryIndex index = current.get();
+        if (index != null) {
+            return index;
+        }
+        synchronized (this) {
+            index = current.get();
+            return index != null ? index : reload();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package org.example.backend.chat.broker;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.simp.user.SimpSubscription;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * destination별 브로드캐스트 지표
+ * - published : 이 인스턴스가 발송한 메시지 수
+ * - delivered : 이 인스턴스의 브로커로 전달된 메시지 수 (redis 모드에서는 다른 인스턴스 발송분 포함)
+ * - failed    : 발송/전달 실패 수
+ * - subscriptions : 조회 시점 이 인스턴스의 구독 세션 수 (메시지 1건당 fan-out 대상 수)
+ * destination의 숫자 경로/구간(채팅방 ID 등)은 {id}로 묶어 키 수가 늘어나지 않도록 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BrokerFanoutMetrics {
+
+    private static final Pattern NUMERIC_SEGMENT = Pattern.compile("(?<=[/.])\\d+(?=[/.]|$)");
+
+    private final SimpUserRegistry simpUserRegistry;
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+
+    public static String normalize(String destination) {
+        return NUMERIC_SEGMENT.matcher(destination).replaceAll("{id}");
+    }
+
+    public void recordPublished(String destination) {
+        countersOf(destination).published.increment();
+    }
+
+    public void recordDelivered(String destination) {
+        countersOf(destination).delivered.increment();
+    }
+
+    public void recordFailed(String destination) {
+        countersOf(destination).failed.increment();
+    }
+
+    private Counters countersOf(String destination) {
+        return counters.computeIfAbsent(normalize(destination), k -> new Counters());
+    }
+
+    /**
+     * 현재 지표 스냅샷 (destination 패턴 이름순)
+     */
+    public Map<String, DestinationStats> snapshot() {
+        Map<String, Integer> subscriptions = new TreeMap<>();
+        for (SimpSubscription subscription : simpUserRegistry.findSubscriptions(s -> true)) {
+            subscriptions.merge(normalize(subscription.getDestination()), 1, Integer::sum);
+        }
+
+        Map<String, DestinationStats> result = new TreeMap<>();
+        counters.forEach((destination, c) -> result.put(destination, new DestinationStats(
+                c.published.sum(), c.delivered.sum(), c.failed.sum(), subscriptions.getOrDefault(destination, 0))));
+        subscriptions.forEach((destination, count) ->
+                result.putIfAbsent(destination, new DestinationStats(0, 0, 0, count)));
+        return result;
+    }
+
+    private static class Counters {
+        private final LongAdder published = new LongAdder();
+        private final LongAdder delivered = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class DestinationStats {
+        private final long published;
+        private final long delivered;
+        private final long failed;
+        private final int subscriptions;
+    }
+}
@@ -0,0 +1,14 @@
+package org.example.backend.chat.broker;
+
+/**
+ * 구독자에게 메시지를 브로드캐스트하는 추상화
+ * - 브로커 모드(chat.broker.mode)에 따라 로컬 브로커로 바로 보내거나 Redis를 거쳐 모든 인스턴스로 전달
+ */
+public interface ChatBroadcaster {
+
+    /**
+     * @param destination 구독 대상 (예: /topic/chatroom.1)
+     * @param payload     JSON으로 직렬화될 메시지
+     */
+    void broadcast(String destination, Object payload);
+}
@@ -0,0 +1,17 @@
+package org.example.backend.chat.broker;
+
+/**
+ * STOMP 브로커 동작 방식 (설정: chat.broker.mode)
+ */
+public enum ChatBrokerMode {
+    /** 인스턴스 내부 simple broker (단일 인스턴스 전용, 기본값) */
+    SIMPLE,
+    /** 인스턴스별 simple broker + Redis pub/sub로 인스턴스 간 브로드캐스트 */
+    REDIS,
+    /** 외부 STOMP 브로커(RabbitMQ, ActiveMQ 등)로 릴레이 */
+    RELAY;
+
+    public static ChatBrokerMode from(String value) {
+        return value == null || value.isBlank() ? SIMPLE : valueOf(value.trim().toUpperCase());
+    }
+}
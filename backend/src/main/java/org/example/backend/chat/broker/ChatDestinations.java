@@ -0,0 +1,40 @@
+package org.example.backend.chat.broker;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 채팅 구독 destination
+ * - 모든 브로커 모드에서 같은 형식(`/topic/chatroom.{roomId}`)을 사용한다.
+ *   relay 모드의 외부 STOMP 브로커(RabbitMQ 등)는 /topic, /queue, /exchange, /amq/queue 만 허용하고
+ *   /topic 이후는 topic exchange routing key로 쓰므로 구분자는 '.'
+ */
+public final class ChatDestinations {
+
+    /** 브로커 구독 prefix (simple/redis/relay 공통) */
+    public static final String BROKER_PREFIX = "/topic";
+
+    private static final String CHAT_ROOM_PREFIX = BROKER_PREFIX + "/chatroom.";
+    private static final Pattern CHAT_ROOM_DESTINATION = Pattern.compile("^/topic/chatroom\\.(\\d+)$");
+
+    private ChatDestinations() {
+    }
+
+    /**
+     * 채팅방 구독 destination (메시지, 입력 중 상태 모두 전달)
+     */
+    public static String chatRoom(Long roomId) {
+        return CHAT_ROOM_PREFIX + roomId;
+    }
+
+    /**
+     * 채팅방 구독 destination이면 채팅방 ID, 아니면 null
+     */
+    public static Long parseChatRoomId(String destination) {
+        if (destination == null) {
+            return null;
+        }
+        Matcher matcher = CHAT_ROOM_DESTINATION.matcher(destination);
+        return matcher.matches() ? Long.valueOf(matcher.group(1)) : null;
+    }
+}
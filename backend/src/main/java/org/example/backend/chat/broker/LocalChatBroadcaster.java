@@ -0,0 +1,32 @@
+package org.example.backend.chat.broker;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * simple / relay 모드 브로드캐스터
+ * - simple: 인스턴스 내부 브로커가 구독자에게 전달
+ * - relay : 외부 STOMP 브로커가 모든 인스턴스의 구독자에게 전달
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnExpression("'${chat.broker.mode:simple}'.toLowerCase() != 'redis'")
+public class LocalChatBroadcaster implements ChatBroadcaster {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final BrokerFanoutMetrics metrics;
+
+    @Override
+    public void broadcast(String destination, Object payload) {
+        metrics.recordPublished(destination);
+        try {
+            messagingTemplate.convertAndSend(destination, payload);
+            metrics.recordDelivered(destination);
+        } catch (RuntimeException e) {
+            metrics.recordFailed(destination);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.backend.chat.broker;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * redis 모드 브로드캐스터
+ * - 발송: {destination, payload} 봉투를 Redis 채널로 publish
+ * - 수신: 모든 인스턴스(발송 인스턴스 포함)가 채널을 구독하고, 받은 메시지를 자기 simple broker로 전달
+ * 구독자가 어느 인스턴스에 연결되어 있든 메시지를 받을 수 있다.
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression("'${chat.broker.mode:simple}'.toLowerCase() == 'redis'")
+public class RedisChatBroadcaster implements ChatBroadcaster, MessageListener {
+
+    static final String CHANNEL = "chat:broadcast";
+
+    private final StringRedisTemplate redisTemplate;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final BrokerFanoutMetrics metrics;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    public RedisChatBroadcaster(StringRedisTemplate redisTemplate,
+                                SimpMessagingTemplate messagingTemplate,
+                                ObjectMapper objectMapper,
+                                BrokerFanoutMetrics metrics,
+                                RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+        this.metrics = metrics;
+        this.listenerContainer = listenerContainer;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        log.info("채팅 브로드캐스트 Redis 채널 구독 - channel: {}", CHANNEL);
+    }
+
+    @Override
+    public void broadcast(String destination, Object payload) {
+        metrics.recordPublished(destination);
+        try {
+            ObjectNode envelope = objectMapper.createObjectNode();
+            envelope.put("destination", destination);
+            envelope.set("payload", objectMapper.valueToTree(payload));
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(envelope));
+        } catch (IOException | RuntimeException e) {
+            metrics.recordFailed(destination);
+            throw new IllegalStateException("채팅 메시지 브로드캐스트 실패: " + destination, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String destination = null;
+        try {
+            JsonNode envelope = objectMapper.readTree(new String(message.getBody(), StandardCharsets.UTF_8));
+            destination = envelope.path("destination").asText(null);
+            if (destination == null) {
+                log.warn("destination 없는 브로드캐스트 메시지 무시");
+                return;
+            }
+            messagingTemplate.convertAndSend(destination, envelope.get("payload"));
+            metrics.recordDelivered(destination);
+        } catch (IOException | RuntimeException e) {
+            if (destination != null) {
+                metrics.recordFailed(destination);
+            }
+            log.error("Redis 브로드캐스트 메시지 전달 실패 - destination: {}", destination, e);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.backend.chat.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.backend.chat.broker.BrokerFanoutMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 채팅 브로커 운영 지표 (관리자 전용, /admin/** 는 ADMIN 권한 필요)
+ */
+@RestController
+@RequestMapping("/admin/chat/broker")
+@RequiredArgsConstructor
+public class ChatBrokerAdminController {
+
+    private final BrokerFanoutMetrics brokerFanoutMetrics;
+
+    @Value("${chat.broker.mode:simple}")
+    private String brokerMode;
+
+    /**
+     * destination별 발송/전달/실패 수와 현재 구독 수
+     */
+    @GetMapping("/metrics")
+    public ResponseEntity<Map<String, Object>> getMetrics() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("mode", brokerMode);
+        body.put("destinations", brokerFanoutMetrics.snapshot());
+        return ResponseEntity.ok(body);
+    }
+}
@@ -16,14 +16,20 @@ public class ChatMessageController {
     private final ChatMessageService chatMessageService;
 
     /**
-     * 특정 채팅방 메시지 조회
+     * 특정 채팅방 메시지 조회 (오래된 순)
+     * - before: 이 메시지 ID 이전 메시지 (위로 스크롤, 생략 시 가장 최근 메시지부터)
+     * - after : 이 메시지 ID 이후 메시지 (재접속 시 놓친 메시지)
+     * - limit : 최대 개수 (기본 50, 최대 200)
      */
     @GetMapping("/messages")
     public List<ChatMessageRespondDto> getMessages(
             @PathVariable Long roomId,
+            @RequestParam(required = false) Long before,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit,
             Principal principal   // ✅ JWT에서 인증된 사용자
     ) {
         String myEmail = principal.getName(); // JWTFilter에서 넣은 username(email)
-        return chatMessageService.getMessages(roomId);
+        return chatMessageService.getMessages(myEmail, roomId, before, after, limit);
     }
 }
\ No newline at end of file
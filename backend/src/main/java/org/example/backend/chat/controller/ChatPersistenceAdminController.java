@@ -0,0 +1,29 @@
+package org.example.backend.chat.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.backend.chat.persistence.ChatMessageWriteBehindQueue;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 채팅 메시지 저장(write-behind) 운영 지표 (관리자 전용, /admin/** 는 ADMIN 권한 필요)
+ */
+@RestController
+@RequestMapping("/admin/chat/persistence")
+@RequiredArgsConstructor
+public class ChatPersistenceAdminController {
+
+    private final ChatMessageWriteBehindQueue chatMessageWriteBehindQueue;
+
+    /**
+     * 대기열 깊이, 플러시 수/소요 시간(평균·최대), dead-letter/실패/거절 수
+     */
+    @GetMapping("/metrics")
+    public ResponseEntity<Map<String, Object>> getMetrics() {
+        return ResponseEntity.ok(chatMessageWriteBehindQueue.snapshot());
+    }
+}
@@ -3,6 +3,7 @@ package org.example.backend.chat.controller;
 import lombok.RequiredArgsConstructor;
 import org.example.backend.chat.dto.ChatRoomDto;
 import org.example.backend.chat.dto.ChatRoomListDto;
+import org.example.backend.chat.dto.ChatUnreadCountDto;
 import org.example.backend.chat.dto.TargetEmailRequest;
 import org.example.backend.chat.service.ChatRoomService;
 import org.example.backend.entity.ChatRoom;
@@ -54,4 +55,25 @@ public class ChatRoomController {
         List<ChatRoomListDto> myRooms = chatRoomService.getMyChatRooms(myEmail);
         return ResponseEntity.ok(myRooms);
     }
+
+    /**
+     * 내가 속한 모든 채팅방의 안 읽은 메시지 수
+     */
+    @GetMapping("/unread")
+    public ResponseEntity<List<ChatUnreadCountDto>> getUnreadCounts(Principal principal) {
+        return ResponseEntity.ok(chatRoomService.getUnreadCounts(principal.getName()));
+    }
+
+    /**
+     * 채팅방 읽음 처리 (upToChatId가 없으면 현재까지 보낸 메시지 전부 읽음)
+     */
+    @PostMapping("/{roomId}/read")
+    public ResponseEntity<Void> markRead(
+            Principal principal,
+            @PathVariable Long roomId,
+            @RequestParam(required = false) Long upToChatId
+    ) {
+        chatRoomService.markRead(principal.getName(), roomId, upToChatId);
+        return ResponseEntity.noContent().build();
+    }
 }
\ No newline at end of file
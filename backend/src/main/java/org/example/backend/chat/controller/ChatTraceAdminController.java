@@ -0,0 +1,64 @@
+package org.example.backend.chat.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.backend.chat.websocket.ChatChannelExecutors;
+import org.example.backend.chat.websocket.StompTracer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * STOMP 프레임 추적 설정/지표와 채널 실행기 상태 (관리자 전용, /admin/** 는 ADMIN 권한 필요)
+ */
+@RestController
+@RequestMapping("/admin/chat/trace")
+@RequiredArgsConstructor
+public class ChatTraceAdminController {
+
+    private final StompTracer stompTracer;
+    private final ChatChannelExecutors chatChannelExecutors;
+
+    /**
+     * 방향/타입/destination별 프레임 수, 오류 수, 처리 시간 분포
+     */
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getTrace() {
+        return ResponseEntity.ok(stompTracer.snapshot());
+    }
+
+    /**
+     * inbound/outbound 채널 실행기의 풀/큐 상태
+     */
+    @GetMapping("/executors")
+    public ResponseEntity<Map<String, Object>> getExecutors() {
+        return ResponseEntity.ok(chatChannelExecutors.snapshot());
+    }
+
+    /**
+     * 추적 설정 변경
+     * - sampleRate: 처리 시간 측정/페이로드 로그 샘플링 비율 (0.0 ~ 1.0)
+     * - payloadCaptureMinutes: 페이로드 로그를 켜 둘 시간(분), 0이면 즉시 끔
+     * - maxPayloadBytes: 로그에 남길 페이로드 최대 바이트
+     */
+    @PutMapping("/settings")
+    public ResponseEntity<Map<String, Object>> updateSettings(
+            @RequestParam(required = false) Double sampleRate,
+            @RequestParam(required = false) Long payloadCaptureMinutes,
+            @RequestParam(required = false) Integer maxPayloadBytes) {
+        if (sampleRate != null) {
+            stompTracer.setSampleRate(sampleRate);
+        }
+        if (payloadCaptureMinutes != null) {
+            stompTracer.enablePayloadCapture(payloadCaptureMinutes);
+        }
+        if (maxPayloadBytes != null) {
+            stompTracer.setMaxPayloadBytes(maxPayloadBytes);
+        }
+        return ResponseEntity.ok(stompTracer.snapshot());
+    }
+}
@@ -2,16 +2,18 @@ package org.example.backend.chat.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.backend.chat.broker.ChatBroadcaster;
+import org.example.backend.chat.broker.ChatDestinations;
 import org.example.backend.chat.dto.*;
 import org.example.backend.chat.service.ChatMessageService;
+import org.example.backend.chat.service.ChatPresenceService;
 import org.example.backend.chat.service.ChatRoomMemberService;
 import org.example.backend.chat.service.ChatRoomService;
-import org.example.backend.entity.ChatMessage;
+import org.example.backend.chat.websocket.ChatSessionContext;
 import org.example.backend.repository.MemberRepository;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -25,12 +27,14 @@ import java.util.stream.Collectors;
 public class ChatWebSocketController {
 
     private final ChatMessageService chatMessageService;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatBroadcaster chatBroadcaster;
+    private final ChatPresenceService chatPresenceService;
 
     /**
      * ✅ 메시지 발송 (WebSocket)
      * - 사용자가 `/pub/chat/{roomId}.send` 로 메시지를 보내면,
-     * - DB에 저장 후 `/sub/chatroom/{roomId}` 를 구독한 사용자들에게 브로드캐스트
+     * - 메시지 ID 발급 후 `/topic/chatroom.{roomId}` 를 구독한 사용자들에게 바로 브로드캐스트
+     * - DB 저장은 write-behind 큐에서 비동기로 묶어서 처리
      */
     @MessageMapping("/chat/{roomId}.send")
     public void sendMessage(
@@ -41,17 +45,43 @@ public class ChatWebSocketController {
         String senderEmail = principal.getName(); // ✅ 현재 로그인 유저 이메일
         log.info("📩 메시지 수신 roomId={} sender={} msg={}", roomId, senderEmail, request.getMessage());
 
-        // ✅ 메시지 DB 저장
-        ChatMessage savedMessage = chatMessageService.saveMessage(
+        // ✅ 메시지 ID 발급 + 비동기 저장 요청
+        ChatSessionContext sender = ChatSessionContext.of(principal); // ✅ 연결 단위 캐시 (회원 ID, 참여 채팅방)
+        ChatMessageRespondDto response = chatMessageService.sendMessage(
+                sender,
                 roomId,
-                senderEmail,
                 request.getMessage()
         );
 
-        // ✅ 응답 DTO 변환
-        ChatMessageRespondDto response = ChatMessageRespondDto.from(savedMessage);
-
         // ✅ 채팅방 구독자들에게 메시지 브로드캐스트
-        messagingTemplate.convertAndSend("/sub/chatroom/" + roomId, response);
+        chatBroadcaster.broadcast(ChatDestinations.chatRoom(roomId), response);
+
+        // ✅ 메시지를 보냈으면 입력 중 상태 종료
+        chatPresenceService.stopTyping(roomId, sender.getMemberId());
+    }
+
+    /**
+     * ✅ 입력 중 알림 (WebSocket)
+     * - `/pub/chat/{roomId}.typing` 로 입력할 때마다 보내도 첫 이벤트만 `/topic/chatroom.{roomId}` 로 전달
+     * - 일정 시간 입력이 없으면 서버가 입력 종료(typing=false)를 전달
+     */
+    @MessageMapping("/chat/{roomId}.typing")
+    public void typing(@DestinationVariable Long roomId, Principal principal) {
+        chatPresenceService.typing(ChatSessionContext.of(principal), roomId);
+    }
+
+    /**
+     * ✅ 읽음 처리 (WebSocket)
+     * - `/pub/chat/{roomId}.read` : { "upToChatId": 123 } 까지 읽음 (본문이 없으면 현재까지 전부)
+     * - 마지막으로 읽은 시각/위치 갱신과 안 읽은 수 재계산은 주기적으로 일괄 처리
+     */
+    @MessageMapping("/chat/{roomId}.read")
+    public void read(
+            @DestinationVariable Long roomId,
+            @Payload(required = false) ChatReadRequestDto request,
+            Principal principal
+    ) {
+        Long upToChatId = request != null ? request.getUpToChatId() : null;
+        chatPresenceService.markRead(ChatSessionContext.of(principal), roomId, upToChatId);
     }
 }
\ No newline at end of file
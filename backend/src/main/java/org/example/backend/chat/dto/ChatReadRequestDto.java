@@ -0,0 +1,15 @@
+package org.example.backend.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// ✅ 클라이언트가 읽음 처리를 요청할 때
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatReadRequestDto {
+    private Long upToChatId;    // 어디까지 읽었는지 (메시지 ID, 없으면 현재까지 전부)
+}
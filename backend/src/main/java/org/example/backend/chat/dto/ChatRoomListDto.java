@@ -4,12 +4,17 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
+
 @Getter
 @Setter
 @AllArgsConstructor
 public class ChatRoomListDto {
     private Long roomId;
+    private Long opponentId;
     private String opponentName;
     private String opponentProfileImage;
-    private String lastMessage;
+    private String lastMessage;           // 최근 메시지 미리보기
+    private LocalDateTime lastMessageTime;
+    private Integer unreadCount;          // 읽지 않은 메시지 수
 }
@@ -9,11 +9,13 @@ import org.example.backend.entity.Member;
 public class ChatRoomMemberResponse {
     private Long memberId;
     private String username;
+    private boolean online;   // 현재 채팅 WebSocket 접속 여부
 
-    public static ChatRoomMemberResponse from(Member member) {
+    public static ChatRoomMemberResponse from(Member member, boolean online) {
         return new ChatRoomMemberResponse(
                 member.getMemberId(),
-                member.getNickname()  // username 대신 nickname 사용
+                member.getNickname(),  // username 대신 nickname 사용
+                online
         );
     }
 }
\ No newline at end of file
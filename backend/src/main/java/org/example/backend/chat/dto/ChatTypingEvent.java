@@ -0,0 +1,15 @@
+package org.example.backend.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// ✅ 입력 중 상태 알림 (/topic/chatroom.{roomId} 로 메시지와 함께 전달, type으로 구분)
+@Getter
+@AllArgsConstructor
+public class ChatTypingEvent {
+    private final String type = "TYPING";
+    private Long roomId;
+    private Long memberId;
+    private String nickname;
+    private boolean typing;   // true: 입력 시작, false: 입력 종료(일정 시간 입력 없음/메시지 발송/연결 종료)
+}
@@ -0,0 +1,12 @@
+package org.example.backend.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// ✅ 채팅방별 안 읽은 메시지 수
+@Getter
+@AllArgsConstructor
+public class ChatUnreadCountDto {
+    private Long roomId;
+    private Integer unreadCount;
+}
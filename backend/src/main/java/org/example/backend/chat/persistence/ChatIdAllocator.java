@@ -0,0 +1,136 @@
+package org.example.backend.chat.persistence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 채팅 메시지 ID 발급기 (DB 테이블 기반 대역 할당)
+ * - id_block_sequence의 chat_message 행을 행 잠금으로 갱신해 blockSize개씩 대역을 받아 오고,
+ *   대역 안에서는 메모리에서 순서대로 발급한다. 인스턴스가 여러 개여도 대역이 겹치지 않는다.
+ * - 시퀀스 행이 없으면 chat_message의 최대 ID 다음 값으로 만든다(먼저 만든 인스턴스 값을 사용).
+ * - 대역 예약(DB 왕복)은 별도 잠금에서 하므로, 예약 중에도 tryNextId는 DB를 기다리지 않는다.
+ *   호출 측은 자기 잠금 밖에서 ensureAvailable로 대역을 채우고 잠금 안에서는 tryNextId만 부르면 된다.
+ *
+ * ID는 인스턴스 안에서 단조 증가하며, 인스턴스 사이의 순서는 대역 단위로만 보장된다.
+ */
+@Slf4j
+@Component
+public class ChatIdAllocator {
+
+    static final String SEQUENCE_NAME = "chat_message";
+
+    private static final String RESERVE_SQL =
+            "UPDATE id_block_sequence SET next_val = next_val + ? WHERE sequence_name = ?";
+    private static final String SELECT_SQL =
+            "SELECT next_val FROM id_block_sequence WHERE sequence_name = ?";
+    private static final String INSERT_SQL =
+            "INSERT INTO id_block_sequence (sequence_name, next_val) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNew;
+    private final int blockSize;
+
+    // 대역 예약은 한 번에 하나만 (발급용 모니터와 분리)
+    private final Object reserveLock = new Object();
+
+    // 현재 대역 [nextId, blockEnd) (초기값은 빈 대역, this 모니터로 보호)
+    private long nextId = 0;
+    private long blockEnd = 0;
+
+    public ChatIdAllocator(JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${chat.message.id-block-size:100}") int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("chat.message.id-block-size는 1 이상이어야 합니다: " + blockSize);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * 다음 메시지 ID 발급 (대역을 다 쓰면 DB에서 새 대역을 받아 옴)
+     */
+    public long nextId() {
+        while (true) {
+            ensureAvailable();
+            Long id = tryNextId();
+            if (id != null) {
+                return id;
+            }
+        }
+    }
+
+    /**
+     * 현재 대역에서 다음 ID 발급 (메모리만 사용, 대역을 다 썼으면 null)
+     */
+    public synchronized Long tryNextId() {
+        return nextId < blockEnd ? nextId++ : null;
+    }
+
+    /**
+     * 현재 대역을 다 썼으면 새 대역 예약 (DB 왕복, 다른 스레드가 예약 중이면 끝날 때까지 대기)
+     */
+    public void ensureAvailable() {
+        if (hasRemaining()) {
+            return;
+        }
+        synchronized (reserveLock) {
+            if (hasRemaining()) {
+                return;
+            }
+            long end = reserveBlock();
+            synchronized (this) {
+                blockEnd = end;
+                nextId = end - blockSize;
+            }
+            log.debug("채팅 메시지 ID 대역 할당 {} ~ {}", end - blockSize, end - 1);
+        }
+    }
+
+    private synchronized boolean hasRemaining() {
+        return nextId < blockEnd;
+    }
+
+    // 새 대역 끝 값 (시퀀스 행이 없으면 먼저 생성)
+    private long reserveBlock() {
+        Long end = tryReserve();
+        if (end == null) {
+            createSequence();
+            end = tryReserve();
+        }
+        if (end == null) {
+            throw new IllegalStateException("채팅 메시지 ID 대역을 할당하지 못했습니다.");
+        }
+        return end;
+    }
+
+    // 시퀀스 행을 blockSize만큼 올리고 올린 뒤 값(대역 끝) 반환, 행이 없으면 null
+    // 행 잠금은 이 짧은 트랜잭션 동안만 유지된다.
+    private Long tryReserve() {
+        return requiresNew.execute(status -> {
+            if (jdbcTemplate.update(RESERVE_SQL, blockSize, SEQUENCE_NAME) == 0) {
+                return null;
+            }
+            return jdbcTemplate.queryForObject(SELECT_SQL, Long.class, SEQUENCE_NAME);
+        });
+    }
+
+    // 시퀀스 행 생성 (다른 인스턴스가 먼저 만들었으면 그 값을 그대로 사용)
+    private void createSequence() {
+        Long maxChatId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(chat_id), 0) FROM chat_message", Long.class);
+        try {
+            requiresNew.executeWithoutResult(status ->
+                    jdbcTemplate.update(INSERT_SQL, SEQUENCE_NAME, (maxChatId != null ? maxChatId : 0L) + 1));
+        } catch (DuplicateKeyException e) {
+            log.debug("채팅 메시지 ID 시퀀스가 이미 생성됨");
+        }
+    }
+}
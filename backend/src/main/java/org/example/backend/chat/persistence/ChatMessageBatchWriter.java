@@ -0,0 +1,95 @@
+package org.example.backend.chat.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.example.backend.entity.ChatRoom;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 채팅 메시지 일괄 기록기
+ * - 메시지 INSERT와 채팅방 요약(last_message_time, last_message_preview), 상대 참여자 안 읽은 수 증가를
+ *   JDBC batch로 한 트랜잭션에서 처리
+ * - JPA 영속성 컨텍스트를 거치지 않으므로 엔티티 조회 없이 ID 값만으로 기록한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatMessageBatchWriter {
+
+    private static final String INSERT_MESSAGE_SQL =
+            "INSERT INTO chat_message (chat_id, chatroom_id, sender_id, message, is_read, send_at, reg_time, update_time) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // 늦게 도착한 배치가 더 최근 메시지를 덮어쓰지 않도록 조건부 갱신
+    private static final String UPDATE_LAST_MESSAGE_SQL =
+            "UPDATE chat_room SET last_message_time = ?, last_message_preview = ? " +
+            "WHERE chatroom_id = ? AND (last_message_time IS NULL OR last_message_time < ?)";
+
+    // 상대 참여자의 안 읽은 수 증가 (메시지마다 한 행) - 이미 그 메시지까지 읽음 처리된 경우(기록 전에 읽음)는 제외.
+    // 배치 중간까지 읽은 참여자도 읽은 위치 이후 메시지 수만큼만 증가
+    private static final String INCREMENT_UNREAD_SQL =
+            "UPDATE chat_room_member SET unread_count = unread_count + 1 " +
+            "WHERE chat_room_id = ? AND member_id <> ? AND (last_read_chat_id IS NULL OR last_read_chat_id < ?)";
+
+    private static final String INSERT_DEAD_LETTER_SQL =
+            "INSERT INTO chat_message_dead_letter (chat_id, chatroom_id, sender_id, message, send_at, last_error, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 메시지 묶음을 한 트랜잭션으로 기록
+     * @param messages 기록할 메시지 (발급 순서)
+     */
+    public void write(List<PendingChatMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> messageArgs = new ArrayList<>(messages.size());
+        List<Object[]> unreadArgs = new ArrayList<>(messages.size());
+        Map<Long, PendingChatMessage> lastMessageByRoom = new HashMap<>();
+        for (PendingChatMessage m : messages) {
+            Timestamp sendAt = Timestamp.valueOf(m.getSendAt());
+            messageArgs.add(new Object[]{m.getChatId(), m.getRoomId(), m.getSenderId(), m.getMessage(), false, sendAt, sendAt, sendAt});
+            unreadArgs.add(new Object[]{m.getRoomId(), m.getSenderId(), m.getChatId()});
+            lastMessageByRoom.merge(m.getRoomId(), m, (a, b) -> a.getChatId() > b.getChatId() ? a : b);
+        }
+
+        List<Object[]> roomArgs = new ArrayList<>(lastMessageByRoom.size());
+        lastMessageByRoom.forEach((roomId, last) -> {
+            Timestamp ts = Timestamp.valueOf(last.getSendAt());
+            roomArgs.add(new Object[]{ts, ChatRoom.toPreview(last.getMessage()), roomId, ts});
+        });
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_MESSAGE_SQL, messageArgs);
+            jdbcTemplate.batchUpdate(UPDATE_LAST_MESSAGE_SQL, roomArgs);
+            jdbcTemplate.batchUpdate(INCREMENT_UNREAD_SQL, unreadArgs);
+        });
+    }
+
+    /**
+     * chat_message에 기록하지 못한 메시지를 dead-letter 테이블에 보관
+     * @param message 기록 실패한 메시지
+     * @param error 마지막 실패 원인
+     */
+    public void writeDeadLetter(PendingChatMessage message, Exception error) {
+        String lastError = String.valueOf(error.getMessage());
+        if (lastError.length() > MAX_ERROR_LENGTH) {
+            lastError = lastError.substring(0, MAX_ERROR_LENGTH);
+        }
+        jdbcTemplate.update(INSERT_DEAD_LETTER_SQL, message.getChatId(), message.getRoomId(), message.getSenderId(),
+                message.getMessage(), Timestamp.valueOf(message.getSendAt()), lastError, Timestamp.valueOf(LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,313 @@
+package org.example.backend.chat.persistence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.exception.customException.ChatMessageQueueFullException;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 채팅 메시지 write-behind 큐
+ * - 메시지는 ID를 발급받아 먼저 브로드캐스트되고, 이 큐를 거쳐 전용 스레드에서 묶음으로 기록된다.
+ * - ID 발급과 큐 적재를 한 잠금 안에서 처리하고 기록은 플러시 스레드 하나만 하므로, 인스턴스 안에서는 ID 순서대로 기록된다.
+ *   잠금 안에서는 메모리 작업만 한다: 큐 자리 확보(대기)와 ID 대역 예약(DB 왕복)은 잠금을 잡기 전에 끝낸다.
+ * - 큐가 가득 차면 일정 시간 대기 후에도 자리가 없을 때 메시지를 거절한다(backpressure, 브로드캐스트 전이므로 유실 없음).
+ * - 묶음 기록이 실패하면 한 건씩 다시 기록해 문제 메시지만 dead-letter 테이블로 보내고,
+ *   DB 자체가 응답하지 않으면 복구될 때까지 간격을 늘려 가며 재시도한다.
+ * - 종료 시 남은 메시지를 모두 기록한 뒤 내려간다.
+ *
+ * 메시지 ID는 ChatIdAllocator가 DB에서 받아 온 대역으로 발급하므로 여러 인스턴스에서도 겹치지 않는다.
+ */
+@Slf4j
+@Component
+public class ChatMessageWriteBehindQueue {
+
+    static final int CAPACITY = 10_000;
+    static final int MAX_BATCH_SIZE = 500;
+    private static final long FLUSH_INTERVAL_MS = 50;
+    private static final long OFFER_TIMEOUT_MS = 100;
+    private static final long RETRY_BACKOFF_MS = 100;
+    private static final long MAX_RETRY_BACKOFF_MS = 5_000;
+    private static final int MAX_SHUTDOWN_ROUNDS = 3;
+
+    private final ChatMessageBatchWriter writer;
+    private final ChatIdAllocator idAllocator;
+    private final BlockingQueue<PendingChatMessage> queue;
+
+    // 큐의 빈 자리 (잠금 밖에서 확보, 플러시 스레드가 꺼내 갈 때 반환) → 잠금 안의 적재는 기다리지 않음
+    private final Semaphore slots;
+
+    // ID 발급 → 큐 적재 순서를 고정하기 위한 잠금 (메모리 작업만 수행)
+    private final ReentrantLock submitLock = new ReentrantLock();
+
+    private volatile boolean running = false;
+    private Thread flusher;
+
+    // 지표
+    private final AtomicLong flushCount = new AtomicLong();
+    private final AtomicLong flushedMessageCount = new AtomicLong();
+    private final AtomicLong deadLetterCount = new AtomicLong();
+    private final AtomicLong failedMessageCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong totalFlushNanos = new AtomicLong();
+    private final AtomicLong maxFlushNanos = new AtomicLong();
+
+    public ChatMessageWriteBehindQueue(ChatMessageBatchWriter writer, ChatIdAllocator idAllocator) {
+        this(writer, idAllocator, CAPACITY);
+    }
+
+    ChatMessageWriteBehindQueue(ChatMessageBatchWriter writer, ChatIdAllocator idAllocator, int capacity) {
+        this.writer = writer;
+        this.idAllocator = idAllocator;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.slots = new Semaphore(capacity);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        flusher = new Thread(this::runFlushLoop, "chat-write-behind");
+        flusher.start();
+    }
+
+    /**
+     * 종료 시: 새 메시지 접수를 멈추고 플러시 스레드를 정리한 뒤 남은 메시지를 모두 기록
+     */
+    @PreDestroy
+    public void shutdown() {
+        submitLock.lock();
+        try {
+            running = false;
+        } finally {
+            submitLock.unlock();
+        }
+        if (flusher != null) {
+            try {
+                flusher.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        List<PendingChatMessage> remaining = new ArrayList<>();
+        while (queue.drainTo(remaining, MAX_BATCH_SIZE) > 0) {
+            slots.release(remaining.size());
+            flush(remaining);
+            remaining.clear();
+        }
+        log.info("채팅 메시지 write-behind 종료 - 기록: {}, dead-letter: {}, 실패: {}",
+                flushedMessageCount.get(), deadLetterCount.get(), failedMessageCount.get());
+    }
+
+    /**
+     * 메시지 ID 발급 + 기록 요청
+     * - 큐에 자리가 나기를 잠시 기다리고, 그래도 가득 차 있으면 거절 (호출 측은 브로드캐스트하지 않음)
+     * @return ID가 발급된 메시지
+     */
+    public PendingChatMessage submit(Long roomId, Long senderId, String message) {
+        try {
+            if (!slots.tryAcquire(OFFER_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                throw reject(roomId);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw reject(roomId);
+        }
+        boolean enqueued = false;
+        try {
+            while (true) {
+                idAllocator.ensureAvailable();      // 대역을 다 썼으면 잠금 밖에서 새 대역 예약
+                submitLock.lock();
+                try {
+                    if (!running) {
+                        throw new IllegalStateException("채팅 메시지 저장 대기열이 동작 중이 아닙니다.");
+                    }
+                    Long chatId = idAllocator.tryNextId();
+                    if (chatId == null) {
+                        continue;                   // 그 사이 다른 스레드가 대역을 다 씀 → 다시 예약
+                    }
+                    PendingChatMessage pending = new PendingChatMessage(
+                            chatId, roomId, senderId, message, LocalDateTime.now());
+                    queue.add(pending);             // 자리는 slots로 이미 확보
+                    enqueued = true;
+                    return pending;
+                } finally {
+                    submitLock.unlock();
+                }
+            }
+        } finally {
+            if (!enqueued) {
+                slots.release();
+            }
+        }
+    }
+
+    private ChatMessageQueueFullException reject(Long roomId) {
+        rejectedCount.incrementAndGet();
+        log.warn("채팅 메시지 대기열 포화 - 메시지 거절 roomId={} 대기 {}건", roomId, queue.size());
+        return new ChatMessageQueueFullException("메시지 전송이 지연되고 있습니다. 잠시 후 다시 시도해 주세요.");
+    }
+
+    private void runFlushLoop() {
+        List<PendingChatMessage> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        while (running) {
+            try {
+                PendingChatMessage first = queue.poll(FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+                slots.release(batch.size());
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("채팅 메시지 플러시 루프 오류", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 묶음 기록
+     * - 실패하면 한 건씩 기록해 문제 메시지만 dead-letter로 보냄
+     * - DB가 응답하지 않아 dead-letter 기록도 실패하면 남은 메시지를 순서대로 다시 시도 (종료 중이면 MAX_SHUTDOWN_ROUNDS회까지)
+     */
+    private void flush(List<PendingChatMessage> batch) {
+        List<PendingChatMessage> pending = batch;
+        long backoffMs = RETRY_BACKOFF_MS;
+        for (int round = 1; ; round++) {
+            pending = writeBatch(pending) ? Collections.emptyList() : writeOneByOne(pending);
+            if (pending.isEmpty()) {
+                return;
+            }
+            if (!running && round >= MAX_SHUTDOWN_ROUNDS) {
+                failedMessageCount.addAndGet(pending.size());
+                log.error("채팅 메시지 기록 실패(종료 중) - {}건 (chatId {} ~ {})",
+                        pending.size(), pending.get(0).getChatId(), pending.get(pending.size() - 1).getChatId());
+                return;
+            }
+            log.warn("채팅 메시지 기록 불가 - {}ms 후 재시도, 미기록 {}건, 대기 {}건", backoffMs, pending.size(), queue.size());
+            try {
+                Thread.sleep(backoffMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            backoffMs = Math.min(backoffMs * 2, MAX_RETRY_BACKOFF_MS);
+        }
+    }
+
+    private boolean writeBatch(List<PendingChatMessage> batch) {
+        long start = System.nanoTime();
+        try {
+            writer.write(batch);
+            recordFlush(batch.size(), System.nanoTime() - start);
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("채팅 메시지 묶음 기록 실패 - {}건, 한 건씩 재시도: {}", batch.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 한 건씩 기록 (ID 순서 유지)
+     * @return 기록도 dead-letter 보관도 하지 못한 메시지 (DB 장애로 판단해 그 이후 메시지는 시도하지 않음)
+     */
+    private List<PendingChatMessage> writeOneByOne(List<PendingChatMessage> batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            PendingChatMessage message = batch.get(i);
+            long start = System.nanoTime();
+            try {
+                writer.write(List.of(message));
+                recordFlush(1, System.nanoTime() - start);
+            } catch (RuntimeException writeError) {
+                try {
+                    writer.writeDeadLetter(message, writeError);
+                    deadLetterCount.incrementAndGet();
+                    log.error("채팅 메시지 기록 실패 - dead-letter 보관 chatId={} roomId={}",
+                            message.getChatId(), message.getRoomId(), writeError);
+                } catch (RuntimeException deadLetterError) {
+                    log.warn("dead-letter 기록 실패 - DB 장애로 판단: {}", deadLetterError.getMessage());
+                    return new ArrayList<>(batch.subList(i, batch.size()));
+                }
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    private void recordFlush(int size, long elapsedNanos) {
+        flushCount.incrementAndGet();
+        flushedMessageCount.addAndGet(size);
+        totalFlushNanos.addAndGet(elapsedNanos);
+        maxFlushNanos.accumulateAndGet(elapsedNanos, Math::max);
+        log.debug("채팅 메시지 {}건 기록 - {}ms, 대기 {}건", size, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), queue.size());
+    }
+
+    // ===== 지표 조회 =====
+
+    /**
+     * 운영 지표 (관리자 API용)
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("running", running);
+        metrics.put("queueDepth", getQueueDepth());
+        metrics.put("queueCapacity", queue.size() + queue.remainingCapacity());
+        metrics.put("flushCount", getFlushCount());
+        metrics.put("flushedMessageCount", getFlushedMessageCount());
+        metrics.put("averageFlushMillis", getAverageFlushMillis());
+        metrics.put("maxFlushMillis", getMaxFlushMillis());
+        metrics.put("deadLetterCount", getDeadLetterCount());
+        metrics.put("failedMessageCount", getFailedMessageCount());
+        metrics.put("rejectedCount", getRejectedCount());
+        return metrics;
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public long getFlushCount() {
+        return flushCount.get();
+    }
+
+    public long getFlushedMessageCount() {
+        return flushedMessageCount.get();
+    }
+
+    public long getDeadLetterCount() {
+        return deadLetterCount.get();
+    }
+
+    public long getFailedMessageCount() {
+        return failedMessageCount.get();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    public double getAverageFlushMillis() {
+        long count = flushCount.get();
+        return count == 0 ? 0.0 : totalFlushNanos.get() / (double) count / 1_000_000;
+    }
+
+    public double getMaxFlushMillis() {
+        return maxFlushNanos.get() / 1_000_000.0;
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.backend.chat.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 채팅방 참여자 읽음/입력 시각 일괄 기록기
+ * - 이벤트마다 UPDATE하지 않고 모아 둔 (채팅방, 회원)별 최신 값을 JDBC batch로 한 번에 갱신
+ * - 읽음 처리: 읽은 위치(메시지 ID) 저장과 안 읽은 수 재계산을 (채팅방, 회원)당 한 문장으로 처리
+ *   (메시지별 is_read UPDATE 없음, 재계산은 chat_message (chatroom_id, chat_id) 인덱스 범위 조회)
+ * - 늦게 도착한 배치가 더 최근 값을 덮어쓰지 않도록 조건부 갱신
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatReadMarkWriter {
+
+    private static final String UPDATE_LAST_READ_SQL =
+            "UPDATE chat_room_member SET last_read_at = ?, last_read_chat_id = ?, unread_count = (" +
+            "SELECT COUNT(*) FROM chat_message c WHERE c.chatroom_id = ? AND c.sender_id <> ? AND c.chat_id > ?) " +
+            "WHERE chat_room_id = ? AND member_id = ? AND (last_read_chat_id IS NULL OR last_read_chat_id <= ?)";
+
+    private static final String UPDATE_LAST_TYPING_SQL =
+            "UPDATE chat_room_member SET last_typing_at = ? " +
+            "WHERE chat_room_id = ? AND member_id = ? AND (last_typing_at IS NULL OR last_typing_at < ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * @param readMarks   (채팅방, 회원) → 읽음 처리 (읽은 시각, 읽은 위치)
+     * @param lastTypings (채팅방, 회원) → 마지막으로 입력한 시각
+     */
+    public void write(Map<RoomMemberKey, ReadMark> readMarks, Map<RoomMemberKey, LocalDateTime> lastTypings) {
+        if (readMarks.isEmpty() && lastTypings.isEmpty()) {
+            return;
+        }
+        List<Object[]> readArgs = new ArrayList<>(readMarks.size());
+        readMarks.forEach((key, mark) -> readArgs.add(new Object[]{
+                Timestamp.valueOf(mark.getReadAt()), mark.getUpToChatId(),
+                key.getRoomId(), key.getMemberId(), mark.getUpToChatId(),
+                key.getRoomId(), key.getMemberId(), mark.getUpToChatId()
+        }));
+        List<Object[]> typingArgs = toArgs(lastTypings);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!readArgs.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE_LAST_READ_SQL, readArgs);
+            }
+            if (!typingArgs.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE_LAST_TYPING_SQL, typingArgs);
+            }
+        });
+    }
+
+    private static List<Object[]> toArgs(Map<RoomMemberKey, LocalDateTime> marks) {
+        List<Object[]> args = new ArrayList<>(marks.size());
+        marks.forEach((key, at) -> {
+            Timestamp ts = Timestamp.valueOf(at);
+            args.add(new Object[]{ts, key.getRoomId(), key.getMemberId(), ts});
+        });
+        return args;
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.backend.chat.persistence;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 브로드캐스트는 끝났지만 아직 DB에 기록되지 않은 채팅 메시지
+ * - chatId는 서버가 미리 발급한 값으로, 그대로 chat_message.chat_id에 기록된다.
+ */
+@Getter
+@AllArgsConstructor
+public class PendingChatMessage {
+    private final Long chatId;
+    private final Long roomId;
+    private final Long senderId;
+    private final String message;
+    private final LocalDateTime sendAt;
+}
@@ -0,0 +1,26 @@
+package org.example.backend.chat.persistence;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 기록 대기 중인 읽음 처리 - 읽은 시각과 어디까지 읽었는지(메시지 ID)
+ */
+@Getter
+@AllArgsConstructor
+public class ReadMark {
+    private final LocalDateTime readAt;
+    private final long upToChatId;
+
+    /**
+     * 같은 (채팅방, 회원)의 읽음 처리 두 건을 하나로 합침 (더 멀리 읽은 쪽, 더 늦은 시각)
+     */
+    public static ReadMark merge(ReadMark a, ReadMark b) {
+        return new ReadMark(
+                a.readAt.isAfter(b.readAt) ? a.readAt : b.readAt,
+                Math.max(a.upToChatId, b.upToChatId)
+        );
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.backend.chat.persistence;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * (채팅방 ID, 회원 ID) 복합 키 - chat_room_member 한 행에 대응
+ */
+@Getter
+@EqualsAndHashCode
+@RequiredArgsConstructor
+public class RoomMemberKey {
+    private final long roomId;
+    private final long memberId;
+}
@@ -3,82 +3,88 @@ package org.example.backend.chat.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.backend.chat.dto.ChatMessageRespondDto;
-import org.example.backend.entity.ChatMessage;
+import org.example.backend.chat.persistence.ChatMessageWriteBehindQueue;
+import org.example.backend.chat.persistence.PendingChatMessage;
+import org.example.backend.chat.websocket.ChatSessionContext;
+import org.example.backend.common.AuthenticatedMemberResolver;
 import org.example.backend.entity.ChatRoom;
-import org.example.backend.entity.ChatRoomMember;
-import org.example.backend.entity.Member;
 import org.example.backend.repository.ChatMessageRepository;
-import org.example.backend.repository.ChatRoomMemberRepository;
 import org.example.backend.repository.ChatRoomRepository;
-import org.example.backend.repository.MemberRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ChatMessageService {
 
+    private static final int DEFAULT_MESSAGE_LIMIT = 50;
+    private static final int MAX_MESSAGE_LIMIT = 200;
+
     private final ChatMessageRepository chatMessageRepository;
     private final ChatRoomRepository chatRoomRepository;
-    private final MemberRepository memberRepository;
-    private final ChatRoomMemberRepository chatRoomMemberRepository;
+    private final AuthenticatedMemberResolver authenticatedMemberResolver;
+    private final ChatMessageWriteBehindQueue writeBehindQueue;
+    private final ChatRoomAccessService chatRoomAccessService;
 
     /**
-     * ✅ 메시지 저장
+     * ✅ 메시지 발송 준비 + 비동기 저장 요청
+     * - 세션 컨텍스트로 채팅방 참여 여부를 확인하고 서버에서 메시지 ID를 발급 (세션 최초 1회 이후 DB 조회 없음)
+     * - 실제 INSERT는 write-behind 큐에서 묶음으로 처리되므로 브로드캐스트가 DB 쓰기를 기다리지 않는다.
      */
-    @Transactional
-    public ChatMessage saveMessage(Long roomId, String senderEmail, String messageContent) {
-        ChatRoom chatRoom = chatRoomRepository.findById(roomId)
-                .orElseThrow(() -> new IllegalArgumentException("채팅방을 찾을 수 없습니다."));
-        Member sender = memberRepository.findByEmail(senderEmail)
-                .orElseThrow(() -> new IllegalArgumentException("보낸 사람 없음"));
+    public ChatMessageRespondDto sendMessage(ChatSessionContext sender, Long roomId, String messageContent) {
+        chatRoomAccessService.authorize(sender, roomId);
 
-        ChatMessage message = ChatMessage.builder()
-                .chatRoom(chatRoom)
-                .sender(sender)
+        // 대기열이 가득 차 있으면 ChatMessageQueueFullException (브로드캐스트하지 않음)
+        PendingChatMessage pending = writeBehindQueue.submit(roomId, sender.getMemberId(), messageContent);
+
+        return ChatMessageRespondDto.builder()
+                .chatId(pending.getChatId())
+                .roomId(roomId)
+                .senderEmail(sender.getEmail())
+                .senderName(sender.getNickname())
                 .message(messageContent)
+                .sendAt(pending.getSendAt())
                 .build();
-
-        ChatMessage savedMessage = chatMessageRepository.save(message);
-
-        chatRoom.setLastMessageTime(savedMessage.getSendAt());
-
-        String opponentEmail = chatRoom.getMember1().getEmail().equals(senderEmail)
-                ? chatRoom.getMember2().getEmail()
-                : chatRoom.getMember1().getEmail();
-
-        Member opponent = memberRepository.findByEmail(opponentEmail)
-                .orElseThrow(() -> new IllegalArgumentException("상대방 없음"));
-
-        // ChatRoomMember 가져오기
-        ChatRoomMember opponentRoomMember = chatRoomMemberRepository.findByChatRoomAndMember(chatRoom, opponent)
-                .orElseThrow(() -> new IllegalStateException("상대방의 ChatRoomMember가 없음"));
-
-        return savedMessage;
     }
 
     /**
-     * ✅ 특정 채팅방 메시지 조회
+     * ✅ 특정 채팅방 메시지 조회 (커서 기반, 오래된 순으로 반환)
+     * - 요청자가 채팅방 참여자가 아니면 AccessDeniedException
+     * - limit 미지정 시 DEFAULT_MESSAGE_LIMIT, 최대 MAX_MESSAGE_LIMIT개
+     * - after 지정: 해당 메시지 이후 메시지 (재접속 시 놓친 메시지만 조회)
+     * - 그 외: before 메시지(없으면 가장 최근) 이전 메시지 limit개
+     * - 반환 개수가 limit과 같으면 더 조회할 메시지가 있을 수 있음
      */
     @Transactional(readOnly = true)
-    public List<ChatMessageRespondDto> getMessages(Long chatRoomId) {
+    public List<ChatMessageRespondDto> getMessages(String email, Long chatRoomId, Long before, Long after, Integer limit) {
         findChatRoomById(chatRoomId); // 채팅방 존재 여부 검증
-        return chatMessageRepository.findAllByChatRoom_ChatroomIdOrderBySendAtAsc(chatRoomId)
-                .stream()
-                .map(ChatMessageRespondDto::from)
-                .collect(Collectors.toList());
-    }
+        Long memberId = authenticatedMemberResolver.resolveMemberId(email);
+        if (!chatRoomRepository.existsMemberInRoom(chatRoomId, memberId)) {
+            throw new AccessDeniedException("본인이 속한 채팅방이 아닙니다.");
+        }
 
-    // ✅ 공통 로직
-    private Member findMemberByEmail(String email) {
-        return memberRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("로그인된 사용자를 찾을 수 없습니다."));
+        int size = limit != null ? limit : DEFAULT_MESSAGE_LIMIT;
+        Pageable pageable = PageRequest.of(0, Math.min(Math.max(size, 1), MAX_MESSAGE_LIMIT));
+
+        if (after != null) {
+            return chatMessageRepository.findMessagesAfter(chatRoomId, after, pageable);
+        }
+
+        List<ChatMessageRespondDto> messages = new ArrayList<>(
+                chatMessageRepository.findMessagesBefore(chatRoomId, before, pageable));
+        Collections.reverse(messages);
+        return messages;
     }
 
+    // ✅ 공통 로직
     private ChatRoom findChatRoomById(Long chatRoomId) {
         return chatRoomRepository.findById(chatRoomId)
                 .orElseThrow(() -> new IllegalArgumentException("채팅방을 찾을 수 없습니다."));
@@ -0,0 +1,237 @@
+package org.example.backend.chat.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.chat.broker.ChatBroadcaster;
+import org.example.backend.chat.broker.ChatDestinations;
+import org.example.backend.chat.dto.ChatTypingEvent;
+import org.example.backend.chat.persistence.ChatReadMarkWriter;
+import org.example.backend.chat.persistence.ReadMark;
+import org.example.backend.chat.persistence.RoomMemberKey;
+import org.example.backend.chat.websocket.ChatSessionContext;
+import org.example.backend.repository.ChatMessageRepository;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 접속/입력 중/읽음 상태 (인스턴스 메모리 기반)
+ * - 접속: STOMP 세션 연결/종료 이벤트로 이메일별 세션 수를 관리
+ * - 입력 중: 첫 입력 이벤트에만 typing=true를 브로드캐스트하고, 이후 이벤트는 시각만 갱신(debounce).
+ *            TYPING_IDLE_MS 동안 입력이 없거나 메시지 발송/연결 종료 시 typing=false 한 번 브로드캐스트
+ * - 읽음/입력 시각: (채팅방, 회원)별 최신 값만 모아 두었다가 FLUSH_INTERVAL_MS마다 일괄 기록
+ *   (읽음 처리 시 안 읽은 수도 함께 재계산)
+ */
+@Slf4j
+@Service
+public class ChatPresenceService {
+
+    static final long TYPING_IDLE_MS = 3_000;
+    private static final long SWEEP_INTERVAL_MS = 500;
+    private static final long FLUSH_INTERVAL_MS = 1_000;
+
+    private final ChatRoomAccessService chatRoomAccessService;
+    private final ChatBroadcaster chatBroadcaster;
+    private final ChatReadMarkWriter readMarkWriter;
+    private final ChatMessageRepository chatMessageRepository;
+
+    // 접속 상태: 세션 ID → 세션 컨텍스트, 이메일 → 열린 세션 수
+    private final Map<String, ChatSessionContext> sessions = new ConcurrentHashMap<>();
+    private final Map<String, Integer> onlineSessionCounts = new ConcurrentHashMap<>();
+
+    // 입력 중 상태
+    private final Map<RoomMemberKey, TypingState> typing = new ConcurrentHashMap<>();
+
+    // 기록 대기 중인 읽음/입력 시각 (같은 키는 최신 시각으로 합쳐짐)
+    private final Map<RoomMemberKey, ReadMark> pendingReads = new ConcurrentHashMap<>();
+    private final Map<RoomMemberKey, LocalDateTime> pendingTypings = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService scheduler;
+
+    public ChatPresenceService(ChatRoomAccessService chatRoomAccessService,
+                               ChatBroadcaster chatBroadcaster,
+                               ChatReadMarkWriter readMarkWriter,
+                               ChatMessageRepository chatMessageRepository) {
+        this.chatRoomAccessService = chatRoomAccessService;
+        this.chatBroadcaster = chatBroadcaster;
+        this.readMarkWriter = readMarkWriter;
+        this.chatMessageRepository = chatMessageRepository;
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "chat-presence");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::sweepIdleTyping, SWEEP_INTERVAL_MS, SWEEP_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::flush, FLUSH_INTERVAL_MS, FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 종료 시 대기 중인 읽음/입력 시각을 모두 기록
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            try {
+                scheduler.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flush();
+    }
+
+    public void connected(String sessionId, ChatSessionContext context) {
+        if (sessionId == null || sessions.putIfAbsent(sessionId, context) != null) {
+            return;
+        }
+        onlineSessionCounts.merge(context.getEmail(), 1, Integer::sum);
+    }
+
+    public void disconnected(String sessionId) {
+        ChatSessionContext context = sessionId != null ? sessions.remove(sessionId) : null;
+        if (context == null) {
+            return;
+        }
+        Integer remaining = onlineSessionCounts.computeIfPresent(context.getEmail(), (email, count) -> count > 1 ? count - 1 : null);
+        // 마지막 세션이 끊기면 입력 중 상태도 정리
+        if (remaining == null && context.isResolved()) {
+            long memberId = context.getMemberId();
+            typing.keySet().stream()
+                    .filter(key -> key.getMemberId() == memberId)
+                    .forEach(this::stopTyping);
+        }
+    }
+
+    public boolean isOnline(String email) {
+        return onlineSessionCounts.containsKey(email);
+    }
+
+    /**
+     * 입력 중 이벤트 (연속 이벤트는 하나로 합쳐 첫 이벤트만 브로드캐스트)
+     */
+    public void typing(ChatSessionContext context, Long roomId) {
+        chatRoomAccessService.authorize(context, roomId);
+        RoomMemberKey key = new RoomMemberKey(roomId, context.getMemberId());
+        long now = System.currentTimeMillis();
+
+        TypingState[] created = new TypingState[1];
+        TypingState state = typing.computeIfAbsent(key, k -> created[0] = new TypingState(context.getNickname(), now));
+        state.lastEventAt = now;
+        if (state == created[0]) {
+            broadcastTyping(key, state.nickname, true);
+        }
+    }
+
+    /**
+     * 입력 종료 (메시지 발송 등) - 입력 중이었을 때만 typing=false 브로드캐스트
+     */
+    public void stopTyping(Long roomId, Long memberId) {
+        if (roomId != null && memberId != null) {
+            stopTyping(new RoomMemberKey(roomId, memberId));
+        }
+    }
+
+    private void stopTyping(RoomMemberKey key) {
+        TypingState state = typing.remove(key);
+        if (state == null) {
+            return;
+        }
+        pendingTypings.merge(key, toLocalDateTime(state.lastEventAt), ChatPresenceService::latest);
+        broadcastTyping(key, state.nickname, false);
+    }
+
+    void sweepIdleTyping() {
+        long threshold = System.currentTimeMillis() - TYPING_IDLE_MS;
+        typing.forEach((key, state) -> {
+            if (state.lastEventAt <= threshold) {
+                stopTyping(key);
+            }
+        });
+    }
+
+    private void broadcastTyping(RoomMemberKey key, String nickname, boolean isTyping) {
+        try {
+            chatBroadcaster.broadcast(ChatDestinations.chatRoom(key.getRoomId()),
+                    new ChatTypingEvent(key.getRoomId(), key.getMemberId(), nickname, isTyping));
+        } catch (Exception e) {
+            log.warn("입력 중 상태 전송 실패 roomId={} memberId={}: {}", key.getRoomId(), key.getMemberId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 채팅방 읽음 처리 (WebSocket 세션 기준 권한 확인)
+     * @param upToChatId 어디까지 읽었는지 (null이면 채팅방에 기록된 마지막 메시지까지)
+     */
+    public void markRead(ChatSessionContext context, Long roomId, Long upToChatId) {
+        chatRoomAccessService.authorize(context, roomId);
+        recordRead(roomId, context.getMemberId(), upToChatId);
+    }
+
+    /**
+     * 권한 확인이 끝난 읽음 처리 기록 (DB 기록과 안 읽은 수 재계산은 다음 flush에서 일괄 처리)
+     * - 읽은 위치가 없으면 그 채팅방에 기록된 가장 큰 메시지 ID까지 읽음 처리
+     *   (아직 기록 대기 중인 메시지는 기록될 때 안 읽은 수에 더해짐)
+     */
+    public void recordRead(Long roomId, Long memberId, Long upToChatId) {
+        long upTo = upToChatId != null ? upToChatId : chatMessageRepository.findMaxChatIdByRoomId(roomId);
+        pendingReads.merge(new RoomMemberKey(roomId, memberId), new ReadMark(LocalDateTime.now(), upTo), ReadMark::merge);
+    }
+
+    /**
+     * 대기 중인 읽음/입력 시각 기록 (실패 시 다음 주기에 다시 시도)
+     */
+    void flush() {
+        Map<RoomMemberKey, ReadMark> reads = drain(pendingReads);
+        Map<RoomMemberKey, LocalDateTime> typings = drain(pendingTypings);
+        try {
+            readMarkWriter.write(reads, typings);
+        } catch (Exception e) {
+            log.warn("읽음/입력 시각 기록 실패 ({}건), 다음 주기에 재시도: {}", reads.size() + typings.size(), e.getMessage());
+            reads.forEach((key, mark) -> pendingReads.merge(key, mark, ReadMark::merge));
+            typings.forEach((key, at) -> pendingTypings.merge(key, at, ChatPresenceService::latest));
+        }
+    }
+
+    // 값이 바뀌지 않은 항목만 제거해 flush 도중 들어온 갱신을 잃지 않음
+    private static <V> Map<RoomMemberKey, V> drain(Map<RoomMemberKey, V> pending) {
+        Map<RoomMemberKey, V> drained = new HashMap<>();
+        pending.forEach((key, value) -> {
+            if (pending.remove(key, value)) {
+                drained.put(key, value);
+            }
+        });
+        return drained;
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private static class TypingState {
+        private final String nickname;
+        private volatile long lastEventAt;
+
+        private TypingState(String nickname, long lastEventAt) {
+            this.nickname = nickname;
+            this.lastEventAt = lastEventAt;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.backend.chat.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.chat.websocket.ChatSessionContext;
+import org.example.backend.entity.Member;
+import org.example.backend.repository.ChatRoomRepository;
+import org.example.backend.repository.MemberRepository;
+import org.springframework.stereotype.Service;
+
+/**
+ * STOMP 세션 컨텍스트 기반 채팅방 접근 권한 확인
+ * - 세션당 최초 1회: 회원 조회 + 참여 채팅방 ID 목록 조회
+ * - 이후: 컨텍스트에 없는 채팅방(연결 후 새로 만들어진 방 등)일 때만 DB 확인
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatRoomAccessService {
+
+    private final MemberRepository memberRepository;
+    private final ChatRoomRepository chatRoomRepository;
+
+    /**
+     * 세션 사용자가 채팅방 참여자인지 확인하고, 아니라면 예외 발생
+     */
+    public void authorize(ChatSessionContext context, Long roomId) {
+        if (roomId == null) {
+            throw new IllegalArgumentException("채팅방 ID가 없습니다.");
+        }
+        resolve(context);
+        if (context.isAuthorized(roomId)) {
+            return;
+        }
+        if (chatRoomRepository.existsMemberInRoom(roomId, context.getMemberId())) {
+            context.addRoom(roomId);
+            return;
+        }
+        throw new IllegalArgumentException("본인이 속한 채팅방이 아닙니다.");
+    }
+
+    /**
+     * 컨텍스트가 아직 비어 있으면 회원 정보와 참여 채팅방 목록 적재
+     */
+    public ChatSessionContext resolve(ChatSessionContext context) {
+        if (context.isResolved()) {
+            return context;
+        }
+        Member member = memberRepository.findByEmail(context.getEmail())
+                .orElseThrow(() -> new IllegalArgumentException("로그인된 사용자를 찾을 수 없습니다."));
+        context.resolve(
+                member.getMemberId(),
+                member.getNickname(),
+                chatRoomRepository.findRoomIdsByMemberId(member.getMemberId())
+        );
+        log.debug("채팅 세션 컨텍스트 적재 email={} memberId={}", context.getEmail(), member.getMemberId());
+        return context;
+    }
+}
@@ -25,6 +25,7 @@ public class ChatRoomMemberService {
     private final ChatRoomRepository chatRoomRepository;
     private final ChatRoomMemberRepository chatRoomMemberRepository;
     private final ChatMessageRepository chatMessageRepository;
+    private final ChatPresenceService chatPresenceService;
 
     /**
      * ✅ 이메일로 사용자 찾기 (공통 로직)
@@ -80,9 +81,9 @@ public class ChatRoomMemberService {
         List<ChatRoomMemberResponse> members = new ArrayList<>();
 
         // member1
-        members.add(ChatRoomMemberResponse.from(chatRoom.getMember1()));
+        members.add(ChatRoomMemberResponse.from(chatRoom.getMember1(), chatPresenceService.isOnline(chatRoom.getMember1().getEmail())));
         // member2
-        members.add(ChatRoomMemberResponse.from(chatRoom.getMember2()));
+        members.add(ChatRoomMemberResponse.from(chatRoom.getMember2(), chatPresenceService.isOnline(chatRoom.getMember2().getEmail())));
 
         return members;
     }
@@ -2,12 +2,12 @@ package org.example.backend.chat.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.backend.common.AuthenticatedMemberResolver;
 import org.example.backend.chat.dto.ChatRoomListDto;
-import org.example.backend.entity.ChatMessage;
+import org.example.backend.chat.dto.ChatUnreadCountDto;
 import org.example.backend.entity.ChatRoom;
 import org.example.backend.entity.ChatRoomMember;
 import org.example.backend.entity.Member;
-import org.example.backend.repository.ChatMessageRepository;
 import org.example.backend.repository.ChatRoomMemberRepository;
 import org.example.backend.repository.ChatRoomRepository;
 import org.example.backend.repository.MemberRepository;
@@ -15,7 +15,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -25,15 +24,16 @@ public class ChatRoomService {
     private final ChatRoomRepository chatRoomRepository;
     private final MemberRepository memberRepository;
     private final ChatRoomMemberRepository chatRoomMemberRepository;
-    private final ChatMessageRepository chatMessageRepository;
+    private final AuthenticatedMemberResolver authenticatedMemberResolver;
+    private final ChatPresenceService chatPresenceService;
 
     /**
      * ✅ 기존 채팅방이 있으면 조회, 없으면 생성
      */
     @Transactional
     public ChatRoom findOrCreateChatRoomByEmail(String myEmail, String targetEmail) {
-        Member me = findMemberByEmail(myEmail);
-        Member target = findMemberByEmail(targetEmail);
+        Member me = authenticatedMemberResolver.resolveReference(myEmail);
+        Member target = authenticatedMemberResolver.resolveReference(targetEmail);
 
         return chatRoomRepository.findRoomBetween(
                 me.getMemberId(),
@@ -60,41 +60,31 @@ public class ChatRoomService {
 
     /**
      * ✅ 내가 속한 모든 채팅방 조회
+     * - 상대방 정보/최근 메시지 미리보기/안 읽은 수를 채팅방 수와 무관하게 한 번의 쿼리로 조회
      */
     @Transactional(readOnly = true)
     public List<ChatRoomListDto> getMyChatRooms(String myEmail) {
-        Member me = findMemberByEmail(myEmail);
-        List<ChatRoom> myRooms = chatRoomRepository.findAllByMemberIdOrderByLastMessageDesc(me.getMemberId());
-
-        return myRooms.stream().map(room -> {
-            // 상대방 이름 구하기
-            String opponentName = room.getMember1().getEmail().equals(myEmail)
-                    ? room.getMember2().getNickname()
-                    : room.getMember1().getNickname();
-
-            // 가장 최근 메시지 가져오기
-            ChatMessage lastMessage = chatMessageRepository.findTop1ByChatRoom_ChatroomIdOrderBySendAtDesc(room.getChatroomId())
-                    .orElse(null);
-            String lastMessageText = lastMessage != null ? lastMessage.getMessage() : null;
-
-            // 상대방 프로필 이미지 가져오기
-            Member opponent = memberRepository.findByNickname(opponentName)
-                    .orElseThrow(() -> new IllegalArgumentException("상대방을 찾을 수 없습니다."));
-            String opponentProfileImage = opponent.getProfileImageUrl();
-
-            // 읽지 않은 메시지 개수
-            ChatRoomMember crmMe =  chatRoomMemberRepository.findByChatRoomAndMember(room, me)
-                    .orElse(null);
-
-            int hasUnread = (crmMe != null) ? crmMe.getUnreadCount() : 0;
-
-            return new ChatRoomListDto(
-                    room.getChatroomId(),
-                    opponentName,
-                    opponentProfileImage,
-                    lastMessageText
-            );
-        }).collect(Collectors.toList());
+        return chatRoomRepository.findRoomSummariesByMemberId(authenticatedMemberResolver.resolveMemberId(myEmail));
+    }
+
+    /**
+     * ✅ 내가 속한 모든 채팅방의 안 읽은 메시지 수 (한 번의 쿼리)
+     */
+    @Transactional(readOnly = true)
+    public List<ChatUnreadCountDto> getUnreadCounts(String myEmail) {
+        return chatRoomMemberRepository.findUnreadCountsByMemberId(authenticatedMemberResolver.resolveMemberId(myEmail));
+    }
+
+    /**
+     * ✅ 채팅방 읽음 처리 (upToChatId까지 읽음, 안 읽은 수 재계산은 일괄 기록 시 처리)
+     */
+    @Transactional
+    public void markRead(String myEmail, Long roomId, Long upToChatId) {
+        Long memberId = authenticatedMemberResolver.resolveMemberId(myEmail);
+        if (!chatRoomRepository.existsMemberInRoom(roomId, memberId)) {
+            throw new IllegalArgumentException("본인이 속한 채팅방이 아닙니다.");
+        }
+        chatPresenceService.recordRead(roomId, memberId, upToChatId);
     }
 
     /**
@@ -110,11 +100,6 @@ public class ChatRoomService {
     }
 
     // ✅ 공통 로직 (중복 제거)
-    private Member findMemberByEmail(String email) {
-        return memberRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("로그인된 사용자를 찾을 수 없습니다."));
-    }
-
     private Member findMemberById(Long memberId) {
         return memberRepository.findById(memberId)
                 .orElseThrow(() -> new IllegalArgumentException("상대 정보를 찾을 수 없습니다."));
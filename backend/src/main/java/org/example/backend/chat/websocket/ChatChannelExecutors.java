@@ -0,0 +1,136 @@
+package org.example.backend.chat.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * STOMP 클라이언트 inbound/outbound 채널 실행기
+ * - Spring 기본값(최대 스레드/큐 무제한) 대신 상한이 있는 풀과 큐를 사용
+ * - 큐가 가득 차면 호출 스레드(WebSocket 수신/브로커 스레드)가 직접 처리해 자연스럽게 backpressure가 걸림
+ * - chat.channel.executor=virtual 이면 가상 스레드로 작업을 실행 (Java 21 이상 런타임에서만, 그 외엔 platform으로 동작)
+ *   가상 스레드 모드에서도 풀 최대 크기가 동시 처리 상한(DB 커넥션 보호) 역할을 한다.
+ */
+@Slf4j
+@Component
+public class ChatChannelExecutors {
+
+    private static final int CORES = Runtime.getRuntime().availableProcessors();
+
+    private final String mode;
+    private final ThreadPoolTaskExecutor inbound;
+    private final ThreadPoolTaskExecutor outbound;
+    private final AtomicLong inboundCallerRuns = new AtomicLong();
+    private final AtomicLong outboundCallerRuns = new AtomicLong();
+
+    public ChatChannelExecutors(
+            @Value("${chat.channel.executor:platform}") String mode,
+            @Value("${chat.channel.inbound.core-pool-size:0}") int inboundCore,
+            @Value("${chat.channel.inbound.max-pool-size:0}") int inboundMax,
+            @Value("${chat.channel.inbound.queue-capacity:1000}") int inboundQueue,
+            @Value("${chat.channel.outbound.core-pool-size:0}") int outboundCore,
+            @Value("${chat.channel.outbound.max-pool-size:0}") int outboundMax,
+            @Value("${chat.channel.outbound.queue-capacity:1000}") int outboundQueue) {
+        ThreadFactory virtualFactory = "virtual".equals(mode.toLowerCase(Locale.ROOT)) ? virtualThreadFactory() : null;
+        this.mode = virtualFactory != null ? "virtual" : "platform";
+
+        // 0이면 코어 수 기준 기본값 (inbound는 JPA 등 블로킹 작업이 있어 더 크게)
+        this.inbound = create("clientInboundChannel-",
+                inboundCore > 0 ? inboundCore : CORES * 2,
+                inboundMax > 0 ? inboundMax : CORES * 8,
+                inboundQueue, virtualFactory, inboundCallerRuns);
+        this.outbound = create("clientOutboundChannel-",
+                outboundCore > 0 ? outboundCore : CORES * 2,
+                outboundMax > 0 ? outboundMax : CORES * 4,
+                outboundQueue, virtualFactory, outboundCallerRuns);
+    }
+
+    public ThreadPoolTaskExecutor inbound() {
+        return inbound;
+    }
+
+    public ThreadPoolTaskExecutor outbound() {
+        return outbound;
+    }
+
+    /**
+     * 채널별 풀/큐 상태 스냅샷
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("mode", mode);
+        body.put("inbound", stats(inbound, inboundCallerRuns));
+        body.put("outbound", stats(outbound, outboundCallerRuns));
+        return body;
+    }
+
+    private static Map<String, Object> stats(ThreadPoolTaskExecutor executor, AtomicLong callerRuns) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("corePoolSize", executor.getCorePoolSize());
+        stats.put("maxPoolSize", executor.getMaxPoolSize());
+        stats.put("poolSize", executor.getPoolSize());
+        stats.put("activeCount", executor.getActiveCount());
+        ThreadPoolExecutor pool = initializedPool(executor);
+        stats.put("queueSize", pool != null ? pool.getQueue().size() : 0);
+        stats.put("queueRemainingCapacity", pool != null ? pool.getQueue().remainingCapacity() : 0);
+        stats.put("completedTaskCount", pool != null ? pool.getCompletedTaskCount() : 0);
+        stats.put("callerRunsCount", callerRuns.get());
+        return stats;
+    }
+
+    private static ThreadPoolExecutor initializedPool(ThreadPoolTaskExecutor executor) {
+        try {
+            return executor.getThreadPoolExecutor();
+        } catch (IllegalStateException e) {
+            return null;    // 아직 초기화 전
+        }
+    }
+
+    private static ThreadPoolTaskExecutor create(String prefix, int core, int max, int queue,
+                                                 ThreadFactory virtualFactory, AtomicLong callerRuns) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(prefix);
+        executor.setCorePoolSize(core);
+        executor.setMaxPoolSize(Math.max(core, max));
+        executor.setQueueCapacity(queue);
+        executor.setKeepAliveSeconds(60);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setRejectedExecutionHandler(callerRuns(callerRuns));
+        if (virtualFactory != null) {
+            executor.setThreadFactory(virtualFactory);
+        }
+        return executor;
+    }
+
+    private static RejectedExecutionHandler callerRuns(AtomicLong counter) {
+        return (task, pool) -> {
+            if (!pool.isShutdown()) {
+                counter.incrementAndGet();
+                task.run();
+            }
+        };
+    }
+
+    // Java 21의 Thread.ofVirtual().factory()를 리플렉션으로 조회 (현재 빌드 대상은 Java 11)
+    private static ThreadFactory virtualThreadFactory() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, "chat-virtual-", 0L);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            log.warn("가상 스레드를 지원하지 않는 런타임입니다 (Java {}). platform 스레드 풀로 동작합니다.",
+                    System.getProperty("java.specification.version"));
+            return null;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.backend.chat.websocket;
+
+import lombok.Getter;
+
+import java.security.Principal;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * STOMP 연결(세션) 단위 사용자 컨텍스트
+ * - 핸드셰이크 시 이메일로 생성되고, 최초 사용 시 회원 ID/닉네임과 참여 중인 채팅방 ID 목록을 한 번 적재
+ * - 이후 메시지 발송/구독 권한 확인은 DB 조회 없이 이 컨텍스트로 처리
+ * - 채팅방 ID는 정렬된 long 배열로 보관 (읽기는 락 없이, 추가는 copy-on-write)
+ */
+public class ChatSessionContext {
+
+    @Getter
+    private final String email;
+
+    @Getter
+    private volatile Long memberId;
+
+    @Getter
+    private volatile String nickname;
+
+    private volatile long[] roomIds = new long[0];
+
+    public ChatSessionContext(String email) {
+        this.email = email;
+    }
+
+    /**
+     * Principal에서 세션 컨텍스트 조회 (StompPrincipal이 아니면 캐시되지 않는 임시 컨텍스트)
+     */
+    public static ChatSessionContext of(Principal principal) {
+        if (principal instanceof StompPrincipal) {
+            return ((StompPrincipal) principal).getSessionContext();
+        }
+        return new ChatSessionContext(principal.getName());
+    }
+
+    public boolean isResolved() {
+        return memberId != null;
+    }
+
+    /**
+     * 회원 정보와 참여 채팅방 목록 적재
+     */
+    public synchronized void resolve(Long memberId, String nickname, List<Long> roomIds) {
+        long[] sorted = new long[roomIds.size()];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = roomIds.get(i);
+        }
+        Arrays.sort(sorted);
+        this.roomIds = sorted;
+        this.nickname = nickname;
+        this.memberId = memberId;
+    }
+
+    public boolean isAuthorized(long roomId) {
+        return Arrays.binarySearch(roomIds, roomId) >= 0;
+    }
+
+    /**
+     * 연결 이후 새로 참여한 채팅방 추가
+     */
+    public synchronized void addRoom(long roomId) {
+        long[] current = roomIds;
+        int pos = Arrays.binarySearch(current, roomId);
+        if (pos >= 0) {
+            return;
+        }
+        int insertAt = -pos - 1;
+        long[] next = new long[current.length + 1];
+        System.arraycopy(current, 0, next, 0, insertAt);
+        next[insertAt] = roomId;
+        System.arraycopy(current, insertAt, next, insertAt + 1, current.length - insertAt);
+        roomIds = next;
+    }
+}
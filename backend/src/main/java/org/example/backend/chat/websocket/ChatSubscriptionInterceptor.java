@@ -0,0 +1,54 @@
+package org.example.backend.chat.websocket;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.chat.broker.ChatDestinations;
+import org.example.backend.chat.service.ChatRoomAccessService;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+
+/**
+ * 채팅방 구독 권한 확인 인터셉터
+ * - `/topic/chatroom.{roomId}` SUBSCRIBE 시 세션 사용자가 해당 채팅방 참여자인지 확인
+ * - 확인 결과는 세션 컨텍스트에 남으므로 이후 메시지 발송 시 재조회하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatSubscriptionInterceptor implements ChannelInterceptor {
+
+    private final ChatRoomAccessService chatRoomAccessService;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        if (accessor.getCommand() != StompCommand.SUBSCRIBE || accessor.getDestination() == null) {
+            return message;
+        }
+
+        Long roomId = ChatDestinations.parseChatRoomId(accessor.getDestination());
+        if (roomId == null) {
+            return message;
+        }
+
+        Principal user = accessor.getUser();
+        if (user == null) {
+            throw new AccessDeniedException("인증되지 않은 구독 요청입니다.");
+        }
+
+        try {
+            chatRoomAccessService.authorize(ChatSessionContext.of(user), roomId);
+        } catch (IllegalArgumentException e) {
+            log.warn("❌ 채팅방 구독 거부 user={} roomId={} - {}", user.getName(), roomId, e.getMessage());
+            throw new AccessDeniedException(e.getMessage());
+        }
+        return message;
+    }
+}
@@ -22,7 +22,7 @@ public class CustomHandshakeHandler extends DefaultHandshakeHandler {
 
         if (email != null) {
             log.info("✅ Handshake에서 Principal 등록: {}", email);
-            return new StompPrincipal(email);
+            return new StompPrincipal(email); // ✅ 연결 단위 ChatSessionContext 포함
         } else {
             log.warn("❌ Handshake에서 userEmail 없음 → Principal null");
             return null;
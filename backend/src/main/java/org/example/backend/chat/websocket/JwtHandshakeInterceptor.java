@@ -3,6 +3,7 @@ package org.example.backend.chat.websocket;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.example.backend.jwt.JwtUtil;
+import org.example.backend.jwt.VerifiedToken;
 import org.springframework.http.server.ServerHttpRequest;
 import org.springframework.http.server.ServerHttpResponse;
 import org.springframework.http.server.ServletServerHttpRequest;
@@ -45,8 +46,9 @@ public class JwtHandshakeInterceptor implements HandshakeInterceptor {
             jwt = servletRequest.getParameter("token");
         }
 
-        if (jwt != null && jwtUtil.validateToken(jwt)) {
-            String email = jwtUtil.getUsername(jwt);
+        VerifiedToken verified = jwt != null ? jwtUtil.verify(jwt) : null;
+        if (verified != null) {
+            String email = verified.getEmail();
             attributes.put("memberEmail", email);
             log.info("✅ WebSocket 인증 성공 (email={})", email);
             return true;
@@ -1,23 +1,33 @@
 package org.example.backend.chat.websocket;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.backend.chat.service.ChatPresenceService;
 import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.messaging.SessionConnectEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 
 @Component
 @Slf4j
+@RequiredArgsConstructor
 public class StompEventListener {
 
+    private final ChatPresenceService chatPresenceService;
+
     @EventListener
     public void handleWebSocketConnectListener(SessionConnectEvent event) {
         log.info("✅ WebSocket connected: {}", event.getUser());
+        if (event.getUser() != null) {
+            String sessionId = SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+            chatPresenceService.connected(sessionId, ChatSessionContext.of(event.getUser()));
+        }
     }
 
     @EventListener
     public void handleWebSocketDisconnectListener(SessionDisconnectEvent event) {
         log.info("❌ WebSocket disconnected: sessionId={}", event.getSessionId());
-        // 여기서 필요하면 사용자가 나갔다는 정보 캐시/DB 업데이트 가능
+        chatPresenceService.disconnected(event.getSessionId()); // ✅ 접속 상태/입력 중 상태 정리
     }
-}
\ No newline at end of file
+}
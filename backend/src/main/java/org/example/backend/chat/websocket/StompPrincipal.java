@@ -4,13 +4,20 @@ import java.security.Principal;
 
 public class StompPrincipal implements Principal {
     private final String name;
+    private final ChatSessionContext sessionContext;
 
     public StompPrincipal(String name) {
         this.name = name;
+        this.sessionContext = new ChatSessionContext(name);
     }
 
     @Override
     public String getName() {
         return this.name;
     }
-}
\ No newline at end of file
+
+    // ✅ 연결 단위 캐시 (회원 ID, 참여 채팅방)
+    public ChatSessionContext getSessionContext() {
+        return this.sessionContext;
+    }
+}
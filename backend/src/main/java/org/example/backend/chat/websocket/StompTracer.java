@@ -0,0 +1,215 @@
+package org.example.backend.chat.websocket;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.chat.broker.BrokerFanoutMetrics;
+import org.example.backend.common.LatencyHistogram;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * STOMP 프레임 추적 (WebSocketLoggingInterceptor 대체)
+ * - 모든 프레임: 방향/타입/destination 패턴별 카운터만 증가 (헤더 래핑, 문자열 포맷팅 없음)
+ * - 샘플링된 프레임: 채널 핸들러 처리 시간을 히스토그램에 기록
+ * - 페이로드 로그는 관리자가 기간을 정해 켰을 때만, 샘플링된 프레임에 한해 한 줄로 기록
+ * 하트비트는 개수만 센다.
+ */
+@Slf4j
+@Component
+public class StompTracer {
+
+    private static final int MAX_NORMALIZED_CACHE = 10_000;
+
+    private final Map<String, String> normalizedDestinations = new ConcurrentHashMap<>();
+    private final Map<String, DestinationTrace> traces = new ConcurrentHashMap<>();
+    private final LongAdder heartbeats = new LongAdder();
+
+    private final TracingInterceptor inbound = new TracingInterceptor("inbound");
+    private final TracingInterceptor outbound = new TracingInterceptor("outbound");
+
+    private volatile double sampleRate;
+    private volatile int maxPayloadBytes;
+    private volatile long payloadCaptureUntil = 0;
+
+    public StompTracer(@Value("${chat.trace.sample-rate:0.1}") double sampleRate,
+                       @Value("${chat.trace.max-payload-bytes:512}") int maxPayloadBytes) {
+        this.sampleRate = sampleRate;
+        this.maxPayloadBytes = maxPayloadBytes;
+    }
+
+    public ExecutorChannelInterceptor inboundInterceptor() {
+        return inbound;
+    }
+
+    public ExecutorChannelInterceptor outboundInterceptor() {
+        return outbound;
+    }
+
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = Math.max(0.0, Math.min(1.0, sampleRate));
+    }
+
+    public void setMaxPayloadBytes(int maxPayloadBytes) {
+        this.maxPayloadBytes = Math.max(0, maxPayloadBytes);
+    }
+
+    /**
+     * 페이로드 로그를 지정한 시간 동안만 켬 (0 이하면 즉시 끔)
+     */
+    public void enablePayloadCapture(long minutes) {
+        this.payloadCaptureUntil = minutes <= 0 ? 0 : System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(minutes);
+    }
+
+    public boolean isPayloadCaptureEnabled() {
+        return payloadCaptureUntil > System.currentTimeMillis();
+    }
+
+    /**
+     * 현재 설정과 지표 스냅샷
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("sampleRate", sampleRate);
+        settings.put("maxPayloadBytes", maxPayloadBytes);
+        settings.put("payloadCaptureEnabled", isPayloadCaptureEnabled());
+        settings.put("payloadCaptureUntil", isPayloadCaptureEnabled() ? payloadCaptureUntil : null);
+
+        Map<String, TraceStats> stats = new TreeMap<>();
+        traces.forEach((key, trace) -> stats.put(key, trace.toStats()));
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("settings", settings);
+        body.put("heartbeats", heartbeats.sum());
+        body.put("frames", stats);
+        return body;
+    }
+
+    private DestinationTrace traceOf(String direction, SimpMessageType type, String destination) {
+        String key = direction + " " + type + " " + normalize(destination);
+        return traces.computeIfAbsent(key, k -> new DestinationTrace());
+    }
+
+    // 채팅방 ID 등 숫자 경로를 {id}로 묶되, 정규식 치환은 destination마다 한 번만 수행
+    private String normalize(String destination) {
+        if (destination == null) {
+            return "-";
+        }
+        String cached = normalizedDestinations.get(destination);
+        if (cached != null) {
+            return cached;
+        }
+        String normalized = BrokerFanoutMetrics.normalize(destination);
+        if (normalizedDestinations.size() < MAX_NORMALIZED_CACHE) {
+            normalizedDestinations.put(destination, normalized);
+        }
+        return normalized;
+    }
+
+    private boolean sampled() {
+        double rate = sampleRate;
+        return rate >= 1.0 || (rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    private void logPayload(String direction, SimpMessageType type, String destination, Message<?> message) {
+        Object payload = message.getPayload();
+        String text;
+        if (payload instanceof byte[]) {
+            byte[] bytes = (byte[]) payload;
+            int length = Math.min(bytes.length, maxPayloadBytes);
+            text = new String(bytes, 0, length, StandardCharsets.UTF_8) + (bytes.length > length ? "...(truncated)" : "");
+        } else {
+            text = String.valueOf(payload);
+        }
+        log.info("stomp direction={} type={} session={} destination={} payload=\"{}\"", direction, type,
+                SimpMessageHeaderAccessor.getSessionId(message.getHeaders()), destination, text.replace("\n", "\\n"));
+    }
+
+    private class TracingInterceptor implements ExecutorChannelInterceptor {
+        private final String direction;
+        // 처리 시작 시각 (샘플링되지 않았으면 -1)
+        private final ThreadLocal<long[]> handleStart = ThreadLocal.withInitial(() -> new long[]{-1});
+
+        private TracingInterceptor(String direction) {
+            this.direction = direction;
+        }
+
+        @Override
+        public Message<?> preSend(Message<?> message, MessageChannel channel) {
+            SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+            if (type == SimpMessageType.HEARTBEAT) {
+                heartbeats.increment();
+                return message;
+            }
+            String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+            traceOf(direction, type, destination).frames.increment();
+            if (isPayloadCaptureEnabled() && sampled()) {
+                logPayload(direction, type, destination, message);
+            }
+            return message;
+        }
+
+        @Override
+        public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+            SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+            handleStart.get()[0] = type != SimpMessageType.HEARTBEAT && sampled() ? System.nanoTime() : -1;
+            return message;
+        }
+
+        @Override
+        public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+            long[] start = handleStart.get();
+            if (start[0] < 0) {
+                return;
+            }
+            long micros = (System.nanoTime() - start[0]) / 1000;
+            start[0] = -1;
+            DestinationTrace trace = traceOf(direction,
+                    SimpMessageHeaderAccessor.getMessageType(message.getHeaders()),
+                    SimpMessageHeaderAccessor.getDestination(message.getHeaders()));
+            trace.latency.record(micros);
+            if (ex != null) {
+                trace.errors.increment();
+            }
+        }
+    }
+
+    private static class DestinationTrace {
+        private final LongAdder frames = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        private TraceStats toStats() {
+            return new TraceStats(frames.sum(), errors.sum(), latency.getCount(),
+                    latency.getAverageMillis(), latency.percentileMillis(0.5),
+                    latency.percentileMillis(0.99), latency.getMaxMillis());
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class TraceStats {
+        private final long frames;
+        private final long errors;
+        private final long sampled;
+        private final double avgMillis;
+        private final double p50Millis;
+        private final double p99Millis;
+        private final double maxMillis;
+    }
+}
@@ -0,0 +1,63 @@
+package org.example.backend.common;
+
+import lombok.RequiredArgsConstructor;
+import org.example.backend.entity.Member;
+import org.example.backend.exception.customException.MemberNotFoundException;
+import org.example.backend.jwt.AuthenticatedMember;
+import org.example.backend.repository.MemberRepository;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인 사용자 조회
+ * - 회원 ID는 요청의 인증 주체(JWT 클레임)에서 꺼내고, 없을 때(이전 토큰, 다른 사용자)만 이메일로 조회
+ * - 회원 정보가 필요하면 스냅샷 캐시, 연관관계 설정용이면 프록시 참조를 사용해 findByEmail을 생략
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthenticatedMemberResolver {
+
+    private final MemberRepository memberRepository;
+    private final MemberSnapshotCache memberSnapshotCache;
+
+    /**
+     * 이메일에 해당하는 회원 ID
+     */
+    public Long resolveMemberId(String email) {
+        Long memberId = currentMemberId(email);
+        if (memberId != null) {
+            return memberId;
+        }
+        Member member = memberRepository.findByEmail(email)
+                .orElseThrow(() -> new MemberNotFoundException("해당 이메일의 사용자가 존재하지 않습니다."));
+        memberSnapshotCache.put(member);
+        return member.getMemberId();
+    }
+
+    /**
+     * 이메일에 해당하는 회원 스냅샷 (읽기 전용)
+     */
+    public MemberSnapshot resolveSnapshot(String email) {
+        return memberSnapshotCache.get(resolveMemberId(email));
+    }
+
+    /**
+     * 이메일에 해당하는 회원 엔티티 참조 (연관관계 설정/조회 조건용, 필드 접근 시 지연 로딩)
+     * - 토큰은 유효해도 회원이 삭제되었을 수 있으므로 스냅샷 캐시로 존재 여부를 먼저 확인
+     *   (없으면 MemberNotFoundException, FK 위반으로 저장이 실패하지 않도록)
+     */
+    public Member resolveReference(String email) {
+        return memberRepository.getReferenceById(resolveSnapshot(email).getMemberId());
+    }
+
+    // 현재 요청의 인증 주체가 같은 이메일이면 토큰에 담긴 회원 ID 사용
+    private Long currentMemberId(String email) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof AuthenticatedMember)) {
+            return null;
+        }
+        AuthenticatedMember principal = (AuthenticatedMember) authentication.getPrincipal();
+        return principal.getEmail().equals(email) ? principal.getMemberId() : null;
+    }
+}
@@ -3,9 +3,7 @@ package org.example.backend.common;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.backend.constant.Status;
-import org.example.backend.entity.Member;
 import org.example.backend.exception.customException.MemberNotFoundException;
-import org.example.backend.repository.MemberRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,13 +13,12 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class CommonService {
 
-    private final MemberRepository memberRepository;
+    private final AuthenticatedMemberResolver authenticatedMemberResolver;
 
 
     public CommonResponseDto checkUserInfo(String email) {
-        // 이메일로 유저 정보 조회
-        Member member = memberRepository.findByEmail(email)
-                .orElseThrow(() -> new MemberNotFoundException("해당 이메일의 사용자가 존재하지 않습니다."));
+        // 이메일로 유저 정보 조회 (토큰의 memberId + 스냅샷 캐시 사용, 없으면 DB 조회)
+        MemberSnapshot member = authenticatedMemberResolver.resolveSnapshot(email);
 
         // 유저 상태가 ACTIVE인지 확인
         if (member.getStatus() != Status.ACTIVE) {
@@ -0,0 +1,32 @@
+package org.example.backend.common;
+
+import lombok.Getter;
+import org.example.backend.constant.Role;
+import org.example.backend.constant.Status;
+import org.example.backend.entity.Member;
+
+/**
+ * 캐시용 회원 정보 스냅샷 (읽기 전용, 영속성 컨텍스트와 무관)
+ */
+@Getter
+public class MemberSnapshot {
+    private final Long memberId;
+    private final String email;
+    private final String nickname;
+    private final String profileImageUrl;
+    private final Role role;
+    private final Status status;
+
+    private MemberSnapshot(Member member) {
+        this.memberId = member.getMemberId();
+        this.email = member.getEmail();
+        this.nickname = member.getNickname();
+        this.profileImageUrl = member.getProfileImageUrl();
+        this.role = member.getRole();
+        this.status = member.getStatus();
+    }
+
+    public static MemberSnapshot from(Member member) {
+        return new MemberSnapshot(member);
+    }
+}
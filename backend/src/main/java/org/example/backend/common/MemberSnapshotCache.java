@@ -0,0 +1,72 @@
+package org.example.backend.common;
+
+import lombok.RequiredArgsConstructor;
+import org.example.backend.entity.Member;
+import org.example.backend.exception.customException.MemberNotFoundException;
+import org.example.backend.repository.MemberRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회원 ID → 회원 스냅샷 TTL 캐시
+ * - 닉네임/프로필 이미지/역할/상태처럼 자주 읽고 드물게 바뀌는 정보를 요청마다 조회하지 않도록 보관
+ * - 회원 정보를 바꾸는 곳에서는 evict()로 즉시 무효화 (다른 인스턴스는 TTL 이내로 반영)
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberSnapshotCache {
+
+    private static final long TTL_MILLIS = 60_000;
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final MemberRepository memberRepository;
+    private final Map<Long, CachedSnapshot> cache = new ConcurrentHashMap<>();
+
+    public MemberSnapshot get(Long memberId) {
+        long now = System.currentTimeMillis();
+        CachedSnapshot cached = cache.get(memberId);
+        if (cached != null && cached.expiresAt > now) {
+            return cached.snapshot;
+        }
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new MemberNotFoundException("회원 정보를 찾을 수 없습니다."));
+        return put(member);
+    }
+
+    /**
+     * 이미 조회한 회원 엔티티로 캐시 갱신
+     */
+    public MemberSnapshot put(Member member) {
+        MemberSnapshot snapshot = MemberSnapshot.from(member);
+        if (member.getMemberId() == null) {
+            return snapshot;
+        }
+        long now = System.currentTimeMillis();
+        if (cache.size() >= MAX_ENTRIES) {
+            cache.values().removeIf(c -> c.expiresAt <= now);
+            if (cache.size() >= MAX_ENTRIES) {
+                cache.clear();
+            }
+        }
+        cache.put(member.getMemberId(), new CachedSnapshot(snapshot, now + TTL_MILLIS));
+        return snapshot;
+    }
+
+    public void evict(Long memberId) {
+        if (memberId != null) {
+            cache.remove(memberId);
+        }
+    }
+
+    private static class CachedSnapshot {
+        private final MemberSnapshot snapshot;
+        private final long expiresAt;
+
+        private CachedSnapshot(MemberSnapshot snapshot, long expiresAt) {
+            this.snapshot = snapshot;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -1,13 +1,21 @@
 package org.example.backend.config;
 
 import lombok.RequiredArgsConstructor;
+import org.example.backend.chat.broker.ChatBrokerMode;
+import org.example.backend.chat.broker.ChatDestinations;
+import org.example.backend.chat.websocket.ChatChannelExecutors;
+import org.example.backend.chat.websocket.ChatSubscriptionInterceptor;
 import org.example.backend.chat.websocket.CustomHandshakeHandler;
 import org.example.backend.chat.websocket.JwtHandshakeInterceptor;
+import org.example.backend.chat.websocket.StompTracer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 @Configuration
 @EnableWebSocketMessageBroker
@@ -15,10 +23,53 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final JwtHandshakeInterceptor jwtHandshakeInterceptor;
+    private final ChatSubscriptionInterceptor chatSubscriptionInterceptor;
+    private final StompTracer stompTracer;
+    private final ChatChannelExecutors chatChannelExecutors;
+
+    // ✅ 브로커 모드: simple(기본, 단일 인스턴스) / redis(Redis pub/sub로 인스턴스 간 전달) / relay(외부 STOMP 브로커)
+    @Value("${chat.broker.mode:simple}")
+    private String brokerMode;
+
+    @Value("${chat.broker.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${chat.broker.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${chat.broker.relay.login:guest}")
+    private String relayLogin;
+
+    @Value("${chat.broker.relay.passcode:guest}")
+    private String relayPasscode;
+
+    // ✅ 전송 제한: 느린 클라이언트 한 명이 송신 버퍼/스레드를 붙잡지 않도록 상한 설정
+    @Value("${chat.transport.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    @Value("${chat.transport.send-time-limit-ms:15000}")
+    private int sendTimeLimitMs;
+
+    @Value("${chat.transport.message-size-limit:65536}")
+    private int messageSizeLimit;
+
+    @Value("${chat.transport.time-to-first-message-ms:30000}")
+    private int timeToFirstMessageMs;
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        registry.enableSimpleBroker("/sub");        // ✅ 구독 prefix
+        if (ChatBrokerMode.from(brokerMode) == ChatBrokerMode.RELAY) {
+            // ✅ 구독 prefix (외부 브로커로 릴레이, RabbitMQ STOMP는 /topic·/queue·/exchange·/amq/queue만 허용)
+            registry.enableStompBrokerRelay(ChatDestinations.BROKER_PREFIX)
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode);
+        } else {
+            registry.enableSimpleBroker(ChatDestinations.BROKER_PREFIX);    // ✅ 구독 prefix (redis 모드도 인스턴스 내부 전달은 simple broker)
+        }
         registry.setApplicationDestinationPrefixes("/pub"); // ✅ 송신 prefix
     }
 
@@ -30,4 +81,27 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .setHandshakeHandler(new CustomHandshakeHandler()) // ✅ Principal 등록
                 .setAllowedOriginPatterns("*");            // ✅ CORS 허용
     }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setSendTimeLimit(sendTimeLimitMs)
+                .setMessageSizeLimit(messageSizeLimit)
+                .setTimeToFirstMessage(timeToFirstMessageMs);
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor(chatChannelExecutors.inbound());  // ✅ 상한 있는 풀 (기본 풀은 최대 스레드/큐 무제한)
+        registration.interceptors(
+                stompTracer.inboundInterceptor(),  // ✅ 프레임 카운터/처리 시간 (샘플링)
+                chatSubscriptionInterceptor        // ✅ 채팅방 구독 권한 확인
+        );
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor(chatChannelExecutors.outbound());
+        registration.interceptors(stompTracer.outboundInterceptor());
+    }
 }
\ No newline at end of file
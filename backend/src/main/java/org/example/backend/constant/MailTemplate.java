@@ -0,0 +1,19 @@
+package org.example.backend.constant;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 알림 메일 템플릿 (MessageFormat 형식: {0}, {1} ... 자리에 인자가 순서대로 들어가고, 작은따옴표는 ''로 적음)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum MailTemplate {
+    MATCHING_ACCEPTED("견적 요청 알림", "견적 요청이 왔습니다."),
+    WORK_COMPLETED("작업 완료 알림", "작업이 완료되었습니다."),
+    WORK_COMPLETED_BY_EXPERT("작업 완료 알림", "전문가 ''{0}''님이 작업을 완료했습니다. 확인해 주세요."),
+    PAYMENT_COMPLETED("[결제 완료] 매칭이 수락되었습니다", "의뢰자 ''{0}''님이 ''{1}'' 콘텐츠에 대해 결제를 완료했습니다.");
+
+    private final String subject;
+    private final String body;
+}
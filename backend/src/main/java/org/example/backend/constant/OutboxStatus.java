@@ -0,0 +1,7 @@
+package org.example.backend.constant;
+
+public enum OutboxStatus {
+    PENDING,    // 처리 대기 (재시도 대기 포함)
+    DONE,       // 처리 완료
+    FAILED      // 최대 재시도 횟수 초과 (수동 확인 필요)
+}
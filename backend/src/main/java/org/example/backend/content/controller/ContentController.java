@@ -1,15 +1,15 @@
 package org.example.backend.content.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.example.backend.common.AuthenticatedMemberResolver;
+import org.example.backend.common.MemberSnapshot;
 import org.example.backend.content.dto.ContentDetailResponseDto;
 import org.example.backend.content.dto.ContentRequestDto;
 import org.example.backend.content.dto.ContentResponseDto;
 import org.example.backend.content.service.ContentImageService;
 import org.example.backend.content.service.ContentService;
 import org.example.backend.entity.Content;
-import org.example.backend.entity.Member;
 import org.example.backend.constant.Role;
-import org.example.backend.repository.MemberRepository;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -32,12 +32,11 @@ import java.util.ArrayList;
 public class ContentController {
     private final ContentService contentService;
     private final ContentImageService contentImageService;
-    private final MemberRepository memberRepository;
+    private final AuthenticatedMemberResolver authenticatedMemberResolver;
 
-    private Member getAuthenticatedMember(Principal principal) {
-        String email = principal.getName();
-        return memberRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("사용자 정보를 찾을 수 없습니다."));
+    // 권한 확인용 회원 정보 (토큰의 회원 ID + 스냅샷 캐시, 없으면 MemberNotFoundException)
+    private MemberSnapshot getAuthenticatedMember(Principal principal) {
+        return authenticatedMemberResolver.resolveSnapshot(principal.getName());
     }
 
     @Operation(
@@ -79,11 +78,12 @@ public class ContentController {
     })
     @PostMapping
     public ResponseEntity<ContentResponseDto> createContent(@RequestBody ContentRequestDto requestDto, Principal principal) {
-        Member member = getAuthenticatedMember(principal);
+        MemberSnapshot member = getAuthenticatedMember(principal);
         if (member.getRole() != Role.EXPERT) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
         }
-        ContentResponseDto response = contentService.createContent(requestDto, member);
+        ContentResponseDto response = contentService.createContent(requestDto,
+                authenticatedMemberResolver.resolveReference(principal.getName()));
         return ResponseEntity.ok(response);
     }
 
@@ -142,23 +142,24 @@ public class ContentController {
     public ResponseEntity<ContentResponseDto> updateContent(@PathVariable Long id,
                                                             @RequestBody ContentRequestDto requestDto,
                                                             Principal principal) {
-        Member member = getAuthenticatedMember(principal);
+        MemberSnapshot member = getAuthenticatedMember(principal);
         Content content = contentService.getContentEntity(id);
         if (!hasContentAccess(member, content)) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
         }
-        return ResponseEntity.ok(contentService.updateContent(id, requestDto, member));
+        return ResponseEntity.ok(contentService.updateContent(id, requestDto,
+                authenticatedMemberResolver.resolveReference(principal.getName())));
     }
 
     @Operation(summary = "컨텐츠 삭제", description = "특정 컨텐츠를 삭제합니다.")
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteContent(@PathVariable Long id, Principal principal) {
-        Member member = getAuthenticatedMember(principal);
+        MemberSnapshot member = getAuthenticatedMember(principal);
         Content content = contentService.getContentEntity(id);
         if (!hasContentAccess(member, content)) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
         }
-        contentService.deleteContent(id, member);
+        contentService.deleteContent(id, authenticatedMemberResolver.resolveReference(principal.getName()));
         return ResponseEntity.noContent().build();
     }
 
@@ -244,7 +245,7 @@ public class ContentController {
         return ResponseEntity.noContent().build();
     }
 
-    private boolean hasContentAccess(Member member, Content content) {
+    private boolean hasContentAccess(MemberSnapshot member, Content content) {
         return member.getRole() == Role.ADMIN || content.getMember().getMemberId().equals(member.getMemberId());
     }
 }
\ No newline at end of file
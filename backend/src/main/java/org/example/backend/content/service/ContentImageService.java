@@ -5,12 +5,19 @@ import lombok.extern.slf4j.Slf4j;
 import org.example.backend.entity.Content;
 import org.example.backend.entity.ContentImage;
 import org.example.backend.firebase.FirebaseImageService;
+import org.example.backend.firebase.ImageUploadRequest;
+import org.example.backend.firebase.StoredImage;
 import org.example.backend.repository.ContentImageRepository;
 import org.example.backend.repository.ContentRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -21,31 +28,38 @@ public class ContentImageService {
     private final ContentRepository contentRepository;
     private final FirebaseImageService firebaseImageService; // FirebaseImageService 주입
 
+    /*
+     * 업로드가 있는 메소드는 업로드를 트랜잭션 밖에서 먼저 끝내고(업로드 작업자도 참조 등록에 커넥션을 씀)
+     * 이미지 행 변경 + 참조 해제 예약(아웃박스) + 썸네일 컬럼 갱신을 한 트랜잭션으로 저장 (실패하면 업로드한 이미지 정리)
+     */
+
     // 이미지 업로드 및 ContentImage 저장
     public String uploadContentImage(Long contentId, MultipartFile file, byte orderIndex) {
-        Content content = contentRepository.findById(contentId)
-                .orElseThrow(() -> new IllegalArgumentException("Content not found"));
+        findContent(contentId);
 
-        // FirebaseImageService를 사용하여 이미지 업로드
-        String imageUrl = firebaseImageService.uploadImage(file, "content/" + contentId);
+        // FirebaseImageService를 사용하여 이미지 업로드 (상세/카드/썸네일 변형 생성)
+        StoredImage stored = firebaseImageService.uploadProcessedImages(
+                List.of(new ImageUploadRequest(file, "content/" + contentId))).get(0);
 
         // DB에 ContentImage 저장
-        ContentImage contentImage = new ContentImage(content, imageUrl, orderIndex);
-        contentImageRepository.save(contentImage);
+        firebaseImageService.saveWithUploads(List.of(stored), () ->
+                contentImageRepository.save(newContentImage(findContent(contentId), stored, orderIndex)));
 
-        return imageUrl;
+        return stored.getImageUrl();
     }
 
-    // 이미지 삭제
+    // 이미지 삭제 (행 삭제와 참조 해제 예약을 한 트랜잭션으로 커밋)
+    @Transactional
     public void deleteContentImage(Long contentImageId) {
         ContentImage contentImage = contentImageRepository.findById(contentImageId)
                 .orElseThrow(() -> new IllegalArgumentException("ContentImage not found"));
         String imageUrl = contentImage.getImageUrl();
 
-        // FirebaseImageService를 사용하여 이미지 삭제
-        firebaseImageService.deleteImage(imageUrl);
+        // FirebaseImageService를 사용하여 이미지 삭제 (변형 포함)
+        firebaseImageService.deleteImages(imageUrl, contentImage.getCardImageUrl(), contentImage.getThumbnailImageUrl());
 
         contentImageRepository.delete(contentImage);
+        syncThumbnailUrl(contentImage.getContent());
     }
 
     // 여러 장의 이미지와 썸네일을 한 번에 업로드 및 저장
@@ -56,70 +70,102 @@ public class ContentImageService {
         if (images != null && images.size() > 5) {
             throw new IllegalArgumentException("상세 이미지는 최대 5개까지 업로드할 수 있습니다.");
         }
-        Content content = contentRepository.findById(contentId)
-                .orElseThrow(() -> new IllegalArgumentException("Content not found"));
+        findContent(contentId);
 
-        // 썸네일 업로드 및 저장
-        String thumbnailUrl = firebaseImageService.uploadImage(thumbnailImage, "content/" + contentId + "/thumbnail");
-        ContentImage thumbnail = new ContentImage(content, thumbnailUrl, (byte) 0); // orderIndex 0
-        thumbnail.setThumbnail(true);
-        contentImageRepository.save(thumbnail);
-
-        // 일반 이미지 업로드 및 저장 (썸네일 제외)
+        // 썸네일 + 일반 이미지 병렬 업로드 (결과는 요청 순서대로, 하나라도 실패하면 전부 삭제 후 예외)
+        List<ImageUploadRequest> uploads = new ArrayList<>();
+        uploads.add(new ImageUploadRequest(thumbnailImage, "content/" + contentId + "/thumbnail"));
         if (images != null) {
             for (int i = 0; i < images.size(); i++) {
-                MultipartFile image = images.get(i);
-                String imageUrl = firebaseImageService.uploadImage(image, "content/" + contentId + "/image_" + (i+1));
-                ContentImage contentImage = new ContentImage(content, imageUrl, (byte) (i+1)); // orderIndex 1부터
+                uploads.add(new ImageUploadRequest(images.get(i), "content/" + contentId + "/image_" + (i+1)));
+            }
+        }
+        List<StoredImage> stored = firebaseImageService.uploadProcessedImages(uploads);
+
+        firebaseImageService.saveWithUploads(stored, () -> {
+            Content content = findContent(contentId);
+
+            // 썸네일 저장
+            ContentImage thumbnail = newContentImage(content, stored.get(0), (byte) 0); // orderIndex 0
+            thumbnail.setThumbnail(true);
+            contentImageRepository.save(thumbnail);
+
+            // 일반 이미지 저장 (썸네일 제외)
+            for (int i = 1; i < stored.size(); i++) {
+                ContentImage contentImage = newContentImage(content, stored.get(i), (byte) i); // orderIndex 1부터
                 contentImage.setThumbnail(false);
                 contentImageRepository.save(contentImage);
             }
-        }
+
+            // 목록 조회용 썸네일 URL 컬럼 갱신 (카드 변형)
+            contentRepository.updateThumbnailUrl(contentId, thumbnail.getListImageUrl());
+        });
     }
 
-    // 여러 이미지 ID를 받아 일괄 삭제
+    // 여러 이미지 ID를 받아 일괄 삭제 (행 삭제와 참조 해제 예약을 한 트랜잭션으로 커밋)
+    @Transactional
     public void deleteContentImagesBatch(List<Long> imageIds) {
+        Map<Long, Content> affectedContents = new LinkedHashMap<>();
         for (Long id : imageIds) {
             ContentImage contentImage = contentImageRepository.findById(id)
                     .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 이미지 ID가 포함되어 있습니다."));
-            // 실제 이미지 파일도 삭제
-            firebaseImageService.deleteImage(contentImage.getImageUrl());
+            // 실제 이미지 파일도 삭제 (변형 포함)
+            firebaseImageService.deleteImages(contentImage.getImageUrl(), contentImage.getCardImageUrl(), contentImage.getThumbnailImageUrl());
             contentImageRepository.delete(contentImage);
+            affectedContents.putIfAbsent(contentImage.getContent().getContentId(), contentImage.getContent());
         }
+        affectedContents.values().forEach(this::syncThumbnailUrl);
     }
 
     // 유지할 이미지 ID 리스트와 새 이미지, 썸네일을 함께 받아 컨텐츠 이미지 전체를 수정
     public void updateContentImages(Long contentId, List<Long> remainingImageIds, List<MultipartFile> newImages, MultipartFile thumbnailImage, Long thumbnailRemainImageId) {
-        Content content = contentRepository.findById(contentId)
-                .orElseThrow(() -> new IllegalArgumentException("Content not found"));
-
-        // 1. 기존 이미지 조회
-        List<ContentImage> existingImages = contentImageRepository.findAllById(remainingImageIds);
-        List<ContentImage> allImages = contentImageRepository.findAllByContent(content);
-
         // 새 이미지 개수 검증
         if (newImages != null && newImages.size() > 5) {
             throw new IllegalArgumentException("상세 이미지는 최대 5개까지 업로드할 수 있습니다.");
         }
+        findContent(contentId);
+
+        // 1. 새 이미지(+ 새 썸네일) 병렬 업로드 (트랜잭션 밖)
+        List<ImageUploadRequest> uploads = new ArrayList<>();
+        if (newImages != null) {
+            for (MultipartFile newImage : newImages) {
+                uploads.add(new ImageUploadRequest(newImage, "content/" + contentId + "/image_" + System.currentTimeMillis()));
+            }
+        }
+        if (thumbnailImage != null) {
+            uploads.add(new ImageUploadRequest(thumbnailImage, "content/" + contentId + "/thumbnail_" + System.currentTimeMillis()));
+        }
+        List<StoredImage> stored = firebaseImageService.uploadProcessedImages(uploads);
+
+        // 2~5. 삭제/추가/썸네일 처리를 한 트랜잭션으로 저장
+        firebaseImageService.saveWithUploads(stored, () ->
+                applyContentImageUpdate(contentId, remainingImageIds, newImages, thumbnailImage, thumbnailRemainImageId, stored));
+    }
+
+    private void applyContentImageUpdate(Long contentId, List<Long> remainingImageIds, List<MultipartFile> newImages,
+                                         MultipartFile thumbnailImage, Long thumbnailRemainImageId, List<StoredImage> stored) {
+        Content content = findContent(contentId);
+
+        // 기존 이미지 조회
+        List<ContentImage> existingImages = contentImageRepository.findAllById(remainingImageIds);
+        List<ContentImage> allImages = contentImageRepository.findAllByContent(content);
 
         // 2. 삭제할 이미지 처리
         for (ContentImage img : allImages) {
             if (!remainingImageIds.contains(img.getContentImageId())) {
-                firebaseImageService.deleteImage(img.getImageUrl());
+                firebaseImageService.deleteImages(img.getImageUrl(), img.getCardImageUrl(), img.getThumbnailImageUrl());
                 contentImageRepository.delete(img);
             }
         }
 
-        // 3. 새 이미지 업로드 및 추가
-        if (newImages != null) {
-            int orderIndex = existingImages.size();
-            for (MultipartFile newImage : newImages) {
-                String imageUrl = firebaseImageService.uploadImage(newImage, "content/" + contentId + "/image_" + System.currentTimeMillis());
-                ContentImage contentImage = new ContentImage(content, imageUrl, (byte) (orderIndex + 1));
-                contentImage.setThumbnail(false);
-                contentImageRepository.save(contentImage);
-                orderIndex++;
-            }
+        // 3. 업로드한 새 이미지 추가
+        int newImageCount = newImages != null ? newImages.size() : 0;
+        int orderIndex = existingImages.size();
+        for (int i = 0; i < newImageCount; i++) {
+            ContentImage contentImage = newContentImage(content, stored.get(i), (byte) (orderIndex + 1));
+            contentImage.setThumbnail(false);
+            contentImageRepository.save(contentImage);
+            orderIndex++;
         }
 
         // 4. 썸네일 처리
@@ -129,8 +175,7 @@ public class ContentImageService {
                 img.setThumbnail(false);
                 contentImageRepository.save(img);
             }
-            String thumbnailUrl = firebaseImageService.uploadImage(thumbnailImage, "content/" + contentId + "/thumbnail_" + System.currentTimeMillis());
-            ContentImage newThumbnail = new ContentImage(content, thumbnailUrl, (byte) 0);
+            ContentImage newThumbnail = newContentImage(content, stored.get(newImageCount), (byte) 0);
             newThumbnail.setThumbnail(true);
             contentImageRepository.save(newThumbnail);
         } else if (thumbnailRemainImageId != null) {
@@ -157,6 +202,31 @@ public class ContentImageService {
                 contentImageRepository.save(imgs.get(0));
             }
         }
+
+        // 5. 목록 조회용 썸네일 URL 컬럼 갱신
+        syncThumbnailUrl(content);
+    }
+
+    private Content findContent(Long contentId) {
+        return contentRepository.findById(contentId)
+                .orElseThrow(() -> new IllegalArgumentException("Content not found"));
+    }
+
+    private static ContentImage newContentImage(Content content, StoredImage stored, byte orderIndex) {
+        return new ContentImage(content, stored.getImageUrl(), stored.getCardUrl(), stored.getThumbnailUrl(), orderIndex);
+    }
+
+    // 현재 썸네일로 지정된 이미지 기준으로 Content.thumbnailUrl 재계산 (목록 카드용 변형)
+    // 지정된 썸네일이 없으면 기존 목록 카드처럼 첫 번째(orderIndex 최소) 이미지를 사용
+    private void syncThumbnailUrl(Content content) {
+        List<ContentImage> images = contentImageRepository.findAllByContent(content);
+        String thumbnailUrl = images.stream()
+                .filter(ContentImage::isThumbnail)
+                .findFirst()
+                .or(() -> images.stream().min(Comparator.comparingInt(ContentImage::getOrderIndex)))
+                .map(ContentImage::getListImageUrl)
+                .orElse(null);
+        contentRepository.updateThumbnailUrl(content.getContentId(), thumbnailUrl);
     }
 }
 
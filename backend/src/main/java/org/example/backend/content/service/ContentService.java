@@ -1,6 +1,7 @@
 package org.example.backend.content.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.backend.category.service.CategoryService;
 import org.example.backend.constant.Role;
 import org.example.backend.content.dto.ContentDetailResponseDto;
 import org.example.backend.content.dto.ContentRequestDto;
@@ -9,6 +10,7 @@ import org.example.backend.constant.Status;
 import org.example.backend.entity.*;
 import org.example.backend.repository.CategoryRepository;
 import org.example.backend.repository.ContentRepository;
+import org.example.backend.search.index.ContentSearchIndex;
 import org.example.backend.exception.customException.ContentNotFoundException;
 import org.example.backend.exception.customException.NoContentPermissionException;
 import org.springframework.stereotype.Service;
@@ -24,6 +26,8 @@ import java.util.stream.Collectors;
 public class ContentService {
     private final ContentRepository contentRepository;
     private final CategoryRepository categoryRepository;
+    private final CategoryService categoryService;
+    private final ContentSearchIndex contentSearchIndex;
 
     // 작성자 확인
     private void verifyContentPermission(Content content, Member member){
@@ -62,6 +66,7 @@ public class ContentService {
         content.setQuestions(questions);
 
         Content savedContent = contentRepository.save(content);
+        contentSearchIndex.syncAfterCommit(savedContent);
         return toResponseDto(savedContent);
     }
 
@@ -124,6 +129,7 @@ public class ContentService {
         }
 
         Content updatedContent = contentRepository.save(content);
+        contentSearchIndex.syncAfterCommit(updatedContent);
         return toResponseDto(updatedContent);
     }
 
@@ -138,6 +144,7 @@ public class ContentService {
         // status를 DELETED로 변경
         content.setStatus(Status.DELETED);
         contentRepository.save(content);
+        contentSearchIndex.syncAfterCommit(content);
     }
 
     // 엔티티 반환 (권한 체크용)
@@ -150,7 +157,14 @@ public class ContentService {
     // 카테고리 전체 경로를 가져오는 메서드
     private String getCategoryFullPath(Category category) {
         if (category == null) return "";
-        
+
+        // 카테고리 인덱스에 미리 계산된 경로 사용 (부모 프록시 초기화 쿼리 없음)
+        String indexedPath = categoryService.getCategoryFullPath(category.getCategoryId());
+        if (indexedPath != null) {
+            return indexedPath;
+        }
+
+        // 인덱스 적재 이후 추가된 카테고리라면 기존 방식으로 경로 계산
         StringBuilder path = new StringBuilder(category.getName());
         Category current = category.getParent();
         
@@ -252,21 +266,11 @@ public class ContentService {
         List<ContentDetailResponseDto.SimplePortfolioDto> portfolioDtos = null;
         if (content.getMember() != null && content.getMember().getExpertProfile() != null) {
             portfolioDtos = content.getMember().getExpertProfile().getPortfolios().stream()
-                    .map(p -> {
-                        String thumbnailUrl = null;
-                        if (p.getImages() != null && !p.getImages().isEmpty()) {
-                            thumbnailUrl = p.getImages().stream()
-                                    .filter(img -> img.isThumbnailCheck())
-                                    .map(PortfolioImage::getImageUrl)
-                                    .findFirst()
-                                    .orElse(p.getImages().get(0).getImageUrl());
-                        }
-                        return ContentDetailResponseDto.SimplePortfolioDto.builder()
-                                .portfolioId(p.getPortfolioId())
-                                .title(p.getTitle())
-                                .thumbnailUrl(thumbnailUrl)
-                                .build();
-                    })
+                    .map(p -> ContentDetailResponseDto.SimplePortfolioDto.builder()
+                            .portfolioId(p.getPortfolioId())
+                            .title(p.getTitle())
+                            .thumbnailUrl(p.getThumbnailUrl()) // 비정규화 컬럼 사용 (포트폴리오별 이미지 조회 없음)
+                            .build())
                     .collect(Collectors.toList());
         }
 
@@ -10,7 +10,10 @@ import java.time.LocalDateTime;
 
 @Entity
 @Getter
-@Table(name = "chat_message")
+@Table(name = "chat_message", indexes = {
+        // 채팅방별 메시지 커서(before/after) 조회
+        @Index(name = "idx_chat_message_room_chat", columnList = "chatroom_id, chatId")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ChatMessage extends BaseTimeEntity {
     @Id
@@ -0,0 +1,44 @@
+package org.example.backend.entity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 브로드캐스트는 되었지만 chat_message에 기록하지 못한 메시지 보관 (수동 확인/복구용)
+ * - 묶음 기록이 실패하면 한 건씩 다시 기록하고, 그래도 실패한 메시지만 여기에 남는다.
+ * 기록은 ChatMessageBatchWriter가 JDBC로만 수행 (테이블 생성용 매핑)
+ */
+@Entity
+@Table(name = "chat_message_dead_letter", indexes = {
+        @Index(name = "idx_chat_dead_letter_room", columnList = "chatroom_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChatMessageDeadLetter {
+
+    @Id
+    @Column(name = "chat_id")
+    private Long chatId;
+
+    @Column(name = "chatroom_id", nullable = false)
+    private Long chatRoomId;
+
+    @Column(name = "sender_id", nullable = false)
+    private Long senderId;
+
+    @Column(columnDefinition = "TEXT")
+    private String message;
+
+    @Column(name = "send_at", nullable = false)
+    private LocalDateTime sendAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -9,8 +9,15 @@ import java.util.List;
 
 @Entity
 @Getter
+@Table(indexes = {
+        @Index(name = "idx_chat_room_member1_last", columnList = "member_Id1, last_message_time"),
+        @Index(name = "idx_chat_room_member2_last", columnList = "member_Id2, last_message_time")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ChatRoom extends BaseTimeEntity {
+
+    /** 채팅방 목록 미리보기로 보관하는 최근 메시지 길이 */
+    public static final int LAST_MESSAGE_PREVIEW_LENGTH = 100;
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long chatroomId;
@@ -37,4 +44,15 @@ public class ChatRoom extends BaseTimeEntity {
     @Column(name = "last_message_time")
     @Setter(AccessLevel.PUBLIC)
     private LocalDateTime lastMessageTime;
+
+    /** ✅ 최근 메시지 미리보기 (메시지 기록 시 함께 갱신, 목록 조회 시 메시지 테이블 조회 생략) */
+    @Column(name = "last_message_preview", length = LAST_MESSAGE_PREVIEW_LENGTH)
+    private String lastMessagePreview;
+
+    public static String toPreview(String message) {
+        if (message == null || message.length() <= LAST_MESSAGE_PREVIEW_LENGTH) {
+            return message;
+        }
+        return message.substring(0, LAST_MESSAGE_PREVIEW_LENGTH);
+    }
 }
@@ -6,7 +6,9 @@ import javax.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "chat_room_member")
+@Table(name = "chat_room_member", indexes = {
+        @Index(name = "idx_chat_room_member_room_member", columnList = "chat_room_id, member_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -28,6 +30,9 @@ public class ChatRoomMember extends BaseTimeEntity {
     @Column
     private LocalDateTime lastReadAt; // 마지막으로 읽은 시각
 
+    @Column
+    private Long lastReadChatId; // 마지막으로 읽은 메시지 ID (이후 상대가 보낸 메시지 수 = unreadCount)
+
     @Column(nullable = false)
     private int unreadCount = 0;
 
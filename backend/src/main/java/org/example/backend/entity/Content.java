@@ -15,7 +15,10 @@ import java.util.List;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "content")
+@Table(name = "content", indexes = {
+        // 카테고리 검색 커서(keyset) 페이징: (updateTime, contentId) seek
+        @Index(name = "idx_content_category_update", columnList = "category_id, updateTime, content_id")
+})
 public class Content extends BaseEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -46,6 +49,11 @@ public class Content extends BaseEntity {
     @OneToMany(mappedBy = "content", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ContentImage> images = new ArrayList<>();
 
+    // 대표 이미지(썸네일) URL 비정규화 컬럼 - 목록 조회 시 content_img 서브쿼리 없이 사용
+    // ContentImageService에서 이미지 변경 시 함께 갱신
+    @Column(name = "thumbnail_url")
+    private String thumbnailUrl;
+
     // Status 설정 메서드
     public void setStatus(Status status) {
         this.status = status;
@@ -20,6 +20,13 @@ public class ContentImage {
 
     private String imageUrl;
 
+    // 서버에서 만든 변형 이미지 (변형이 없는 기존/원본 이미지는 null → imageUrl 사용)
+    @Column(name = "card_image_url")
+    private String cardImageUrl;
+
+    @Column(name = "thumbnail_image_url")
+    private String thumbnailImageUrl;
+
     @Column(name = "order_index", nullable = false)
     private byte orderIndex;
 
@@ -32,6 +39,17 @@ public class ContentImage {
         this.orderIndex = orderIndex;
     }
 
+    public ContentImage(Content content, String imageUrl, String cardImageUrl, String thumbnailImageUrl, byte orderIndex) {
+        this(content, imageUrl, orderIndex);
+        this.cardImageUrl = cardImageUrl;
+        this.thumbnailImageUrl = thumbnailImageUrl;
+    }
+
+    // 목록 카드용 URL
+    public String getListImageUrl() {
+        return cardImageUrl != null ? cardImageUrl : imageUrl;
+    }
+
     public void setThumbnail(boolean thumbnail) {
         this.thumbnail = thumbnail;
     }
@@ -0,0 +1,26 @@
+package org.example.backend.entity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+/**
+ * 여러 인스턴스가 공유하는 ID 대역 발급용 시퀀스 (예: chat_message)
+ * - next_val : 아직 어떤 인스턴스에도 발급되지 않은 가장 작은 ID
+ * 갱신은 ChatIdAllocator가 JDBC로만 수행 (테이블 생성용 매핑)
+ */
+@Entity
+@Table(name = "id_block_sequence")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdBlockSequence {
+
+    @Id
+    @Column(name = "sequence_name", length = 50)
+    private String sequenceName;
+
+    @Column(name = "next_val", nullable = false)
+    private long nextVal;
+}
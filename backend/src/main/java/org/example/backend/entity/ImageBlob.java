@@ -0,0 +1,45 @@
+package org.example.backend.entity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 내용 해시(SHA-256)로 식별되는 저장 이미지 (참조 카운트 관리)
+ * - contentKey : "variants:{sha256}" (변형 생성 업로드) / "original:{sha256}" (원본 그대로 업로드)
+ * - stem       : 저장 경로 공통 접두어 (images/{sha256}-{세대}), URL에서 다시 추출해 참조 해제에 사용
+ * 갱신은 ImageBlobRegistry가 JDBC 단일 문장으로만 수행 (테이블 생성용 매핑)
+ */
+@Entity
+@Table(name = "image_blob", indexes = {
+        @Index(name = "uk_image_blob_stem", columnList = "stem", unique = true)
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ImageBlob {
+
+    @Id
+    @Column(name = "content_key", length = 80)
+    private String contentKey;
+
+    @Column(nullable = false, length = 100)
+    private String stem;
+
+    @Column(name = "image_url", nullable = false, length = 512)
+    private String imageUrl;
+
+    @Column(name = "card_url", length = 512)
+    private String cardUrl;
+
+    @Column(name = "thumbnail_url", length = 512)
+    private String thumbnailUrl;
+
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
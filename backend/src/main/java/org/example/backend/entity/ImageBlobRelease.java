@@ -0,0 +1,33 @@
+package org.example.backend.entity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 반영된 이미지 참조 해제 기록 (아웃박스 IMAGE_RELEASE가 다시 전달돼도 참조 수를 한 번만 줄이기 위함)
+ * - release_id : 해제 요청마다 발급한 UUID (아웃박스 idempotency key와 같은 값)
+ * - 재전달 기간이 지난 기록은 ImageReleaseOutboxHandler가 주기적으로 삭제
+ * 기록/삭제는 ImageBlobRegistry가 JDBC로만 수행 (테이블 생성용 매핑)
+ */
+@Entity
+@Table(name = "image_blob_release", indexes = {
+        @Index(name = "idx_image_blob_release_applied_at", columnList = "applied_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ImageBlobRelease {
+
+    @Id
+    @Column(name = "release_id", length = 36)
+    private String releaseId;
+
+    @Column(nullable = false, length = 100)
+    private String stem;
+
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+}
@@ -0,0 +1,65 @@
+package org.example.backend.entity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.backend.constant.OutboxStatus;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 외부 부수 효과(이미지 삭제, 메일 발송 등) 아웃박스
+ * - 업무 데이터와 같은 트랜잭션에서 기록되고 OutboxDispatcher가 커밋 후 백그라운드로 처리
+ * - idempotency_key가 같은 이벤트는 한 번만 기록됨
+ * 기록/갱신은 OutboxService/OutboxDispatcher가 JDBC로만 수행 (테이블 생성용 매핑)
+ */
+@Entity
+@Table(name = "outbox_event", indexes = {
+        @Index(name = "uk_outbox_event_idempotency_key", columnList = "idempotency_key", unique = true),
+        @Index(name = "idx_outbox_event_status_next", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_outbox_event_claimed_by", columnList = "claimed_by")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_type", nullable = false, length = 50)
+    private String eventType;
+
+    @Column(name = "idempotency_key", nullable = false, length = 200)
+    private String idempotencyKey;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;     // JSON
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "claimed_by", length = 64)
+    private String claimedBy;       // 처리 중인 디스패처의 배치 토큰
+
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil;     // 이 시각이 지나면 다른 인스턴스가 다시 가져갈 수 있음
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+}
@@ -39,6 +39,11 @@ public class Portfolio {
     @OneToMany(mappedBy = "portfolio", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<PortfolioImage> images = new ArrayList<>();
 
+    // 썸네일 이미지 URL 비정규화 컬럼 - 목록 조회 시 portfolio_images 조인 없이 사용
+    // ExpertService에서 포트폴리오 이미지 변경 시 함께 갱신
+    @Column(name = "thumbnail_url")
+    private String thumbnailUrl;
+
     public Portfolio(ExpertProfile expertProfile, String title, String content, Integer workingYear, String category) {
         this.expertProfile = expertProfile;
         this.title = title;
@@ -64,4 +69,8 @@ public class Portfolio {
         this.workingYear = workingYear;
     }
 
+    public void setThumbnailUrl(String thumbnailUrl) {
+        this.thumbnailUrl = thumbnailUrl;
+    }
+
 }
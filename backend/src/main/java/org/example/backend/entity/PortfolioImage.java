@@ -23,6 +23,13 @@ public class PortfolioImage {
     @Column(name = "image_url", nullable = false)
     private String imageUrl;
 
+    // 서버에서 만든 변형 이미지 (변형이 없는 기존/원본 이미지는 null → imageUrl 사용)
+    @Column(name = "card_image_url")
+    private String cardImageUrl;
+
+    @Column(name = "thumbnail_image_url")
+    private String thumbnailImageUrl;
+
     @Column(name = "thumbnail_check", nullable = false)
     private boolean thumbnailCheck;
 
@@ -32,6 +39,17 @@ public class PortfolioImage {
         this.thumbnailCheck = thumbnailCheck;
     }
 
+    public PortfolioImage(Portfolio portfolio, String imageUrl, String cardImageUrl, String thumbnailImageUrl, boolean thumbnailCheck) {
+        this(portfolio, imageUrl, thumbnailCheck);
+        this.cardImageUrl = cardImageUrl;
+        this.thumbnailImageUrl = thumbnailImageUrl;
+    }
+
+    // 목록 카드용 URL
+    public String getListImageUrl() {
+        return cardImageUrl != null ? cardImageUrl : imageUrl;
+    }
+
     public void setThumbnailCheck(Boolean thumbnailCheck) {
         this.thumbnailCheck = thumbnailCheck;
     }
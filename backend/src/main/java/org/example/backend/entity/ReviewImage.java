@@ -22,8 +22,26 @@ public class ReviewImage {
 
     private String imageUrl;
 
+    // 서버에서 만든 변형 이미지 (변형이 없는 기존/원본 이미지는 null → imageUrl 사용)
+    @Column(name = "card_image_url")
+    private String cardImageUrl;
+
+    @Column(name = "thumbnail_image_url")
+    private String thumbnailImageUrl;
+
     public ReviewImage(Review review, String imageUrl) {
         this.review = review;
         this.imageUrl = imageUrl;
     }
+
+    public ReviewImage(Review review, String imageUrl, String cardImageUrl, String thumbnailImageUrl) {
+        this(review, imageUrl);
+        this.cardImageUrl = cardImageUrl;
+        this.thumbnailImageUrl = thumbnailImageUrl;
+    }
+
+    // 목록 카드용 URL
+    public String getListImageUrl() {
+        return cardImageUrl != null ? cardImageUrl : imageUrl;
+    }
 }
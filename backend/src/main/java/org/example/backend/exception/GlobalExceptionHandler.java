@@ -341,4 +341,40 @@ public class GlobalExceptionHandler {
                 null
         );
     }
-}
\ No newline at end of file
+
+    // 검색 커서(continuation token)가 잘못된 경우 핸들링
+    @ExceptionHandler(InvalidSearchCursorException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidSearchCursor(InvalidSearchCursorException ex, HttpServletRequest request) {
+        return buildErrorResponse(
+                request,
+                HttpStatus.BAD_REQUEST,
+                "INVALID_SEARCH_CURSOR",
+                ex.getMessage(),
+                null
+        );
+    }
+
+    // 결제 서비스가 일시적으로 호출을 받지 않을 때 (회로 차단/동시 호출 한도 초과) 핸들링
+    @ExceptionHandler(PaymentGatewayUnavailableException.class)
+    public ResponseEntity<Map<String, Object>> handlePaymentGatewayUnavailable(PaymentGatewayUnavailableException ex, HttpServletRequest request) {
+        return buildErrorResponse(
+                request,
+                HttpStatus.SERVICE_UNAVAILABLE,
+                "PAYMENT_GATEWAY_UNAVAILABLE",
+                ex.getMessage(),
+                null
+        );
+    }
+
+    // 결제 서비스 호출 실패 (오류 응답/시간 초과) 핸들링
+    @ExceptionHandler(PaymentGatewayException.class)
+    public ResponseEntity<Map<String, Object>> handlePaymentGatewayError(PaymentGatewayException ex, HttpServletRequest request) {
+        return buildErrorResponse(
+                request,
+                HttpStatus.BAD_GATEWAY,
+                "PAYMENT_GATEWAY_ERROR",
+                ex.getMessage(),
+                null
+        );
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.backend.exception.customException;
+
+public class ChatMessageQueueFullException extends RuntimeException {
+    public ChatMessageQueueFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.backend.exception.customException;
+
+public class InvalidSearchCursorException extends RuntimeException {
+    public InvalidSearchCursorException(String message) {
+        super(message);
+    }
+}
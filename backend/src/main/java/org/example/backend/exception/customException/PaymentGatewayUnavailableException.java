@@ -0,0 +1,7 @@
+package org.example.backend.exception.customException;
+
+public class PaymentGatewayUnavailableException extends PaymentGatewayException {
+    public PaymentGatewayUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -2,6 +2,9 @@ package org.example.backend.expert;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.backend.common.AuthenticatedMemberResolver;
+import org.example.backend.common.MemberSnapshot;
+import org.example.backend.common.MemberSnapshotCache;
 import org.example.backend.constant.Role;
 import org.example.backend.entity.*;
 import org.example.backend.exception.customException.*;
@@ -11,10 +14,14 @@ import org.example.backend.expert.dto.request.SkillDto;
 import org.example.backend.expert.dto.request.SpecialtyDetailRequestDto;
 import org.example.backend.expert.dto.response.*;
 import org.example.backend.firebase.FirebaseImageService;
+import org.example.backend.firebase.ImageUploadRequest;
+import org.example.backend.firebase.StoredImage;
 import org.example.backend.repository.*;
 import org.springframework.security.core.parameters.P;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import javax.validation.Valid;
@@ -40,6 +47,9 @@ public class ExpertService {
     private final PortfolioRepository portfolioRepository;
     private final PortfolioImageRepository portfolioImageRepository;
     private final FirebaseImageService firebaseImageService;
+    private final AuthenticatedMemberResolver authenticatedMemberResolver;
+    private final MemberSnapshotCache memberSnapshotCache;
+    private final TransactionTemplate transactionTemplate;
 
     // 전문가로 전환하는 메소드 - 포트폴리오는 제외하고 나머지 정보들 등록
     public Member upgradeToExpert(String email, ExpertRequestDto dto) {
@@ -49,6 +59,7 @@ public class ExpertService {
         // 2. 전문가로 전환
         member.changeRole(Role.EXPERT);
         memberRepository.save(member);
+        memberSnapshotCache.evict(member.getMemberId());
 
         // 3. 전문가 프로필 조회 또는 생성
         ExpertProfile profile = expertProfileRepository.findByMember(member)
@@ -201,16 +212,14 @@ public class ExpertService {
 
     @Transactional
     public void updateExpertProfile(String email, ExpertRequestDto dto) {
-        // 1. 이메일로 회원 조회 (전문가 권한이어야 함)
-        Member member = memberRepository.findByEmail(email)
-                .orElseThrow(() -> new MemberNotFoundException("해당 이메일의 사용자가 존재하지 않습니다."));
-
-        if (member.getRole() != Role.EXPERT) {
+        // 1. 회원 권한 확인 (전문가 권한이어야 함) - 스냅샷 캐시 사용
+        MemberSnapshot snapshot = authenticatedMemberResolver.resolveSnapshot(email);
+        if (snapshot.getRole() != Role.EXPERT) {
             throw new NotExpertException("전문가가 아닌 사용자는 프로필을 수정할 수 없습니다.");
         }
 
         // 2. 기존 전문가 프로필 조회
-        ExpertProfile profile = expertProfileRepository.findByMember(member)
+        ExpertProfile profile = expertProfileRepository.findByMember(authenticatedMemberResolver.resolveReference(email))
                 .orElseThrow(() -> new ExpertProfileNotFoundException("전문가 프로필이 존재하지 않습니다."));
 
         // 3. 연관 데이터 초기화
@@ -290,7 +299,13 @@ public class ExpertService {
     }
 
 
-    @Transactional
+    /**
+     * 포트폴리오 생성
+     * - 이미지 업로드(최대 업로드 제한 시간까지 대기)는 트랜잭션 밖에서 먼저 끝내고, 저장만 짧은 트랜잭션으로 처리
+     *   (업로드 작업자도 참조 등록에 커넥션을 쓰므로 요청이 커넥션을 쥔 채 기다리지 않도록)
+     * - 저장이 실패하면 업로드한 이미지를 정리
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void createPortfolio(String email, String title, String content, String category,
                                 Integer workingYear, List<MultipartFile> images, MultipartFile thumbnailImage) {
 
@@ -303,38 +318,50 @@ public class ExpertService {
             throw new InvalidPortfolioImageException("포트폴리오 이미지는 최대 5개까지 업로드할 수 있습니다.");
         }
 
-        // 1. 전문가 프로필 조회
-        Member member = memberRepository.findByEmail(email)
-                .orElseThrow(() -> new MemberNotFoundException("해당 이메일의 사용자가 존재하지 않습니다."));
+        // 1. 전문가 여부 확인 (스냅샷 캐시)
+        MemberSnapshot member = authenticatedMemberResolver.resolveSnapshot(email);
         if (member.getRole() != Role.EXPERT) {
             throw new NotExpertException("전문가가 아닌 사용자는 포트폴리오를 생성할 수 없습니다.");
         }
-        ExpertProfile expertProfile = expertProfileRepository.findByMember(member)
-                .orElseThrow(() -> new ExpertProfileNotFoundException("전문가 프로필이 존재하지 않습니다."));
-
-        // 2. Portfolio 엔티티 생성 및 저장
-        Portfolio portfolio = new Portfolio(expertProfile, title, content, workingYear, category);
-        portfolioRepository.save(portfolio);
-
-        // 3. 썸네일 이미지 업로드 및 저장
-        String thumbnailFileName = "portfolio/" + member.getNickname() + "_portfolio_thumbnail_" + portfolio.getPortfolioId();
-        String thumbnailUrl = firebaseImageService.uploadImage(thumbnailImage, thumbnailFileName);
-        PortfolioImage thumbnailPortfolioImage = new PortfolioImage(portfolio, thumbnailUrl, true);
-        portfolio.getImages().add(thumbnailPortfolioImage);
 
-        // 4. 일반 이미지 업로드 및 저장 (썸네일 제외)
+        // 2. 썸네일 + 일반 이미지 병렬 업로드 (트랜잭션 밖, 하나라도 실패하면 업로드한 이미지 삭제)
+        List<ImageUploadRequest> uploads = new ArrayList<>();
+        uploads.add(new ImageUploadRequest(thumbnailImage, "portfolio/" + member.getNickname() + "_portfolio_thumbnail"));
         if (images != null) {
             for (int i = 0; i < images.size(); i++) {
-                MultipartFile image = images.get(i);
-                String fileName = "portfolio/" + member.getNickname() + "_portfolio_image_" + portfolio.getPortfolioId() + "_" + i;
-                String imageUrl = firebaseImageService.uploadImage(image, fileName);
-                PortfolioImage portfolioImage = new PortfolioImage(portfolio, imageUrl, false);
-                portfolio.getImages().add(portfolioImage);
+                uploads.add(new ImageUploadRequest(images.get(i),
+                        "portfolio/" + member.getNickname() + "_portfolio_image_" + i));
             }
         }
+        List<StoredImage> stored = firebaseImageService.uploadProcessedImages(uploads);
+
+        // 3. 저장 (짧은 트랜잭션)
+        firebaseImageService.saveWithUploads(stored, () -> {
+            ExpertProfile expertProfile = expertProfileRepository.findByMember(authenticatedMemberResolver.resolveReference(email))
+                    .orElseThrow(() -> new ExpertProfileNotFoundException("전문가 프로필이 존재하지 않습니다."));
+
+            Portfolio portfolio = new Portfolio(expertProfile, title, content, workingYear, category);
+
+            // 3-1. 썸네일 저장 (목록 조회용 썸네일 컬럼은 카드 변형)
+            PortfolioImage thumbnailPortfolioImage = newPortfolioImage(portfolio, stored.get(0), true);
+            portfolio.getImages().add(thumbnailPortfolioImage);
+            portfolio.setThumbnailUrl(thumbnailPortfolioImage.getListImageUrl());
+
+            // 3-2. 일반 이미지 저장 (썸네일 제외)
+            for (StoredImage image : stored.subList(1, stored.size())) {
+                PortfolioImage portfolioImage = newPortfolioImage(portfolio, image, false);
+                portfolio.getImages().add(portfolioImage);
+            }
+            portfolioRepository.save(portfolio);
+        });
     }
 
-    @Transactional
+    /**
+     * 포트폴리오 수정
+     * - createPortfolio와 같이 새 이미지 업로드는 트랜잭션 밖에서 먼저 끝내고 수정 내용만 짧은 트랜잭션으로 저장
+     * - 빠진 기존 이미지의 참조 해제는 저장 트랜잭션에서 아웃박스로 예약되어 커밋 후 반영
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void updatePortfolio(
             String email,
             Long portfolioId,
@@ -347,9 +374,34 @@ public class ExpertService {
             MultipartFile thumbnailImage,
             Long thumbnailRemainImageId
     ) {
+        // 1. 권한 확인 (업로드 전, 짧은 조회 트랜잭션)
+        String nickname = transactionTemplate.execute(status ->
+                validatePortfolioOwnership(email, portfolioId).getMember().getNickname());
+
+        // 2. 새 이미지(+ 새 썸네일) 병렬 업로드 (트랜잭션 밖)
+        List<ImageUploadRequest> uploads = new ArrayList<>();
+        if (newImages != null) {
+            for (MultipartFile newImage : newImages) {
+                String fileName = "portfolio/" + nickname + "_portfolio_image_" + portfolioId + "_" + System.currentTimeMillis();
+                uploads.add(new ImageUploadRequest(newImage, fileName));
+            }
+        }
+        if (thumbnailImage != null) {
+            String thumbnailFileName = "portfolio/" + nickname + "_portfolio_thumbnail_" + portfolioId + "_" + System.currentTimeMillis();
+            uploads.add(new ImageUploadRequest(thumbnailImage, thumbnailFileName));
+        }
+        List<StoredImage> stored = firebaseImageService.uploadProcessedImages(uploads);
+
+        // 3. 수정 내용 저장 (짧은 트랜잭션)
+        firebaseImageService.saveWithUploads(stored, () -> applyPortfolioUpdate(email, portfolioId, title, content, category, workingYear,
+                remainingImageIds, newImages, thumbnailImage, thumbnailRemainImageId, stored));
+    }
+
+    private void applyPortfolioUpdate(String email, Long portfolioId, String title, String content, String category,
+                                      Integer workingYear, List<Long> remainingImageIds, List<MultipartFile> newImages,
+                                      MultipartFile thumbnailImage, Long thumbnailRemainImageId, List<StoredImage> stored) {
         PortfolioWithMember pwm = validatePortfolioOwnership(email, portfolioId);
         Portfolio portfolio = pwm.getPortfolio();
-        Member member = pwm.getMember();
 
         // 2. 포트폴리오 기본 정보 수정
         portfolio.setTitle(title);
@@ -365,22 +417,18 @@ public class ExpertService {
             if (remainingImageIds.contains(img.getPortfolioImageId())) {
                 imagesToKeep.add(img);
             } else {
-                // 기존 이미지 삭제 처리 (DB 및 스토리지)
-                firebaseImageService.deleteImage(img.getImageUrl());
+                // 기존 이미지 삭제 처리 (DB 및 스토리지, 변형 포함)
+                firebaseImageService.deleteImages(img.getImageUrl(), img.getCardImageUrl(), img.getThumbnailImageUrl());
                 portfolioImageRepository.delete(img);
             }
         }
 
-        // 4. 새 이미지 업로드 및 추가
-        if (newImages != null) {
-            for (MultipartFile newImage : newImages) {
-                String fileName = "portfolio/" + member.getNickname() + "_portfolio_image_" + portfolio.getPortfolioId() + "_" + System.currentTimeMillis();
-                String imageUrl = firebaseImageService.uploadImage(newImage, fileName);
-
-                PortfolioImage newPortfolioImage = new PortfolioImage(portfolio, imageUrl, false);
-                portfolio.getImages().add(newPortfolioImage);
-                imagesToKeep.add(newPortfolioImage);
-            }
+        // 4. 업로드한 새 이미지 추가
+        int newImageCount = newImages != null ? newImages.size() : 0;
+        for (StoredImage image : stored.subList(0, newImageCount)) {
+            PortfolioImage newPortfolioImage = newPortfolioImage(portfolio, image, false);
+            portfolio.getImages().add(newPortfolioImage);
+            imagesToKeep.add(newPortfolioImage);
         }
 
         // 5. 썸네일 처리
@@ -388,11 +436,9 @@ public class ExpertService {
         if (thumbnailImage != null) {
             imagesToKeep.forEach(img -> img.setThumbnailCheck(false));
 
-            String thumbnailFileName = "portfolio/" + member.getNickname() + "_portfolio_thumbnail_" + portfolio.getPortfolioId() + "_" + System.currentTimeMillis();
-            String thumbnailUrl = firebaseImageService.uploadImage(thumbnailImage, thumbnailFileName);
-
-            PortfolioImage newThumbnailImage = new PortfolioImage(portfolio, thumbnailUrl, true);
+            PortfolioImage newThumbnailImage = newPortfolioImage(portfolio, stored.get(newImageCount), true);
             portfolio.getImages().add(newThumbnailImage);
+            portfolio.setThumbnailUrl(newThumbnailImage.getListImageUrl());
 
         } else if (thumbnailRemainImageId != null) {
             // 5-2) 기존 이미지 중 명시한 이미지 썸네일 지정
@@ -419,10 +465,25 @@ public class ExpertService {
             }
         }
 
+        // 5-4) 목록 조회용 썸네일 URL 컬럼 갱신 (새 썸네일은 5-1에서 이미 반영)
+        //      지정된 썸네일이 없으면 첫 번째 이미지를 사용 (기존 포트폴리오 카드 동작 유지)
+        if (thumbnailImage == null) {
+            portfolio.setThumbnailUrl(imagesToKeep.stream()
+                    .filter(PortfolioImage::isThumbnailCheck)
+                    .findFirst()
+                    .or(() -> imagesToKeep.stream().findFirst())
+                    .map(PortfolioImage::getListImageUrl)
+                    .orElse(null));
+        }
+
         // 6. 변경 내용 저장
         portfolioRepository.save(portfolio);
     }
 
+    private static PortfolioImage newPortfolioImage(Portfolio portfolio, StoredImage stored, boolean thumbnailCheck) {
+        return new PortfolioImage(portfolio, stored.getImageUrl(), stored.getCardUrl(), stored.getThumbnailUrl(), thumbnailCheck);
+    }
+
     @Transactional
     public void deletePortfolio(String email, Long portfolioId) {
         PortfolioWithMember pwm = validatePortfolioOwnership(email, portfolioId);
@@ -431,7 +492,7 @@ public class ExpertService {
         // 이미지 스토리지 삭제 (필요 시)
         List<PortfolioImage> images = portfolioImageRepository.findByPortfolio(portfolio);
         for (PortfolioImage img : images) {
-            firebaseImageService.deleteImage(img.getImageUrl());
+            firebaseImageService.deleteImages(img.getImageUrl(), img.getCardImageUrl(), img.getThumbnailImageUrl());
         }
 
         // 연관된 이미지 삭제는 cascade = ALL, orphanRemoval = true로 Portfolio 삭제 시 자동 삭제됨
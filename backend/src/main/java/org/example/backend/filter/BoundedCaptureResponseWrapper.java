@@ -0,0 +1,149 @@
+package org.example.backend.filter;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UnsupportedEncodingException;
+
+/**
+ * 응답 본문을 클라이언트로 바로 흘려보내면서 앞부분(최대 maxCapture 바이트)만 복사해 두는 래퍼
+ * - ContentCachingResponseWrapper처럼 전체 본문을 메모리에 모았다가 다시 복사하지 않음
+ * - 바이너리 응답(isCapturable=false)은 바이트 수만 센다
+ */
+class BoundedCaptureResponseWrapper extends HttpServletResponseWrapper {
+
+    private final int maxCapture;
+    private final ByteArrayOutputStream captured;
+    private long totalBytes = 0;
+    private Boolean capturable;
+
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    BoundedCaptureResponseWrapper(HttpServletResponse response, int maxCapture) {
+        super(response);
+        this.maxCapture = maxCapture;
+        this.captured = new ByteArrayOutputStream(Math.min(maxCapture, 256));
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (writer != null) {
+            throw new IllegalStateException("getWriter() has already been called on this response.");
+        }
+        if (outputStream == null) {
+            outputStream = new TeeOutputStream(getResponse().getOutputStream());
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (outputStream != null && writer == null) {
+            throw new IllegalStateException("getOutputStream() has already been called on this response.");
+        }
+        if (writer == null) {
+            outputStream = new TeeOutputStream(getResponse().getOutputStream());
+            writer = new PrintWriter(new OutputStreamWriter(outputStream, characterEncoding()));
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        super.flushBuffer();
+    }
+
+    /**
+     * 체인 종료 후 호출: 래퍼가 만든 writer의 버퍼를 실제 응답으로 밀어냄
+     */
+    void flushWriter() {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    byte[] getCapturedBody() {
+        return captured.toByteArray();
+    }
+
+    long getTotalBytes() {
+        return totalBytes;
+    }
+
+    boolean isTruncated() {
+        return totalBytes > captured.size() && captured.size() >= maxCapture;
+    }
+
+    private String characterEncoding() throws UnsupportedEncodingException {
+        String encoding = getCharacterEncoding();
+        return encoding != null ? encoding : "ISO-8859-1";
+    }
+
+    // 응답 Content-Type은 첫 쓰기 시점에 확정되어 있으므로 그때 한 번만 판단
+    private boolean capturable() {
+        if (capturable == null) {
+            capturable = maxCapture > 0 && LoggerFilter.isTextContent(getContentType());
+        }
+        return capturable;
+    }
+
+    private void capture(byte[] b, int off, int len) {
+        totalBytes += len;
+        if (!capturable()) {
+            return;
+        }
+        int room = maxCapture - captured.size();
+        if (room > 0) {
+            captured.write(b, off, Math.min(room, len));
+        }
+    }
+
+    private class TeeOutputStream extends ServletOutputStream {
+        private final ServletOutputStream delegate;
+
+        private TeeOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            capture(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            capture(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener listener) {
+            delegate.setWriteListener(listener);
+        }
+    }
+}
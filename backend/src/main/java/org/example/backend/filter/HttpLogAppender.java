@@ -0,0 +1,115 @@
+package org.example.backend.filter;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * HTTP 로그 비동기 출력기 (고정 크기 링 버퍼)
+ * - 요청 스레드는 레코드를 넣기만 하고 바로 반환, 포맷팅과 로그 출력은 전용 스레드가 담당
+ * - 버퍼가 가득 차면 가장 오래된 레코드를 버리고 새 레코드를 넣는다 (요청 스레드는 절대 대기하지 않음)
+ */
+@Slf4j
+@Component
+public class HttpLogAppender {
+
+    static final int CAPACITY = 4096;
+    private static final int MAX_DRAIN = 256;
+    private static final long POLL_TIMEOUT_MS = 200;
+
+    private final BlockingQueue<HttpLogEntry> buffer = new ArrayBlockingQueue<>(CAPACITY);
+
+    private volatile boolean running = false;
+    private Thread worker;
+
+    // 지표
+    private final AtomicLong appendedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = new Thread(this::runLoop, "http-log-appender");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        List<HttpLogEntry> remaining = new ArrayList<>();
+        buffer.drainTo(remaining);
+        remaining.forEach(this::write);
+    }
+
+    /**
+     * 레코드 추가 (논블로킹, 가득 차면 가장 오래된 레코드 폐기)
+     */
+    public void append(HttpLogEntry entry) {
+        while (!buffer.offer(entry)) {
+            if (buffer.poll() != null) {
+                droppedCount.incrementAndGet();
+            }
+        }
+        appendedCount.incrementAndGet();
+    }
+
+    public int getBufferedCount() {
+        return buffer.size();
+    }
+
+    public long getAppendedCount() {
+        return appendedCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    private void runLoop() {
+        List<HttpLogEntry> batch = new ArrayList<>(MAX_DRAIN);
+        while (running) {
+            try {
+                HttpLogEntry first = buffer.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, MAX_DRAIN - 1);
+                batch.forEach(this::write);
+                batch.clear();
+            } catch (InterruptedException e) {
+                // shutdown()에서 남은 레코드 처리
+                break;
+            }
+        }
+    }
+
+    private void write(HttpLogEntry entry) {
+        try {
+            if (entry.getStatus() >= 500) {
+                log.warn(entry.format());
+            } else {
+                log.info(entry.format());
+            }
+        } catch (Exception e) {
+            log.debug("HTTP 로그 출력 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package org.example.backend.filter;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 요청 1건의 로그 레코드
+ * - 요청 스레드에서는 값만 담고, 문자열 변환/포맷팅은 HttpLogAppender 스레드에서 수행
+ * - 본문은 최대 캡처 크기까지만 복사된 바이트 (캡처하지 않았으면 null)
+ */
+public class HttpLogEntry {
+    private final String method;
+    private final String uri;
+    private final int status;
+    private final long durationMicros;
+    private final long requestBytes;
+    private final long responseBytes;
+    private final byte[] requestBody;
+    private final byte[] responseBody;
+    private final boolean requestTruncated;
+    private final boolean responseTruncated;
+
+    public HttpLogEntry(String method, String uri, int status, long durationMicros,
+                        long requestBytes, long responseBytes,
+                        byte[] requestBody, byte[] responseBody,
+                        boolean requestTruncated, boolean responseTruncated) {
+        this.method = method;
+        this.uri = uri;
+        this.status = status;
+        this.durationMicros = durationMicros;
+        this.requestBytes = requestBytes;
+        this.responseBytes = responseBytes;
+        this.requestBody = requestBody;
+        this.responseBody = responseBody;
+        this.requestTruncated = requestTruncated;
+        this.responseTruncated = responseTruncated;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getUri() {
+        return uri;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public long getDurationMicros() {
+        return durationMicros;
+    }
+
+    public long getRequestBytes() {
+        return requestBytes;
+    }
+
+    public long getResponseBytes() {
+        return responseBytes;
+    }
+
+    public byte[] getRequestBody() {
+        return requestBody;
+    }
+
+    public byte[] getResponseBody() {
+        return responseBody;
+    }
+
+    /**
+     * key=value 형식의 한 줄 로그 (로그 수집기에서 필드로 파싱 가능)
+     */
+    public String format() {
+        StringBuilder sb = new StringBuilder(128)
+                .append("http method=").append(method)
+                .append(" uri=").append(uri)
+                .append(" status=").append(status)
+                .append(" durationMs=").append(durationMicros / 1000).append('.')
+                .append(String.format("%03d", durationMicros % 1000))
+                .append(" reqBytes=").append(requestBytes)
+                .append(" resBytes=").append(responseBytes);
+        appendBody(sb, " reqBody=", requestBody, requestTruncated);
+        appendBody(sb, " resBody=", responseBody, responseTruncated);
+        return sb.toString();
+    }
+
+    private static void appendBody(StringBuilder sb, String key, byte[] body, boolean truncated) {
+        if (body == null || body.length == 0) {
+            return;
+        }
+        String text = new String(body, StandardCharsets.UTF_8).trim()
+                .replace("\r", "\\r")
+                .replace("\n", "\\n")
+                .replace("\"", "\\\"");
+        sb.append(key).append('"').append(text);
+        if (truncated) {
+            sb.append("...(truncated)");
+        }
+        sb.append('"');
+    }
+}
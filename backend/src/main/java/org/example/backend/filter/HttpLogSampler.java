@@ -0,0 +1,77 @@
+package org.example.backend.filter;
+
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 경로별 HTTP 로그 샘플링
+ * - 규칙 형식: "/api/chat/**=0.05,/api/search/**=0.2" (앞에서부터 처음 일치하는 규칙 적용)
+ * - 일치하는 규칙이 없으면 기본 비율 적용, 비율은 0.0 ~ 1.0
+ */
+class HttpLogSampler {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final double defaultRate;
+    private final List<Rule> rules;
+
+    HttpLogSampler(double defaultRate, String routeRates) {
+        this.defaultRate = clamp(defaultRate);
+        this.rules = parse(routeRates);
+    }
+
+    boolean sample(String uri) {
+        double rate = rateFor(uri);
+        if (rate >= 1.0) {
+            return true;
+        }
+        if (rate <= 0.0) {
+            return false;
+        }
+        return ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    double rateFor(String uri) {
+        for (Rule rule : rules) {
+            if (PATH_MATCHER.match(rule.pattern, uri)) {
+                return rule.rate;
+            }
+        }
+        return defaultRate;
+    }
+
+    private static List<Rule> parse(String routeRates) {
+        List<Rule> parsed = new ArrayList<>();
+        if (!StringUtils.hasText(routeRates)) {
+            return parsed;
+        }
+        for (String token : routeRates.split(",")) {
+            int idx = token.lastIndexOf('=');
+            if (idx <= 0) {
+                throw new IllegalArgumentException("잘못된 샘플링 규칙입니다: " + token);
+            }
+            String pattern = token.substring(0, idx).trim();
+            double rate = Double.parseDouble(token.substring(idx + 1).trim());
+            parsed.add(new Rule(pattern, clamp(rate)));
+        }
+        return parsed;
+    }
+
+    private static double clamp(double rate) {
+        return Math.max(0.0, Math.min(1.0, rate));
+    }
+
+    private static class Rule {
+        private final String pattern;
+        private final double rate;
+
+        private Rule(String pattern, double rate) {
+            this.pattern = pattern;
+            this.rate = rate;
+        }
+    }
+}
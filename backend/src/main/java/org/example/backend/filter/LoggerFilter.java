@@ -1,59 +1,126 @@
 package org.example.backend.filter;
 
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.web.util.ContentCachingRequestWrapper;
-import org.springframework.web.util.ContentCachingResponseWrapper;
 
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
 
-@Slf4j
+/**
+ * HTTP 요청/응답 로그 필터
+ * - 경로별 샘플링(logging.http.sample-rates)으로 뽑힌 요청만 본문을 캡처, 5xx는 샘플링과 무관하게 요약 로그 기록
+ * - 본문은 최대 logging.http.max-body-bytes까지만 복사하고, multipart/이미지 등 바이너리는 캡처하지 않음
+ * - 로그 포맷팅과 출력은 HttpLogAppender 스레드에서 처리 (요청 스레드는 레코드만 넘김)
+ */
 @Component  // 자동 등록되므로 FilterRegistrationBean 불필요
 public class LoggerFilter extends OncePerRequestFilter {
 
+    // 본문을 캡처할 텍스트 계열 Content-Type
+    private static final List<String> TEXT_CONTENT_TYPES = List.of(
+            "application/json", "application/x-www-form-urlencoded", "application/xml", "text/"
+    );
+
+    private final HttpLogAppender appender;
+    private final HttpLogSampler sampler;
+    private final int maxBodyBytes;
+
+    public LoggerFilter(HttpLogAppender appender,
+                        @Value("${logging.http.default-sample-rate:1.0}") double defaultSampleRate,
+                        @Value("${logging.http.sample-rates:}") String routeSampleRates,
+                        @Value("${logging.http.max-body-bytes:2048}") int maxBodyBytes) {
+        this.appender = appender;
+        this.sampler = new HttpLogSampler(defaultSampleRate, routeSampleRates);
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // WebSocket 핸드셰이크/SockJS 스트림은 STOMP 인터셉터에서 별도로 추적
+        return request.getRequestURI().startsWith("/ws");
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
-        // 요청과 응답을 캐싱 래퍼로 감쌈
-        var req = new ContentCachingRequestWrapper(request);
-        var res = new ContentCachingResponseWrapper(response);
-
-        // 실제 필터 체인 실행
-        filterChain.doFilter(req, res);
-
-        // 로그 출력 정보
-        String method = req.getMethod();
-        String uri = req.getRequestURI();
-        int status = res.getStatus();
-
-        String reqBody = new String(req.getContentAsByteArray(), StandardCharsets.UTF_8).trim();
-        String resBody = new String(res.getContentAsByteArray(), StandardCharsets.UTF_8).trim();
-
-        log.info(
-                "\n=================  [REQUEST] =================\n" +
-                        "▶ Method : {}\n" +
-                        "▶ URI    : {}\n" +
-                        "▶ Body   : {}\n" +
-                        "==============================================",
-                method, uri, reqBody.isEmpty() ? "(no body)" : reqBody
-        );
-
-        log.info(
-                "\n=================  [RESPONSE] ================\n" +
-                        "◀ Status : {}\n" +
-                        "◀ Body   : {}\n" +
-                        "==============================================",
-                status, resBody.isEmpty() ? "(no body)" : resBody
-        );
-
-        // response body를 실제로 클라이언트에 복사
-        res.copyBodyToResponse();
+        long start = System.nanoTime();
+        boolean sampled = sampler.sample(request.getRequestURI());
+
+        if (!sampled) {
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                if (response.getStatus() >= 500) {
+                    appender.append(new HttpLogEntry(request.getMethod(), request.getRequestURI(), response.getStatus(),
+                            elapsedMicros(start), request.getContentLengthLong(), -1, null, null, false, false));
+                }
+            }
+            return;
+        }
+
+        // 텍스트 요청만 앞부분을 캡처 (multipart 등은 래핑하지 않음)
+        BoundedCaptureRequestWrapper req = isTextContent(request.getContentType())
+                ? new BoundedCaptureRequestWrapper(request, maxBodyBytes) : null;
+        BoundedCaptureResponseWrapper res = new BoundedCaptureResponseWrapper(response, maxBodyBytes);
+
+        try {
+            filterChain.doFilter(req != null ? req : request, res);
+        } finally {
+            res.flushWriter();
+            appender.append(new HttpLogEntry(
+                    request.getMethod(),
+                    request.getRequestURI(),
+                    res.getStatus(),
+                    elapsedMicros(start),
+                    request.getContentLengthLong(),
+                    res.getTotalBytes(),
+                    req != null ? req.getContentAsByteArray() : null,
+                    res.getCapturedBody(),
+                    req != null && req.isTruncated(),
+                    res.isTruncated()
+            ));
+        }
+    }
+
+    static boolean isTextContent(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        String normalized = contentType.toLowerCase(Locale.ROOT);
+        for (String type : TEXT_CONTENT_TYPES) {
+            if (normalized.startsWith(type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long elapsedMicros(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1000;
+    }
+
+    // 캐시 한도를 넘긴 요청 본문은 더 복사하지 않고 잘림 여부만 기록
+    private static class BoundedCaptureRequestWrapper extends ContentCachingRequestWrapper {
+        private boolean truncated = false;
+
+        private BoundedCaptureRequestWrapper(HttpServletRequest request, int limit) {
+            super(request, limit);
+        }
+
+        @Override
+        protected void handleContentOverflow(int contentCacheLimit) {
+            truncated = true;
+        }
+
+        private boolean isTruncated() {
+            return truncated;
+        }
     }
 }
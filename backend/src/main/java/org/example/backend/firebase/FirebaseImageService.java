@@ -1,92 +1,419 @@
 package org.example.backend.firebase;
 
-import com.google.firebase.cloud.StorageClient;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.backend.exception.customException.ImageDeleteException;
 import org.example.backend.exception.customException.ImageUploadException;
 import org.example.backend.exception.customException.InvalidFileException;
+import org.example.backend.outbox.OutboxService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.annotation.PreDestroy;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
-import java.net.URLDecoder;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
+/**
+ * 이미지 업로드/삭제
+ * - 실제 저장은 ImageStorage 백엔드(Firebase/로컬)에 위임
+ * - 여러 장 업로드는 상한이 있는 전용 풀에서 병렬로 처리 (큐가 가득 차면 요청 스레드가 직접 업로드)
+ * - 일괄 업로드 중 하나라도 실패하면 성공한 이미지를 지우고 실패 처리,
+ *   성공했더라도 호출한 트랜잭션이 롤백되면 업로드한 이미지를 지움
+ * - uploadProcessedImages: 원본 대신 ImageProcessor가 만든 상세/카드/썸네일 변형을 저장
+ *   (변형 생성은 처리 풀, 저장은 업로드 풀에서 단계별로 실행)
+ * - 내용 주소 저장: 업로드 파일의 SHA-256으로 저장 경로(images/{sha256}-{세대})를 정하고 ImageBlobRegistry로 참조 수를 관리
+ *   · 이미 저장된 내용이면 변형 생성/전송 없이 기존 URL을 재사용 (수정 시 그대로 다시 보낸 이미지 포함)
+ *   · 삭제는 참조 해제이며 마지막 참조가 사라질 때만 저장소 객체를 지움 (해시 경로가 아닌 기존 이미지는 바로 삭제)
+ *   · 참조 해제도 아웃박스(IMAGE_RELEASE)로 예약해 업무 트랜잭션 커밋 후 반영
+ *     (요청 트랜잭션이 image_blob 행을 잠그지 않으므로, 방금 뺀 이미지를 같은 요청에서 다시 올려도 등록이 막히지 않음)
+ *   · itemName은 더 이상 경로에 쓰이지 않고 로그에만 남김
+ * - 저장소 객체 삭제는 아웃박스(IMAGE_DELETE)로 예약 → 업무 트랜잭션이 커밋된 뒤에만 지워지고, 실패하면 backoff 후 재시도
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class FirebaseImageService {
 
-    // 이미지 업로드 메소드
+    static final String VARIANTS_KEY_PREFIX = "variants:";
+    static final String ORIGINAL_KEY_PREFIX = "original:";
+    static final String DELETE_KEY_PREFIX = "image-delete:";
+    static final String RELEASE_KEY_PREFIX = "image-release:";
+    private static final Pattern STEM_PATTERN = Pattern.compile("^images/[0-9a-f]{64}-[0-9a-f]{8}");
+    private static final Pattern EXTENSION_PATTERN = Pattern.compile("\\.[A-Za-z0-9]{1,10}");
+    private static final int HASH_BUFFER_SIZE = 64 * 1024;
+
+    private final ImageStorage imageStorage;
+    private final ImageProcessor imageProcessor;
+    private final ImageBlobRegistry imageBlobRegistry;
+    private final OutboxService outboxService;
+    private final TransactionTemplate required;
+    private final TransactionTemplate requiresNew;
+    private final ThreadPoolTaskExecutor uploadExecutor;
+    private final long uploadTimeoutSeconds;
+
+    public FirebaseImageService(ImageStorage imageStorage,
+                                ImageProcessor imageProcessor,
+                                ImageBlobRegistry imageBlobRegistry,
+                                OutboxService outboxService,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${storage.image.upload.pool-size:4}") int poolSize,
+                                @Value("${storage.image.upload.queue-capacity:32}") int queueCapacity,
+                                @Value("${storage.image.upload.timeout-seconds:30}") long uploadTimeoutSeconds) {
+        this.imageStorage = imageStorage;
+        this.imageProcessor = imageProcessor;
+        this.imageBlobRegistry = imageBlobRegistry;
+        this.outboxService = outboxService;
+        this.required = new TransactionTemplate(transactionManager);
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.uploadTimeoutSeconds = uploadTimeoutSeconds;
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("image-upload-");
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        this.uploadExecutor = executor;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        uploadExecutor.shutdown();
+    }
+
+    // 이미지 업로드 메소드 (요청 스레드에서 원본 그대로 업로드, 같은 내용이 이미 있으면 재사용)
     public String uploadImage(MultipartFile file, String itemName) {
-        try (InputStream inputStream = file.getInputStream()) {
-            // 원본 파일명과 확장자 분리
-            String originalFileName = file.getOriginalFilename();
-            if (originalFileName == null) {
-                throw new InvalidFileException("파일 이름이 비어 있습니다.");
+        try {
+            String ext = extensionOf(file);
+            String hash = sha256(file);
+            String contentKey = ORIGINAL_KEY_PREFIX + hash;
+
+            Optional<StoredImage> existing = imageBlobRegistry.acquire(contentKey);
+            if (existing.isPresent()) {
+                log.info("동일 이미지 재사용 ({}): {}", itemName, existing.get().getImageUrl());
+                return existing.get().getImageUrl();
             }
 
-            String ext = "";
-            int dotIndex = originalFileName.lastIndexOf(".");
-            if (dotIndex != -1) {
-                ext = originalFileName.substring(dotIndex); // ".jpg" 등
+            String stem = newStem(hash);
+            String publicUrl;
+            try (InputStream inputStream = file.getInputStream()) {
+                publicUrl = imageStorage.put(stem + ext, inputStream, file.getContentType());
             }
+            String imageUrl = register(contentKey, stem, new StoredImage(publicUrl, null, null)).getImageUrl();
+            log.info("이미지 업로드 완료 ({}): {}", itemName, imageUrl);
+            return imageUrl;
+        } catch (Exception e) {
+            log.error("이미지 업로드 실패", e);
+            throw new ImageUploadException("이미지 업로드 중 오류가 발생했습니다.");
+        }
+    }
 
-            // UUID 생성 및 파일명 조합
-            String uuid = UUID.randomUUID().toString();
+    // 업로드 풀에서 비동기 업로드 (완료되면 공개 URL)
+    public CompletableFuture<String> uploadImageAsync(MultipartFile file, String itemName) {
+        return CompletableFuture.supplyAsync(() -> uploadImage(file, itemName), uploadExecutor);
+    }
 
-            // Firebase Storage 경로 설정
-            String blobString = itemName + "-" + uuid + ext;
+    /**
+     * 변형(상세/카드/썸네일)을 만들어 저장 (변형을 만들 수 없는 형식이면 원본만 저장)
+     * 해시 계산 → 기존 이미지 조회 → (없을 때만) 변형 생성 → 저장 순서
+     */
+    public CompletableFuture<StoredImage> uploadProcessedImageAsync(MultipartFile file, String itemName) {
+        return CompletableFuture.supplyAsync(() -> sha256Unchecked(file), uploadExecutor)
+                .thenCompose(hash -> {
+                    Optional<StoredImage> existing = imageBlobRegistry.acquire(VARIANTS_KEY_PREFIX + hash);
+                    if (existing.isPresent()) {
+                        log.info("동일 이미지 재사용 ({}): {}", itemName, existing.get().getImageUrl());
+                        return CompletableFuture.completedFuture(existing.get());
+                    }
+                    return imageProcessor.processAsync(file)
+                            .thenApplyAsync(processed -> processed
+                                    .map(image -> storeVariants(hash, image, itemName))
+                                    .orElseGet(() -> new StoredImage(uploadImage(file, itemName), null, null)), uploadExecutor);
+                });
+    }
 
-            log.info("StorageClient 초기화 확인: {}", StorageClient.getInstance().bucket().getName());
+    /**
+     * 여러 이미지를 병렬로 업로드하고 요청 순서대로 URL 반환
+     * - 하나라도 실패하거나 제한 시간을 넘기면 나머지(늦게 끝나는 것 포함)를 지우고 ImageUploadException
+     * - 트랜잭션 안에서 호출되면 롤백 시 업로드한 이미지를 모두 지움
+     */
+    public List<String> uploadImages(List<ImageUploadRequest> requests) {
+        return awaitAll(requests.stream()
+                .map(request -> uploadImageAsync(request.getFile(), request.getItemName()))
+                .collect(Collectors.toList()), List::of);
+    }
 
-            // 파일 업로드
-            StorageClient.getInstance()
-                    .bucket()
-                    .create(blobString, inputStream, file.getContentType());
+    /**
+     * uploadImages와 같되 이미지마다 변형을 만들어 저장
+     * @throws InvalidFileException 해상도가 너무 큰 이미지가 포함된 경우
+     */
+    public List<StoredImage> uploadProcessedImages(List<ImageUploadRequest> requests) {
+        return awaitAll(requests.stream()
+                .map(request -> uploadProcessedImageAsync(request.getFile(), request.getItemName()))
+                .collect(Collectors.toList()), StoredImage::urls);
+    }
 
-            // 공개 URL 생성
-            String bucketName = StorageClient.getInstance().bucket().getName();
-            String encodedPath = URLEncoder.encode(blobString, StandardCharsets.UTF_8);
-            String publicUrl = "https://firebasestorage.googleapis.com/v0/b/" + bucketName + "/o/" + encodedPath + "?alt=media";
+    private <T> List<T> awaitAll(List<CompletableFuture<T>> futures, Function<T, List<String>> urlsOf) {
+        if (futures.isEmpty()) {
+            return List.of();
+        }
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                    .get(uploadTimeoutSeconds, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            compensate(futures, urlsOf);
+            throw new ImageUploadException("이미지 업로드가 중단되었습니다.");
+        } catch (ExecutionException e) {
+            compensate(futures, urlsOf);
+            Throwable cause = unwrap(e.getCause());
+            if (cause instanceof InvalidFileException) {
+                throw (InvalidFileException) cause;
+            }
+            throw new ImageUploadException("이미지 업로드 중 오류가 발생했습니다.");
+        } catch (TimeoutException e) {
+            compensate(futures, urlsOf);
+            throw new ImageUploadException("이미지 업로드 중 오류가 발생했습니다.");
+        }
+
+        List<T> results = futures.stream().map(CompletableFuture::join).collect(Collectors.toList());
+        deleteOnRollback(results.stream().map(urlsOf).collect(Collectors.toList()));
+        return results;
+    }
+
+    /**
+     * 트랜잭션 밖에서 미리 업로드한 이미지를 이후 저장이 실패했을 때 정리 (참조 해제, 실패는 로그만)
+     */
+    public void discardUploads(List<StoredImage> images) {
+        images.forEach(image -> deleteQuietly(image.urls()));
+    }
 
-            log.info("이미지 업로드 완료: {}", publicUrl);
-            return publicUrl;
+    /**
+     * 미리 업로드한 이미지를 쓰는 저장 작업을 짧은 트랜잭션으로 실행하고, 실패하면 업로드한 이미지를 정리
+     * - 업로드 대기 중 커넥션을 쥐지 않도록 트랜잭션 밖(NOT_SUPPORTED)에서 업로드를 끝낸 뒤 호출
+     */
+    public void saveWithUploads(List<StoredImage> uploads, Runnable work) {
+        try {
+            required.executeWithoutResult(status -> work.run());
+        } catch (RuntimeException e) {
+            discardUploads(uploads);
+            throw e;
+        }
+    }
 
+    // 변형 이미지를 같은 stem 아래 저장 ({stem}.jpg, _card.jpg, _thumb.jpg), 중간에 실패하면 저장한 것 삭제
+    private StoredImage storeVariants(String hash, ProcessedImage image, String itemName) {
+        String stem = newStem(hash);
+        Map<ImageVariant, String> urls = new EnumMap<>(ImageVariant.class);
+        try {
+            for (Map.Entry<ImageVariant, byte[]> variant : image.getVariants().entrySet()) {
+                String path = stem + variant.getKey().getSuffix() + image.getExtension();
+                urls.put(variant.getKey(), imageStorage.put(path, new ByteArrayInputStream(variant.getValue()), image.getContentType()));
+            }
         } catch (Exception e) {
             log.error("이미지 업로드 실패", e);
+            deleteObjectsQuietly(urls.values());
             throw new ImageUploadException("이미지 업로드 중 오류가 발생했습니다.");
         }
+        StoredImage stored = register(VARIANTS_KEY_PREFIX + hash, stem,
+                new StoredImage(urls.get(ImageVariant.DETAIL), urls.get(ImageVariant.CARD), urls.get(ImageVariant.THUMBNAIL)));
+        log.info("이미지 업로드 완료 ({}, 변형 {}개): {}", itemName, urls.size(), stored.getImageUrl());
+        return stored;
+    }
+
+    // 동시에 같은 내용이 먼저 등록됐다면 방금 저장한 객체는 지우고 먼저 등록된 쪽을 사용
+    private StoredImage register(String contentKey, String stem, StoredImage stored) {
+        StoredImage registered = imageBlobRegistry.register(contentKey, stem, stored);
+        if (registered != stored) {
+            deleteObjectsQuietly(stored.urls());
+        }
+        return registered;
     }
 
-    // 기존 이미지 삭제 메소드
+    // 기존 이미지 삭제 메소드 (해시 경로 이미지는 참조 해제)
     public void deleteImage(String imageUrl) {
-        try {
-            // 이미지 URL에서 Firebase Storage 내 경로(blobString)를 추출
-            String decodedUrl = URLDecoder.decode(imageUrl, StandardCharsets.UTF_8);
-            String prefix = "/o/";
-            int startIndex = decodedUrl.indexOf(prefix) + prefix.length();
-            int endIndex = decodedUrl.indexOf("?alt=media");
-            String blobString = decodedUrl.substring(startIndex, endIndex);
-
-            // 실제 Firebase Storage에서 파일 삭제
-            boolean deleted = StorageClient.getInstance()
-                    .bucket()
-                    .get(blobString)
-                    .delete();
-
-            if (deleted) {
-                log.info("기존 이미지 삭제 완료: {}", blobString);
+        deleteImages(imageUrl);
+    }
+
+    /**
+     * 이미지와 변형을 함께 삭제 (null은 건너뜀)
+     * 같은 이미지의 변형 URL은 참조 하나로 묶어 한 번만 해제
+     * 참조 해제/저장소 삭제 예약(아웃박스)은 한 트랜잭션으로 기록 (호출한 트랜잭션이 있으면 참여, 없으면 새로 열어 함께 커밋)
+     * 실제 해제와 삭제는 커밋 후 백그라운드에서 수행
+     */
+    public void deleteImages(String... imageUrls) {
+        required.executeWithoutResult(status -> {
+            Set<String> releasedStems = new HashSet<>();
+            for (String imageUrl : imageUrls) {
+                if (imageUrl == null) {
+                    continue;
+                }
+                try {
+                    String blobString = imageStorage.pathOf(imageUrl);
+                    Matcher stem = STEM_PATTERN.matcher(blobString);
+                    if (!stem.lookingAt()) {
+                        scheduleDelete(blobString);
+                    } else if (releasedStems.add(stem.group())) {
+                        scheduleRelease(stem.group(), blobString);
+                    }
+                } catch (Exception e) {
+                    log.error("기존 이미지 삭제 중 오류 발생", e);
+                    throw new ImageDeleteException("이미지 삭제 중 오류가 발생했습니다: " + e.getMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * 아웃박스로 예약된 참조 해제 반영 (ImageReleaseOutboxHandler)
+     * 참조 해제와 저장소 삭제 예약을 한 트랜잭션으로 커밋하고, 같은 해제가 다시 전달되면 건너뜀
+     */
+    public void applyRelease(ImageReleasePayload payload) {
+        required.executeWithoutResult(status -> {
+            Optional<List<String>> unreferenced = imageBlobRegistry.release(payload.getReleaseId(), payload.getStem());
+            if (unreferenced.isEmpty()) {
+                // 등록되지 않은 해시 경로 (참조가 없으므로 바로 삭제)
+                scheduleDelete(payload.getPath());
+            } else if (unreferenced.get().isEmpty()) {
+                log.info("다른 곳에서 참조 중이거나 이미 반영된 해제라 유지: {}", payload.getStem());
             } else {
-                log.warn("기존 이미지 삭제 실패: {}", blobString);
+                for (String url : unreferenced.get()) {
+                    scheduleDelete(imageStorage.pathOf(url));
+                }
             }
-        } catch (Exception e) {
-            log.error("기존 이미지 삭제 중 오류 발생", e);
-            throw new ImageDeleteException("이미지 삭제 중 오류가 발생했습니다: " + e.getMessage());
+        });
+    }
+
+    private void scheduleRelease(String stem, String blobString) {
+        String releaseId = UUID.randomUUID().toString();
+        outboxService.enqueue(ImageReleaseOutboxHandler.EVENT_TYPE, RELEASE_KEY_PREFIX + releaseId,
+                new ImageReleasePayload(releaseId, stem, blobString));
+    }
+
+    private void scheduleDelete(String blobString) {
+        outboxService.enqueue(ImageDeleteOutboxHandler.EVENT_TYPE, DELETE_KEY_PREFIX + blobString,
+                new ImageDeletePayload(blobString));
+    }
+
+    // 등록 전(참조 없는) 객체 정리
+    private void deleteObjectsQuietly(Collection<String> urls) {
+        for (String url : urls) {
+            try {
+                imageStorage.delete(imageStorage.pathOf(url));
+            } catch (Exception e) {
+                log.warn("업로드 정리 실패 (수동 정리 필요): {}", url);
+            }
+        }
+    }
+
+    // 원본 확장자 (".jpg" 등, 경로에 쓸 수 없는 형태면 생략)
+    private static String extensionOf(MultipartFile file) {
+        String originalFileName = file.getOriginalFilename();
+        if (originalFileName == null) {
+            throw new InvalidFileException("파일 이름이 비어 있습니다.");
+        }
+        int dotIndex = originalFileName.lastIndexOf(".");
+        String ext = dotIndex != -1 ? originalFileName.substring(dotIndex) : "";
+        return EXTENSION_PATTERN.matcher(ext).matches() ? ext : "";
+    }
+
+    // 해시가 같은 내용이 삭제 후 다시 올라와도 진행 중인 삭제와 겹치지 않도록 세대 구분값을 붙임
+    private static String newStem(String hash) {
+        return "images/" + hash + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    // multipart 본문을 버퍼 단위로 읽으며 SHA-256 계산 (전체를 메모리에 올리지 않음)
+    static String sha256(MultipartFile file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (InputStream inputStream = file.getInputStream()) {
+            byte[] buffer = new byte[HASH_BUFFER_SIZE];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        StringBuilder hex = new StringBuilder(64);
+        for (byte b : digest.digest()) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    private static String sha256Unchecked(MultipartFile file) {
+        try {
+            return sha256(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 실패한 일괄 업로드의 보상 삭제 (아직 진행 중인 업로드는 끝나는 대로 삭제)
+    private <T> void compensate(List<CompletableFuture<T>> futures, Function<T, List<String>> urlsOf) {
+        futures.forEach(future -> future.thenAccept(result -> deleteQuietly(urlsOf.apply(result))));
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        while (throwable instanceof CompletionException && throwable.getCause() != null) {
+            throwable = throwable.getCause();
+        }
+        return throwable;
+    }
+
+    private void deleteOnRollback(List<List<String>> images) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
         }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    images.forEach(FirebaseImageService.this::deleteQuietly);
+                }
+            }
+        });
     }
 
+    // 이미지 하나(변형 포함)의 보상 삭제 (롤백된/없는 트랜잭션과 무관하게 별도 트랜잭션으로 커밋)
+    private void deleteQuietly(List<String> imageUrls) {
+        try {
+            requiresNew.executeWithoutResult(status -> deleteImages(imageUrls.toArray(new String[0])));
+        } catch (Exception e) {
+            log.warn("업로드 보상 삭제 실패 (수동 정리 필요): {}", imageUrls);
+        }
+    }
 }
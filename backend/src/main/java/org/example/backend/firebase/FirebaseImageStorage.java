@@ -0,0 +1,85 @@
+package org.example.backend.firebase;
+
+import com.google.cloud.WriteChannel;
+import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Bucket;
+import com.google.firebase.cloud.StorageClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Firebase Storage 백엔드
+ * - 버킷은 처음 사용할 때 한 번만 조회해 재사용 (업로드마다 StorageClient/버킷 조회 반복 없음)
+ * - 업로드는 resumable WriteChannel에 청크 단위로 흘려 보내 multipart 본문 전체를 메모리에 올리지 않음
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "storage.image.backend", havingValue = "firebase", matchIfMissing = true)
+public class FirebaseImageStorage implements ImageStorage {
+
+    private static final int CHUNK_SIZE = 256 * 1024;   // WriteChannel 청크 크기 (256KB 배수여야 함)
+    private static final String URL_PREFIX = "https://firebasestorage.googleapis.com/v0/b/";
+
+    private volatile Bucket bucket;
+
+    @Override
+    public String put(String path, InputStream content, String contentType) throws IOException {
+        Bucket bucket = bucket();
+        BlobInfo blobInfo = BlobInfo.newBuilder(bucket.getName(), path)
+                .setContentType(contentType)
+                .build();
+
+        try (WriteChannel writer = bucket.getStorage().writer(blobInfo)) {
+            writer.setChunkSize(CHUNK_SIZE);
+            byte[] buffer = new byte[CHUNK_SIZE];
+            int read;
+            while ((read = content.read(buffer)) != -1) {
+                ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+                while (chunk.hasRemaining()) {
+                    writer.write(chunk);
+                }
+            }
+        }
+        return URL_PREFIX + bucket.getName() + "/o/" + URLEncoder.encode(path, StandardCharsets.UTF_8) + "?alt=media";
+    }
+
+    @Override
+    public boolean delete(String path) {
+        Blob blob = bucket().get(path);
+        return blob != null && blob.delete();
+    }
+
+    @Override
+    public String pathOf(String url) {
+        // 이미지 URL에서 Firebase Storage 내 경로(blobString)를 추출
+        String decodedUrl = URLDecoder.decode(url, StandardCharsets.UTF_8);
+        String prefix = "/o/";
+        int startIndex = decodedUrl.indexOf(prefix) + prefix.length();
+        int endIndex = decodedUrl.indexOf("?alt=media");
+        return decodedUrl.substring(startIndex, endIndex);
+    }
+
+    private Bucket bucket() {
+        Bucket resolved = bucket;
+        if (resolved == null) {
+            synchronized (this) {
+                resolved = bucket;
+                if (resolved == null) {
+                    resolved = StorageClient.getInstance().bucket();
+                    log.info("Firebase Storage 버킷 초기화: {}", resolved.getName());
+                    bucket = resolved;
+                }
+            }
+        }
+        return resolved;
+    }
+}
@@ -0,0 +1,130 @@
+package org.example.backend.firebase;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 내용 해시 기반 이미지 참조 카운트 (image_blob 테이블)
+ * - 등록(acquire/register): 저장소 객체는 트랜잭션과 무관하게 생기므로 호출한 트랜잭션과 별도로 즉시 커밋(REQUIRES_NEW)
+ * - 해제(release): 업무 트랜잭션이 아니라 커밋 후 아웃박스(IMAGE_RELEASE) 처리에서 호출됨
+ *   → 요청 트랜잭션이 image_blob 행을 잠근 채 같은 이미지의 등록(별도 트랜잭션)을 기다리는 일이 없음
+ *   · 해제 ID를 image_blob_release에 함께 기록해 같은 해제가 다시 전달돼도 한 번만 반영
+ *   · 저장소 객체 삭제는 같은 트랜잭션에서 다시 아웃박스로 예약
+ * - 모든 갱신은 조건부 단일 문장이라 여러 인스턴스가 동시에 같은 이미지를 올리거나 지워도 카운트가 어긋나지 않음
+ *   · 마지막 참조 해제: 0이 된 행을 ref_count = 0 조건으로 삭제한 쪽만 저장소 객체를 지움
+ *     (그 사이 누가 다시 참조하면 삭제되지 않고 그대로 재사용)
+ *   · 행이 삭제된 뒤 같은 이미지가 올라오면 새 세대(stem)로 저장하므로 진행 중인 삭제와 경로가 겹치지 않음
+ */
+@Component
+public class ImageBlobRegistry {
+
+    private static final int REGISTER_ATTEMPTS = 3;
+
+    private static final String ACQUIRE_SQL =
+            "UPDATE image_blob SET ref_count = ref_count + 1 WHERE content_key = ?";
+    private static final String SELECT_BY_KEY_SQL =
+            "SELECT image_url, card_url, thumbnail_url FROM image_blob WHERE content_key = ?";
+    private static final String INSERT_SQL =
+            "INSERT INTO image_blob (content_key, stem, image_url, card_url, thumbnail_url, ref_count, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, 1, ?)";
+    private static final String RELEASE_SQL =
+            "UPDATE image_blob SET ref_count = ref_count - 1 WHERE stem = ? AND ref_count > 0";
+    private static final String SELECT_UNREFERENCED_SQL =
+            "SELECT image_url, card_url, thumbnail_url FROM image_blob WHERE stem = ? AND ref_count = 0";
+    private static final String DELETE_UNREFERENCED_SQL =
+            "DELETE FROM image_blob WHERE stem = ? AND ref_count = 0";
+    private static final String SELECT_RELEASE_SQL =
+            "SELECT COUNT(*) FROM image_blob_release WHERE release_id = ?";
+    private static final String INSERT_RELEASE_SQL =
+            "INSERT INTO image_blob_release (release_id, stem, applied_at) VALUES (?, ?, ?)";
+    private static final String PURGE_RELEASE_SQL =
+            "DELETE FROM image_blob_release WHERE applied_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNew;
+    private final TransactionTemplate required;
+
+    public ImageBlobRegistry(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.required = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 이미 저장된 이미지면 참조를 하나 늘리고 저장된 URL 반환 (전송 생략)
+     */
+    public Optional<StoredImage> acquire(String contentKey) {
+        return requiresNew.execute(status -> {
+            if (jdbcTemplate.update(ACQUIRE_SQL, contentKey) == 0) {
+                return Optional.<StoredImage>empty();
+            }
+            return Optional.of(jdbcTemplate.queryForObject(SELECT_BY_KEY_SQL, (rs, i) ->
+                    new StoredImage(rs.getString(1), rs.getString(2), rs.getString(3)), contentKey));
+        });
+    }
+
+    /**
+     * 새로 저장한 이미지 등록 (참조 1)
+     * @return 실제로 사용할 이미지 - 동시에 같은 이미지가 먼저 등록됐다면 그쪽 (호출한 쪽은 방금 저장한 객체를 지워야 함)
+     */
+    public StoredImage register(String contentKey, String stem, StoredImage stored) {
+        for (int attempt = 0; attempt < REGISTER_ATTEMPTS; attempt++) {
+            try {
+                requiresNew.executeWithoutResult(status -> jdbcTemplate.update(INSERT_SQL,
+                        contentKey, stem, stored.getImageUrl(), stored.getCardUrl(), stored.getThumbnailUrl(),
+                        Timestamp.valueOf(LocalDateTime.now())));
+                return stored;
+            } catch (DuplicateKeyException e) {
+                Optional<StoredImage> existing = acquire(contentKey);
+                if (existing.isPresent()) {
+                    return existing.get();
+                }
+                // 먼저 등록된 행이 그 사이 삭제됨 → 다시 등록 시도
+            }
+        }
+        throw new IllegalStateException("이미지 등록 경합이 계속됩니다: " + contentKey);
+    }
+
+    /**
+     * 참조 하나 해제 (해제 ID당 한 번만 반영)
+     * - 같은 해제가 동시에 반영되면 해제 기록의 키 중복으로 한쪽이 롤백되고, 재시도 때 건너뜀
+     * @return 등록되지 않은 stem이면 empty, 아직 참조가 남아 있거나 이미 반영된 해제면 빈 목록,
+     *         마지막 참조였으면 지워야 할 URL 목록
+     */
+    public Optional<List<String>> release(String releaseId, String stem) {
+        return required.execute(status -> {
+            Integer applied = jdbcTemplate.queryForObject(SELECT_RELEASE_SQL, Integer.class, releaseId);
+            if (applied != null && applied > 0) {
+                return Optional.of(List.<String>of());
+            }
+            jdbcTemplate.update(INSERT_RELEASE_SQL, releaseId, stem, Timestamp.valueOf(LocalDateTime.now()));
+            if (jdbcTemplate.update(RELEASE_SQL, stem) == 0) {
+                return Optional.<List<String>>empty();
+            }
+            List<StoredImage> unreferenced = jdbcTemplate.query(SELECT_UNREFERENCED_SQL, (rs, i) ->
+                    new StoredImage(rs.getString(1), rs.getString(2), rs.getString(3)), stem);
+            if (unreferenced.isEmpty() || jdbcTemplate.update(DELETE_UNREFERENCED_SQL, stem) == 0) {
+                return Optional.of(List.<String>of());
+            }
+            return Optional.of(unreferenced.get(0).urls());
+        });
+    }
+
+    /**
+     * 재전달 기간이 지난 해제 기록 삭제
+     * @return 삭제한 기록 수
+     */
+    public int purgeReleaseLog(LocalDateTime before) {
+        return jdbcTemplate.update(PURGE_RELEASE_SQL, Timestamp.valueOf(before));
+    }
+}
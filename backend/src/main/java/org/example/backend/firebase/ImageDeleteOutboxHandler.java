@@ -0,0 +1,38 @@
+package org.example.backend.firebase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.outbox.OutboxHandler;
+import org.springframework.stereotype.Component;
+
+/**
+ * 커밋된 이미지 삭제를 저장소에 반영 (이미 없는 객체면 그대로 완료 처리)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageDeleteOutboxHandler implements OutboxHandler<ImageDeletePayload> {
+
+    public static final String EVENT_TYPE = "IMAGE_DELETE";
+
+    private final ImageStorage imageStorage;
+
+    @Override
+    public String eventType() {
+        return EVENT_TYPE;
+    }
+
+    @Override
+    public Class<ImageDeletePayload> payloadType() {
+        return ImageDeletePayload.class;
+    }
+
+    @Override
+    public void handle(ImageDeletePayload payload) {
+        if (imageStorage.delete(payload.getPath())) {
+            log.info("기존 이미지 삭제 완료: {}", payload.getPath());
+        } else {
+            log.info("이미 삭제된 이미지: {}", payload.getPath());
+        }
+    }
+}
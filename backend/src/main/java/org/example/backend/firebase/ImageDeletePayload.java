@@ -0,0 +1,13 @@
+package org.example.backend.firebase;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 아웃박스로 미루는 저장소 객체 삭제 (경로 하나)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageDeletePayload {
+    private String path;
+}
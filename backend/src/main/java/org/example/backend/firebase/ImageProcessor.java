@@ -0,0 +1,279 @@
+package org.example.backend.firebase;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.exception.customException.InvalidFileException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+import org.w3c.dom.Node;
+
+import javax.annotation.PreDestroy;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 업로드 이미지 변형 생성 (저장 전 단계)
+ * - 헤더에서 크기만 먼저 읽고 DETAIL의 2배 정도로 서브샘플링해 디코딩 (원본 해상도 전체를 메모리에 올리지 않음)
+ * - DETAIL → CARD → THUMBNAIL 순서로 앞 단계 결과를 다시 줄여 생성
+ * - 메타데이터(EXIF/GPS 등)는 읽지 않고 다시 인코딩하므로 결과물에 남지 않음 (EXIF 회전만 픽셀에 반영)
+ * - 투명도가 있으면 PNG, 없으면 JPEG로 인코딩
+ *   (JDK ImageIO에는 WebP 인코더가 없어 외부 네이티브 라이브러리 없이 쓸 수 있는 형식으로 인코딩)
+ * - JPEG/PNG/BMP만 처리, 그 외 형식(GIF 애니메이션, WebP, HEIC 등)이나 디코딩 실패는 Optional.empty() → 원본 그대로 저장
+ * - CPU 작업이므로 코어 수 기준 전용 풀에서 실행 (큐가 가득 차면 호출 스레드가 직접 처리)
+ */
+@Slf4j
+@Component
+public class ImageProcessor {
+
+    private static final float JPEG_QUALITY = 0.85f;
+    private static final Set<String> PROCESSABLE_FORMATS = Set.of("jpeg", "png", "bmp");
+    private static final int EXIF_ORIENTATION_TAG = 0x0112;
+
+    private final ThreadPoolTaskExecutor processingExecutor;
+    private final long maxSourcePixels;
+
+    public ImageProcessor(@Value("${storage.image.processing.pool-size:0}") int poolSize,
+                          @Value("${storage.image.processing.queue-capacity:32}") int queueCapacity,
+                          @Value("${storage.image.processing.max-source-pixels:100000000}") long maxSourcePixels) {
+        this.maxSourcePixels = maxSourcePixels;
+
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("image-process-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        this.processingExecutor = executor;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        processingExecutor.shutdown();
+    }
+
+    public CompletableFuture<Optional<ProcessedImage>> processAsync(MultipartFile file) {
+        return CompletableFuture.supplyAsync(() -> {
+            try (InputStream inputStream = file.getInputStream()) {
+                return process(inputStream);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, processingExecutor);
+    }
+
+    /**
+     * @return 변형 이미지 묶음 (처리할 수 없는 형식이면 empty)
+     * @throws InvalidFileException 해상도가 storage.image.processing.max-source-pixels를 넘는 경우
+     */
+    public Optional<ProcessedImage> process(InputStream inputStream) throws IOException {
+        try (ImageInputStream iis = ImageIO.createImageInputStream(inputStream)) {
+            Iterator<ImageReader> readers = iis != null ? ImageIO.getImageReaders(iis) : null;
+            if (readers == null || !readers.hasNext()) {
+                return Optional.empty();
+            }
+            ImageReader reader = readers.next();
+            try {
+                String format = reader.getFormatName().toLowerCase(Locale.ROOT);
+                if (!PROCESSABLE_FORMATS.contains(format)) {
+                    return Optional.empty();
+                }
+                boolean jpeg = "jpeg".equals(format);
+                // 회전 정보가 필요한 JPEG만 메타데이터를 읽음
+                reader.setInput(iis, true, !jpeg);
+
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxSourcePixels) {
+                    throw new InvalidFileException("이미지 해상도가 너무 큽니다: " + width + "x" + height);
+                }
+                int orientation = jpeg ? exifOrientation(reader.getImageMetadata(0)) : 1;
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, Math.max(width, height) / (ImageVariant.DETAIL.getMaxEdge() * 2));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                BufferedImage source = rotate(reader.read(0, param), orientation);
+
+                boolean alpha = source.getColorModel().hasAlpha();
+                Map<ImageVariant, byte[]> variants = new EnumMap<>(ImageVariant.class);
+                BufferedImage current = source;
+                for (ImageVariant variant : ImageVariant.values()) {
+                    current = resize(current, variant.getMaxEdge(), alpha);
+                    variants.put(variant, encode(current, alpha));
+                }
+                return Optional.of(new ProcessedImage(alpha ? ".png" : ".jpg", alpha ? "image/png" : "image/jpeg", variants));
+            } catch (IOException e) {
+                log.warn("이미지 변형 생성 실패, 원본으로 저장: {}", e.getMessage());
+                return Optional.empty();
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 긴 변이 maxEdge 이하가 되도록 축소 (절반씩 단계적으로 줄여 계단 현상 완화, 확대는 하지 않음)
+     */
+    static BufferedImage resize(BufferedImage source, int maxEdge, boolean alpha) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) maxEdge / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        BufferedImage current = source;
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = draw(current, width, height, alpha, null);
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height, boolean alpha, AffineTransform transform) {
+        BufferedImage target = new BufferedImage(width, height, alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            if (!alpha) {
+                g.setColor(Color.WHITE);
+                g.fillRect(0, 0, width, height);
+            }
+            if (transform != null) {
+                g.drawImage(source, transform, null);
+            } else {
+                g.drawImage(source, 0, 0, width, height, null);
+            }
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private static byte[] encode(BufferedImage image, boolean png) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (png) {
+            ImageIO.write(image, "png", out);
+            return out.toByteArray();
+        }
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.write(null, new IIOImage(image, null, null), param);     // 메타데이터 없이 기록
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    // EXIF 회전(3: 180°, 6: 시계 90°, 8: 반시계 90°)을 픽셀에 반영 (좌우 반전 값은 드물어 무시)
+    private static BufferedImage rotate(BufferedImage source, int orientation) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        AffineTransform transform = new AffineTransform();
+        switch (orientation) {
+            case 3:
+                transform.translate(width, height);
+                transform.rotate(Math.PI);
+                return draw(source, width, height, source.getColorModel().hasAlpha(), transform);
+            case 6:
+                transform.translate(height, 0);
+                transform.rotate(Math.PI / 2);
+                return draw(source, height, width, source.getColorModel().hasAlpha(), transform);
+            case 8:
+                transform.translate(0, width);
+                transform.rotate(-Math.PI / 2);
+                return draw(source, height, width, source.getColorModel().hasAlpha(), transform);
+            default:
+                return source;
+        }
+    }
+
+    // JPEG APP1(Exif) 세그먼트의 IFD0에서 Orientation 태그만 읽음 (없거나 해석할 수 없으면 1)
+    static int exifOrientation(IIOMetadata metadata) {
+        if (metadata == null) {
+            return 1;
+        }
+        Node tree = metadata.getAsTree("javax_imageio_jpeg_image_1.0");
+        Node markers = child(tree, "markerSequence");
+        for (Node node = markers != null ? markers.getFirstChild() : null; node != null; node = node.getNextSibling()) {
+            if (!"unknown".equals(node.getNodeName())
+                    || !"225".equals(((IIOMetadataNode) node).getAttribute("MarkerTag"))) {
+                continue;
+            }
+            Object data = ((IIOMetadataNode) node).getUserObject();
+            if (data instanceof byte[]) {
+                int orientation = readOrientation((byte[]) data);
+                if (orientation > 0) {
+                    return orientation;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static int readOrientation(byte[] app1) {
+        // "Exif\0\0" + TIFF 헤더(II/MM, 42, IFD0 오프셋)
+        if (app1.length < 14 || app1[0] != 'E' || app1[1] != 'x' || app1[2] != 'i' || app1[3] != 'f') {
+            return 0;
+        }
+        ByteBuffer tiff = ByteBuffer.wrap(app1, 6, app1.length - 6).slice();
+        tiff.order(tiff.get(0) == 'I' ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+        try {
+            int ifd = tiff.getInt(4);
+            int entries = tiff.getShort(ifd) & 0xFFFF;
+            for (int i = 0; i < entries; i++) {
+                int entry = ifd + 2 + i * 12;
+                if ((tiff.getShort(entry) & 0xFFFF) == EXIF_ORIENTATION_TAG) {
+                    return tiff.getShort(entry + 8) & 0xFFFF;
+                }
+            }
+        } catch (IndexOutOfBoundsException e) {
+            return 0;
+        }
+        return 0;
+    }
+
+    private static Node child(Node parent, String name) {
+        for (Node node = parent.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (name.equals(node.getNodeName())) {
+                return node;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,63 @@
+package org.example.backend.firebase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.outbox.OutboxHandler;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 커밋된 이미지 참조 해제를 image_blob에 반영 (마지막 참조였으면 저장소 삭제를 다시 아웃박스로 예약)
+ * - 같은 해제가 다시 전달되면 해제 기록을 보고 건너뜀
+ * - 해제 기록은 재전달될 일이 없는 기간(RELEASE_LOG_RETENTION_DAYS)이 지나면 한 시간에 한 번 정리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageReleaseOutboxHandler implements OutboxHandler<ImageReleasePayload> {
+
+    public static final String EVENT_TYPE = "IMAGE_RELEASE";
+
+    private static final long PURGE_INTERVAL_MS = TimeUnit.HOURS.toMillis(1);
+    private static final int RELEASE_LOG_RETENTION_DAYS = 7;
+
+    private final FirebaseImageService firebaseImageService;
+    private final ImageBlobRegistry imageBlobRegistry;
+
+    private final AtomicLong lastPurgedAt = new AtomicLong();
+
+    @Override
+    public String eventType() {
+        return EVENT_TYPE;
+    }
+
+    @Override
+    public Class<ImageReleasePayload> payloadType() {
+        return ImageReleasePayload.class;
+    }
+
+    @Override
+    public void handle(ImageReleasePayload payload) {
+        firebaseImageService.applyRelease(payload);
+        purgeReleaseLogIfDue();
+    }
+
+    private void purgeReleaseLogIfDue() {
+        long now = System.currentTimeMillis();
+        long last = lastPurgedAt.get();
+        if (now - last < PURGE_INTERVAL_MS || !lastPurgedAt.compareAndSet(last, now)) {
+            return;
+        }
+        try {
+            int purged = imageBlobRegistry.purgeReleaseLog(LocalDateTime.now().minusDays(RELEASE_LOG_RETENTION_DAYS));
+            if (purged > 0) {
+                log.info("오래된 이미지 참조 해제 기록 {}건 삭제", purged);
+            }
+        } catch (Exception e) {
+            log.warn("이미지 참조 해제 기록 정리 실패: {}", e.getMessage());
+        }
+    }
+}
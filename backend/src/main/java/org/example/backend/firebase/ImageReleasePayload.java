@@ -0,0 +1,15 @@
+package org.example.backend.firebase;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 아웃박스로 미루는 이미지 참조 해제 (해제 ID, stem, 등록되지 않은 stem일 때 지울 경로)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageReleasePayload {
+    private String releaseId;
+    private String stem;
+    private String path;
+}
@@ -0,0 +1,28 @@
+package org.example.backend.firebase;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 이미지 저장소 백엔드
+ * - storage.image.backend=firebase(기본) : Firebase Storage
+ * - storage.image.backend=local          : 로컬 디렉터리 (개발/테스트용)
+ */
+public interface ImageStorage {
+
+    /**
+     * 스트림을 끝까지 읽어 path에 저장 (전체를 메모리에 올리지 않음)
+     * @return 저장된 이미지의 공개 URL
+     */
+    String put(String path, InputStream content, String contentType) throws IOException;
+
+    /**
+     * @return 삭제 여부 (이미 없으면 false)
+     */
+    boolean delete(String path);
+
+    /**
+     * 공개 URL → 저장소 내 경로
+     */
+    String pathOf(String url);
+}
@@ -0,0 +1,13 @@
+package org.example.backend.firebase;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.web.multipart.MultipartFile;
+
+// 일괄 업로드 단위 (파일 + 저장 경로 접두어)
+@Getter
+@AllArgsConstructor
+public class ImageUploadRequest {
+    private final MultipartFile file;
+    private final String itemName;
+}
@@ -0,0 +1,30 @@
+package org.example.backend.firebase;
+
+/**
+ * 서버에서 만드는 이미지 변형 (긴 변 기준 최대 픽셀, 원본보다 크게 늘리지는 않음)
+ * - DETAIL    : 상세 화면 (원본 대신 저장되는 기본 이미지)
+ * - CARD      : 목록 카드 (검색/전문가 콘텐츠/포트폴리오 목록의 썸네일 컬럼)
+ * - THUMBNAIL : 작은 미리보기
+ */
+public enum ImageVariant {
+    DETAIL(1600, ""),
+    CARD(640, "_card"),
+    THUMBNAIL(240, "_thumb");
+
+    private final int maxEdge;
+    private final String suffix;
+
+    ImageVariant(int maxEdge, String suffix) {
+        this.maxEdge = maxEdge;
+        this.suffix = suffix;
+    }
+
+    public int getMaxEdge() {
+        return maxEdge;
+    }
+
+    // 저장 경로 접미사 (itemName-UUID{suffix}.jpg)
+    public String getSuffix() {
+        return suffix;
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.backend.firebase;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 로컬 디렉터리 백엔드 (Firebase 자격 증명 없이 개발/테스트할 때 사용)
+ * - storage.image.backend=local, 저장 위치는 storage.image.local.root
+ * - URL은 file:// URI (pathOf로 다시 경로를 복원할 수 있는 형태)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "storage.image.backend", havingValue = "local")
+public class LocalImageStorage implements ImageStorage {
+
+    private final Path root;
+
+    public LocalImageStorage(@Value("${storage.image.local.root:${java.io.tmpdir}/maldive-images}") String root) {
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+        try {
+            Files.createDirectories(this.root);
+        } catch (IOException e) {
+            throw new UncheckedIOException("로컬 이미지 저장소 디렉터리를 만들 수 없습니다: " + this.root, e);
+        }
+    }
+
+    @Override
+    public String put(String path, InputStream content, String contentType) throws IOException {
+        Path target = resolve(path);
+        Files.createDirectories(target.getParent());
+        // 임시 파일에 다 쓴 뒤 옮겨 중간에 실패해도 반쯤 쓰인 파일이 남지 않음
+        Path temp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+        try {
+            Files.copy(content, temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return target.toUri().toString();
+    }
+
+    @Override
+    public boolean delete(String path) {
+        try {
+            return Files.deleteIfExists(resolve(path));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String pathOf(String url) {
+        Path file = Paths.get(URI.create(url)).toAbsolutePath().normalize();
+        if (!file.startsWith(root)) {
+            throw new IllegalArgumentException("로컬 저장소 밖의 URL입니다: " + url);
+        }
+        return root.relativize(file).toString().replace('\\', '/');
+    }
+
+    private Path resolve(String path) {
+        Path target = root.resolve(path).normalize();
+        if (!target.startsWith(root)) {
+            throw new IllegalArgumentException("잘못된 이미지 경로입니다: " + path);
+        }
+        return target;
+    }
+}
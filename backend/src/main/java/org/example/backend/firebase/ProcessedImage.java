@@ -0,0 +1,15 @@
+package org.example.backend.firebase;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+// 재인코딩된 변형 이미지 묶음 (메타데이터 제거됨, 크기 상한이 있어 메모리에 보관)
+@Getter
+@AllArgsConstructor
+public class ProcessedImage {
+    private final String extension;     // ".jpg" / ".png"
+    private final String contentType;
+    private final Map<ImageVariant, byte[]> variants;
+}
@@ -0,0 +1,33 @@
+package org.example.backend.firebase;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 저장된 이미지 URL 묶음 (변형을 만들 수 없는 형식이면 원본만 저장되고 card/thumbnail은 null)
+@Getter
+@AllArgsConstructor
+public class StoredImage {
+    private final String imageUrl;      // 상세(DETAIL) 또는 원본
+    private final String cardUrl;
+    private final String thumbnailUrl;
+
+    // 목록 카드용 URL (카드 변형이 없으면 기본 이미지)
+    public String getListImageUrl() {
+        return cardUrl != null ? cardUrl : imageUrl;
+    }
+
+    public List<String> urls() {
+        List<String> urls = new ArrayList<>(3);
+        urls.add(imageUrl);
+        if (cardUrl != null) {
+            urls.add(cardUrl);
+        }
+        if (thumbnailUrl != null) {
+            urls.add(thumbnailUrl);
+        }
+        return urls;
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.backend.jwt;
+
+import java.security.Principal;
+
+/**
+ * JWT 클레임으로 만든 요청 단위 인증 주체 (SecurityContext의 principal)
+ * - getName()은 기존과 같이 이메일을 반환하므로 principal.getName() 사용처는 그대로 동작
+ * - memberId/status는 클레임 추가 이전에 발급된 토큰이면 null
+ */
+public class AuthenticatedMember implements Principal {
+    private final Long memberId;
+    private final String email;
+    private final String role;
+    private final String status;
+
+    public AuthenticatedMember(Long memberId, String email, String role, String status) {
+        this.memberId = memberId;
+        this.email = email;
+        this.role = role;
+        this.status = status;
+    }
+
+    public static AuthenticatedMember from(VerifiedToken token) {
+        return new AuthenticatedMember(token.getMemberId(), token.getEmail(), token.getRole(), token.getStatus());
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    @Override
+    public String toString() {
+        return email;
+    }
+}
@@ -1,7 +1,6 @@
 package org.example.backend.jwt;
 
 import lombok.RequiredArgsConstructor;
-import org.example.backend.redis.RedisService;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -21,7 +20,7 @@ import javax.servlet.ServletException;
 public class JwtFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
-    private final RedisService redisService;
+    private final TokenBlacklistService tokenBlacklistService;
 
     // 매 요청마다 실행되는 필터 로직
     @Override
@@ -34,23 +33,25 @@ public class JwtFilter extends OncePerRequestFilter {
             String token = resolveToken(request);
 
             if (token != null) {
-                if (!jwtUtil.validateToken(token)) {
+                // 서명 검증 + 클레임 추출은 요청당 한 번 (같은 토큰은 캐시된 결과 사용)
+                VerifiedToken verified = jwtUtil.verify(token);
+                if (verified == null) {
                     response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Invalid or expired JWT token");
                     return;
                 }
 
-                String jti = jwtUtil.getJti(token); // JTI 추출
-                if (redisService.isBlacklisted(jti)) {
+                String jti = verified.getJti(); // JTI 추출
+                if (tokenBlacklistService.isBlacklisted(jti)) {
                     response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Token is blacklisted");
                     return;
                 }
 
-                String username = jwtUtil.getUsername(token);
-                String role = jwtUtil.getRole(token);
+                String role = verified.getRole();
 
+                // principal: 회원 ID/역할/상태를 담은 요청 단위 인증 주체 (getName()은 이메일)
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
-                                username,
+                                AuthenticatedMember.from(verified),
                                 null,
                                 Collections.singleton(new SimpleGrantedAuthority("ROLE_" + role))
                         );
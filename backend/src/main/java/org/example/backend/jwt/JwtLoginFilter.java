@@ -81,13 +81,14 @@ public class JwtLoginFilter extends UsernamePasswordAuthenticationFilter {
         String email = authResult.getName(); // getName()이 이메일임
         String role = authResult.getAuthorities().iterator().next().getAuthority().replace("ROLE_", "");
 
-        TokenInfo tokenInfo = jwtUtil.createToken(email, role);
+        // 회원 조회 (닉네임 응답 + 토큰에 회원 ID/상태 클레임 포함)
+        Member member = loginService.findByEmail(email);
+
+        TokenInfo tokenInfo = jwtUtil.createToken(member);
 
         // ✅ Redis에 JTI 저장
         redisService.storeActiveToken(tokenInfo.getJti(), email, tokenInfo.getExpirationMs());
 
-        // 닉네임 조회
-        Member member = loginService.findByEmail(email);
         String nickname = member.getNickname();
         String profileImageUrl = member.getProfileImageUrl();
 
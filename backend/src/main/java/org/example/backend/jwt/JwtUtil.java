@@ -1,28 +1,62 @@
 package org.example.backend.jwt;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
+import org.example.backend.entity.Member;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Slf4j
 @Component
 public class JwtUtil {
 
+    // 검증 결과 캐시 최대 개수 (토큰 해시 → 검증된 클레임)
+    static final int VERIFIED_CACHE_SIZE = 1024;
+
     private final SecretKey secretKey;
 
+    // 서명 키가 고정이므로 파서는 한 번만 만들어 재사용 (thread-safe)
+    private final JwtParser parser;
+
+    // 같은 토큰의 반복 서명 검증을 피하기 위한 캐시 (요청 스레드 간 잠금 없음), 항목은 토큰 만료 시까지만 유효
+    private final Map<String, VerifiedToken> verifiedCache = new ConcurrentHashMap<>();
+
+    // 최대 개수 초과 시 정리는 한 스레드만 수행
+    private final AtomicBoolean evicting = new AtomicBoolean(false);
+
     public JwtUtil(@Value("${jwt.secret}") String secret) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
+        this.parser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+    }
+
+    // 토큰 생성 (회원 ID/상태 클레임 포함 → 요청마다 회원 조회 없이 식별)
+    public TokenInfo createToken(Member member) {
+        return createToken(member.getEmail(), member.getRole().name(), member.getMemberId(), member.getStatus().name());
     }
 
     // 토큰 생성
     public TokenInfo createToken(String email, String role) {
+        return createToken(email, role, null, null);
+    }
+
+    private TokenInfo createToken(String email, String role, Long memberId, String status) {
         Date now = new Date();
         long expirationMs = 6 * 60 * 60 * 1000;
         Date expiryDate = new Date(now.getTime() + expirationMs);
@@ -32,6 +66,8 @@ public class JwtUtil {
                 .subject(email)
                 .id(jti)
                 .claim("role", role)
+                .claim("memberId", memberId)
+                .claim("status", status)
                 .issuedAt(now)
                 .expiration(expiryDate)
                 .signWith(secretKey)
@@ -43,13 +79,93 @@ public class JwtUtil {
 
     // 공통 Claims 추출
     public Claims extractClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
+        return parser
                 .parseSignedClaims(token)
                 .getPayload();
     }
 
+    /**
+     * 토큰을 한 번 검증해 필요한 클레임을 꺼낸다 (서명 + 만료 + 필수 클레임)
+     * - 검증에 성공한 토큰은 해시를 키로 만료 시까지 캐시하여 같은 토큰의 재검증을 생략
+     * @return 검증된 토큰 정보, 유효하지 않으면 null
+     */
+    public VerifiedToken verify(String token) {
+        String key = hash(token);
+        long now = System.currentTimeMillis();
+
+        VerifiedToken cached = verifiedCache.get(key);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                return cached;
+            }
+            verifiedCache.remove(key, cached);
+        }
+
+        VerifiedToken verified = parseAndValidate(token, now);
+        if (verified != null) {
+            verifiedCache.put(key, verified);
+            if (verifiedCache.size() > VERIFIED_CACHE_SIZE) {
+                evict(now);
+            }
+        }
+        return verified;
+    }
+
+    /**
+     * 캐시가 최대 개수를 넘으면 만료된 항목부터 지우고, 그래도 넘으면 임의 항목을 지워 크기를 맞춤
+     * (최근 사용 순서는 추적하지 않음 - 지워진 토큰은 다음 요청에서 다시 검증될 뿐)
+     */
+    private void evict(long now) {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            verifiedCache.values().removeIf(v -> v.isExpired(now));
+            Iterator<String> keys = verifiedCache.keySet().iterator();
+            while (verifiedCache.size() > VERIFIED_CACHE_SIZE && keys.hasNext()) {
+                keys.next();
+                keys.remove();
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private VerifiedToken parseAndValidate(String token, long now) {
+        try {
+            Claims claims = extractClaims(token);
+
+            // 만료 여부
+            if (claims.getExpiration().getTime() <= now) {
+                log.warn("JWT 만료됨");
+                return null;
+            }
+
+            // 필수 클레임 검사
+            String role = claims.get("role", String.class);
+            if (claims.getSubject() == null || role == null || claims.getId() == null) {
+                log.warn("JWT 클레임 누락");
+                return null;
+            }
+
+            return new VerifiedToken(claims.getId(), claims.getSubject(), role,
+                    claims.get("memberId", Long.class), claims.get("status", String.class), claims.getExpiration());
+        } catch (Exception e) {
+            log.error("JWT 유효성 검사 실패", e);
+            return null;
+        }
+    }
+
+    // 원문 토큰을 메모리에 보관하지 않도록 SHA-256 해시를 캐시 키로 사용
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 미지원", e);
+        }
+    }
+
     public String getJti(String token) {
         return extractClaims(token).getId();
     }
@@ -71,28 +187,9 @@ public class JwtUtil {
         return expiration.before(new Date());
     }
 
-    // 전체 유효성 검사 (서명 + 만료)  >>> 로직 추가 예정
+    // 전체 유효성 검사 (서명 + 만료 + 필수 클레임)
     public boolean validateToken(String token) {
-        try {
-            Claims claims = extractClaims(token);
-
-            // 만료 여부
-            if (claims.getExpiration().before(new Date())) {
-                log.warn("JWT 만료됨");
-                return false;
-            }
-
-            // 필수 클레임 검사
-            if (claims.getSubject() == null || claims.get("role") == null || claims.getId() == null) {
-                log.warn("JWT 클레임 누락");
-                return false;
-            }
-
-            return true;
-        } catch (Exception e) {
-            log.error("JWT 유효성 검사 실패", e);
-            return false;
-        }
+        return verify(token) != null;
     }
 
 }
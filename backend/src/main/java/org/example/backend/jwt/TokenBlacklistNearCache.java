@@ -0,0 +1,269 @@
+package org.example.backend.jwt;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.redis.RedisService;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 토큰 블랙리스트 로컬 near-cache
+ * - 1단계 Bloom filter: 폐기된 적 없는 토큰(대부분의 요청)은 Redis 조회 없이 바로 통과
+ * - 2단계 최근 폐기 목록(JTI → 토큰 만료 시각): Bloom filter 양성일 때 확정 판정
+ * - 둘 다 확정하지 못하면(오탐 또는 목록에서 밀려난 항목) Redis에 확인
+ *
+ * 폐기 정보는 Redis pub/sub로 모든 인스턴스에 전파되고, 기동 시와 주기적으로
+ * 블랙리스트 키를 SCAN해 filter를 다시 만든다 (전파 누락 보정, 만료 항목 정리).
+ * 첫 적재가 끝나기 전에는 항상 Redis에 확인한다.
+ *
+ * 발행이 재시도 후에도 실패하면 Redis 세대 번호(epoch)를 올린다. 각 인스턴스는 EPOCH_CHECK_INTERVAL_SECONDS마다
+ * 세대 번호를 확인해 마지막 적재 때와 다르면 즉시 Redis 조회로 전환(fail closed)하고 다시 적재한다.
+ */
+@Slf4j
+@Component
+public class TokenBlacklistNearCache implements MessageListener {
+
+    static final String CHANNEL = "token:revoked";
+
+    private static final int EXPECTED_REVOCATIONS = 100_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final int MAX_RECENT_REVOCATIONS = 50_000;
+    private static final long REBUILD_INTERVAL_MINUTES = 5;
+    private static final long EPOCH_CHECK_INTERVAL_SECONDS = 2;
+    private static final int PUBLISH_ATTEMPTS = 3;
+    private static final long PUBLISH_RETRY_DELAY_MS = 50;
+
+    private final RedisService redisService;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private volatile BlacklistBloomFilter filter = newFilter();
+    private volatile boolean ready = false;
+    private volatile long loadedEpoch;   // 마지막 적재 시점의 전파 세대 번호
+
+    // 운영 지표
+    private final AtomicLong publishRetryCount = new AtomicLong();
+    private final AtomicLong publishFailureCount = new AtomicLong();
+    private final AtomicLong epochRebuildCount = new AtomicLong();
+
+    // 최근 폐기 목록 (삽입 순서 유지, 최대 개수 초과 시 오래된 항목부터 제거)
+    private final Map<String, Long> recentRevocations = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+            return size() > MAX_RECENT_REVOCATIONS;
+        }
+    };
+
+    private final ScheduledExecutorService rebuildExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "token-blacklist-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public TokenBlacklistNearCache(RedisService redisService, RedisMessageListenerContainer listenerContainer) {
+        this.redisService = redisService;
+        this.listenerContainer = listenerContainer;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuildExecutor.scheduleWithFixedDelay(this::rebuildSafely, 0, REBUILD_INTERVAL_MINUTES, TimeUnit.MINUTES);
+        rebuildExecutor.scheduleWithFixedDelay(this::checkEpochSafely,
+                EPOCH_CHECK_INTERVAL_SECONDS, EPOCH_CHECK_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    /**
+     * 폐기 여부 확인 (대부분 로컬에서 끝나고, 확정할 수 없을 때만 Redis 조회)
+     */
+    public boolean isBlacklisted(String jti) {
+        if (!ready) {
+            return redisService.isBlacklisted(jti);
+        }
+        if (!filter.mightContain(jti)) {
+            return false;
+        }
+        Long expiresAt;
+        synchronized (recentRevocations) {
+            expiresAt = recentRevocations.get(jti);
+        }
+        if (expiresAt != null && expiresAt > System.currentTimeMillis()) {
+            return true;
+        }
+        return redisService.isBlacklisted(jti);
+    }
+
+    /**
+     * 폐기된 토큰을 모든 인스턴스에 전파 (발행 인스턴스도 구독으로 다시 받지만 중복 반영은 무해)
+     * - 발행 실패 시 PUBLISH_ATTEMPTS번까지 재시도하고, 그래도 실패하면 전파 세대 번호를 올려
+     *   다른 인스턴스가 다음 세대 확인 때 Redis 조회로 전환 후 다시 적재하도록 한다.
+     * @param revocations JTI → 블랙리스트 유지 시간(ms)
+     */
+    public void publish(Map<String, Long> revocations) {
+        if (revocations.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        StringBuilder body = new StringBuilder();
+        revocations.forEach((jti, ttlMillis) -> {
+            long expiresAt = now + ttlMillis;
+            addLocal(jti, expiresAt);
+            body.append(jti).append('|').append(expiresAt).append('\n');
+        });
+        RuntimeException lastError = null;
+        for (int attempt = 1; attempt <= PUBLISH_ATTEMPTS; attempt++) {
+            try {
+                redisService.publish(CHANNEL, body.toString());
+                return;
+            } catch (RuntimeException e) {
+                lastError = e;
+            }
+            if (attempt < PUBLISH_ATTEMPTS) {
+                publishRetryCount.incrementAndGet();
+                if (!sleep(PUBLISH_RETRY_DELAY_MS * attempt)) {
+                    break;
+                }
+            }
+        }
+        publishFailureCount.incrementAndGet();
+        log.error("[Redis] 토큰 폐기 전파 실패 - {}건, 전파 세대 번호 갱신", revocations.size(), lastError);
+        try {
+            redisService.incrementRevocationEpoch();
+        } catch (RuntimeException e) {
+            log.error("[Redis] 토큰 폐기 전파 세대 번호 갱신 실패", e);
+        }
+    }
+
+    /**
+     * 전파 세대 번호가 마지막 적재 때와 다르면(다른 인스턴스의 전파 실패) Redis 조회로 전환하고 즉시 다시 적재
+     * 재적재에 실패하면 다음 확인 때까지 계속 Redis로 판정한다.
+     */
+    void checkEpoch() {
+        long epoch = redisService.getRevocationEpoch();
+        if (ready && epoch == loadedEpoch) {
+            return;
+        }
+        if (ready) {
+            ready = false;
+            epochRebuildCount.incrementAndGet();
+            log.warn("토큰 폐기 전파 세대 번호 변경 ({} → {}), near-cache 재적재", loadedEpoch, epoch);
+        }
+        rebuild();
+    }
+
+    /**
+     * 운영 지표 (적재 상태, 전파 세대 번호, 발행 재시도/실패 수, 세대 변경에 따른 재적재 수)
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("ready", ready);
+        snapshot.put("loadedEpoch", loadedEpoch);
+        synchronized (recentRevocations) {
+            snapshot.put("recentRevocationCount", recentRevocations.size());
+        }
+        snapshot.put("publishRetryCount", publishRetryCount.get());
+        snapshot.put("publishFailureCount", publishFailureCount.get());
+        snapshot.put("epochRebuildCount", epochRebuildCount.get());
+        return snapshot;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        for (String line : body.split("\n")) {
+            int separator = line.indexOf('|');
+            if (separator <= 0) {
+                continue;
+            }
+            try {
+                addLocal(line.substring(0, separator), Long.parseLong(line.substring(separator + 1)));
+            } catch (NumberFormatException e) {
+                log.warn("잘못된 토큰 폐기 메시지 무시: {}", line);
+            }
+        }
+    }
+
+    private void addLocal(String jti, long expiresAt) {
+        synchronized (recentRevocations) {
+            recentRevocations.put(jti, expiresAt);
+        }
+        filter.add(jti);
+    }
+
+    private void rebuildSafely() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.error("[Redis] 토큰 블랙리스트 near-cache 재적재 실패", e);
+        }
+    }
+
+    private void checkEpochSafely() {
+        try {
+            checkEpoch();
+        } catch (RuntimeException e) {
+            log.error("[Redis] 토큰 폐기 전파 세대 번호 확인 실패", e);
+        }
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Redis 블랙리스트 키 전체로 filter를 새로 만들어 교체
+     * 교체 직전까지 들어온 폐기 정보는 최근 폐기 목록에서 다시 반영한다.
+     * 세대 번호는 SCAN 전에 읽어, 적재 도중 올라간 세대는 다음 확인에서 다시 적재되게 한다.
+     */
+    void rebuild() {
+        long epoch = redisService.getRevocationEpoch();
+        Set<String> blacklisted = redisService.scanBlacklistedJtis();
+        BlacklistBloomFilter rebuilt = newFilter();
+        blacklisted.forEach(rebuilt::add);
+
+        long now = System.currentTimeMillis();
+        synchronized (recentRevocations) {
+            recentRevocations.values().removeIf(expiresAt -> expiresAt <= now);
+            filter = rebuilt;
+            recentRevocations.keySet().forEach(rebuilt::add);
+        }
+        loadedEpoch = epoch;
+        if (!ready) {
+            ready = true;
+            log.info("토큰 블랙리스트 near-cache 적재 완료 - {}건", blacklisted.size());
+        }
+    }
+
+    private static BlacklistBloomFilter newFilter() {
+        return new BlacklistBloomFilter(EXPECTED_REVOCATIONS, FALSE_POSITIVE_RATE);
+    }
+}
@@ -4,30 +4,25 @@ import lombok.RequiredArgsConstructor;
 import org.example.backend.redis.RedisService;
 import org.springframework.stereotype.Service;
 
-import java.util.Set;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class TokenBlacklistService {
 
     private final RedisService redisService;
+    private final TokenBlacklistNearCache nearCache;
 
-    public void blacklistAllActiveTokens(String email) {
-        Set<String> activeJtis = redisService.getUserActiveTokens(email);
-        if (activeJtis == null || activeJtis.isEmpty()) {
-            return;
-        }
-
-        for (String jti : activeJtis) {
-            Long expirationMillis = redisService.getExpirationMillis("jti:" + jti);
-            if (expirationMillis == null || expirationMillis <= 0) {
-                expirationMillis = 3600 * 1000L; // 기본 1시간
-            }
-
-            redisService.deleteActiveToken(jti);
-            redisService.blacklistToken(jti, expirationMillis);
-        }
+    /**
+     * 토큰 폐기 여부 (로컬 near-cache 우선, 확정할 수 없을 때만 Redis 조회)
+     */
+    public boolean isBlacklisted(String jti) {
+        return nearCache.isBlacklisted(jti);
+    }
 
-        redisService.deleteUserActiveTokens(email); // 최종 정리
+    public void blacklistAllActiveTokens(String email) {
+        // 활성 토큰 조회/삭제/블랙리스트 등록을 파이프라인으로 처리 (남은 만료 시간을 모르면 기본 1시간)
+        Map<String, Long> revocations = redisService.blacklistActiveTokens(email, 3600 * 1000L);
+        nearCache.publish(revocations); // 모든 인스턴스의 near-cache에 전파
     }
 }
@@ -0,0 +1,25 @@
+package org.example.backend.jwt;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * 서명/만료/필수 클레임 검증을 마친 토큰 정보
+ * 요청당 한 번만 만들어 필터와 핸드셰이크에서 그대로 사용한다.
+ */
+@Getter
+@AllArgsConstructor
+public class VerifiedToken {
+    private final String jti;
+    private final String email;
+    private final String role;
+    private final Long memberId; // 클레임 추가 이전에 발급된 토큰이면 null
+    private final String status; // 클레임 추가 이전에 발급된 토큰이면 null
+    private final Date expiration;
+
+    public boolean isExpired(long nowMillis) {
+        return expiration.getTime() <= nowMillis;
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.backend.login.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.backend.jwt.TokenBlacklistNearCache;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 토큰 블랙리스트 near-cache 운영 지표 (관리자 전용, /admin/** 는 ADMIN 권한 필요)
+ */
+@RestController
+@RequestMapping("/admin/auth/token-blacklist")
+@RequiredArgsConstructor
+public class TokenBlacklistAdminController {
+
+    private final TokenBlacklistNearCache tokenBlacklistNearCache;
+
+    /**
+     * 적재 상태, 전파 세대 번호, 폐기 전파 재시도/실패 수, 세대 변경에 따른 재적재 수
+     */
+    @GetMapping("/metrics")
+    public ResponseEntity<Map<String, Object>> getMetrics() {
+        return ResponseEntity.ok(tokenBlacklistNearCache.snapshot());
+    }
+}
@@ -153,7 +153,7 @@ public class AuthService {
     }
 
     private void loginAndSetCookie(Member member, HttpServletResponse response, KakaoLoginResponseDto dto) {
-        TokenInfo tokenInfo = jwtUtil.createToken(member.getEmail(), String.valueOf(member.getRole()));
+        TokenInfo tokenInfo = jwtUtil.createToken(member);
         redisService.storeActiveToken(tokenInfo.getJti(), member.getEmail(), tokenInfo.getExpirationMs());
         loginService.updateLastLogin(member.getEmail());
 
@@ -178,7 +178,7 @@ public class AuthService {
         tokenBlacklistService.blacklistAllActiveTokens(email);
 
         // ✅ 2. 새 토큰 발급
-        TokenInfo tokenInfo = jwtUtil.createToken(email, member.getRole().name());
+        TokenInfo tokenInfo = jwtUtil.createToken(member);
 
         // ✅ 3. Redis에 jti 저장
         redisService.storeActiveToken(tokenInfo.getJti(), email, tokenInfo.getExpirationMs());
@@ -1,6 +1,8 @@
 package org.example.backend.matching.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.backend.common.AuthenticatedMemberResolver;
+import org.example.backend.constant.MailTemplate;
 import org.example.backend.constant.MatchingStatus;
 import org.example.backend.constant.PaymentStatus;
 import org.example.backend.entity.*;
@@ -10,7 +12,6 @@ import org.example.backend.matching.dto.MatchingStatusUpdateDto;
 import org.example.backend.repository.ContentRepository;
 import org.example.backend.repository.EstimateRecordRepository;
 import org.example.backend.repository.MatchingRepository;
-import org.example.backend.repository.MemberRepository;
 import org.example.backend.notification.service.MailService;
 import org.springframework.security.access.AccessDeniedException; // ✅ 추가
 import org.springframework.security.core.Authentication; // ✅ 추가
@@ -27,7 +28,7 @@ import java.util.stream.Collectors;
 public class MatchingServiceImpl implements MatchingService {
 
     private final MatchingRepository matchingRepository;
-    private final MemberRepository memberRepository;
+    private final AuthenticatedMemberResolver authenticatedMemberResolver;
     private final ContentRepository contentRepository;
     private final EstimateRecordRepository estimateRecordRepository;
     private final MailService mailService;
@@ -40,8 +41,8 @@ public class MatchingServiceImpl implements MatchingService {
     @Override
     @Transactional
     public MatchingResponseDto createMatching(MatchingRequestDto requestDto, String email) {
-        Member member = memberRepository.findByEmail(email)
-                .orElseThrow(() -> new NoSuchElementException("회원을 찾을 수 없습니다."));
+        // 연관관계 설정용 참조만 필요하므로 회원 엔티티를 로딩하지 않음
+        Member member = authenticatedMemberResolver.resolveReference(email);
         Content content = contentRepository.findById(requestDto.getContentId())
                 .orElseThrow(() -> new NoSuchElementException("콘텐츠를 찾을 수 없습니다."));
 
@@ -105,18 +106,18 @@ public class MatchingServiceImpl implements MatchingService {
         if (newStatus == MatchingStatus.ACCEPTED) {
             Member expert = matching.getContent().getMember();
             String expertEmail = expert.getEmail();
-            mailService.sendSimpleMail(
+            mailService.sendTemplateMail(
+                    "matching:" + matching.getMatchingId() + ":accepted:expert-mail",
                     expertEmail,
-                    "견적 요청 알림",
-                    "견적 요청이 왔습니다."
+                    MailTemplate.MATCHING_ACCEPTED
             );
         } else if (newStatus == MatchingStatus.WORK_COMPLETED) {
             Member client = matching.getMember();
             String clientEmail = client.getEmail();
-            mailService.sendSimpleMail(
+            mailService.sendTemplateMail(
+                    "matching:" + matching.getMatchingId() + ":work-completed:client-mail",
                     clientEmail,
-                    "작업 완료 알림",
-                    "작업이 완료되었습니다."
+                    MailTemplate.WORK_COMPLETED
             );
         }
 
@@ -164,12 +165,11 @@ public class MatchingServiceImpl implements MatchingService {
         // ✅ 이메일 전송 추가
         Member client = matching.getMember();
         String clientEmail = client.getEmail();
-        mailService.sendSimpleMail(
+        mailService.sendTemplateMail(
+                "matching:" + matching.getMatchingId() + ":work-completed:client-mail",
                 clientEmail,
-                "작업 완료 알림",
-                String.format("전문가 '%s'님이 작업을 완료했습니다. 확인해 주세요.",
-                        matching.getContent().getMember().getNickname()
-                )
+                MailTemplate.WORK_COMPLETED_BY_EXPERT,
+                matching.getContent().getMember().getNickname()
         );
 
         return buildMatchingResponse(matching, matching.getEstimateRecord());
@@ -210,13 +210,12 @@ public class MatchingServiceImpl implements MatchingService {
                 // ✅ 결제 완료 시 전문가에게 이메일 알림
                 Member expert = matching.getContent().getMember();
                 String expertEmail = expert.getEmail();
-                mailService.sendSimpleMail(
+                mailService.sendTemplateMail(
+                        "matching:" + matching.getMatchingId() + ":paid:expert-mail",
                         expertEmail,
-                        "[결제 완료] 매칭이 수락되었습니다",
-                        String.format("의뢰자 '%s'님이 '%s' 콘텐츠에 대해 결제를 완료했습니다.",
-                                matching.getMember().getNickname(),
-                                matching.getContent().getTitle()
-                        )
+                        MailTemplate.PAYMENT_COMPLETED,
+                        matching.getMember().getNickname(),
+                        matching.getContent().getTitle()
                 );
                 break;
             case FAILED:
@@ -2,18 +2,23 @@ package org.example.backend.mypage;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.backend.common.AuthenticatedMemberResolver;
+import org.example.backend.common.MemberSnapshot;
+import org.example.backend.common.MemberSnapshotCache;
 import org.example.backend.constant.PaymentStatus;
 import org.example.backend.entity.Content;
 import org.example.backend.entity.Member;
 import org.example.backend.entity.Payment;
 import org.example.backend.exception.customException.MemberNotFoundException;
 import org.example.backend.firebase.FirebaseImageService;
+import org.example.backend.firebase.StoredImage;
 import org.example.backend.mypage.dto.request.NicknameUpdateRequestDto;
 import org.example.backend.mypage.dto.response.MyPageResponseDto;
 import org.example.backend.mypage.dto.response.PaymentResponseDto;
 import org.example.backend.repository.MemberRepository;
 import org.example.backend.repository.PaymentRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -29,6 +34,8 @@ public class MyPageService {
     private final MemberRepository memberRepository;
     private final FirebaseImageService firebaseImageService;
     private final PaymentRepository paymentRepository;
+    private final MemberSnapshotCache memberSnapshotCache;
+    private final AuthenticatedMemberResolver authenticatedMemberResolver;
     private static final String DEFAULT_PROFILE_IMAGE_URL = "https://firebasestorage.googleapis.com/v0/b/team2maldive.firebasestorage.app/o/default-profile.png?alt=media";
 
     // 내 정보 조회 메서드
@@ -56,15 +63,21 @@ public class MyPageService {
     public void updateNickname(String email, NicknameUpdateRequestDto dto){
         log.info("닉네임 업데이트 시작 - 이메일: {}, 닉네임: {}", email, dto.getNickname());
 
-        // 이메일로 회원 정보 조회
-        Member member = memberRepository.findByEmail(email)
-                .orElseThrow(() -> new MemberNotFoundException("해당 이메일의 사용자가 존재하지 않습니다."));
+        // 토큰의 회원 ID로 회원 참조 (없으면 MemberNotFoundException)
+        Member member = authenticatedMemberResolver.resolveReference(email);
 
         // 닉네임 업데이트
         member.updateNickname(dto.getNickname());
         memberRepository.save(member);
+        memberSnapshotCache.evict(member.getMemberId());
     }
 
+    /**
+     * 프로필 이미지 변경
+     * - 업로드는 트랜잭션 밖에서 먼저 끝내고(업로드도 참조 등록에 커넥션을 씀) 교체만 짧은 트랜잭션으로 처리
+     * - 같은 이미지를 다시 올리면 기존 저장본을 재사용하도록 이전 이미지 해제보다 먼저 업로드, 저장이 실패하면 업로드한 이미지 정리
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void updateProfileImage(String email, MultipartFile file) {
         log.info("프로필 이미지 업데이트 시작 - 이메일: {}", email);
 
@@ -73,32 +86,36 @@ public class MyPageService {
             throw new IllegalArgumentException("파일이 비어 있습니다.");
         }
 
-        // 이메일로 회원 정보 조회
-        Member member = memberRepository.findByEmail(email)
-                .orElseThrow(() -> new MemberNotFoundException("해당 이메일의 사용자가 존재하지 않습니다."));
+        // 회원 확인 (스냅샷 캐시, 없으면 MemberNotFoundException)
+        MemberSnapshot snapshot = authenticatedMemberResolver.resolveSnapshot(email);
 
-        // 이전 프로필이 디폴트 이미지인지 체크
-        String currentProfileUrl = member.getProfileImageUrl();
-        if (currentProfileUrl != null && !currentProfileUrl.equals(DEFAULT_PROFILE_IMAGE_URL)) {
-            // 디폴트 아미지가 아닌 다른 이미지가 있다면 파이어베이스에서 이미지 삭제
-            firebaseImageService.deleteImage(currentProfileUrl);
-            log.info("기존 프로필 이미지 삭제 - URL: {}", currentProfileUrl);
-        }
-
-        // 프로필 이미지 업로드
-        String fileName = "profile/" + member.getNickname() + "_profile_image";
+        // 프로필 이미지 업로드 (트랜잭션 밖)
+        String fileName = "profile/" + snapshot.getNickname() + "_profile_image";
         String imageUrl = firebaseImageService.uploadImage(file, fileName);
 
-        // 프로필 이미지 URL 업데이트
-        log.info("프로필 이미지 URL 업데이트 - 이메일: {}, URL: {}", email, imageUrl);
-        member.updateProfileImageUrl(imageUrl);
-        memberRepository.save(member);
+        // 프로필 이미지 교체 (짧은 트랜잭션)
+        firebaseImageService.saveWithUploads(List.of(new StoredImage(imageUrl, null, null)), () -> {
+            Member member = authenticatedMemberResolver.resolveReference(email);
+
+            // 이전 프로필이 디폴트 이미지인지 체크
+            String currentProfileUrl = member.getProfileImageUrl();
+            if (currentProfileUrl != null && !currentProfileUrl.equals(DEFAULT_PROFILE_IMAGE_URL)) {
+                // 디폴트 아미지가 아닌 다른 이미지가 있다면 파이어베이스에서 이미지 삭제 (참조 해제)
+                firebaseImageService.deleteImage(currentProfileUrl);
+                log.info("기존 프로필 이미지 삭제 - URL: {}", currentProfileUrl);
+            }
+
+            // 프로필 이미지 URL 업데이트
+            log.info("프로필 이미지 URL 업데이트 - 이메일: {}, URL: {}", email, imageUrl);
+            member.updateProfileImageUrl(imageUrl);
+            memberRepository.save(member);
+        });
+        memberSnapshotCache.evict(snapshot.getMemberId());
     }
 
     @Transactional(readOnly = true)
     public List<PaymentResponseDto> getUserPayments(String email, PaymentStatus filterStatus) {
-        Member member = memberRepository.findByEmail(email)
-                .orElseThrow(() -> new MemberNotFoundException("해당 유저가 존재하지 않습니다."));
+        Member member = authenticatedMemberResolver.resolveReference(email);
 
         List<Payment> payments = paymentRepository.findAllByMatching_Member(member);
 
@@ -0,0 +1,27 @@
+package org.example.backend.notification.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.backend.notification.service.MailDeliveryMetrics;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 메일 발송 운영 지표 (관리자 전용, /admin/** 는 ADMIN 권한 필요)
+ */
+@RestController
+@RequestMapping("/admin/notification/mail")
+@RequiredArgsConstructor
+public class MailAdminController {
+
+    private final MailDeliveryMetrics mailDeliveryMetrics;
+
+    /**
+     * 전송 성공/실패 수, batch 크기/소요 시간, 처리량(초당 메일 수), 발송 제한 대기 시간
+     */
+    @GetMapping("/metrics")
+    public ResponseEntity<MailDeliveryMetrics.Snapshot> getMetrics() {
+        return ResponseEntity.ok(mailDeliveryMetrics.snapshot());
+    }
+}
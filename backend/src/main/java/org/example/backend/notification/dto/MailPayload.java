@@ -0,0 +1,15 @@
+package org.example.backend.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 아웃박스로 미루는 텍스트 메일 한 통
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MailPayload {
+    private String to;
+    private String subject;
+    private String text;
+}
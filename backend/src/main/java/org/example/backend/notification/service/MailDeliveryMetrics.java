@@ -0,0 +1,69 @@
+package org.example.backend.notification.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 메일 발송 지표
+ * - sent/failed : 전송 성공/실패 메일 수
+ * - batches     : SMTP 연결 단위 발송 횟수 (batch 하나 = 연결 하나)
+ * - throttled   : 발송 제한으로 대기한 총 시간
+ * - 처리량은 실제 SMTP 전송에 쓴 시간 기준 (대기 시간 제외)
+ */
+@Component
+public class MailDeliveryMetrics {
+
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder sendNanos = new LongAdder();
+    private final LongAdder throttledNanos = new LongAdder();
+    private final LongAccumulator maxBatchNanos = new LongAccumulator(Math::max, 0);
+
+    void recordBatch(int succeeded, int failures, long elapsedNanos) {
+        sent.add(succeeded);
+        failed.add(failures);
+        batches.increment();
+        sendNanos.add(elapsedNanos);
+        maxBatchNanos.accumulate(elapsedNanos);
+    }
+
+    void recordThrottled(long waitedNanos) {
+        if (waitedNanos > 0) {
+            throttledNanos.add(waitedNanos);
+        }
+    }
+
+    public Snapshot snapshot() {
+        long sentCount = sent.sum();
+        long batchCount = batches.sum();
+        long nanos = sendNanos.sum();
+        return new Snapshot(
+                sentCount,
+                failed.sum(),
+                batchCount,
+                batchCount == 0 ? 0 : (sentCount + failed.sum()) / (double) batchCount,
+                batchCount == 0 ? 0 : nanos / (double) batchCount / TimeUnit.MILLISECONDS.toNanos(1),
+                maxBatchNanos.get() / (double) TimeUnit.MILLISECONDS.toNanos(1),
+                nanos == 0 ? 0 : sentCount / (nanos / (double) TimeUnit.SECONDS.toNanos(1)),
+                TimeUnit.NANOSECONDS.toMillis(throttledNanos.sum()));
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Snapshot {
+        private final long sent;
+        private final long failed;
+        private final long batches;
+        private final double averageBatchSize;
+        private final double averageBatchMillis;
+        private final double maxBatchMillis;
+        private final double messagesPerSecond;
+        private final long throttledMillis;
+    }
+}
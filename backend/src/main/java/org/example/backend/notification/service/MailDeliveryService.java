@@ -0,0 +1,131 @@
+package org.example.backend.notification.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.notification.dto.MailPayload;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * SMTP 일괄 발송
+ * - 메일 목록을 batch-size 단위로 나눠 전용 발송 풀에서 병렬 전송
+ * - batch 하나는 JavaMailSender.send(SimpleMailMessage...) 한 번 → SMTP 연결(Transport) 하나로 여러 통 전송
+ *   (메일마다 연결/인증을 반복하지 않음)
+ * - 초당 발송 수 제한(rate-per-second)을 넘지 않도록 batch 전송 전에 대기
+ * - 일부 메일만 실패하면 실패한 메일만 돌려줌 → 아웃박스에서 해당 메일만 재시도
+ */
+@Slf4j
+@Service
+public class MailDeliveryService {
+
+    private final JavaMailSender mailSender;
+    private final MailDeliveryMetrics metrics;
+    private final MailRateLimiter rateLimiter;
+    private final ThreadPoolTaskExecutor senderExecutor;
+    private final int batchSize;
+
+    public MailDeliveryService(JavaMailSender mailSender,
+                               MailDeliveryMetrics metrics,
+                               @Value("${mail.sender.threads:2}") int threads,
+                               @Value("${mail.sender.batch-size:50}") int batchSize,
+                               @Value("${mail.sender.rate-per-second:10}") double ratePerSecond) {
+        this.mailSender = mailSender;
+        this.metrics = metrics;
+        this.rateLimiter = new MailRateLimiter(ratePerSecond);
+        this.batchSize = batchSize;
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("mail-sender-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(threads * 4);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        this.senderExecutor = executor;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senderExecutor.shutdown();
+    }
+
+    /**
+     * @return 실패한 메일 (mails 인덱스 → 원인), 전부 성공하면 빈 맵
+     */
+    public Map<Integer, Exception> deliver(List<MailPayload> mails) {
+        List<CompletableFuture<Map<Integer, Exception>>> futures = new ArrayList<>();
+        for (int from = 0; from < mails.size(); from += batchSize) {
+            int offset = from;
+            List<MailPayload> batch = mails.subList(from, Math.min(from + batchSize, mails.size()));
+            futures.add(CompletableFuture.supplyAsync(() -> sendBatch(offset, batch), senderExecutor));
+        }
+
+        Map<Integer, Exception> failures = new HashMap<>();
+        // sendBatch는 실패를 예외 대신 결과로 돌려줌
+        futures.forEach(future -> failures.putAll(future.join()));
+        return failures;
+    }
+
+    // batch 하나를 SMTP 연결 하나로 전송
+    private Map<Integer, Exception> sendBatch(int offset, List<MailPayload> batch) {
+        SimpleMailMessage[] messages = new SimpleMailMessage[batch.size()];
+        Map<Object, Integer> indexes = new IdentityHashMap<>();
+        for (int i = 0; i < batch.size(); i++) {
+            MailPayload mail = batch.get(i);
+            SimpleMailMessage message = new SimpleMailMessage();
+            message.setTo(mail.getTo());
+            message.setSubject(mail.getSubject());
+            message.setText(mail.getText());
+            messages[i] = message;
+            indexes.put(message, offset + i);
+        }
+
+        Map<Integer, Exception> failures = new HashMap<>();
+        long startedAt = 0;
+        try {
+            metrics.recordThrottled(rateLimiter.acquire(messages.length));
+            startedAt = System.nanoTime();
+            mailSender.send(messages);
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                // 연결/인증 실패 등 → batch 전체 실패
+                indexes.values().forEach(index -> failures.put(index, e));
+            } else {
+                e.getFailedMessages().forEach((message, cause) -> {
+                    Integer index = indexes.get(message);
+                    if (index != null) {
+                        failures.put(index, cause);
+                    }
+                });
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            indexes.values().forEach(index -> failures.put(index, e));
+        } catch (Exception e) {
+            indexes.values().forEach(index -> failures.put(index, e));
+        }
+        long elapsed = startedAt == 0 ? 0 : System.nanoTime() - startedAt;
+        metrics.recordBatch(messages.length - failures.size(), failures.size(), elapsed);
+
+        if (failures.isEmpty()) {
+            log.info("메일 {}통 전송 완료 ({}ms)", messages.length, elapsed / 1_000_000);
+        } else {
+            log.warn("메일 {}통 중 {}통 전송 실패: {}", messages.length, failures.size(),
+                    failures.values().iterator().next().getMessage());
+        }
+        return failures;
+    }
+}
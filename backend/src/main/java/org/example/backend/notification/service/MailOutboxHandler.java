@@ -0,0 +1,36 @@
+package org.example.backend.notification.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.backend.notification.dto.MailPayload;
+import org.example.backend.outbox.OutboxBatchHandler;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 커밋된 메일 발송 요청을 모아 SMTP로 일괄 전송 (실패한 메일만 아웃박스에서 재시도)
+ */
+@Component
+@RequiredArgsConstructor
+public class MailOutboxHandler implements OutboxBatchHandler<MailPayload> {
+
+    public static final String EVENT_TYPE = "MAIL";
+
+    private final MailDeliveryService mailDeliveryService;
+
+    @Override
+    public String eventType() {
+        return EVENT_TYPE;
+    }
+
+    @Override
+    public Class<MailPayload> payloadType() {
+        return MailPayload.class;
+    }
+
+    @Override
+    public Map<Integer, Exception> handleBatch(List<MailPayload> payloads) {
+        return mailDeliveryService.deliver(payloads);
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.backend.notification.service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 초당 발송 수 제한 (예약 방식 토큰 버킷)
+ * - acquire는 다음 발송 가능 시각을 먼저 예약한 뒤 잠금 밖에서 대기 → 여러 발송 스레드가 순서대로 간격을 나눠 가짐
+ * - permitsPerSecond가 0 이하면 제한 없음
+ */
+class MailRateLimiter {
+
+    private final long intervalNanos;
+    private long nextFreeNanos = System.nanoTime();
+
+    MailRateLimiter(double permitsPerSecond) {
+        this.intervalNanos = permitsPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond) : 0;
+    }
+
+    /**
+     * @return 대기한 시간 (나노초)
+     */
+    long acquire(int permits) throws InterruptedException {
+        if (intervalNanos == 0) {
+            return 0;
+        }
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long start = Math.max(now, nextFreeNanos);
+            waitNanos = start - now;
+            nextFreeNanos = start + intervalNanos * permits;
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+        return waitNanos;
+    }
+}
@@ -2,19 +2,25 @@ package org.example.backend.notification.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
+import org.example.backend.constant.MailTemplate;
+import org.example.backend.notification.dto.MailPayload;
+import org.example.backend.outbox.OutboxService;
 import org.springframework.stereotype.Service;
 
+import java.util.UUID;
+
 /**
  * 이메일 발송 전담 서비스 클래스
+ * - 발송 요청은 아웃박스에 기록만 하고 바로 반환 (SMTP 전송은 커밋 후 MailDeliveryService가 모아서 수행)
+ *   호출한 트랜잭션이 롤백되면 메일도 나가지 않음
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class MailService {
 
-    private final JavaMailSender mailSender;
+    private final OutboxService outboxService;
+    private final MailTemplateRenderer mailTemplateRenderer;
 
     /**
      * 지정된 이메일 주소로 간단한 텍스트 메일을 발송합니다.
@@ -24,15 +30,26 @@ public class MailService {
      * @param text    메일 본문(텍스트)
      */
     public void sendSimpleMail(String to, String subject, String text) {
-        try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setTo(to);
-            message.setSubject(subject);
-            message.setText(text);
-            mailSender.send(message);
-            log.info("이메일 전송 완료: {}", to);
-        } catch (Exception e) {
-            log.error("이메일 전송 실패: {}", to, e);
+        enqueue(UUID.randomUUID().toString(), new MailPayload(to, subject, text));
+    }
+
+    /**
+     * 템플릿 메일을 발송합니다. 같은 idempotencyKey로는 한 번만 발송합니다. (같은 상태 변경이 중복 요청돼도 메일은 한 통)
+     *
+     * @param idempotencyKey 중복 발송 방지 키
+     * @param to             수신자 이메일 주소
+     * @param template       메일 템플릿
+     * @param args           템플릿 인자 ({0}, {1} ... 순서)
+     */
+    public void sendTemplateMail(String idempotencyKey, String to, MailTemplate template, Object... args) {
+        enqueue(idempotencyKey, mailTemplateRenderer.render(to, template, args));
+    }
+
+    private void enqueue(String idempotencyKey, MailPayload mail) {
+        if (mail.getTo() == null || mail.getTo().isBlank()) {
+            log.warn("수신자 이메일이 없어 메일을 보내지 않습니다: {}", mail.getSubject());
+            return;
         }
+        outboxService.enqueue(MailOutboxHandler.EVENT_TYPE, "mail:" + idempotencyKey, mail);
     }
 }
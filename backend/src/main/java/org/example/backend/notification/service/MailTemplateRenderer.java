@@ -0,0 +1,66 @@
+package org.example.backend.notification.service;
+
+import org.example.backend.constant.MailTemplate;
+import org.example.backend.notification.dto.MailPayload;
+import org.springframework.stereotype.Component;
+
+import java.text.MessageFormat;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 메일 템플릿 렌더러
+ * - 템플릿은 기동 시 한 번만 MessageFormat으로 해석해 캐시 (형식이 잘못된 템플릿이면 기동 시 실패)
+ * - 전달한 인자 수가 템플릿의 자리({0}, {1} ...) 수와 다르면 IllegalArgumentException
+ * - MessageFormat은 스레드 안전하지 않으므로 렌더링마다 캐시된 포맷을 복제해 사용
+ */
+@Component
+public class MailTemplateRenderer {
+
+    private final Map<MailTemplate, CompiledTemplate> templates = new EnumMap<>(MailTemplate.class);
+
+    public MailTemplateRenderer() {
+        for (MailTemplate template : MailTemplate.values()) {
+            templates.put(template, CompiledTemplate.compile(template));
+        }
+    }
+
+    public MailPayload render(String to, MailTemplate template, Object... args) {
+        return templates.get(template).render(to, args);
+    }
+
+    private static class CompiledTemplate {
+        private final MailTemplate template;
+        private final MessageFormat subject;
+        private final MessageFormat body;
+        private final int argumentCount;
+
+        private CompiledTemplate(MailTemplate template, MessageFormat subject, MessageFormat body) {
+            this.template = template;
+            this.subject = subject;
+            this.body = body;
+            this.argumentCount = Math.max(subject.getFormatsByArgumentIndex().length,
+                    body.getFormatsByArgumentIndex().length);
+        }
+
+        static CompiledTemplate compile(MailTemplate template) {
+            return new CompiledTemplate(template,
+                    new MessageFormat(template.getSubject(), Locale.KOREA),
+                    new MessageFormat(template.getBody(), Locale.KOREA));
+        }
+
+        MailPayload render(String to, Object[] args) {
+            int given = args == null ? 0 : args.length;
+            if (given != argumentCount) {
+                throw new IllegalArgumentException(String.format(
+                        "메일 템플릿 %s의 인자 수가 맞지 않습니다. (필요: %d, 전달: %d)", template, argumentCount, given));
+            }
+            return new MailPayload(to, format(subject, args), format(body, args));
+        }
+
+        private static String format(MessageFormat format, Object[] args) {
+            return ((MessageFormat) format.clone()).format(args);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.backend.outbox;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 같은 유형의 이벤트를 한 번에 처리하는 처리기 (예: SMTP 연결 하나로 메일 여러 통 전송)
+ * - 디스패처가 가져간 배치에서 이 유형의 이벤트를 모아 한 번에 넘김
+ * - 일부만 실패하면 실패한 항목만 재시도
+ */
+public interface OutboxBatchHandler<T> extends OutboxHandler<T> {
+
+    /**
+     * @return 실패한 항목 (payloads 인덱스 → 원인), 전부 성공하면 빈 맵. 예외를 던지면 전부 실패로 처리
+     */
+    Map<Integer, Exception> handleBatch(List<T> payloads) throws Exception;
+
+    @Override
+    default void handle(T payload) throws Exception {
+        Exception failure = handleBatch(List.of(payload)).get(0);
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
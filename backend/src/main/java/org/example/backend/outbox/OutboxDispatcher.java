@@ -0,0 +1,315 @@
+package org.example.backend.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.constant.OutboxStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 아웃박스 디스패처 (백그라운드 처리)
+ * - POLL_INTERVAL마다, 그리고 이벤트가 커밋되면 바로 깨어나 처리할 이벤트를 batch-size 단위로 가져감
+ * - 가져가기(claim): 배치 토큰과 임대 만료 시각(claimed_until)을 조건부 UPDATE로 기록 → 여러 인스턴스가 같은 이벤트를 동시에 처리하지 않음
+ *   처리 중 인스턴스가 죽으면 임대가 끝난 뒤 다른 인스턴스가 다시 가져감
+ * - 처리기는 전용 풀에서 병렬 실행, 결과(완료/재시도/실패)는 JDBC batch로 한 번에 기록
+ *   OutboxBatchHandler 유형은 배치 안의 같은 유형 이벤트를 모아 한 작업으로 넘김
+ * - 실패 시 지수 backoff(+jitter)로 재시도, max-attempts를 넘으면 FAILED로 남김
+ * - 완료된 이벤트는 retention-days 동안 보관 (그동안 같은 idempotency key는 다시 기록되지 않음)
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    private static final long CLEANUP_INTERVAL_MINUTES = 60;
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private static final String SELECT_DUE_SQL =
+            "SELECT id FROM outbox_event WHERE status = ? AND next_attempt_at <= ? " +
+            "AND (claimed_until IS NULL OR claimed_until < ?) ORDER BY id LIMIT ?";
+    private static final String CLAIM_SQL =
+            "UPDATE outbox_event SET claimed_by = ?, claimed_until = ? WHERE id = ? AND status = ? " +
+            "AND (claimed_until IS NULL OR claimed_until < ?)";
+    private static final String SELECT_CLAIMED_SQL =
+            "SELECT id, event_type, idempotency_key, payload, attempts FROM outbox_event WHERE claimed_by = ? ORDER BY id";
+    private static final String MARK_DONE_SQL =
+            "UPDATE outbox_event SET status = ?, attempts = attempts + 1, processed_at = ?, last_error = NULL, " +
+            "claimed_by = NULL, claimed_until = NULL WHERE id = ? AND claimed_by = ?";
+    private static final String MARK_RETRY_SQL =
+            "UPDATE outbox_event SET status = ?, attempts = ?, next_attempt_at = ?, last_error = ?, " +
+            "claimed_by = NULL, claimed_until = NULL WHERE id = ? AND claimed_by = ?";
+    private static final String CLEANUP_SQL =
+            "DELETE FROM outbox_event WHERE status = ? AND processed_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final Map<String, OutboxHandler<?>> handlers;
+    private final int batchSize;
+    private final long pollIntervalMs;
+    private final int workerThreads;
+    private final long leaseSeconds;
+    private final long baseDelayMs;
+    private final long maxDelayMs;
+    private final int maxAttempts;
+    private final int retentionDays;
+
+    private final AtomicBoolean wakeUpScheduled = new AtomicBoolean();
+    private ScheduledExecutorService scheduler;
+    private ExecutorService workers;
+
+    public OutboxDispatcher(JdbcTemplate jdbcTemplate,
+                            ObjectMapper objectMapper,
+                            List<OutboxHandler<?>> handlers,
+                            @Value("${outbox.batch-size:100}") int batchSize,
+                            @Value("${outbox.poll-interval-ms:1000}") long pollIntervalMs,
+                            @Value("${outbox.worker-threads:4}") int workerThreads,
+                            @Value("${outbox.lease-seconds:60}") long leaseSeconds,
+                            @Value("${outbox.retry.base-delay-ms:2000}") long baseDelayMs,
+                            @Value("${outbox.retry.max-delay-ms:600000}") long maxDelayMs,
+                            @Value("${outbox.retry.max-attempts:10}") int maxAttempts,
+                            @Value("${outbox.retention-days:7}") int retentionDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.handlers = handlers.stream().collect(Collectors.toMap(OutboxHandler::eventType, Function.identity()));
+        this.batchSize = batchSize;
+        this.pollIntervalMs = pollIntervalMs;
+        this.workerThreads = workerThreads;
+        this.leaseSeconds = leaseSeconds;
+        this.baseDelayMs = baseDelayMs;
+        this.maxDelayMs = maxDelayMs;
+        this.maxAttempts = maxAttempts;
+        this.retentionDays = retentionDays;
+    }
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger workerSeq = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(workerThreads, r -> {
+            Thread thread = new Thread(r, "outbox-worker-" + workerSeq.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "outbox-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::poll, pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::cleanup, CLEANUP_INTERVAL_MINUTES, CLEANUP_INTERVAL_MINUTES, TimeUnit.MINUTES);
+    }
+
+    /**
+     * 남은 이벤트는 다음 기동 시(또는 다른 인스턴스가) 처리
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+        if (workers != null) {
+            workers.shutdown();
+            try {
+                workers.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * 이벤트가 커밋되면 폴링 주기를 기다리지 않고 바로 처리 (트랜잭션 밖에서 기록된 경우 즉시)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEnqueued(OutboxEnqueuedEvent event) {
+        if (scheduler != null && wakeUpScheduled.compareAndSet(false, true)) {
+            try {
+                scheduler.execute(() -> {
+                    wakeUpScheduled.set(false);
+                    poll();
+                });
+            } catch (Exception e) {
+                wakeUpScheduled.set(false);     // 종료 중
+            }
+        }
+    }
+
+    // 가득 찬 배치가 이어지면 밀린 이벤트를 연달아 처리
+    void poll() {
+        try {
+            while (dispatchOnce() == batchSize) {
+                // 계속 처리
+            }
+        } catch (Exception e) {
+            log.warn("아웃박스 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 처리할 이벤트 한 배치를 가져와 처리
+     * @return 가져간 이벤트 수
+     */
+    int dispatchOnce() {
+        String token = UUID.randomUUID().toString();
+        List<OutboxMessage> claimed = claim(token, LocalDateTime.now());
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> done = Collections.synchronizedList(new ArrayList<>());
+        List<Object[]> retries = Collections.synchronizedList(new ArrayList<>());
+        List<Runnable> tasks = new ArrayList<>();
+        claimed.stream()
+                .collect(Collectors.groupingBy(OutboxMessage::getEventType, LinkedHashMap::new, Collectors.toList()))
+                .forEach((eventType, messages) -> {
+                    if (handlers.get(eventType) instanceof OutboxBatchHandler) {
+                        tasks.add(() -> handleBatch(messages, done, retries, token));
+                    } else {
+                        messages.forEach(message -> tasks.add(() -> {
+                            try {
+                                handle(message);
+                                done.add(message.getId());
+                            } catch (Exception e) {
+                                retries.add(retryArgs(message, e, token));
+                            }
+                        }));
+                    }
+                });
+        CompletableFuture.allOf(tasks.stream()
+                .map(task -> CompletableFuture.runAsync(task, workers != null ? workers : Runnable::run))
+                .toArray(CompletableFuture[]::new)).join();
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        if (!done.isEmpty()) {
+            jdbcTemplate.batchUpdate(MARK_DONE_SQL, done.stream()
+                    .map(id -> new Object[]{OutboxStatus.DONE.name(), now, id, token})
+                    .collect(Collectors.toList()));
+        }
+        if (!retries.isEmpty()) {
+            jdbcTemplate.batchUpdate(MARK_RETRY_SQL, retries);
+        }
+        return claimed.size();
+    }
+
+    private List<OutboxMessage> claim(String token, LocalDateTime now) {
+        Timestamp nowTs = Timestamp.valueOf(now);
+        List<Long> due = jdbcTemplate.queryForList(SELECT_DUE_SQL, Long.class,
+                OutboxStatus.PENDING.name(), nowTs, nowTs, batchSize);
+        if (due.isEmpty()) {
+            return List.of();
+        }
+        Timestamp leaseUntil = Timestamp.valueOf(now.plusSeconds(leaseSeconds));
+        jdbcTemplate.batchUpdate(CLAIM_SQL, due.stream()
+                .map(id -> new Object[]{token, leaseUntil, id, OutboxStatus.PENDING.name(), nowTs})
+                .collect(Collectors.toList()));
+        return jdbcTemplate.query(SELECT_CLAIMED_SQL, (rs, i) -> new OutboxMessage(
+                rs.getLong("id"), rs.getString("event_type"), rs.getString("idempotency_key"),
+                rs.getString("payload"), rs.getInt("attempts")), token);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void handle(OutboxMessage message) throws Exception {
+        OutboxHandler<Object> handler = (OutboxHandler<Object>) handlers.get(message.getEventType());
+        if (handler == null) {
+            throw new IllegalStateException("처리기가 없는 이벤트 유형: " + message.getEventType());
+        }
+        handler.handle(objectMapper.readValue(message.getPayload(), handler.payloadType()));
+    }
+
+    // 같은 유형의 이벤트를 한 번에 처리 (읽을 수 없는 payload와 처리기가 알려 준 실패만 재시도)
+    @SuppressWarnings("unchecked")
+    private void handleBatch(List<OutboxMessage> messages, List<Long> done, List<Object[]> retries, String token) {
+        OutboxBatchHandler<Object> handler = (OutboxBatchHandler<Object>) handlers.get(messages.get(0).getEventType());
+        List<OutboxMessage> readable = new ArrayList<>(messages.size());
+        List<Object> payloads = new ArrayList<>(messages.size());
+        for (OutboxMessage message : messages) {
+            try {
+                payloads.add(objectMapper.readValue(message.getPayload(), handler.payloadType()));
+                readable.add(message);
+            } catch (Exception e) {
+                retries.add(retryArgs(message, e, token));
+            }
+        }
+        if (readable.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, Exception> failures;
+        try {
+            failures = handler.handleBatch(payloads);
+        } catch (Exception e) {
+            readable.forEach(message -> retries.add(retryArgs(message, e, token)));
+            return;
+        }
+        for (int i = 0; i < readable.size(); i++) {
+            Exception failure = failures.get(i);
+            if (failure == null) {
+                done.add(readable.get(i).getId());
+            } else {
+                retries.add(retryArgs(readable.get(i), failure, token));
+            }
+        }
+    }
+
+    private Object[] retryArgs(OutboxMessage message, Exception e, String token) {
+        int attempts = message.getAttempts() + 1;
+        boolean exhausted = attempts >= maxAttempts;
+        String error = String.valueOf(e.getMessage());
+        if (exhausted) {
+            log.error("아웃박스 이벤트 처리 포기 ({}회 실패) type={} key={}: {}",
+                    attempts, message.getEventType(), message.getIdempotencyKey(), error);
+        } else {
+            log.warn("아웃박스 이벤트 처리 실패 ({}회) type={} key={}: {}",
+                    attempts, message.getEventType(), message.getIdempotencyKey(), error);
+        }
+        return new Object[]{
+                (exhausted ? OutboxStatus.FAILED : OutboxStatus.PENDING).name(),
+                attempts,
+                Timestamp.valueOf(LocalDateTime.now().plusNanos(TimeUnit.MILLISECONDS.toNanos(backoffMs(attempts)))),
+                error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error,
+                message.getId(),
+                token
+        };
+    }
+
+    // base * 2^(attempts-1), 상한 maxDelay, ±20% jitter (여러 이벤트가 같은 시각에 몰려 재시도하지 않도록)
+    long backoffMs(int attempts) {
+        long delay = baseDelayMs << Math.min(attempts - 1, 30);
+        delay = delay <= 0 ? maxDelayMs : Math.min(delay, maxDelayMs);
+        long jitter = delay / 5;
+        return jitter > 0 ? delay - jitter + ThreadLocalRandom.current().nextLong(jitter * 2 + 1) : delay;
+    }
+
+    private void cleanup() {
+        try {
+            int deleted = jdbcTemplate.update(CLEANUP_SQL, OutboxStatus.DONE.name(),
+                    Timestamp.valueOf(LocalDateTime.now().minusDays(retentionDays)));
+            if (deleted > 0) {
+                log.info("처리 완료된 아웃박스 이벤트 정리: {}건", deleted);
+            }
+        } catch (Exception e) {
+            log.warn("아웃박스 정리 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package org.example.backend.outbox;
+
+// 아웃박스 기록 알림 (커밋 후 디스패처를 바로 깨우는 용도)
+public class OutboxEnqueuedEvent {
+}
@@ -0,0 +1,15 @@
+package org.example.backend.outbox;
+
+/**
+ * 아웃박스 이벤트 처리기 (이벤트 유형별 하나)
+ * - 실패는 예외로 알림 → 디스패처가 backoff 후 재시도
+ * - 최소 한 번 전달(at-least-once)이므로 같은 payload가 다시 와도 안전하게 처리해야 함
+ */
+public interface OutboxHandler<T> {
+
+    String eventType();
+
+    Class<T> payloadType();
+
+    void handle(T payload) throws Exception;
+}
@@ -0,0 +1,15 @@
+package org.example.backend.outbox;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 디스패처가 가져간 아웃박스 이벤트 한 건
+@Getter
+@AllArgsConstructor
+public class OutboxMessage {
+    private final long id;
+    private final String eventType;
+    private final String idempotencyKey;
+    private final String payload;
+    private final int attempts;     // 이번 시도 이전까지 실패한 횟수
+}
@@ -0,0 +1,56 @@
+package org.example.backend.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.constant.OutboxStatus;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * 아웃박스 기록
+ * - 호출한 트랜잭션에 참여해 INSERT만 하고 바로 반환 (외부 호출은 커밋 후 OutboxDispatcher가 처리)
+ *   트랜잭션이 롤백되면 이벤트도 함께 사라짐
+ * - 같은 idempotencyKey가 이미 있으면 기록하지 않음 (같은 알림/삭제를 두 번 요청해도 한 번만 처리)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO outbox_event (event_type, idempotency_key, payload, status, attempts, next_attempt_at, created_at) " +
+            "VALUES (?, ?, ?, ?, 0, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * @return 새로 기록했으면 true, 같은 키가 이미 있으면 false
+     */
+    public boolean enqueue(String eventType, String idempotencyKey, Object payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("아웃박스 payload 직렬화 실패: " + eventType, e);
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            jdbcTemplate.update(INSERT_SQL, eventType, idempotencyKey, json, OutboxStatus.PENDING.name(), now, now);
+        } catch (DuplicateKeyException e) {
+            log.info("이미 기록된 아웃박스 이벤트 건너뜀: {}", idempotencyKey);
+            return false;
+        }
+        eventPublisher.publishEvent(new OutboxEnqueuedEvent());
+        return true;
+    }
+}
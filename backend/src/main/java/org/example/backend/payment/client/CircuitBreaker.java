@@ -0,0 +1,78 @@
+package org.example.backend.payment.client;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 연속 실패 기반 회로 차단기
+ * - CLOSED: 연속 실패가 failureThreshold에 이르면 OPEN
+ * - OPEN: openDuration 동안 호출을 바로 거절, 지나면 HALF_OPEN
+ * - HALF_OPEN: 시험 호출 하나만 허용 → 성공하면 CLOSED, 실패하면 다시 OPEN
+ */
+class CircuitBreaker {
+
+    enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final LongSupplier nanoClock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    CircuitBreaker(int failureThreshold, long openSeconds) {
+        this(failureThreshold, openSeconds, System::nanoTime);
+    }
+
+    CircuitBreaker(int failureThreshold, long openSeconds, LongSupplier nanoClock) {
+        this.failureThreshold = failureThreshold;
+        this.openNanos = TimeUnit.SECONDS.toNanos(openSeconds);
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * @return 호출해도 되면 true (true를 받았으면 결과를 onSuccess/onFailure로 반드시 알려야 함)
+     */
+    synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (nanoClock.getAsLong() - openedAt < openNanos) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                trialInFlight = true;
+                return true;
+            default:
+                if (trialInFlight) {
+                    return false;
+                }
+                trialInFlight = true;
+                return true;
+        }
+    }
+
+    synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    synchronized void onFailure() {
+        trialInFlight = false;
+        if (state == State.HALF_OPEN || ++consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = nanoClock.getAsLong();
+            consecutiveFailures = 0;
+        }
+    }
+
+    synchronized State state() {
+        return state;
+    }
+}
@@ -0,0 +1,255 @@
+package org.example.backend.payment.client;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.example.backend.exception.customException.PaymentGatewayException;
+import org.example.backend.exception.customException.PaymentGatewayUnavailableException;
+import org.example.backend.payment.dto.KakaoPayApproveRequest;
+import org.example.backend.payment.dto.KakaoPayCancelRequest;
+import org.example.backend.payment.dto.KakaoPayReadyRequest;
+import org.example.backend.payment.dto.KakaoPayReadyResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 카카오페이 결제 API 클라이언트
+ * - 연결 풀(HttpClient 5)로 연결을 재사용하고 연결/응답/풀 대기 시간에 상한을 둠
+ * - bulkhead: 동시 호출 수를 max-concurrent로 제한 → 결제 API가 느려져도 요청 스레드가 전부 묶이지 않음
+ * - 회로 차단: 연속 실패(5xx/시간 초과/연결 실패)가 쌓이면 open-seconds 동안 바로 503 처리
+ *   (4xx는 요청 문제라 차단 판단에 넣지 않음)
+ * - 결제는 멱등하지 않으므로 자동 재시도하지 않음
+ * - 로그: 호출당 한 줄(op, status, latencyMs)만 INFO, 본문은 민감 항목을 가린 뒤 DEBUG (secret key/헤더는 남기지 않음)
+ */
+@Slf4j
+@Component
+public class KakaoPayClient {
+
+    static final String READY = "ready";
+    static final String APPROVE = "approve";
+    static final String CANCEL = "cancel";
+
+    private static final Set<String> SENSITIVE_FIELDS = Set.of("pg_token", "secret_key", "card_info");
+    private static final String MASK = "****";
+    private static final int MAX_LOGGED_BODY = 2_000;
+
+    private final ObjectMapper objectMapper;
+    private final ObjectReader readyResponseReader;
+    private final PaymentGatewayMetrics metrics;
+    private final String baseUrl;
+    private final String secretKey;
+    private final CloseableHttpClient httpClient;
+    private final Semaphore bulkhead;
+    private final long bulkheadWaitMs;
+    private final CircuitBreaker circuitBreaker;
+
+    public KakaoPayClient(ObjectMapper objectMapper,
+                          PaymentGatewayMetrics metrics,
+                          @Value("${kakao.pay.base-url:https://open-api.kakaopay.com/online/v1/payment}") String baseUrl,
+                          @Value("${kakao.pay.secret-key}") String secretKey,
+                          @Value("${kakao.pay.client.max-connections:20}") int maxConnections,
+                          @Value("${kakao.pay.client.connect-timeout-ms:2000}") long connectTimeoutMs,
+                          @Value("${kakao.pay.client.read-timeout-ms:10000}") long readTimeoutMs,
+                          @Value("${kakao.pay.client.max-concurrent:20}") int maxConcurrent,
+                          @Value("${kakao.pay.client.bulkhead-wait-ms:500}") long bulkheadWaitMs,
+                          @Value("${kakao.pay.client.failure-threshold:5}") int failureThreshold,
+                          @Value("${kakao.pay.client.open-seconds:30}") long openSeconds) {
+        this.objectMapper = objectMapper;
+        // 응답에는 쓰지 않는 항목이 많으므로 모르는 항목은 무시
+        this.readyResponseReader = objectMapper.readerFor(KakaoPayReadyResponse.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.metrics = metrics;
+        this.baseUrl = baseUrl;
+        this.secretKey = secretKey;
+        this.bulkhead = new Semaphore(maxConcurrent);
+        this.bulkheadWaitMs = bulkheadWaitMs;
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, openSeconds);
+
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                .setTimeToLive(TimeValue.ofMinutes(5))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                .build();
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                        .setMaxConnTotal(maxConnections)
+                        .setMaxConnPerRoute(maxConnections)
+                        .setDefaultConnectionConfig(connectionConfig)
+                        .build())
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(bulkheadWaitMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .disableAutomaticRetries()
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        try {
+            httpClient.close();
+        } catch (IOException e) {
+            log.warn("결제 API 클라이언트 종료 실패: {}", e.getMessage());
+        }
+    }
+
+    // 기존 호출과 같은 인증 방식 유지 (ready는 DEV_SECRET_KEY, approve/cancel은 SECRET_KEY)
+    public KakaoPayReadyResponse ready(KakaoPayReadyRequest request) {
+        String body = post(READY, "DEV_SECRET_KEY", request);
+        try {
+            return readyResponseReader.readValue(body);
+        } catch (IOException e) {
+            throw new PaymentGatewayException("결제 준비 응답을 읽을 수 없습니다.", e);
+        }
+    }
+
+    public String approve(KakaoPayApproveRequest request) {
+        return post(APPROVE, "SECRET_KEY", request);
+    }
+
+    public String cancel(KakaoPayCancelRequest request) {
+        return post(CANCEL, "SECRET_KEY", request);
+    }
+
+    public String circuitState() {
+        return circuitBreaker.state().name();
+    }
+
+    // 응답 본문(2xx)을 그대로 반환, 그 외는 예외
+    private String post(String operation, String authScheme, Object request) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(request);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("결제 요청 직렬화 실패: " + operation, e);
+        }
+
+        acquirePermit(operation);
+        long startedAt = System.nanoTime();
+        int status = 0;
+        boolean gatewayFailure = true;
+        try {
+            if (log.isDebugEnabled()) {
+                log.debug("kakaopay.request op={} body={}", operation, redact(objectMapper.valueToTree(request)));
+            }
+            HttpPost post = new HttpPost(baseUrl + "/" + operation);
+            post.setHeader(HttpHeaders.AUTHORIZATION, authScheme + " " + secretKey);
+            post.setEntity(new ByteArrayEntity(json, ContentType.APPLICATION_JSON));
+            GatewayResponse response = httpClient.execute(post, r -> new GatewayResponse(r.getCode(),
+                    r.getEntity() != null ? EntityUtils.toString(r.getEntity(), StandardCharsets.UTF_8) : ""));
+            status = response.status;
+            if (log.isDebugEnabled()) {
+                log.debug("kakaopay.response op={} status={} body={}", operation, status, redactBody(response.body));
+            }
+
+            gatewayFailure = status >= 500;
+            if (status >= 300) {
+                throw new PaymentGatewayException("결제 서비스 오류 응답 (" + status + ")");
+            }
+            return response.body;
+        } catch (IOException e) {
+            throw new PaymentGatewayException("결제 서비스 호출에 실패했습니다: " + e.getClass().getSimpleName(), e);
+        } finally {
+            bulkhead.release();
+            if (gatewayFailure) {
+                circuitBreaker.onFailure();
+            } else {
+                circuitBreaker.onSuccess();
+            }
+            long micros = (System.nanoTime() - startedAt) / 1_000;
+            metrics.recordCall(operation, micros, status < 200 || status >= 300);
+            log.info("kakaopay.call op={} status={} latencyMs={} circuit={}",
+                    operation, status, micros / 1_000, circuitBreaker.state());
+        }
+    }
+
+    // 동시 호출 자리 → 회로 순서로 확인 (둘 다 통과해야 호출)
+    private void acquirePermit(String operation) {
+        boolean permitted = false;
+        try {
+            permitted = bulkhead.tryAcquire(bulkheadWaitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!permitted) {
+            metrics.recordRejected(operation);
+            log.warn("kakaopay.call op={} rejected=bulkhead-full", operation);
+            throw new PaymentGatewayUnavailableException("결제 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            bulkhead.release();
+            metrics.recordRejected(operation);
+            log.warn("kakaopay.call op={} rejected=circuit-open", operation);
+            throw new PaymentGatewayUnavailableException("결제 서비스가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해 주세요.");
+        }
+    }
+
+    // JSON이면 민감 항목을 가리고, 아니면 길이만 남김
+    private String redactBody(String body) {
+        try {
+            return redact(objectMapper.readTree(body));
+        } catch (IOException e) {
+            return "<non-json " + body.length() + " chars>";
+        }
+    }
+
+    String redact(JsonNode node) {
+        mask(node);
+        String text = node.toString();
+        return text.length() > MAX_LOGGED_BODY ? text.substring(0, MAX_LOGGED_BODY) + "..." : text;
+    }
+
+    private static void mask(JsonNode node) {
+        if (node instanceof ObjectNode) {
+            ObjectNode object = (ObjectNode) node;
+            Iterator<Map.Entry<String, JsonNode>> fields = object.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                if (SENSITIVE_FIELDS.contains(field.getKey())) {
+                    field.setValue(object.textNode(MASK));
+                } else {
+                    mask(field.getValue());
+                }
+            }
+        } else if (node != null && node.isArray()) {
+            node.forEach(KakaoPayClient::mask);
+        }
+    }
+
+    private static class GatewayResponse {
+        private final int status;
+        private final String body;
+
+        private GatewayResponse(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.backend.payment.client;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.example.backend.common.LatencyHistogram;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 결제 API 호출 지표 (ready/approve/cancel 별)
+ * - calls    : 실제로 보낸 호출 수 (지연 시간 히스토그램에 기록)
+ * - failures : 오류 응답/시간 초과/연결 실패 수
+ * - rejected : 회로 차단/동시 호출 한도로 보내지 않은 호출 수
+ */
+@Component
+public class PaymentGatewayMetrics {
+
+    private final Map<String, OperationCounters> counters = new ConcurrentHashMap<>();
+
+    void recordCall(String operation, long micros, boolean failed) {
+        OperationCounters c = countersOf(operation);
+        c.latency.record(micros);
+        if (failed) {
+            c.failures.increment();
+        }
+    }
+
+    void recordRejected(String operation) {
+        countersOf(operation).rejected.increment();
+    }
+
+    private OperationCounters countersOf(String operation) {
+        return counters.computeIfAbsent(operation, k -> new OperationCounters());
+    }
+
+    /**
+     * 현재 지표 스냅샷 (호출 이름순)
+     */
+    public Map<String, OperationStats> snapshot() {
+        Map<String, OperationStats> result = new TreeMap<>();
+        counters.forEach((operation, c) -> result.put(operation, new OperationStats(
+                c.latency.getCount(), c.failures.sum(), c.rejected.sum(),
+                c.latency.getAverageMillis(), c.latency.percentileMillis(0.5),
+                c.latency.percentileMillis(0.95), c.latency.percentileMillis(0.99), c.latency.getMaxMillis())));
+        return result;
+    }
+
+    private static class OperationCounters {
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LatencyHistogram latency = new LatencyHistogram();
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class OperationStats {
+        private final long calls;
+        private final long failures;
+        private final long rejected;
+        private final double avgMillis;
+        private final double p50Millis;
+        private final double p95Millis;
+        private final double p99Millis;
+        private final double maxMillis;
+    }
+}
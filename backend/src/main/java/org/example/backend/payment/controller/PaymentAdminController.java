@@ -0,0 +1,35 @@
+package org.example.backend.payment.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.backend.payment.client.KakaoPayClient;
+import org.example.backend.payment.client.PaymentGatewayMetrics;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 결제 API 운영 지표 (관리자 전용, /admin/** 는 ADMIN 권한 필요)
+ */
+@RestController
+@RequestMapping("/admin/payment/gateway")
+@RequiredArgsConstructor
+public class PaymentAdminController {
+
+    private final KakaoPayClient kakaoPayClient;
+    private final PaymentGatewayMetrics paymentGatewayMetrics;
+
+    /**
+     * 회로 상태와 호출별 호출/실패/거절 수, 지연 시간 백분위수
+     */
+    @GetMapping("/metrics")
+    public ResponseEntity<Map<String, Object>> getMetrics() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("circuit", kakaoPayClient.circuitState());
+        body.put("operations", paymentGatewayMetrics.snapshot());
+        return ResponseEntity.ok(body);
+    }
+}
@@ -1,11 +1,7 @@
 package org.example.backend.payment.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper; // 추가!
 import org.springframework.stereotype.Service;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.http.MediaType;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 import org.example.backend.entity.EstimateRecord;
@@ -21,6 +17,7 @@ import org.example.backend.payment.dto.KakaoPayReadyResponse;
 import org.example.backend.payment.dto.KakaoPayApproveRequest;
 import org.example.backend.payment.dto.KakaoPayCancelRequest;
 import org.example.backend.matching.service.MatchingService;
+import org.example.backend.payment.client.KakaoPayClient;
 
 @Service
 @RequiredArgsConstructor
@@ -29,15 +26,11 @@ public class KakaoPayService {
     private final MatchingRepository matchingRepository;
     private final PaymentRepository paymentRepository;
     private final MatchingService matchingService;
-
-    @Value("${kakao.pay.secret-key}")
-    private String kakaopaySecretKey;
+    private final KakaoPayClient kakaoPayClient;
 
     @Value("${kakao.pay.cid}")
     private String cid;
 
-    private final RestTemplate restTemplate = new RestTemplate();
-
     // 1. 결제 준비(ready)
     public KakaoPayReadyResponse kakaoPayReady(Long matchingId, String userId) {
         Matching matching = matchingRepository.findById(matchingId)
@@ -57,40 +50,7 @@ public class KakaoPayService {
         requestDto.setCancel_url("http://localhost:5173/mypage/matching/history");
         requestDto.setFail_url("http://localhost:5173/mypage/matching/history");
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.add("Authorization", "DEV_SECRET_KEY " + kakaopaySecretKey);
-
-        // 요청 로그 출력
-        try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            System.out.println("==== [카카오페이 ready 요청] ====");
-            System.out.println("요청 URL : https://open-api.kakaopay.com/online/v1/payment/ready");
-            System.out.println("요청 헤더 : " + headers.toString());
-            System.out.println("cid: " + cid);
-            System.out.println("secret-key: " + kakaopaySecretKey);
-            System.out.println("requestDto: " + objectMapper.writeValueAsString(requestDto));
-            System.out.println("===============================");
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-
-        org.springframework.http.HttpEntity<KakaoPayReadyRequest> request = new org.springframework.http.HttpEntity<>(requestDto, headers);
-        KakaoPayReadyResponse response = restTemplate.postForObject(
-                "https://open-api.kakaopay.com/online/v1/payment/ready",
-                request,
-                KakaoPayReadyResponse.class
-        );
-
-        // 응답 로그 출력
-        try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            System.out.println("==== [카카오페이 ready 응답] ====");
-            System.out.println(objectMapper.writeValueAsString(response));
-            System.out.println("===============================");
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+        KakaoPayReadyResponse response = kakaoPayClient.ready(requestDto);
 
         // Payment 엔티티 생성 (결제 전 상태, tid 저장)
         Payment payment = new Payment();
@@ -121,35 +81,7 @@ public class KakaoPayService {
         requestDto.setPartner_user_id("user"); // 실제 유저 ID 넣기
         requestDto.setPg_token(pgToken);
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.add("Authorization", "SECRET_KEY " + kakaopaySecretKey);
-
-        // 요청 로그 출력
-        try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            System.out.println("==== [카카오페이 approve 요청] ====");
-            System.out.println("요청 URL : https://open-api.kakaopay.com/online/v1/payment/approve");
-            System.out.println("요청 헤더 : " + headers.toString());
-            System.out.println("cid: " + cid);
-            System.out.println("secret-key: " + kakaopaySecretKey);
-            System.out.println("requestDto: " + objectMapper.writeValueAsString(requestDto));
-            System.out.println("===============================");
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-
-        org.springframework.http.HttpEntity<KakaoPayApproveRequest> request = new org.springframework.http.HttpEntity<>(requestDto, headers);
-        String response = restTemplate.postForObject(
-                "https://open-api.kakaopay.com/online/v1/payment/approve",
-                request,
-                String.class
-        );
-
-        // 응답 로그 출력
-        System.out.println("==== [카카오페이 approve 응답] ====");
-        System.out.println(response);
-        System.out.println("===============================");
+        String response = kakaoPayClient.approve(requestDto);
 
         // 결제 승인 성공 시 상태 변경
         payment.setStatus(PaymentStatus.PAID);
@@ -176,33 +108,7 @@ public class KakaoPayService {
         requestDto.setCancel_vat_amount(0); // 필요시 세팅
         requestDto.setCancel_reason(reason != null ? reason : "사용자 요청");
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.add("Authorization", "SECRET_KEY " + kakaopaySecretKey);
-
-        // 요청 로그
-        try {
-            com.fasterxml.jackson.databind.ObjectMapper objectMapper = new com.fasterxml.jackson.databind.ObjectMapper();
-            System.out.println("==== [카카오페이 cancel 요청] ====");
-            System.out.println("요청 URL : https://open-api.kakaopay.com/online/v1/payment/cancel");
-            System.out.println("요청 헤더 : " + headers.toString());
-            System.out.println("cid: " + cid);
-            System.out.println("tid: " + payment.getTid());
-            System.out.println("requestDto: " + objectMapper.writeValueAsString(requestDto));
-            System.out.println("===============================");
-        } catch (Exception e) { e.printStackTrace(); }
-
-        org.springframework.http.HttpEntity<KakaoPayCancelRequest> request = new org.springframework.http.HttpEntity<>(requestDto, headers);
-        String response = restTemplate.postForObject(
-                "https://open-api.kakaopay.com/online/v1/payment/cancel",
-                request,
-                String.class
-        );
-
-        // 응답 로그
-        System.out.println("==== [카카오페이 cancel 응답] ====");
-        System.out.println(response);
-        System.out.println("===============================");
+        String response = kakaoPayClient.cancel(requestDto);
 
         // 결제 취소 성공 시 상태 변경
         payment.setStatus(PaymentStatus.CANCELLED);
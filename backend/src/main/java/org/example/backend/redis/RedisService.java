@@ -2,9 +2,21 @@ package org.example.backend.redis;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
@@ -13,19 +25,31 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 public class RedisService {
 
+    // 토큰 폐기 전파 세대 번호 (pub/sub 전파 실패 시 증가)
+    private static final String REVOCATION_EPOCH_KEY = "token:revoked:epoch";
+
     private final RedisTemplate<String, String> redisTemplate;
 
-    // 활성 토큰 저장 및 이메일-토큰 관계 저장 (Set에 추가)
+    // 활성 토큰 저장 및 이메일-토큰 관계 저장 (Set에 추가) - 세 명령을 파이프라인으로 한 번에 전송
     public void storeActiveToken(String jti, String email, long expirationMillis) {
         try {
-            // JTI 키에 이메일 저장 및 만료 시간 설정
-            redisTemplate.opsForValue().set("jti:" + jti, email, expirationMillis, TimeUnit.MILLISECONDS);
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+
+                    // JTI 키에 이메일 저장 및 만료 시간 설정
+                    ops.opsForValue().set("jti:" + jti, email, expirationMillis, TimeUnit.MILLISECONDS);
 
-            // 사용자 이메일 기준 활성 JTI 집합에 추가
-            redisTemplate.opsForSet().add("activeTokens:" + email, jti);
+                    // 사용자 이메일 기준 활성 JTI 집합에 추가
+                    ops.opsForSet().add("activeTokens:" + email, jti);
 
-            // 활성 JTI 집합 만료 시간 갱신 (토큰 만료 시간과 동기화)
-            redisTemplate.expire("activeTokens:" + email, expirationMillis, TimeUnit.MILLISECONDS);
+                    // 활성 JTI 집합 만료 시간 갱신 (토큰 만료 시간과 동기화)
+                    ops.expire("activeTokens:" + email, expirationMillis, TimeUnit.MILLISECONDS);
+                    return null;
+                }
+            });
 
             // 로그 출력
             log.info("[Redis] 활성 토큰 저장 완료, jti: {}, email: {}, 만료 시간: {}ms", jti, email, expirationMillis);
@@ -45,6 +69,92 @@ public class RedisService {
         redisTemplate.opsForValue().set("jti:" + jti + ":blacklist", "blacklisted", expirationMillis, TimeUnit.MILLISECONDS);
     }
 
+    /**
+     * 사용자의 모든 활성 토큰을 블랙리스트로 옮기고 활성 토큰 정보를 정리
+     * - 활성 JTI 조회 1회 + 남은 만료 시간 조회 파이프라인 1회 + 삭제/등록 파이프라인 1회
+     *   (활성 토큰 수와 무관하게 왕복 3회)
+     * @param defaultTtlMillis 남은 만료 시간을 알 수 없을 때 사용할 블랙리스트 유지 시간
+     * @return 블랙리스트에 등록한 JTI → 유지 시간(ms)
+     */
+    public Map<String, Long> blacklistActiveTokens(String email, long defaultTtlMillis) {
+        Set<String> activeJtis = getUserActiveTokens(email);
+        if (activeJtis == null || activeJtis.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<String> jtis = new ArrayList<>(activeJtis);
+
+        // 1) 남은 만료 시간(PTTL) 일괄 조회
+        List<Object> ttls = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (String jti : jtis) {
+                    ops.getExpire("jti:" + jti, TimeUnit.MILLISECONDS);
+                }
+                return null;
+            }
+        });
+
+        Map<String, Long> revocations = new LinkedHashMap<>();
+        for (int i = 0; i < jtis.size(); i++) {
+            Object ttl = ttls.get(i);
+            long ttlMillis = ttl instanceof Long && (Long) ttl > 0 ? (Long) ttl : defaultTtlMillis;
+            revocations.put(jtis.get(i), ttlMillis);
+        }
+
+        // 2) 활성 토큰 삭제 + 블랙리스트 등록 + 활성 집합 삭제를 한 번에 전송
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                revocations.forEach((jti, ttlMillis) -> {
+                    ops.delete("jti:" + jti);
+                    ops.opsForValue().set("jti:" + jti + ":blacklist", "blacklisted", ttlMillis, TimeUnit.MILLISECONDS);
+                });
+                ops.delete("activeTokens:" + email);
+                return null;
+            }
+        });
+
+        log.info("[Redis] 활성 토큰 블랙리스트 처리 완료, email: {}, 토큰 수: {}", email, revocations.size());
+        return revocations;
+    }
+
+    // 블랙리스트에 등록된 전체 JTI 조회 (KEYS 대신 SCAN으로 나눠서 순회)
+    public Set<String> scanBlacklistedJtis() {
+        Set<String> jtis = new HashSet<>();
+        ScanOptions options = ScanOptions.scanOptions().match("jti:*:blacklist").count(1000).build();
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            try (Cursor<byte[]> cursor = connection.scan(options)) {
+                while (cursor.hasNext()) {
+                    String key = new String(cursor.next(), StandardCharsets.UTF_8);
+                    jtis.add(key.substring("jti:".length(), key.length() - ":blacklist".length()));
+                }
+            }
+            return null;
+        });
+        return jtis;
+    }
+
+    // pub/sub 채널로 메시지 발행
+    public void publish(String channel, String message) {
+        redisTemplate.convertAndSend(channel, message);
+    }
+
+    // 토큰 폐기 전파 세대 번호 증가 (다른 인스턴스가 near-cache를 즉시 다시 적재하도록 알림)
+    public long incrementRevocationEpoch() {
+        Long epoch = redisTemplate.opsForValue().increment(REVOCATION_EPOCH_KEY);
+        return epoch != null ? epoch : 0L;
+    }
+
+    // 토큰 폐기 전파 세대 번호 조회 (한 번도 증가하지 않았으면 0)
+    public long getRevocationEpoch() {
+        String epoch = redisTemplate.opsForValue().get(REVOCATION_EPOCH_KEY);
+        return epoch != null ? Long.parseLong(epoch) : 0L;
+    }
+
     // 이메일 기준 활성 토큰(JTI) 목록 조회
     public Set<String> getUserActiveTokens(String email) {
         return redisTemplate.opsForSet().members("activeTokens:" + email);
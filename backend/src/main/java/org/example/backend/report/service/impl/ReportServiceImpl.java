@@ -1,6 +1,7 @@
 package org.example.backend.report.service.impl;
 
 import lombok.RequiredArgsConstructor;
+import org.example.backend.common.AuthenticatedMemberResolver;
 import org.example.backend.constant.ReportStatus;
 import org.example.backend.constant.Role;
 import org.example.backend.entity.Member;
@@ -27,10 +28,11 @@ public class ReportServiceImpl implements ReportService {
 
     private final MemberRepository memberRepository;
     private final ReportRepository reportRepository;
+    private final AuthenticatedMemberResolver authenticatedMemberResolver;
 
     @Override
     public void submitReportByNickname(String reporterEmail, String reportedNickname, String reason) {
-        Member reporter = findMemberByEmail(reporterEmail);
+        Member reporter = authenticatedMemberResolver.resolveReference(reporterEmail);
         Member reported = memberRepository.findByNickname(reportedNickname)
                 .orElseThrow(() -> new MemberNotFoundException("피신고자 정보를 찾을 수 없습니다."));
 
@@ -132,13 +134,11 @@ public class ReportServiceImpl implements ReportService {
     private void handleResolutionMetadata(Report report, ReportStatus status, String email) {
         if (status == ReportStatus.IN_PROGRESS || status == ReportStatus.COMPLETED) {
             report.setResolvedAt(LocalDateTime.now());
-            Member resolver = findMemberByEmail(email);
-
-            if (resolver.getRole() != Role.ADMIN) {
+            if (authenticatedMemberResolver.resolveSnapshot(email).getRole() != Role.ADMIN) {
                 throw new AccessDeniedException("신고 처리는 관리자만 할 수 있습니다.");
             }
 
-            report.setResolver(resolver);
+            report.setResolver(authenticatedMemberResolver.resolveReference(email));
         }
     }
 
@@ -154,12 +154,6 @@ public class ReportServiceImpl implements ReportService {
                 .orElseThrow(() -> new MemberNotFoundException("회원 정보를 찾을 수 없습니다."));
     }
 
-    /** 회원 이메일 기반 조회 */
-    private Member findMemberByEmail(String email) {
-        return memberRepository.findByEmail(email)
-                .orElseThrow(() -> new MemberNotFoundException("회원 정보를 찾을 수 없습니다."));
-    }
-
     /** Entity → DTO 변환 */
     private ReportResponse convertToResponse(Report report) {
         return ReportResponse.builder()
@@ -1,7 +1,9 @@
 package org.example.backend.repository;
 
+import org.example.backend.category.dto.CategoryNodeDto;
 import org.example.backend.entity.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
@@ -15,4 +17,13 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
      * @return 하위 카테고리 리스트
      */
     List<Category> findByParentCategoryId(Long parentId);
+
+    /**
+     * 전체 카테고리를 (id, 이름, 부모 id) 형태로 한 번에 조회 (카테고리 인덱스 적재용)
+     * @return 카테고리 ID 오름차순 노드 리스트
+     */
+    @Query("SELECT new org.example.backend.category.dto.CategoryNodeDto(c.categoryId, c.name, p.categoryId) " +
+            "FROM Category c LEFT JOIN c.parent p " +
+            "ORDER BY c.categoryId ASC")
+    List<CategoryNodeDto> findAllNodes();
 }
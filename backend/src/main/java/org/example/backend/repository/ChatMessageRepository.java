@@ -1,9 +1,9 @@
 package org.example.backend.repository;
 
+import org.example.backend.chat.dto.ChatMessageRespondDto;
 import org.example.backend.entity.ChatMessage;
-import org.example.backend.entity.ChatRoom;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -13,9 +13,34 @@ import java.util.Optional;
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
 
     /**
-     * ✅ 특정 채팅방의 모든 메시지를 오래된 순으로 조회
+     * ✅ 특정 채팅방에서 기준 메시지보다 이전 메시지를 최신순으로 조회 (before 커서, 없으면 가장 최근부터)
      */
-    List<ChatMessage> findAllByChatRoom_ChatroomIdOrderBySendAtAsc(Long chatRoomId);
+    @Query("SELECT new org.example.backend.chat.dto.ChatMessageRespondDto(" +
+            "m.chatId, m.chatRoom.chatroomId, s.email, s.nickname, m.message, m.sendAt) " +
+            "FROM ChatMessage m JOIN m.sender s " +
+            "WHERE m.chatRoom.chatroomId = :roomId AND (:before IS NULL OR m.chatId < :before) " +
+            "ORDER BY m.chatId DESC")
+    List<ChatMessageRespondDto> findMessagesBefore(@Param("roomId") Long roomId,
+                                                   @Param("before") Long before,
+                                                   Pageable pageable);
+
+    /**
+     * ✅ 특정 채팅방에서 기준 메시지 이후 메시지를 오래된 순으로 조회 (after 커서, 재접속 시 누락분)
+     */
+    @Query("SELECT new org.example.backend.chat.dto.ChatMessageRespondDto(" +
+            "m.chatId, m.chatRoom.chatroomId, s.email, s.nickname, m.message, m.sendAt) " +
+            "FROM ChatMessage m JOIN m.sender s " +
+            "WHERE m.chatRoom.chatroomId = :roomId AND m.chatId > :after " +
+            "ORDER BY m.chatId ASC")
+    List<ChatMessageRespondDto> findMessagesAfter(@Param("roomId") Long roomId,
+                                                  @Param("after") Long after,
+                                                  Pageable pageable);
+
+    /**
+     * ✅ 특정 채팅방에 기록된 가장 큰 메시지 ID (메시지가 없으면 0, 읽은 위치 미지정 시 읽음 처리 기준)
+     */
+    @Query("SELECT COALESCE(MAX(m.chatId), 0) FROM ChatMessage m WHERE m.chatRoom.chatroomId = :roomId")
+    long findMaxChatIdByRoomId(@Param("roomId") Long roomId);
 
     /**
      * ✅ 특정 채팅방의 마지막(최근) 메시지 가져오기 (채팅방 목록 미리보기용)
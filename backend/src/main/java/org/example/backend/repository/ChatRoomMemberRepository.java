@@ -1,9 +1,12 @@
 package org.example.backend.repository;
 
+import org.example.backend.chat.dto.ChatUnreadCountDto;
 import org.example.backend.entity.ChatRoom;
 import org.example.backend.entity.ChatRoomMember;
 import org.example.backend.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -15,4 +18,9 @@ public interface ChatRoomMemberRepository extends JpaRepository<ChatRoomMember,
     boolean existsByChatRoomAndMember(ChatRoom chatRoom, Member member);
 
     Optional<ChatRoomMember> findByChatRoomAndMember(ChatRoom chatRoom, Member member);
+
+    // 내가 참여한 모든 채팅방의 안 읽은 수 (채팅방/회원 조인 없이 chat_room_member만 조회)
+    @Query("SELECT new org.example.backend.chat.dto.ChatUnreadCountDto(m.chatRoom.chatroomId, m.unreadCount) " +
+            "FROM ChatRoomMember m WHERE m.member.memberId = :memberId")
+    List<ChatUnreadCountDto> findUnreadCountsByMemberId(@Param("memberId") Long memberId);
 }
\ No newline at end of file
@@ -1,9 +1,12 @@
 package org.example.backend.repository;
 
+import org.example.backend.chat.dto.ChatRoomListDto;
 import org.example.backend.entity.ChatRoom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -33,4 +36,44 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
     @Query("SELECT c FROM ChatRoom c " +
             "WHERE c.member1.memberId = :memberId OR c.member2.memberId = :memberId")
     List<ChatRoom> findAllByMember(@Param("memberId") Long memberId);
+
+    /**
+     * ✅ 내 채팅방 목록 요약 (상대방 정보, 최근 메시지 미리보기, 안 읽은 수) 한 번의 쿼리로 조회
+     */
+    @Query("SELECT new org.example.backend.chat.dto.ChatRoomListDto(" +
+            "c.chatroomId, o.memberId, o.nickname, o.profileImageUrl, " +
+            "c.lastMessagePreview, c.lastMessageTime, COALESCE(me.unreadCount, 0)) " +
+            "FROM ChatRoom c " +
+            "JOIN Member o ON o.memberId = CASE WHEN c.member1.memberId = :memberId " +
+            "THEN c.member2.memberId ELSE c.member1.memberId END " +
+            "LEFT JOIN ChatRoomMember me ON me.chatRoom = c AND me.member.memberId = :memberId " +
+            "WHERE c.member1.memberId = :memberId OR c.member2.memberId = :memberId " +
+            "ORDER BY c.lastMessageTime DESC")
+    List<ChatRoomListDto> findRoomSummariesByMemberId(@Param("memberId") Long memberId);
+
+    /**
+     * ✅ 미리보기 컬럼 추가 이전 채팅방의 최근 메시지 미리보기 채우기
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE ChatRoom c SET c.lastMessagePreview = " +
+            "(SELECT SUBSTRING(m.message, 1, " + ChatRoom.LAST_MESSAGE_PREVIEW_LENGTH + ") FROM ChatMessage m " +
+            "WHERE m.chatId = (SELECT MAX(m2.chatId) FROM ChatMessage m2 WHERE m2.chatRoom = c)) " +
+            "WHERE c.lastMessagePreview IS NULL " +
+            "AND EXISTS (SELECT m3 FROM ChatMessage m3 WHERE m3.chatRoom = c)")
+    int backfillLastMessagePreviews();
+
+    /**
+     * ✅ 내가 속한 채팅방 ID 목록 (STOMP 세션 권한 캐시 적재용)
+     */
+    @Query("SELECT c.chatroomId FROM ChatRoom c " +
+            "WHERE c.member1.memberId = :memberId OR c.member2.memberId = :memberId")
+    List<Long> findRoomIdsByMemberId(@Param("memberId") Long memberId);
+
+    /**
+     * ✅ 특정 채팅방의 참여자인지 여부
+     */
+    @Query("SELECT CASE WHEN COUNT(c) > 0 THEN true ELSE false END FROM ChatRoom c " +
+            "WHERE c.chatroomId = :roomId AND (c.member1.memberId = :memberId OR c.member2.memberId = :memberId)")
+    boolean existsMemberInRoom(@Param("roomId") Long roomId, @Param("memberId") Long memberId);
 }
\ No newline at end of file
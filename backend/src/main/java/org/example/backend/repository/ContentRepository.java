@@ -3,9 +3,12 @@ package org.example.backend.repository;
 import org.example.backend.constant.Role;
 import org.example.backend.constant.Status;
 import org.example.backend.entity.Content;
+import org.example.backend.search.index.ContentSearchDocument;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -20,4 +23,49 @@ public interface ContentRepository extends JpaRepository<Content, Long>, Content
     Optional<Content> findByIdWithExpertProfile(@Param("contentId") Long contentId, @Param("role") Role role);
 
     List<Content> findByMember_MemberIdAndStatus(Long memberId, Status status);
+
+    /**
+     * 검색 인덱스 적재용으로 색인 대상 컬럼만 조회
+     * @param status 컨텐츠 상태
+     * @return (id, 제목, 설명, 수정시간) projection 리스트
+     */
+    @Query("SELECT new org.example.backend.search.index.ContentSearchDocument(c.contentId, c.title, c.description, c.updateTime) " +
+            "FROM Content c WHERE c.status = :status")
+    List<ContentSearchDocument> findSearchDocumentsByStatus(@Param("status") Status status);
+
+    /**
+     * 대표 이미지(썸네일) URL 비정규화 컬럼 갱신
+     * @param contentId 컨텐츠 ID
+     * @param thumbnailUrl 썸네일 URL (이미지가 없으면 null)
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Content c SET c.thumbnailUrl = :thumbnailUrl WHERE c.contentId = :contentId")
+    int updateThumbnailUrl(@Param("contentId") Long contentId, @Param("thumbnailUrl") String thumbnailUrl);
+
+    /**
+     * 썸네일 URL 컬럼이 비어 있는 기존 컨텐츠를 content_img 기준으로 채움 (컬럼 추가 이전 데이터용)
+     * @return 갱신된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Content c SET c.thumbnailUrl = " +
+            "(SELECT MIN(COALESCE(ci.cardImageUrl, ci.imageUrl)) FROM ContentImage ci WHERE ci.content = c AND ci.thumbnail = true) " +
+            "WHERE c.thumbnailUrl IS NULL " +
+            "AND EXISTS (SELECT ci2 FROM ContentImage ci2 WHERE ci2.content = c AND ci2.thumbnail = true)")
+    int backfillThumbnailUrls();
+
+    /**
+     * 썸네일로 지정된 이미지가 없는 컨텐츠는 첫 번째(orderIndex 최소) 이미지로 채움
+     * (backfillThumbnailUrls 이후 실행, 기존 목록 카드의 orderIndex 0번 이미지 동작 유지)
+     * @return 갱신된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Content c SET c.thumbnailUrl = " +
+            "(SELECT MIN(COALESCE(ci.cardImageUrl, ci.imageUrl)) FROM ContentImage ci WHERE ci.content = c " +
+            "AND ci.orderIndex = (SELECT MIN(ci3.orderIndex) FROM ContentImage ci3 WHERE ci3.content = c)) " +
+            "WHERE c.thumbnailUrl IS NULL " +
+            "AND EXISTS (SELECT ci2 FROM ContentImage ci2 WHERE ci2.content = c)")
+    int backfillFirstImageThumbnailUrls();
 }
@@ -1,5 +1,6 @@
 package org.example.backend.repository;
 
+import org.example.backend.search.dto.request.SearchCursor;
 import org.example.backend.search.dto.response.SearchContentResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -16,6 +17,23 @@ public interface ContentRepositoryCustom {
      */
     Page<SearchContentResponse> findContentsByCategoryIds(List<Long> categoryIds, Pageable pageable);
 
+    /**
+     * 카테고리 ID 리스트로 컨텐츠 검색 (커서 기반, OFFSET/COUNT 없음)
+     * (updateTime, contentId) 내림차순으로 커서 이후의 행만 조회
+     * @param categoryIds 최하위 카테고리 ID 리스트
+     * @param cursor 마지막으로 받은 위치 (첫 페이지면 null)
+     * @param limit 조회할 최대 행 수
+     * @return 검색된 컨텐츠 응답 DTO 리스트
+     */
+    List<SearchContentResponse> findContentsByCategoryIdsAfter(List<Long> categoryIds, SearchCursor cursor, int limit);
+
+    /**
+     * 카테고리 ID 리스트에 속한 ACTIVE 컨텐츠 수
+     * @param categoryIds 최하위 카테고리 ID 리스트
+     * @return 컨텐츠 수
+     */
+    long countContentsByCategoryIds(List<Long> categoryIds);
+
     /**
      * 키워드로 컨텐츠 검색 (페이징 포함)
      * 컨텐츠 제목과 설명에서 키워드를 검색
@@ -24,4 +42,29 @@ public interface ContentRepositoryCustom {
      * @return 검색된 컨텐츠 응답 DTO 페이지
      */
     Page<SearchContentResponse> findContentsByKeyword(String keyword, Pageable pageable);
+
+    /**
+     * 키워드로 컨텐츠 검색 (커서 기반, 검색 인덱스 적재 전 대체용)
+     * (updateTime, contentId) 내림차순으로 커서 이후의 행만 조회
+     * @param keyword 검색 키워드
+     * @param cursor 마지막으로 받은 위치 (첫 페이지면 null)
+     * @param limit 조회할 최대 행 수
+     * @return 검색된 컨텐츠 응답 DTO 리스트
+     */
+    List<SearchContentResponse> findContentsByKeywordAfter(String keyword, SearchCursor cursor, int limit);
+
+    /**
+     * 키워드에 해당하는 ACTIVE 컨텐츠 수
+     * @param keyword 검색 키워드
+     * @return 컨텐츠 수
+     */
+    long countContentsByKeyword(String keyword);
+
+    /**
+     * 컨텐츠 ID 리스트로 검색 응답 DTO 조회 (검색 인덱스 결과 hydrate 용)
+     * ACTIVE 상태인 컨텐츠만 포함하며, 입력 ID 순서를 그대로 유지
+     * @param contentIds 컨텐츠 ID 리스트 (정렬된 상태)
+     * @return 검색된 컨텐츠 응답 DTO 리스트
+     */
+    List<SearchContentResponse> findContentsByIds(List<Long> contentIds);
 }
\ No newline at end of file
@@ -1,11 +1,14 @@
 package org.example.backend.repository;
 
+import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.Tuple;
-import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.backend.search.dto.request.SearchCursor;
 import org.example.backend.search.dto.response.SearchContentResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -13,12 +16,13 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.example.backend.entity.QContent.content;
 import static org.example.backend.entity.QCategory.category;
 import static org.example.backend.entity.QMember.member;
-import static org.example.backend.entity.QContentImage.contentImage;
 import static org.example.backend.entity.QExpertProfile.expertProfile;
 import org.example.backend.constant.Status;
 
@@ -37,30 +41,8 @@ public class ContentRepositoryImpl implements ContentRepositoryCustom {
             return new PageImpl<>(new ArrayList<>(), pageable, 0);
         }
 
-        // 썸네일 이미지 서브쿼리 (thumbnail = true로 지정된 이미지)
-        JPQLQuery<String> thumbnailSubQuery = JPAExpressions
-                .select(contentImage.imageUrl)
-                .from(contentImage)
-                .where(contentImage.content.eq(content)
-                        .and(contentImage.thumbnail.eq(true)))
-                .limit(1);
-
         // 데이터 쿼리
-        JPQLQuery<Tuple> query = queryFactory
-                .select(
-                        category.name,
-                        content.contentId,
-                        content.title,
-                        content.budget,
-                        thumbnailSubQuery,
-                        member.nickname,
-                        expertProfile.reviewCount,
-                        expertProfile.rating
-                )
-                .from(content)
-                .join(content.category, category)
-                .join(content.member, member)
-                .leftJoin(member.expertProfile, expertProfile)
+        JPQLQuery<Tuple> query = searchResultQuery()
                 .where(content.category.categoryId.in(categoryIds)
                         .and(content.status.eq(Status.ACTIVE)))
                 .orderBy(content.updateTime.desc())
@@ -70,6 +52,49 @@ public class ContentRepositoryImpl implements ContentRepositoryCustom {
         List<Tuple> tuples = query.fetch();
 
         // total count 쿼리
+        long total = countContentsByCategoryIds(categoryIds);
+
+        // DTO 변환
+        List<SearchContentResponse> contentList = toSearchContentResponses(tuples);
+
+        log.info("쿼리 DSL 컨텐츠 검색 완료 - 결과 수: {}", contentList.size());
+        return new PageImpl<>(contentList, pageable, total);
+    }
+
+    @Override
+    public List<SearchContentResponse> findContentsByCategoryIdsAfter(List<Long> categoryIds, SearchCursor cursor, int limit) {
+        log.info("쿼리 DSL 커서 기반 컨텐츠 검색 시작 - categoryIds count: {}, cursor: {}", categoryIds.size(), cursor != null);
+
+        if (categoryIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        BooleanBuilder where = new BooleanBuilder()
+                .and(content.category.categoryId.in(categoryIds))
+                .and(content.status.eq(Status.ACTIVE));
+
+        // (updateTime, contentId) 기준 seek - 마지막으로 받은 행보다 "이전" 행만 조회 (OFFSET 없음)
+        if (cursor != null) {
+            where.and(seekAfter(cursor));
+        }
+
+        List<Tuple> tuples = searchResultQuery()
+                .where(where)
+                .orderBy(content.updateTime.desc(), content.contentId.desc())
+                .limit(limit)
+                .fetch();
+
+        List<SearchContentResponse> contentList = toSearchContentResponses(tuples);
+        log.info("쿼리 DSL 커서 기반 컨텐츠 검색 완료 - 결과 수: {}", contentList.size());
+        return contentList;
+    }
+
+    @Override
+    public long countContentsByCategoryIds(List<Long> categoryIds) {
+        if (categoryIds.isEmpty()) {
+            return 0L;
+        }
+
         Long totalCount = queryFactory
                 .select(content.count())
                 .from(content)
@@ -77,88 +102,140 @@ public class ContentRepositoryImpl implements ContentRepositoryCustom {
                         .and(content.status.eq(Status.ACTIVE)))
                 .fetchOne();
 
-        long total = totalCount != null ? totalCount : 0L;
+        return totalCount != null ? totalCount : 0L;
+    }
 
-        // DTO 변환
-        List<SearchContentResponse> contentList = new ArrayList<>();
-        for (Tuple tuple : tuples) {
-            SearchContentResponse dto = new SearchContentResponse();
-            dto.setCategoryName(tuple.get(category.name));
-            dto.setContentId(tuple.get(content.contentId));
-            dto.setTitle(tuple.get(content.title));
-            dto.setBudget(tuple.get(content.budget));
-            dto.setContentThumbnailUrl(tuple.get(thumbnailSubQuery));
-            dto.setExpertName(tuple.get(member.nickname));
+    @Override
+    public Page<SearchContentResponse> findContentsByKeyword(String keyword, Pageable pageable) {
+        log.info("쿼리 DSL 키워드 검색 시작 - keyword: '{}'", keyword);
 
-            // ExpertProfile에서 리뷰 수와 평점 가져오기
-            Long reviewCountLong = tuple.get(expertProfile.reviewCount);
-            dto.setReviewCount(reviewCountLong != null ? reviewCountLong : 0L);
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return new PageImpl<>(new ArrayList<>(), pageable, 0);
+        }
 
-            Double avgRating = tuple.get(expertProfile.rating);
-            dto.setRating(avgRating != null ? Math.round(avgRating * 10.0) / 10.0 : 0.0);
+        String trimmedKeyword = keyword.trim();
 
-            contentList.add(dto);
-        }
+        // 데이터 쿼리
+        JPQLQuery<Tuple> query = searchResultQuery()
+                .where(keywordCondition(trimmedKeyword))
+                .orderBy(content.updateTime.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize());
 
-        log.info("쿼리 DSL 컨텐츠 검색 완료 - 결과 수: {}", contentList.size());
+        List<Tuple> tuples = query.fetch();
+
+        // total count 쿼리
+        Long totalCount = queryFactory
+                .select(content.count())
+                .from(content)
+                .where(keywordCondition(trimmedKeyword))
+                .fetchOne();
+
+        long total = totalCount != null ? totalCount : 0L;
+
+        // DTO 변환 (기존과 동일한 로직)
+        List<SearchContentResponse> contentList = toSearchContentResponses(tuples);
+
+        log.info("쿼리 DSL 키워드 검색 완료 - 결과 수: {}", contentList.size());
         return new PageImpl<>(contentList, pageable, total);
     }
 
     @Override
-    public Page<SearchContentResponse> findContentsByKeyword(String keyword, Pageable pageable) {
-        log.info("쿼리 DSL 키워드 검색 시작 - keyword: '{}'", keyword);
-
+    public List<SearchContentResponse> findContentsByKeywordAfter(String keyword, SearchCursor cursor, int limit) {
         if (keyword == null || keyword.trim().isEmpty()) {
-            return new PageImpl<>(new ArrayList<>(), pageable, 0);
+            return new ArrayList<>();
         }
 
-        String trimmedKeyword = keyword.trim();
+        BooleanBuilder where = new BooleanBuilder().and(keywordCondition(keyword.trim()));
+        if (cursor != null) {
+            where.and(seekAfter(cursor));
+        }
 
-        // 썸네일 이미지 서브쿼리 (thumbnail = true로 지정된 이미지)
-        JPQLQuery<String> thumbnailSubQuery = JPAExpressions
-                .select(contentImage.imageUrl)
-                .from(contentImage)
-                .where(contentImage.content.eq(content)
-                        .and(contentImage.thumbnail.eq(true)))
-                .limit(1);
+        List<Tuple> tuples = searchResultQuery()
+                .where(where)
+                .orderBy(content.updateTime.desc(), content.contentId.desc())
+                .limit(limit)
+                .fetch();
 
-        // 데이터 쿼리
-        JPQLQuery<Tuple> query = queryFactory
+        return toSearchContentResponses(tuples);
+    }
+
+    @Override
+    public long countContentsByKeyword(String keyword) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return 0L;
+        }
+        Long totalCount = queryFactory
+                .select(content.count())
+                .from(content)
+                .where(keywordCondition(keyword.trim()))
+                .fetchOne();
+        return totalCount != null ? totalCount : 0L;
+    }
+
+    // 검색 결과 목록 공통 조회 (카테고리명, 컨텐츠 요약, 전문가 닉네임/리뷰 수/평점)
+    private JPAQuery<Tuple> searchResultQuery() {
+        return queryFactory
                 .select(
                         category.name,
                         content.contentId,
                         content.title,
                         content.budget,
-                        thumbnailSubQuery,
+                        content.thumbnailUrl,
                         member.nickname,
                         expertProfile.reviewCount,
-                        expertProfile.rating
+                        expertProfile.rating,
+                        content.updateTime
                 )
                 .from(content)
                 .join(content.category, category)
                 .join(content.member, member)
-                .leftJoin(member.expertProfile, expertProfile)
-                .where((content.title.containsIgnoreCase(trimmedKeyword)
-                        .or(content.description.containsIgnoreCase(trimmedKeyword)))
-                        .and(content.status.eq(Status.ACTIVE)))
-                .orderBy(content.updateTime.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize());
+                .leftJoin(member.expertProfile, expertProfile);
+    }
 
-        List<Tuple> tuples = query.fetch();
+    // (updateTime, contentId) 기준으로 커서보다 "이전" 행
+    private BooleanExpression seekAfter(SearchCursor cursor) {
+        return content.updateTime.lt(cursor.getUpdateTime())
+                .or(content.updateTime.eq(cursor.getUpdateTime())
+                        .and(content.contentId.lt(cursor.getContentId())));
+    }
 
-        // total count 쿼리
-        Long totalCount = queryFactory
-                .select(content.count())
-                .from(content)
-                .where((content.title.containsIgnoreCase(trimmedKeyword)
-                        .or(content.description.containsIgnoreCase(trimmedKeyword)))
+    // 제목/설명에 키워드가 포함된 ACTIVE 컨텐츠
+    private BooleanExpression keywordCondition(String trimmedKeyword) {
+        return content.title.containsIgnoreCase(trimmedKeyword)
+                .or(content.description.containsIgnoreCase(trimmedKeyword))
+                .and(content.status.eq(Status.ACTIVE));
+    }
+
+    @Override
+    public List<SearchContentResponse> findContentsByIds(List<Long> contentIds) {
+        if (contentIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // 페이지에 해당하는 ID만 PK IN 조회
+        List<Tuple> tuples = searchResultQuery()
+                .where(content.contentId.in(contentIds)
                         .and(content.status.eq(Status.ACTIVE)))
-                .fetchOne();
+                .fetch();
 
-        long total = totalCount != null ? totalCount : 0L;
+        // 입력 ID 순서(검색 점수 순)대로 재정렬
+        Map<Long, SearchContentResponse> byId = new HashMap<>();
+        for (SearchContentResponse dto : toSearchContentResponses(tuples)) {
+            byId.put(dto.getContentId(), dto);
+        }
+        List<SearchContentResponse> contentList = new ArrayList<>(byId.size());
+        for (Long contentId : contentIds) {
+            SearchContentResponse dto = byId.get(contentId);
+            if (dto != null) {
+                contentList.add(dto);
+            }
+        }
+        return contentList;
+    }
 
-        // DTO 변환 (기존과 동일한 로직)
+    // 검색 결과 Tuple → 응답 DTO 변환
+    private List<SearchContentResponse> toSearchContentResponses(List<Tuple> tuples) {
         List<SearchContentResponse> contentList = new ArrayList<>();
         for (Tuple tuple : tuples) {
             SearchContentResponse dto = new SearchContentResponse();
@@ -166,7 +243,7 @@ public class ContentRepositoryImpl implements ContentRepositoryCustom {
             dto.setContentId(tuple.get(content.contentId));
             dto.setTitle(tuple.get(content.title));
             dto.setBudget(tuple.get(content.budget));
-            dto.setContentThumbnailUrl(tuple.get(thumbnailSubQuery));
+            dto.setContentThumbnailUrl(tuple.get(content.thumbnailUrl));
             dto.setExpertName(tuple.get(member.nickname));
 
             // ExpertProfile에서 리뷰 수와 평점 가져오기
@@ -175,11 +252,10 @@ public class ContentRepositoryImpl implements ContentRepositoryCustom {
 
             Double avgRating = tuple.get(expertProfile.rating);
             dto.setRating(avgRating != null ? Math.round(avgRating * 10.0) / 10.0 : 0.0);
+            dto.setUpdateTime(tuple.get(content.updateTime));
 
             contentList.add(dto);
         }
-
-        log.info("쿼리 DSL 키워드 검색 완료 - 결과 수: {}", contentList.size());
-        return new PageImpl<>(contentList, pageable, total);
+        return contentList;
     }
-}
\ No newline at end of file
+}
@@ -10,13 +10,11 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import static org.example.backend.entity.QContent.content;
-import static org.example.backend.entity.QContentImage.contentImage;
 import static org.example.backend.entity.QDetailField.detailField;
 import static org.example.backend.entity.QExpertProfile.expertProfile;
 import static org.example.backend.entity.QExpertProfileSpecialtyDetail.expertProfileSpecialtyDetail;
 import static org.example.backend.entity.QMember.member;
 import static org.example.backend.entity.QPortfolio.portfolio;
-import static org.example.backend.entity.QPortfolioImage.portfolioImage;
 import static org.example.backend.entity.QSkill.skill;
 import static org.example.backend.entity.QSkillCategory.skillCategory;
 import static org.example.backend.entity.QSpecialty.specialty;
@@ -83,14 +81,11 @@ public class ExpertProfileRepositoryImpl implements ExpertProfileRepositoryCusto
         List<ExpertContentDto> contents = queryFactory
                 .select(new QExpertContentDto(
                         content.contentId,
-                        contentImage.imageUrl,  // 첫번째 이미지 URL
+                        content.thumbnailUrl,  // 썸네일 URL (비정규화 컬럼)
                         content.title,
                         content.category.name // 카테고리 이름만 나오도록 수정
                 ))
                 .from(content)
-                .leftJoin(contentImage)
-                .on(contentImage.content.eq(content)
-                        .and(contentImage.orderIndex.eq((byte)0))) // orderIndex 0번 이미지만 조인
                 .where(content.member.eq(profile.getMember()))
                 .fetch();
 
@@ -99,13 +94,11 @@ public class ExpertProfileRepositoryImpl implements ExpertProfileRepositoryCusto
         List<ExpertPortfolioDto> portfolios = queryFactory
                 .select(new QExpertPortfolioDto(
                         portfolio.portfolioId,
-                        portfolioImage.imageUrl,
+                        portfolio.thumbnailUrl,  // 썸네일 URL (비정규화 컬럼)
                         portfolio.title,
                         portfolio.category
                 ))
                 .from(portfolio)
-                .leftJoin(portfolio.images, portfolioImage)
-                .on(portfolioImage.thumbnailCheck.eq(true))
                 .where(portfolio.expertProfile.eq(profile))
                 .fetch();
 
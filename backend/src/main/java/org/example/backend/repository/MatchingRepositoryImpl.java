@@ -2,13 +2,13 @@ package org.example.backend.repository;
 
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.Tuple;
-import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.example.backend.matchinghistory.dto.response.MatchingSummaryExpertDto;
 import org.example.backend.entity.*;
 import org.example.backend.matchinghistory.dto.request.MatchingSearchCondition;
+import org.example.backend.matchinghistory.dto.response.MatchingSummaryBaseDto;
 import org.example.backend.matchinghistory.dto.response.MatchingSummaryUserDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -16,7 +16,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.util.StringUtils;
 
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -31,7 +31,7 @@ public class MatchingRepositoryImpl implements MatchingRepositoryCustom {
      *
      * 주요 조회 대상 필드:
      * - 매칭 ID
-     * - 콘텐츠 제목 및 썸네일 이미지 (썸네일은 콘텐츠 이미지 중 orderIndex 0번인 이미지)
+     * - 콘텐츠 제목 및 썸네일 이미지 (Content.thumbnailUrl 비정규화 컬럼)
      * - 전문가 닉네임, 프로필 이미지 URL, 전화번호
      * - 매칭 상태, 작업 시작일, 작업 종료일
      * - 견적서 총 금액
@@ -43,9 +43,10 @@ public class MatchingRepositoryImpl implements MatchingRepositoryCustom {
      * - 작업 시작일 기준 포함 시작월과 종료월 (YearMonth)
      * - 매칭 상대방 닉네임 (매칭 요청자 닉네임 포함여부, 대소문자 무시)
      *
-     * 쿼리는 QueryDSL 사용, 페이징 적용하여 결과 제한
-     *
-     * 중복 매칭ID에 대해 상품 리스트를 하나의 DTO에 묶기 위해 LinkedHashMap으로 관리한다.
+     * 쿼리는 QueryDSL 사용, 두 단계로 조회한다.
+     * 1) 매칭 단위(1:1 조인만 포함)로 페이징하여 해당 페이지의 매칭 목록 조회
+     * 2) 해당 매칭 ID들의 고른 상품을 IN 쿼리 한 번으로 조회 후 매칭 ID별로 묶음
+     * 1:N(고른 상품) 조인 결과에 offset/limit을 걸면 한 페이지에 매칭이 size보다 적게 담기므로 분리한다.
      *
      * @param expertEmail 로그인한 전문가 이메일
      * @param condition 매칭 검색 조건 객체
@@ -57,17 +58,7 @@ public class MatchingRepositoryImpl implements MatchingRepositoryCustom {
         QMatching matching = QMatching.matching;
         QContent content = QContent.content;
         QMember expert = QMember.member;
-        QContentImage contentImage = QContentImage.contentImage;
         QEstimateRecord estimateRecord = QEstimateRecord.estimateRecord;
-        QSelectedProduct selectedProduct = QSelectedProduct.selectedProduct;
-
-        // 썸네일 이미지 서브쿼리
-        JPQLQuery<String> thumbnailSubQuery = JPAExpressions
-                .select(contentImage.imageUrl)
-                .from(contentImage)
-                .where(contentImage.content.eq(content)
-                        .and(contentImage.orderIndex.eq((byte) 0)))
-                .limit(1);
 
         // 조건절 정의 (BooleanBuilder 사용)
         BooleanBuilder where = new BooleanBuilder()
@@ -83,22 +74,19 @@ public class MatchingRepositoryImpl implements MatchingRepositoryCustom {
                 .select(
                         matching.matchingId,
                         content.title,
-                        thumbnailSubQuery,
+                        content.thumbnailUrl,
                         matching.member.nickname,
                         matching.member.phone,
                         matching.status,
                         matching.startDate,
                         matching.endDate,
                         matching.regTime,
-                        estimateRecord.totalPrice,
-                        selectedProduct.name,
-                        selectedProduct.price
+                        estimateRecord.totalPrice
                 )
                 .from(matching)
                 .join(matching.content, content)
                 .join(content.member, expert)
                 .leftJoin(matching.estimateRecord, estimateRecord)
-                .leftJoin(estimateRecord.selectedProducts, selectedProduct)
                 .where(where)
                 .orderBy(matching.matchingId.desc())
                 .offset(pageable.getOffset())
@@ -117,42 +105,31 @@ public class MatchingRepositoryImpl implements MatchingRepositoryCustom {
 
         long total = totalCount != null ? totalCount : 0L;
 
-        Map<Long, MatchingSummaryUserDto> dtoMap = new LinkedHashMap<>();
+        // 2단계: 페이지에 포함된 매칭들의 고른 상품 일괄 조회
+        Map<Long, List<MatchingSummaryBaseDto.SelectedItemDto>> selectedItemsMap =
+                findSelectedItemsByMatchingIds(extractMatchingIds(tuples, matching));
+
+        List<MatchingSummaryUserDto> contentList = new ArrayList<>(tuples.size());
 
         for (Tuple t : tuples) {
             Long matchingId = t.get(matching.matchingId);
-            MatchingSummaryUserDto dto = dtoMap.get(matchingId);
-
             Long totalPriceLong = t.get(estimateRecord.totalPrice);
 
-            if (dto == null) {
-                dto = MatchingSummaryUserDto.builder()
-                        .matchingId(matchingId)
-                        .contentTitle(t.get(content.title))
-                        .contentThumbnailUrl(t.get(thumbnailSubQuery))
-                        .userName(t.get(matching.member.nickname))
-                        .userPhone(t.get(matching.member.phone))
-                        .matchingStatus(t.get(matching.status))
-                        .workStartDate(t.get(matching.startDate))
-                        .workEndDate(t.get(matching.endDate))
-                        .regTime(t.get(matching.regTime))
-                        .totalPrice(totalPriceLong != null ? totalPriceLong.intValue() : null)
-                        .selectedItems(new ArrayList<>())
-                        .build();
-                dtoMap.put(matchingId, dto);
-            }
-
-            String productName = t.get(selectedProduct.name);
-            Long productPrice = t.get(selectedProduct.price);
-            if (productName != null && productPrice != null) {
-                dto.getSelectedItems().add(
-                        new MatchingSummaryUserDto.SelectedItemDto(productName, productPrice.intValue())
-                );
-            }
+            contentList.add(MatchingSummaryUserDto.builder()
+                    .matchingId(matchingId)
+                    .contentTitle(t.get(content.title))
+                    .contentThumbnailUrl(t.get(content.thumbnailUrl))
+                    .userName(t.get(matching.member.nickname))
+                    .userPhone(t.get(matching.member.phone))
+                    .matchingStatus(t.get(matching.status))
+                    .workStartDate(t.get(matching.startDate))
+                    .workEndDate(t.get(matching.endDate))
+                    .regTime(t.get(matching.regTime))
+                    .totalPrice(totalPriceLong != null ? totalPriceLong.intValue() : null)
+                    .selectedItems(selectedItemsMap.getOrDefault(matchingId, new ArrayList<>()))
+                    .build());
         }
 
-        List<MatchingSummaryUserDto> contentList = new ArrayList<>(dtoMap.values());
-
         return new PageImpl<>(contentList, pageable, total);
     }
 
@@ -162,19 +139,9 @@ public class MatchingRepositoryImpl implements MatchingRepositoryCustom {
         QContent content = QContent.content;
         QMember user = QMember.member;
         QMember expert = new QMember("expert");
-        QContentImage contentImage = QContentImage.contentImage;
         QEstimateRecord estimateRecord = QEstimateRecord.estimateRecord;
-        QSelectedProduct selectedProduct = QSelectedProduct.selectedProduct;
         QReview review = QReview.review;
 
-        // 썸네일 이미지 서브쿼리
-        JPQLQuery<String> thumbnailSubQuery = JPAExpressions
-                .select(contentImage.imageUrl)
-                .from(contentImage)
-                .where(contentImage.content.eq(content)
-                        .and(contentImage.orderIndex.eq((byte) 0)))
-                .limit(1);
-
         // 조건 추출
         BooleanBuilder where = new BooleanBuilder()
                 .and(user.email.eq(userEmail))
@@ -190,7 +157,7 @@ public class MatchingRepositoryImpl implements MatchingRepositoryCustom {
                 .select(
                         matching.matchingId,
                         content.title,
-                        thumbnailSubQuery,
+                        content.thumbnailUrl,
                         expert.nickname,
                         expert.phone,
                         matching.status,
@@ -198,8 +165,6 @@ public class MatchingRepositoryImpl implements MatchingRepositoryCustom {
                         matching.endDate,
                         matching.regTime,
                         estimateRecord.totalPrice,
-                        selectedProduct.name,
-                        selectedProduct.price,
                         review.reviewId.isNotNull() // 리뷰 존재 여부
                 )
                 .from(matching)
@@ -207,7 +172,6 @@ public class MatchingRepositoryImpl implements MatchingRepositoryCustom {
                 .join(matching.content, content)
                 .join(content.member, expert)
                 .leftJoin(matching.estimateRecord, estimateRecord)
-                .leftJoin(estimateRecord.selectedProducts, selectedProduct)
                 .leftJoin(matching.review, review) // 리뷰 테이블 조인
                 .where(where)
                 .orderBy(matching.matchingId.desc())
@@ -227,46 +191,81 @@ public class MatchingRepositoryImpl implements MatchingRepositoryCustom {
 
         long total = totalCount != null ? totalCount : 0L;
 
+        // 2단계: 페이지에 포함된 매칭들의 고른 상품 일괄 조회
+        Map<Long, List<MatchingSummaryBaseDto.SelectedItemDto>> selectedItemsMap =
+                findSelectedItemsByMatchingIds(extractMatchingIds(tuples, matching));
+
         // 변환 로직
-        Map<Long, MatchingSummaryExpertDto> dtoMap = new LinkedHashMap<>();
+        List<MatchingSummaryExpertDto> contentList = new ArrayList<>(tuples.size());
         for (Tuple t : tuples) {
             Long matchingId = t.get(matching.matchingId);
-            MatchingSummaryExpertDto dto = dtoMap.get(matchingId);
-
             Long totalPriceLong = t.get(estimateRecord.totalPrice);
             Boolean hasReview = t.get(review.reviewId.isNotNull()); // 리뷰 존재 여부 가져오기
 
-            if (dto == null) {
-                dto = MatchingSummaryExpertDto.builder()
-                        .matchingId(matchingId)
-                        .contentTitle(t.get(content.title))
-                        .contentThumbnailUrl(t.get(thumbnailSubQuery))
-                        .expertName(t.get(expert.nickname))
-                        .expertPhone(t.get(expert.phone))
-                        .matchingStatus(t.get(matching.status))
-                        .workStartDate(t.get(matching.startDate))
-                        .workEndDate(t.get(matching.endDate))
-                        .regTime(t.get(matching.regTime))
-                        .totalPrice(totalPriceLong != null ? totalPriceLong.intValue() : null)
-                        .reviewed(hasReview != null && hasReview) // 리뷰 존재 여부 설정
-                        .selectedItems(new ArrayList<>())
-                        .build();
-                dtoMap.put(matchingId, dto);
-            }
-
-            String itemName = t.get(selectedProduct.name);
-            Long itemPrice = t.get(selectedProduct.price);
-            if (itemName != null && itemPrice != null) {
-                dto.getSelectedItems().add(
-                        new MatchingSummaryExpertDto.SelectedItemDto(itemName, itemPrice.intValue())
-                );
-            }
+            contentList.add(MatchingSummaryExpertDto.builder()
+                    .matchingId(matchingId)
+                    .contentTitle(t.get(content.title))
+                    .contentThumbnailUrl(t.get(content.thumbnailUrl))
+                    .expertName(t.get(expert.nickname))
+                    .expertPhone(t.get(expert.phone))
+                    .matchingStatus(t.get(matching.status))
+                    .workStartDate(t.get(matching.startDate))
+                    .workEndDate(t.get(matching.endDate))
+                    .regTime(t.get(matching.regTime))
+                    .totalPrice(totalPriceLong != null ? totalPriceLong.intValue() : null)
+                    .reviewed(hasReview != null && hasReview) // 리뷰 존재 여부 설정
+                    .selectedItems(selectedItemsMap.getOrDefault(matchingId, new ArrayList<>()))
+                    .build());
         }
 
-        List<MatchingSummaryExpertDto> contentList = new ArrayList<>(dtoMap.values());
-
         return new PageImpl<>(contentList, pageable, total);
     }
 
+    private List<Long> extractMatchingIds(List<Tuple> tuples, QMatching matching) {
+        List<Long> matchingIds = new ArrayList<>(tuples.size());
+        for (Tuple t : tuples) {
+            matchingIds.add(t.get(matching.matchingId));
+        }
+        return matchingIds;
+    }
+
+    /**
+     * 매칭 ID 목록에 대한 고른 상품을 IN 쿼리 한 번으로 조회하여 매칭 ID별로 묶는다.
+     * 행 수는 페이지 크기 × 매칭당 상품 수로 제한된다.
+     *
+     * @param matchingIds 현재 페이지의 매칭 ID 목록
+     * @return 매칭 ID → 고른 상품 목록 (상품이 없는 매칭은 포함되지 않음)
+     */
+    private Map<Long, List<MatchingSummaryBaseDto.SelectedItemDto>> findSelectedItemsByMatchingIds(List<Long> matchingIds) {
+        Map<Long, List<MatchingSummaryBaseDto.SelectedItemDto>> result = new HashMap<>();
+        if (matchingIds.isEmpty()) {
+            return result;
+        }
 
+        QEstimateRecord estimateRecord = QEstimateRecord.estimateRecord;
+        QSelectedProduct selectedProduct = QSelectedProduct.selectedProduct;
+
+        List<Tuple> rows = queryFactory
+                .select(
+                        estimateRecord.matching.matchingId,
+                        selectedProduct.name,
+                        selectedProduct.price
+                )
+                .from(selectedProduct)
+                .join(selectedProduct.estimateRecord, estimateRecord)
+                .where(estimateRecord.matching.matchingId.in(matchingIds))
+                .orderBy(selectedProduct.SelectedProductId.asc())
+                .fetch();
+
+        for (Tuple row : rows) {
+            String itemName = row.get(selectedProduct.name);
+            Long itemPrice = row.get(selectedProduct.price);
+            if (itemName == null || itemPrice == null) {
+                continue;
+            }
+            result.computeIfAbsent(row.get(estimateRecord.matching.matchingId), k -> new ArrayList<>())
+                    .add(new MatchingSummaryBaseDto.SelectedItemDto(itemName, itemPrice.intValue()));
+        }
+        return result;
+    }
 }
\ No newline at end of file
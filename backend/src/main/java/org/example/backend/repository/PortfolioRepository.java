@@ -2,6 +2,35 @@ package org.example.backend.repository;
 
 import org.example.backend.entity.Portfolio;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface PortfolioRepository extends JpaRepository<Portfolio, Long> {
-}
\ No newline at end of file
+
+    /**
+     * 썸네일 URL 컬럼이 비어 있는 기존 포트폴리오를 portfolio_images 기준으로 채움 (컬럼 추가 이전 데이터용)
+     * @return 갱신된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Portfolio p SET p.thumbnailUrl = " +
+            "(SELECT MIN(COALESCE(pi.cardImageUrl, pi.imageUrl)) FROM PortfolioImage pi WHERE pi.portfolio = p AND pi.thumbnailCheck = true) " +
+            "WHERE p.thumbnailUrl IS NULL " +
+            "AND EXISTS (SELECT pi2 FROM PortfolioImage pi2 WHERE pi2.portfolio = p AND pi2.thumbnailCheck = true)")
+    int backfillThumbnailUrls();
+
+    /**
+     * 썸네일로 지정된 이미지가 없는 포트폴리오는 첫 번째(가장 먼저 저장된) 이미지로 채움
+     * (backfillThumbnailUrls 이후 실행, 기존 포트폴리오 카드의 첫 이미지 대체 동작 유지)
+     * @return 갱신된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Portfolio p SET p.thumbnailUrl = " +
+            "(SELECT MIN(COALESCE(pi.cardImageUrl, pi.imageUrl)) FROM PortfolioImage pi WHERE pi.portfolioImageId = " +
+            "(SELECT MIN(pi3.portfolioImageId) FROM PortfolioImage pi3 WHERE pi3.portfolio = p)) " +
+            "WHERE p.thumbnailUrl IS NULL " +
+            "AND EXISTS (SELECT pi2 FROM PortfolioImage pi2 WHERE pi2.portfolio = p)")
+    int backfillFirstImageThumbnailUrls();
+}
@@ -2,21 +2,26 @@ package org.example.backend.review;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.backend.common.AuthenticatedMemberResolver;
 import org.example.backend.constant.MatchingStatus;
 import org.example.backend.constant.Role;
 import org.example.backend.constant.Status;
 import org.example.backend.entity.*;
-import org.example.backend.exception.customException.MemberNotFoundException;
 import org.example.backend.firebase.FirebaseImageService;
+import org.example.backend.firebase.ImageUploadRequest;
+import org.example.backend.firebase.StoredImage;
 import org.example.backend.repository.*;
 import org.example.backend.review.dto.response.ReviewResponseDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.Optional;
 
 @Slf4j
@@ -27,20 +32,58 @@ public class ReviewService {
 
     private final ReviewRepository reviewRepository;
     private final FirebaseImageService firebaseImageService;
-    private final MemberRepository memberRepository;
+    private final AuthenticatedMemberResolver authenticatedMemberResolver;
     private final MatchingRepository matchingRepository;
     private final ReviewImageRepository reviewImageRepository;
     private final ContentRepository contentRepository;
+    private final TransactionTemplate transactionTemplate;
 
 
+    /**
+     * 리뷰 작성
+     * - 이미지 업로드는 트랜잭션 밖에서 먼저 끝내고(업로드 작업자도 참조 등록에 커넥션을 씀) 저장만 짧은 트랜잭션으로 처리
+     * - 업로드 전에 작성 가능 여부를 확인하고, 저장 트랜잭션에서 다시 확인 (저장이 실패하면 업로드한 이미지 정리)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void createReview(Long matchingId, String comment, Double rating, MultipartFile image, String email) {
         log.info("리뷰 생성 시작 - 매칭 ID: {}, 작성자 이메일: {}", matchingId, email);
 
-        // 작성자 조회
-        Member member = memberRepository.findByEmail(email)
-                .orElseThrow(() -> new MemberNotFoundException("작성자를 찾을 수 없습니다. 이메일: " + email));
+        // 작성자 존재 확인 (토큰의 회원 ID + 스냅샷 캐시, 없으면 MemberNotFoundException)
+        authenticatedMemberResolver.resolveSnapshot(email);
+
+        // 매칭 조회 및 검증 (업로드 전, 짧은 조회 트랜잭션)
+        transactionTemplate.executeWithoutResult(status -> findReviewableMatching(matchingId, email));
+
+        // 이미지 업로드 (트랜잭션 밖)
+        List<StoredImage> stored = image != null && !image.isEmpty()
+                ? firebaseImageService.uploadProcessedImages(
+                        List.of(new ImageUploadRequest(image, "review/" + matchingId + "_" + email)))
+                : List.of();
+        stored.forEach(uploaded -> log.info("리뷰 이미지 업로드 완료 - 이미지 URL: {}", uploaded.getImageUrl()));
+
+        // 리뷰 저장 (짧은 트랜잭션)
+        firebaseImageService.saveWithUploads(stored, () -> {
+            Matching matching = findReviewableMatching(matchingId, email);
+
+            // 리뷰 엔티티 저장
+            Review review = new Review(matching, rating, comment);
+            reviewRepository.save(review);
+
+            // ReviewImage 저장
+            for (StoredImage uploaded : stored) {
+                reviewImageRepository.save(new ReviewImage(review, uploaded.getImageUrl(), uploaded.getCardUrl(), uploaded.getThumbnailUrl()));
+            }
+
+            // 리뷰 수 및 평점 업데이트
+            ExpertProfile expertProfile = matching.getContent().getMember().getExpertProfile();
+            if (expertProfile != null) {
+                expertProfile.addRating(rating);
+            }
+        });
+    }
 
-        // 매칭 조회 및 검증
+    // 리뷰를 작성할 수 있는 매칭 조회 (완료된 매칭 + 의뢰인 본인 + 아직 리뷰 없음)
+    private Matching findReviewableMatching(Long matchingId, String email) {
         Matching matching = matchingRepository.findById(matchingId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 매칭을 찾을 수 없습니다. ID: " + matchingId));
 
@@ -58,25 +101,7 @@ public class ReviewService {
             log.info("이미 리뷰가 작성된 매칭입니다. 매칭 ID: {}", matchingId);
             throw new IllegalArgumentException("이미 리뷰가 작성된 매칭입니다.");
         }
-
-        // 리뷰 엔티티 저장
-        Review review = new Review(matching, rating, comment);
-        reviewRepository.save(review);
-
-        // 이미지 업로드 및 ReviewImage 저장
-        if (image != null && !image.isEmpty()) {
-            String imageUrl = firebaseImageService.uploadImage(image, "review/" + matchingId + "_" + member.getEmail());
-            log.info("리뷰 이미지 업로드 완료 - 이미지 URL: {}", imageUrl);
-
-            ReviewImage reviewImage = new ReviewImage(review, imageUrl);
-            reviewImageRepository.save(reviewImage);
-        }
-
-        // 리뷰 수 및 평점 업데이트
-        ExpertProfile expertProfile = matching.getContent().getMember().getExpertProfile();
-        if (expertProfile != null) {
-            expertProfile.addRating(rating);
-        }
+        return matching;
     }
 
     public ReviewResponseDto getReviewsByContentId(Long contentId, Pageable pageable) {
@@ -119,8 +144,9 @@ public class ReviewService {
         Member reviewer = review.getMatching().getMember();
 
         // 리뷰 이미지 URL (있는 경우만) - 이미 LEFT JOIN FETCH됨
-        String reviewImageUrl = review.getReviewImage() != null ?
-                review.getReviewImage().getImageUrl() : null;
+        ReviewImage reviewImage = review.getReviewImage();
+        String reviewImageUrl = reviewImage != null ? reviewImage.getImageUrl() : null;
+        String reviewImageCardUrl = reviewImage != null ? reviewImage.getListImageUrl() : null;
 
         return ReviewResponseDto.ReviewDetailDto.builder()
                 .reviewId(review.getReviewId())
@@ -129,6 +155,7 @@ public class ReviewService {
                 .reviewerNickname(reviewer.getNickname()) // 추가 쿼리 없음
                 .reviewerProfileImageUrl(reviewer.getProfileImageUrl()) // 추가 쿼리 없음
                 .reviewImageUrl(reviewImageUrl) // 추가 쿼리 없음 (만약 DTO에 이 필드가 있다면)
+                .reviewImageCardUrl(reviewImageCardUrl)
                 .createdAt(review.getRegTime().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")))
                 .build();
     }
@@ -151,7 +178,7 @@ public class ReviewService {
         // 리뷰 이미지가 존재하면 Firebase에서 삭제
         ReviewImage reviewImage = review.getReviewImage();
         if (reviewImage != null) {
-            firebaseImageService.deleteImage(reviewImage.getImageUrl());
+            firebaseImageService.deleteImages(reviewImage.getImageUrl(), reviewImage.getCardImageUrl(), reviewImage.getThumbnailImageUrl());
             // 참조도 끊어줘야 orphanRemoval 반영됨
             review.removeImage();
         }
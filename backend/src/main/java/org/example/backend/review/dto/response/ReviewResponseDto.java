@@ -48,5 +48,8 @@ public class ReviewResponseDto {
 
         @Schema(description = "리뷰 이미지 URL", example = "https://firebasestorage.googleapis.com/...")
         private String reviewImageUrl;
+
+        @Schema(description = "리뷰 이미지 목록용 축소 이미지 URL (변형이 없는 기존 이미지는 reviewImageUrl과 같음)", example = "https://firebasestorage.googleapis.com/...")
+        private String reviewImageCardUrl;
     }
 }
@@ -4,6 +4,7 @@ import io.swagger.v3.oas.annotations.Parameter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.backend.search.dto.response.SearchContentResponse;
+import org.example.backend.search.dto.response.SearchCursorResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -55,4 +56,43 @@ public class SearchController {
         log.info("키워드 검색 응답 - 전체: {}, 현재 페이지: {}", result.getTotalElements(), result.getContent().size());
         return ResponseEntity.ok(result);
     }
+
+    /**
+     * 카테고리로 컨텐츠 검색 (커서 기반, 무한 스크롤용)
+     * OFFSET/COUNT 없이 이전 응답의 nextCursor로 다음 페이지를 조회
+     * @param categoryId 카테고리 ID
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 생략)
+     * @param size 페이지 크기 (1 ~ 100으로 보정)
+     * @param withTotal 전체 건수 포함 여부 (캐시된 값)
+     * @return 검색된 컨텐츠 목록과 다음 커서
+     */
+    @GetMapping("/categories/{categoryId}/cursor")
+    public ResponseEntity<SearchCursorResponse> getCategoriesWithCursor(
+            @PathVariable Long categoryId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "12") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal
+    ) {
+        log.info("카테고리 커서 검색 - 카테고리 ID: {}, 커서: {}, 사이즈: {}", categoryId, cursor != null, size);
+        return ResponseEntity.ok(searchService.searchByCategoryWithCursor(categoryId, cursor, size, withTotal));
+    }
+
+    /**
+     * 키워드로 컨텐츠 검색 (커서 기반, 무한 스크롤용, 최근 수정순)
+     * @param keyword 검색 키워드
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 생략)
+     * @param size 페이지 크기 (1 ~ 100으로 보정)
+     * @param withTotal 전체 건수 포함 여부
+     * @return 검색된 컨텐츠 목록과 다음 커서
+     */
+    @GetMapping("/keyword/cursor")
+    public ResponseEntity<SearchCursorResponse> searchByKeywordWithCursor(
+            @RequestParam String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "12") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal
+    ) {
+        log.info("키워드 커서 검색 - 키워드: '{}', 커서: {}, 사이즈: {}", keyword, cursor != null, size);
+        return ResponseEntity.ok(searchService.searchByKeywordWithCursor(keyword, cursor, size, withTotal));
+    }
 }
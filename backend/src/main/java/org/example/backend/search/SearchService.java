@@ -4,13 +4,20 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.backend.category.service.CategoryService;
 import org.example.backend.repository.ContentRepository;
+import org.example.backend.search.dto.request.SearchCursor;
 import org.example.backend.search.dto.response.SearchContentResponse;
+import org.example.backend.search.dto.response.SearchCursorResponse;
+import org.example.backend.search.index.ContentSearchHits;
+import org.example.backend.search.index.ContentSearchIndex;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Service
@@ -20,6 +27,14 @@ public class SearchService {
 
     private final CategoryService categoryService;
     private final ContentRepository contentRepository;
+    private final ContentSearchIndex contentSearchIndex;
+
+    // 커서 조회 페이지 크기 상한 (범위를 벗어난 size는 1 ~ 상한으로 보정)
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+    // 카테고리별 전체 건수 캐시 (커서 조회에서 withTotal 요청 시 매번 COUNT 하지 않도록)
+    private static final long CATEGORY_COUNT_TTL_MILLIS = 60_000L;
+    private final Map<Long, CachedCount> categoryCountCache = new ConcurrentHashMap<>();
 
     /**
      * 카테고리 ID로 컨텐츠 검색 (페이징 포함)
@@ -44,6 +59,7 @@ public class SearchService {
     /**
      * 키워드로 컨텐츠 검색 (페이징 포함)
      * 컨텐츠 제목과 설명에서 키워드를 검색
+     * 검색 인덱스에서 BM25 점수순으로 해당 페이지의 ID만 얻은 뒤, 그 ID들만 DB에서 조회
      * @param keyword 검색 키워드
      * @param pageable 페이징 정보
      * @return 검색된 컨텐츠 목록
@@ -51,10 +67,119 @@ public class SearchService {
     public Page<SearchContentResponse> searchByKeyword(String keyword, Pageable pageable) {
         log.info("키워드 검색 시작 - keyword: '{}'", keyword);
 
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+
+        // 인덱스 적재 전(기동 직후)이면 기존 DB 검색으로 대체
+        if (!contentSearchIndex.isReady()) {
+            log.info("검색 인덱스 미적재 상태 - DB 키워드 검색 사용");
+            return contentRepository.findContentsByKeyword(keyword, pageable);
+        }
+
         // 키워드로 컨텐츠 검색 (제목 + 설명)
-        Page<SearchContentResponse> result = contentRepository.findContentsByKeyword(keyword, pageable);
+        ContentSearchHits hits = contentSearchIndex.search(keyword.trim(), pageable.getOffset(), pageable.getPageSize());
+        List<SearchContentResponse> contents = contentRepository.findContentsByIds(hits.getContentIds());
+        Page<SearchContentResponse> result = new PageImpl<>(contents, pageable, hits.getTotal());
 
         log.info("키워드 검색 완료 - 전체: {}, 현재 페이지: {}", result.getTotalElements(), result.getContent().size());
         return result;
     }
+
+    /**
+     * 카테고리 ID로 컨텐츠 검색 (커서 기반, 무한 스크롤용)
+     * OFFSET 없이 (updateTime, contentId) 기준으로 이어서 조회하며, 전체 건수는 요청 시에만 캐시된 값으로 제공
+     * @param categoryId 검색할 카테고리 ID
+     * @param cursorToken 이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size 페이지 크기 (1 ~ MAX_CURSOR_PAGE_SIZE로 보정)
+     * @param withTotal 전체 건수 포함 여부
+     * @return 검색된 컨텐츠 목록과 다음 커서
+     */
+    public SearchCursorResponse searchByCategoryWithCursor(Long categoryId, String cursorToken, int size, boolean withTotal) {
+        SearchCursor cursor = SearchCursor.decode(cursorToken);
+        size = clampPageSize(size);
+        List<Long> leafCategoryIds = categoryService.getAllSubCategoryIds(categoryId);
+
+        // 다음 페이지 존재 여부를 COUNT 없이 알기 위해 한 건 더 조회
+        List<SearchContentResponse> rows = contentRepository.findContentsByCategoryIdsAfter(leafCategoryIds, cursor, size + 1);
+        Long total = withTotal ? getCachedCategoryCount(categoryId, leafCategoryIds) : null;
+
+        return toCursorResponse(rows, size, total);
+    }
+
+    /**
+     * 키워드로 컨텐츠 검색 (커서 기반, 무한 스크롤용)
+     * 검색 인덱스 매칭 결과를 최근 수정순((updateTime, contentId) 내림차순)으로 이어서 조회
+     * 전체 건수는 인덱스 매칭 결과에서 바로 얻으므로 추가 비용이 없다.
+     * @param keyword 검색 키워드
+     * @param cursorToken 이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size 페이지 크기 (1 ~ MAX_CURSOR_PAGE_SIZE로 보정)
+     * @param withTotal 전체 건수 포함 여부
+     * @return 검색된 컨텐츠 목록과 다음 커서
+     */
+    public SearchCursorResponse searchByKeywordWithCursor(String keyword, String cursorToken, int size, boolean withTotal) {
+        SearchCursor cursor = SearchCursor.decode(cursorToken);
+        size = clampPageSize(size);
+
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return new SearchCursorResponse(List.of(), null, false, withTotal ? 0L : null);
+        }
+
+        // 인덱스 적재 전(기동 직후)이면 DB 키워드 검색으로 대체 (같은 정렬/커서)
+        if (!contentSearchIndex.isReady()) {
+            log.info("검색 인덱스 미적재 상태 - DB 키워드 커서 검색 사용");
+            List<SearchContentResponse> rows = contentRepository.findContentsByKeywordAfter(keyword, cursor, size + 1);
+            return toCursorResponse(rows, size, withTotal ? contentRepository.countContentsByKeyword(keyword) : null);
+        }
+
+        ContentSearchHits hits = contentSearchIndex.searchAfter(
+                keyword.trim(),
+                cursor != null ? cursor.getUpdateTime() : null,
+                cursor != null ? cursor.getContentId() : null,
+                size + 1
+        );
+        List<Long> contentIds = hits.getContentIds();
+        boolean hasNext = contentIds.size() > size;
+        List<SearchContentResponse> rows = contentRepository.findContentsByIds(
+                hasNext ? contentIds.subList(0, size) : contentIds);
+
+        String nextCursor = hasNext && !rows.isEmpty() ? toCursor(rows.get(rows.size() - 1)).encode() : null;
+        return new SearchCursorResponse(rows, nextCursor, hasNext, withTotal ? hits.getTotal() : null);
+    }
+
+    private SearchCursorResponse toCursorResponse(List<SearchContentResponse> rows, int size, Long total) {
+        boolean hasNext = rows.size() > size;
+        List<SearchContentResponse> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? toCursor(page.get(page.size() - 1)).encode() : null;
+        return new SearchCursorResponse(page, nextCursor, hasNext, total);
+    }
+
+    private static int clampPageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+    }
+
+    private SearchCursor toCursor(SearchContentResponse last) {
+        return new SearchCursor(last.getUpdateTime(), last.getContentId());
+    }
+
+    private long getCachedCategoryCount(Long categoryId, List<Long> leafCategoryIds) {
+        long now = System.currentTimeMillis();
+        CachedCount cached = categoryCountCache.get(categoryId);
+        if (cached != null && cached.expiresAt > now) {
+            return cached.count;
+        }
+        long count = contentRepository.countContentsByCategoryIds(leafCategoryIds);
+        categoryCountCache.put(categoryId, new CachedCount(count, now + CATEGORY_COUNT_TTL_MILLIS));
+        return count;
+    }
+
+    private static final class CachedCount {
+        private final long count;
+        private final long expiresAt;
+
+        private CachedCount(long count, long expiresAt) {
+            this.count = count;
+            this.expiresAt = expiresAt;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+package org.example.backend.search.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.example.backend.exception.customException.InvalidSearchCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서 기반 검색의 이어보기 위치 (마지막으로 받은 컨텐츠의 수정시간, 컨텐츠 ID)
+ * 클라이언트에는 내부 구조를 노출하지 않도록 Base64URL 문자열(continuation token)로 주고받는다.
+ */
+@Getter
+@AllArgsConstructor
+public class SearchCursor {
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime updateTime;
+    private final Long contentId;
+
+    public String encode() {
+        String raw = updateTime + DELIMITER + contentId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * continuation token 해석
+     * @param token 클라이언트가 보낸 토큰 (없으면 첫 페이지)
+     * @return 커서, 토큰이 비어 있으면 null
+     */
+    public static SearchCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.lastIndexOf(DELIMITER);
+            return new SearchCursor(
+                    LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+                    Long.parseLong(raw.substring(delimiterIndex + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidSearchCursorException("잘못된 검색 커서입니다.");
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package org.example.backend.search.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Data;
 import org.example.backend.entity.Category;
 
+import java.time.LocalDateTime;
+
 @Data
 public class SearchContentResponse {
     // 카테고리 이름
@@ -19,4 +22,8 @@ public class SearchContentResponse {
     private String expertName;
     private Long reviewCount;
     private Double rating;
+
+    // 커서 기반 조회의 다음 커서 생성용 (응답에는 포함하지 않음)
+    @JsonIgnore
+    private LocalDateTime updateTime;
 }
@@ -0,0 +1,19 @@
+package org.example.backend.search.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반(무한 스크롤) 검색 응답
+ * OFFSET/COUNT 없이 다음 페이지는 nextCursor로 이어서 조회한다.
+ */
+@Getter
+@AllArgsConstructor
+public class SearchCursorResponse {
+    private List<SearchContentResponse> content;
+    private String nextCursor;      // 다음 페이지 요청 시 cursor 파라미터로 전달 (마지막 페이지면 null)
+    private boolean hasNext;
+    private Long totalElements;     // withTotal=true 요청 시에만 포함 (그 외 null)
+}
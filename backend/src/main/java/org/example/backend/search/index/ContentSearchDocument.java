@@ -0,0 +1,18 @@
+package org.example.backend.search.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 인덱스 적재용 컨텐츠 projection (연관 엔티티 없이 색인 대상 컬럼만 조회)
+ */
+@Getter
+@AllArgsConstructor
+public class ContentSearchDocument {
+    private Long contentId;
+    private String title;
+    private String description;
+    private LocalDateTime updateTime;
+}
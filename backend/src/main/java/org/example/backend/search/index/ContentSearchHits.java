@@ -0,0 +1,16 @@
+package org.example.backend.search.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 검색 인덱스 조회 결과 (요청한 페이지의 컨텐츠 ID + 전체 매칭 수)
+ */
+@Getter
+@AllArgsConstructor
+public class ContentSearchHits {
+    private final long total;
+    private final List<Long> contentIds;  // 점수 내림차순
+}
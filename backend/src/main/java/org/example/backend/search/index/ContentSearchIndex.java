@@ -0,0 +1,376 @@
+package org.example.backend.search.index;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.constant.Status;
+import org.example.backend.entity.Content;
+import org.example.backend.repository.ContentRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 컨텐츠 제목/설명 역색인 (메모리 내장형)
+ * - 토큰 → (컨텐츠 ID → 가중 출현 빈도) posting 구조
+ * - BM25로 점수를 매기고, 동점이면 최근 수정순으로 정렬
+ * - 기동 시 ACTIVE 컨텐츠 전체를 한 번 읽어 적재하고, 이후 등록/수정/삭제 커밋마다 증분 반영
+ *   (재적재 중 들어온 증분 변경은 변경 로그에 남겨 새 인덱스로 교체할 때 다시 반영)
+ * LIKE '%keyword%' 풀스캔 대신 이 인덱스로 페이지에 해당하는 ID만 얻은 뒤 DB에서 해당 ID만 조회한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContentSearchIndex {
+
+    // BM25 파라미터
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // 제목에 등장한 토큰은 설명보다 가중치를 높게 준다
+    private static final int TITLE_WEIGHT = 3;
+
+    private final ContentRepository contentRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    private Map<Long, IndexedDocument> documents = new HashMap<>();
+    private long totalLength;
+    private volatile boolean ready;
+
+    // 재적재 중 반영된 증분 변경 (재적재 중이 아니면 null, write lock 안에서만 접근)
+    private List<IndexChange> changesDuringRebuild;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * ACTIVE 컨텐츠 전체로 인덱스를 새로 구성해 교체
+     * DB 조회 전부터 교체 시점까지의 index()/remove()는 변경 로그에 기록했다가 새 인덱스에 순서대로 다시 적용한다.
+     * (조회 결과에 이미 포함된 변경을 다시 적용해도 결과는 같음)
+     */
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List<ContentSearchDocument> sources;
+        try {
+            sources = contentRepository.findSearchDocumentsByStatus(Status.ACTIVE);
+        } catch (RuntimeException e) {
+            stopRecordingChanges();
+            throw e;
+        }
+
+        NavigableMap<String, Map<Long, Integer>> newPostings = new TreeMap<>();
+        Map<Long, IndexedDocument> newDocuments = new HashMap<>(sources.size() * 2);
+        long newTotalLength = 0;
+        for (ContentSearchDocument source : sources) {
+            IndexedDocument document = analyze(source.getTitle(), source.getDescription(), source.getUpdateTime());
+            addPostings(newPostings, source.getContentId(), document);
+            newDocuments.put(source.getContentId(), document);
+            newTotalLength += document.length;
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings = newPostings;
+            documents = newDocuments;
+            totalLength = newTotalLength;
+            for (IndexChange change : changesDuringRebuild) {
+                applyInternal(change.contentId, change.document);
+            }
+            log.info("컨텐츠 검색 인덱스 적재 완료 - 문서 수: {}, 토큰 수: {}, 적재 중 변경 반영: {}",
+                    documents.size(), postings.size(), changesDuringRebuild.size());
+            changesDuringRebuild = null;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void stopRecordingChanges() {
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 컨텐츠 색인 (이미 색인된 경우 교체)
+     */
+    public void index(Long contentId, String title, String description, LocalDateTime updateTime) {
+        apply(contentId, analyze(title, description, updateTime));
+    }
+
+    /**
+     * 컨텐츠를 인덱스에서 제거
+     */
+    public void remove(Long contentId) {
+        apply(contentId, null);
+    }
+
+    // 증분 변경 반영 (document가 null이면 제거), 재적재 중이면 변경 로그에도 기록
+    private void apply(Long contentId, IndexedDocument document) {
+        lock.writeLock().lock();
+        try {
+            applyInternal(contentId, document);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(new IndexChange(contentId, document));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void applyInternal(Long contentId, IndexedDocument document) {
+        removeInternal(contentId);
+        if (document != null) {
+            addPostings(postings, contentId, document);
+            documents.put(contentId, document);
+            totalLength += document.length;
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 후 컨텐츠 상태에 맞게 인덱스 반영
+     * (롤백된 변경이 인덱스에 남지 않도록 커밋 이후에 반영)
+     */
+    public void syncAfterCommit(Content content) {
+        runAfterCommit(() -> {
+            if (content.getStatus() == Status.ACTIVE) {
+                index(content.getContentId(), content.getTitle(), content.getDescription(), content.getUpdateTime());
+            } else {
+                remove(content.getContentId());
+            }
+        });
+    }
+
+    /**
+     * 키워드 검색
+     * 모든 질의 토큰이 등장하는 컨텐츠만 매칭하며(AND), BM25 점수 내림차순으로 정렬
+     * @param keyword 검색 키워드
+     * @param offset 건너뛸 결과 수
+     * @param limit 반환할 최대 결과 수
+     * @return 해당 페이지의 컨텐츠 ID와 전체 매칭 수
+     */
+    public ContentSearchHits search(String keyword, long offset, int limit) {
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = matchScores(keyword);
+
+            List<Map.Entry<Long, Double>> ranked = new ArrayList<>(scores.entrySet());
+            ranked.sort((a, b) -> {
+                int byScore = Double.compare(b.getValue(), a.getValue());
+                if (byScore != 0) return byScore;
+                return compareRecency(a.getKey(), b.getKey());
+            });
+
+            List<Long> pageIds = new ArrayList<>(Math.min(limit, ranked.size()));
+            for (long i = offset; i < ranked.size() && pageIds.size() < limit; i++) {
+                pageIds.add(ranked.get((int) i).getKey());
+            }
+            return new ContentSearchHits(ranked.size(), pageIds);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 키워드 검색 (커서 기반)
+     * 매칭 조건은 search()와 같고, (updateTime, contentId) 내림차순으로 커서 이후 항목만 반환
+     * @param keyword 검색 키워드
+     * @param cursorUpdateTime 마지막으로 받은 컨텐츠의 수정시간 (첫 페이지면 null)
+     * @param cursorContentId 마지막으로 받은 컨텐츠 ID (첫 페이지면 null)
+     * @param limit 반환할 최대 결과 수
+     * @return 커서 이후 컨텐츠 ID와 전체 매칭 수
+     */
+    public ContentSearchHits searchAfter(String keyword, LocalDateTime cursorUpdateTime, Long cursorContentId, int limit) {
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = matchScores(keyword);
+
+            List<Long> candidates = new ArrayList<>();
+            for (Long contentId : scores.keySet()) {
+                if (cursorContentId == null || isBefore(contentId, cursorUpdateTime, cursorContentId)) {
+                    candidates.add(contentId);
+                }
+            }
+            candidates.sort(this::compareRecency);
+
+            List<Long> pageIds = candidates.size() > limit ? new ArrayList<>(candidates.subList(0, limit)) : candidates;
+            return new ContentSearchHits(scores.size(), pageIds);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 모든 질의 토큰이 매칭된 문서별 BM25 점수 합 (read lock 안에서 호출)
+    private Map<Long, Double> matchScores(String keyword) {
+        Set<String> queryTokens = new LinkedHashSet<>(ContentTokenizer.tokenize(keyword));
+        if (queryTokens.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        int documentCount = documents.size();
+        double avgLength = documentCount == 0 ? 0 : (double) totalLength / documentCount;
+
+        Map<Long, Double> scores = null;
+        for (String queryToken : queryTokens) {
+            Map<Long, Double> tokenScores = scoreToken(queryToken, documentCount, avgLength);
+            if (scores == null) {
+                scores = tokenScores;
+            } else {
+                // AND: 이전 토큰까지 매칭된 문서 중 이번 토큰도 매칭된 문서만 남긴다
+                Map<Long, Double> merged = new HashMap<>();
+                for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                    Double tokenScore = tokenScores.get(entry.getKey());
+                    if (tokenScore != null) {
+                        merged.put(entry.getKey(), entry.getValue() + tokenScore);
+                    }
+                }
+                scores = merged;
+            }
+            if (scores.isEmpty()) {
+                break;
+            }
+        }
+        return scores;
+    }
+
+    // 최근 수정순 (수정시간 내림차순, 같으면 ID 내림차순)
+    private int compareRecency(Long a, Long b) {
+        int byTime = documents.get(b).updateTime.compareTo(documents.get(a).updateTime);
+        if (byTime != 0) return byTime;
+        return Long.compare(b, a);
+    }
+
+    // (updateTime, contentId)가 커서보다 앞선(더 오래된) 문서인지
+    private boolean isBefore(Long contentId, LocalDateTime cursorUpdateTime, Long cursorContentId) {
+        int byTime = documents.get(contentId).updateTime.compareTo(cursorUpdateTime);
+        return byTime < 0 || (byTime == 0 && contentId < cursorContentId);
+    }
+
+    // 질의 토큰 하나에 대한 문서별 BM25 점수 (접두어 확장 토큰은 합산)
+    private Map<Long, Double> scoreToken(String queryToken, int documentCount, double avgLength) {
+        Map<Long, Double> tokenScores = new HashMap<>();
+        Map<String, Map<Long, Integer>> matchedTerms = ContentTokenizer.isPrefixToken(queryToken)
+                ? postings.subMap(queryToken, true, queryToken + Character.MAX_VALUE, false)
+                : singleTerm(queryToken);
+
+        for (Map<Long, Integer> posting : matchedTerms.values()) {
+            double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+            for (Map.Entry<Long, Integer> entry : posting.entrySet()) {
+                int tf = entry.getValue();
+                int length = documents.get(entry.getKey()).length;
+                double norm = tf + K1 * (1 - B + B * (avgLength == 0 ? 1 : length / avgLength));
+                tokenScores.merge(entry.getKey(), idf * (tf * (K1 + 1)) / norm, Double::sum);
+            }
+        }
+        return tokenScores;
+    }
+
+    private Map<String, Map<Long, Integer>> singleTerm(String term) {
+        Map<Long, Integer> posting = postings.get(term);
+        return posting == null ? Collections.emptyMap() : Collections.singletonMap(term, posting);
+    }
+
+    private void removeInternal(Long contentId) {
+        IndexedDocument previous = documents.remove(contentId);
+        if (previous == null) {
+            return;
+        }
+        for (String term : previous.termFrequencies.keySet()) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(contentId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= previous.length;
+    }
+
+    private static void addPostings(NavigableMap<String, Map<Long, Integer>> target, Long contentId, IndexedDocument document) {
+        for (Map.Entry<String, Integer> entry : document.termFrequencies.entrySet()) {
+            target.computeIfAbsent(entry.getKey(), k -> new HashMap<>()).put(contentId, entry.getValue());
+        }
+    }
+
+    private static IndexedDocument analyze(String title, String description, LocalDateTime updateTime) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        int length = 0;
+        for (String token : ContentTokenizer.tokenize(title)) {
+            termFrequencies.merge(token, TITLE_WEIGHT, Integer::sum);
+            length += TITLE_WEIGHT;
+        }
+        for (String token : ContentTokenizer.tokenize(description)) {
+            termFrequencies.merge(token, 1, Integer::sum);
+            length++;
+        }
+        // DB(DATETIME(6))에 저장된 값과 같은 정밀도로 맞춰 커서 비교가 어긋나지 않도록 함
+        LocalDateTime indexedUpdateTime = updateTime != null ? updateTime.truncatedTo(ChronoUnit.MICROS) : LocalDateTime.MIN;
+        return new IndexedDocument(termFrequencies, length, indexedUpdateTime);
+    }
+
+    private static void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static final class IndexChange {
+        private final Long contentId;
+        private final IndexedDocument document;   // null이면 제거
+
+        private IndexChange(Long contentId, IndexedDocument document) {
+            this.contentId = contentId;
+            this.document = document;
+        }
+    }
+
+    private static final class IndexedDocument {
+        private final Map<String, Integer> termFrequencies;
+        private final int length;
+        private final LocalDateTime updateTime;
+
+        private IndexedDocument(Map<String, Integer> termFrequencies, int length, LocalDateTime updateTime) {
+            this.termFrequencies = termFrequencies;
+            this.length = length;
+            this.updateTime = updateTime;
+        }
+    }
+}
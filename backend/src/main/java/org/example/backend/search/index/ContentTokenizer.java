@@ -0,0 +1,78 @@
+package org.example.backend.search.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색 인덱스용 토크나이저
+ * - 한글 연속 구간: 2-gram(bigram)으로 분해 (1글자 구간은 그대로 1-gram)
+ *   예) "로고디자인" → 로고, 고디, 디자, 자인
+ * - 영문/숫자 연속 구간: 소문자 단어 하나로 취급
+ * - 그 외 문자(공백, 구두점, 기호)는 구분자
+ * 형태소 분석기 없이도 "디자인" 검색이 "로고디자인"에 매칭되도록 하기 위함
+ */
+public final class ContentTokenizer {
+
+    private ContentTokenizer() {
+    }
+
+    /**
+     * 텍스트를 토큰 리스트로 분해 (중복 포함, 등장 순서 유지)
+     * @param text 원문
+     * @return 토큰 리스트
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            char c = text.charAt(i);
+            if (isHangul(c)) {
+                int start = i;
+                while (i < length && isHangul(text.charAt(i))) {
+                    i++;
+                }
+                addHangulGrams(text, start, i, tokens);
+            } else if (Character.isLetterOrDigit(c)) {
+                int start = i;
+                while (i < length && Character.isLetterOrDigit(text.charAt(i)) && !isHangul(text.charAt(i))) {
+                    i++;
+                }
+                tokens.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+            } else {
+                i++;
+            }
+        }
+        return tokens;
+    }
+
+    private static void addHangulGrams(String text, int start, int end, List<String> tokens) {
+        if (end - start == 1) {
+            tokens.add(text.substring(start, end));
+            return;
+        }
+        for (int j = start; j + 2 <= end; j++) {
+            tokens.add(text.substring(j, j + 2));
+        }
+    }
+
+    /**
+     * 접두어 확장이 필요한 질의 토큰인지 여부
+     * 영문/숫자 단어(예: "java" → "javascript")와 한글 1글자 토큰(예: "앱" → "앱개", "앱패")은
+     * 사전에서 접두어가 일치하는 토큰까지 함께 찾는다.
+     */
+    static boolean isPrefixToken(String token) {
+        return !isHangul(token.charAt(0)) || token.length() == 1;
+    }
+
+    static boolean isHangul(char c) {
+        return (c >= '\uAC00' && c <= '\uD7A3')     // 완성형 음절
+                || (c >= '\u1100' && c <= '\u11FF')  // 자모
+                || (c >= '\u3130' && c <= '\u318F'); // 호환 자모
+    }
+}
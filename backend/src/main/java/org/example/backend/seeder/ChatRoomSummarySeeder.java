@@ -0,0 +1,29 @@
+package org.example.backend.seeder;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.repository.ChatRoomRepository;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방 최근 메시지 미리보기 컬럼(chat_room.last_message_preview) 추가 이전에
+ * 저장된 채팅방의 값을 메시지 테이블 기준으로 채운다. 이미 채워진 행은 건드리지 않는다.
+ */
+@Slf4j
+@Component
+public class ChatRoomSummarySeeder implements CommandLineRunner {
+
+    private final ChatRoomRepository chatRoomRepository;
+
+    public ChatRoomSummarySeeder(ChatRoomRepository chatRoomRepository) {
+        this.chatRoomRepository = chatRoomRepository;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        int rooms = chatRoomRepository.backfillLastMessagePreviews();
+        if (rooms > 0) {
+            log.info("채팅방 최근 메시지 미리보기 채움 - 채팅방: {}", rooms);
+        }
+    }
+}
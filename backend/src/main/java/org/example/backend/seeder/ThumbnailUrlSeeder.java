@@ -0,0 +1,37 @@
+package org.example.backend.seeder;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.repository.ContentRepository;
+import org.example.backend.repository.PortfolioRepository;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * 썸네일 URL 비정규화 컬럼(content.thumbnail_url, portfolios.thumbnail_url) 추가 이전에
+ * 저장된 데이터의 컬럼 값을 이미지 테이블 기준으로 채운다. 이미 채워진 행은 건드리지 않는다.
+ */
+@Slf4j
+@Component
+public class ThumbnailUrlSeeder implements CommandLineRunner {
+
+    private final ContentRepository contentRepository;
+    private final PortfolioRepository portfolioRepository;
+
+    public ThumbnailUrlSeeder(ContentRepository contentRepository,
+                              PortfolioRepository portfolioRepository) {
+        this.contentRepository = contentRepository;
+        this.portfolioRepository = portfolioRepository;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        // 썸네일 지정 이미지 우선, 지정된 이미지가 없으면 첫 번째 이미지
+        int contents = contentRepository.backfillThumbnailUrls()
+                + contentRepository.backfillFirstImageThumbnailUrls();
+        int portfolios = portfolioRepository.backfillThumbnailUrls()
+                + portfolioRepository.backfillFirstImageThumbnailUrls();
+        if (contents > 0 || portfolios > 0) {
+            log.info("썸네일 URL 컬럼 채움 - 컨텐츠: {}, 포트폴리오: {}", contents, portfolios);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.backend.category.index;
+
+import org.example.backend.category.dto.CategoryNodeDto;
+import org.example.backend.category.dto.CategoryTreeDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CategoryIndexTest {
+
+    private CategoryIndex index;
+
+    @BeforeEach
+    void setup() {
+        // 디자인(1) ─ 로고·브랜딩(2) ─ 로고 디자인(3), 브랜드 디자인(4)
+        //          └ AI 디자인(5)  ─ AI 디자인(6)
+        // 전자책(7) ─ 창업 전자책(8)  (하위 없음)
+        index = CategoryIndex.build(1L, List.of(
+                new CategoryNodeDto(1L, "디자인", null),
+                new CategoryNodeDto(2L, "로고·브랜딩", 1L),
+                new CategoryNodeDto(3L, "로고 디자인", 2L),
+                new CategoryNodeDto(4L, "브랜드 디자인", 2L),
+                new CategoryNodeDto(5L, "AI 디자인", 1L),
+                new CategoryNodeDto(6L, "AI 디자인", 5L),
+                new CategoryNodeDto(7L, "전자책", null),
+                new CategoryNodeDto(8L, "창업 전자책", 7L)
+        ));
+    }
+
+    @Test
+    void getLeafCategoryIds_최상위_카테고리() {
+        assertEquals(List.of(3L, 4L, 6L), index.getLeafCategoryIds(1L));
+        assertEquals(List.of(8L), index.getLeafCategoryIds(7L));
+    }
+
+    @Test
+    void getLeafCategoryIds_최하위_카테고리는_자기자신() {
+        assertEquals(List.of(3L), index.getLeafCategoryIds(3L));
+        assertEquals(List.of(8L), index.getLeafCategoryIds(8L));
+    }
+
+    @Test
+    void getLeafCategoryIds_존재하지_않는_카테고리() {
+        assertNull(index.getLeafCategoryIds(999L));
+        assertNull(index.getLeafCategoryIds(null));
+    }
+
+    @Test
+    void getFullPath() {
+        assertEquals("디자인 > 로고·브랜딩 > 로고 디자인", index.getFullPath(3L));
+        assertEquals("전자책", index.getFullPath(7L));
+        assertNull(index.getFullPath(999L));
+    }
+
+    @Test
+    void toTree() {
+        List<CategoryTreeDto> tree = index.toTree();
+
+        assertEquals(2, tree.size());
+        assertEquals("디자인", tree.get(0).getName());
+        assertEquals(2, tree.get(0).getChildren().size());
+        assertEquals(4L, tree.get(0).getChildren().get(0).getChildren().get(1).getId());
+        assertTrue(tree.get(1).getChildren().get(0).getChildren().isEmpty());
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.backend.chat.broker;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 로컬 Redis(localhost:6379, -Dredis.test.host/-Dredis.test.port로 변경)를 통한 인스턴스 간 전달 확인
+ * Redis에 연결할 수 없으면 건너뛴다.
+ */
+class RedisChatBroadcasterIntegrationTest {
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisMessageListenerContainer listenerContainer;
+
+    @BeforeEach
+    void setup() {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(
+                System.getProperty("redis.test.host", "localhost"),
+                Integer.getInteger("redis.test.port", 6379));
+        connectionFactory = new LettuceConnectionFactory(configuration,
+                LettuceClientConfiguration.builder().commandTimeout(Duration.ofSeconds(2)).build());
+        connectionFactory.afterPropertiesSet();
+        assumeTrue(isRedisAvailable(), "로컬 Redis에 연결할 수 없어 건너뜀");
+
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (listenerContainer != null) {
+            listenerContainer.destroy();
+        }
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void 다른_인스턴스에서_발행한_메시지를_로컬_브로커로_전달() throws Exception {
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+        SimpMessagingTemplate sender = mock(SimpMessagingTemplate.class);
+        SimpMessagingTemplate receiver = mock(SimpMessagingTemplate.class);
+        RedisChatBroadcaster publishing = newBroadcaster(redisTemplate, sender);
+        RedisChatBroadcaster subscribing = newBroadcaster(redisTemplate, receiver);
+        subscribing.subscribe();
+
+        // 구독이 연결되기 전에 발행한 메시지는 유실되므로 전달될 때까지 다시 발행
+        String destination = ChatDestinations.chatRoom(3L);
+        for (int i = 0; i < 50 && mockingDetails(receiver).getInvocations().isEmpty(); i++) {
+            publishing.broadcast(destination, Map.of("message", "안녕하세요"));
+            Thread.sleep(100);
+        }
+
+        ArgumentCaptor<Object> delivered = ArgumentCaptor.forClass(Object.class);
+        verify(receiver, atLeastOnce()).convertAndSend(eq(destination), delivered.capture());
+        assertEquals("안녕하세요", ((JsonNode) delivered.getValue()).get("message").asText());
+        verifyNoInteractions(sender);
+    }
+
+    private RedisChatBroadcaster newBroadcaster(StringRedisTemplate redisTemplate, SimpMessagingTemplate messagingTemplate) {
+        SimpUserRegistry registry = mock(SimpUserRegistry.class);
+        when(registry.findSubscriptions(any())).thenReturn(Set.of());
+        return new RedisChatBroadcaster(redisTemplate, messagingTemplate, new ObjectMapper(),
+                new BrokerFanoutMetrics(registry), listenerContainer);
+    }
+
+    private boolean isRedisAvailable() {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            return "PONG".equals(connection.ping());
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.backend.chat.broker;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class RedisChatBroadcasterTest {
+
+    private StringRedisTemplate redisTemplate;
+    private SimpMessagingTemplate messagingTemplate;
+    private BrokerFanoutMetrics metrics;
+    private RedisChatBroadcaster broadcaster;
+
+    @BeforeEach
+    void setup() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        messagingTemplate = mock(SimpMessagingTemplate.class);
+        SimpUserRegistry registry = mock(SimpUserRegistry.class);
+        when(registry.findSubscriptions(any())).thenReturn(Set.of());
+        metrics = new BrokerFanoutMetrics(registry);
+        broadcaster = new RedisChatBroadcaster(redisTemplate, messagingTemplate, new ObjectMapper(),
+                metrics, mock(RedisMessageListenerContainer.class));
+    }
+
+    @Test
+    void broadcast_봉투를_Redis_채널로_발행하고_수신시_로컬_브로커로_전달() throws Exception {
+        broadcaster.broadcast("/topic/chatroom.3", Map.of("message", "안녕하세요"));
+
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(RedisChatBroadcaster.CHANNEL), published.capture());
+        verifyNoInteractions(messagingTemplate);
+
+        broadcaster.onMessage(new DefaultMessage(RedisChatBroadcaster.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                published.getValue().getBytes(StandardCharsets.UTF_8)), null);
+
+        ArgumentCaptor<Object> delivered = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate).convertAndSend(eq("/topic/chatroom.3"), delivered.capture());
+        assertEquals("안녕하세요", ((JsonNode) delivered.getValue()).get("message").asText());
+
+        BrokerFanoutMetrics.DestinationStats stats = metrics.snapshot().get("/topic/chatroom.{id}");
+        assertEquals(1, stats.getPublished());
+        assertEquals(1, stats.getDelivered());
+        assertEquals(0, stats.getFailed());
+    }
+
+    @Test
+    void normalize_숫자_경로는_id로_묶음() {
+        assertEquals("/topic/chatroom.{id}", BrokerFanoutMetrics.normalize("/topic/chatroom.42"));
+        assertEquals("/topic/user/{id}/typing", BrokerFanoutMetrics.normalize("/topic/user/7/typing"));
+        assertEquals("/topic/notice", BrokerFanoutMetrics.normalize("/topic/notice"));
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.backend.chat.persistence;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ChatIdAllocatorTest {
+
+    private static final String RESERVE_SQL =
+            "UPDATE id_block_sequence SET next_val = next_val + ? WHERE sequence_name = ?";
+    private static final String SELECT_SQL =
+            "SELECT next_val FROM id_block_sequence WHERE sequence_name = ?";
+
+    private static PlatformTransactionManager transactionManager() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        return transactionManager;
+    }
+
+    @Test
+    void 대역_안에서는_DB_조회_없이_순서대로_발급() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.update(RESERVE_SQL, 3, ChatIdAllocator.SEQUENCE_NAME)).thenReturn(1);
+        // 첫 대역 42~44, 두 번째 대역 50~52 (그 사이는 다른 인스턴스가 가져감)
+        when(jdbcTemplate.queryForObject(SELECT_SQL, Long.class, ChatIdAllocator.SEQUENCE_NAME)).thenReturn(45L, 53L);
+
+        ChatIdAllocator allocator = new ChatIdAllocator(jdbcTemplate, transactionManager(), 3);
+
+        assertEquals(42L, allocator.nextId());
+        assertEquals(43L, allocator.nextId());
+        assertEquals(44L, allocator.nextId());
+        assertEquals(50L, allocator.nextId());
+        verify(jdbcTemplate, times(2)).update(RESERVE_SQL, 3, ChatIdAllocator.SEQUENCE_NAME);
+    }
+
+    @Test
+    void 시퀀스_행이_없으면_chat_message_최대값_다음부터_생성() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.update(RESERVE_SQL, 10, ChatIdAllocator.SEQUENCE_NAME)).thenReturn(0, 1);
+        when(jdbcTemplate.queryForObject("SELECT COALESCE(MAX(chat_id), 0) FROM chat_message", Long.class)).thenReturn(41L);
+        when(jdbcTemplate.queryForObject(SELECT_SQL, Long.class, ChatIdAllocator.SEQUENCE_NAME)).thenReturn(52L);
+
+        ChatIdAllocator allocator = new ChatIdAllocator(jdbcTemplate, transactionManager(), 10);
+
+        assertEquals(42L, allocator.nextId());
+        verify(jdbcTemplate).update("INSERT INTO id_block_sequence (sequence_name, next_val) VALUES (?, ?)",
+                ChatIdAllocator.SEQUENCE_NAME, 42L);
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.backend.chat.persistence;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ChatMessageBatchWriterTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 안읽은_수_증가는_메시지마다_한_행으로_바인딩() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        doAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        ChatMessageBatchWriter writer = new ChatMessageBatchWriter(jdbcTemplate, transactionTemplate);
+
+        LocalDateTime now = LocalDateTime.now();
+        writer.write(List.of(
+                new PendingChatMessage(11L, 1L, 7L, "a", now),
+                new PendingChatMessage(12L, 1L, 7L, "b", now),
+                new PendingChatMessage(13L, 1L, 8L, "c", now),
+                new PendingChatMessage(14L, 2L, 7L, "d", now)
+        ));
+
+        ArgumentCaptor<List<Object[]>> args = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE chat_room_member SET unread_count"), args.capture());
+
+        List<Object[]> unread = args.getValue();
+        assertEquals(4, unread.size());
+        // {채팅방, 보낸 사람, 메시지 ID}
+        assertArrayEquals(new Object[]{1L, 7L, 11L}, unread.get(0));
+        assertArrayEquals(new Object[]{1L, 7L, 12L}, unread.get(1));
+        assertArrayEquals(new Object[]{1L, 8L, 13L}, unread.get(2));
+        assertArrayEquals(new Object[]{2L, 7L, 14L}, unread.get(3));
+    }
+
+    @Test
+    void 배치_중간까지_읽은_참여자는_읽은_위치_이후_메시지만큼_증가() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:chat_batch_writer;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE chat_message (chat_id BIGINT PRIMARY KEY, chatroom_id BIGINT, sender_id BIGINT, " +
+                "message VARCHAR(1000), is_read BOOLEAN, send_at TIMESTAMP, reg_time TIMESTAMP, update_time TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE chat_room (chatroom_id BIGINT PRIMARY KEY, last_message_time TIMESTAMP, " +
+                "last_message_preview VARCHAR(255))");
+        jdbcTemplate.execute("CREATE TABLE chat_room_member (chat_room_id BIGINT, member_id BIGINT, " +
+                "unread_count INT, last_read_chat_id BIGINT)");
+        jdbcTemplate.update("INSERT INTO chat_room (chatroom_id) VALUES (1)");
+        // 8번: 12번 메시지까지 이미 읽음 처리(기록 전에 읽음), 9번: 읽은 적 없음
+        jdbcTemplate.update("INSERT INTO chat_room_member VALUES (1, 8, 0, 12)");
+        jdbcTemplate.update("INSERT INTO chat_room_member VALUES (1, 9, 0, NULL)");
+
+        ChatMessageBatchWriter writer = new ChatMessageBatchWriter(jdbcTemplate,
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+        LocalDateTime now = LocalDateTime.now();
+        writer.write(List.of(
+                new PendingChatMessage(11L, 1L, 7L, "a", now),
+                new PendingChatMessage(12L, 1L, 7L, "b", now),
+                new PendingChatMessage(13L, 1L, 7L, "c", now)
+        ));
+
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT unread_count FROM chat_room_member WHERE member_id = 8", Integer.class));
+        assertEquals(3, jdbcTemplate.queryForObject(
+                "SELECT unread_count FROM chat_room_member WHERE member_id = 9", Integer.class));
+    }
+}
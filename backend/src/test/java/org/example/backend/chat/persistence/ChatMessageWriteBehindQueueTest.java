@@ -0,0 +1,163 @@
+package org.example.backend.chat.persistence;
+
+import org.example.backend.exception.customException.ChatMessageQueueFullException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ChatMessageWriteBehindQueueTest {
+
+    private static ChatIdAllocator sequentialAllocator() {
+        AtomicLong sequence = new AtomicLong();
+        ChatIdAllocator allocator = mock(ChatIdAllocator.class);
+        when(allocator.tryNextId()).thenAnswer(inv -> sequence.incrementAndGet());
+        return allocator;
+    }
+
+    @Test
+    void shutdown_시_대기중인_메시지를_ID_순서대로_모두_기록() {
+        List<Long> written = Collections.synchronizedList(new ArrayList<>());
+        ChatMessageBatchWriter writer = mock(ChatMessageBatchWriter.class);
+        doAnswer(inv -> {
+            List<PendingChatMessage> batch = inv.getArgument(0);
+            assertTrue(batch.size() <= ChatMessageWriteBehindQueue.MAX_BATCH_SIZE);
+            batch.forEach(m -> written.add(m.getChatId()));
+            return null;
+        }).when(writer).write(anyList());
+
+        ChatMessageWriteBehindQueue queue = new ChatMessageWriteBehindQueue(writer, sequentialAllocator());
+        queue.start();
+        for (int i = 1; i <= 1_200; i++) {
+            queue.submit(1L, 1L, "msg" + i);
+        }
+        queue.shutdown();
+
+        assertEquals(1_200, written.size());
+        for (int i = 0; i < written.size(); i++) {
+            assertEquals(i + 1L, written.get(i));
+        }
+        assertEquals(1_200L, queue.getFlushedMessageCount());
+        assertEquals(0, queue.getQueueDepth());
+    }
+
+    @Test
+    void 묶음_기록_실패시_문제_메시지만_dead_letter로_보관() {
+        List<Long> written = new ArrayList<>();
+        ChatMessageBatchWriter writer = mock(ChatMessageBatchWriter.class);
+        doAnswer(inv -> {
+            List<PendingChatMessage> batch = inv.getArgument(0);
+            if (batch.stream().anyMatch(m -> m.getChatId() == 2L)) {
+                throw new IllegalStateException("bad row");
+            }
+            batch.forEach(m -> written.add(m.getChatId()));
+            return null;
+        }).when(writer).write(anyList());
+
+        ChatMessageWriteBehindQueue queue = new ChatMessageWriteBehindQueue(writer, sequentialAllocator());
+        queue.start();
+        queue.submit(1L, 1L, "a");
+        queue.submit(1L, 1L, "b");
+        queue.submit(1L, 1L, "c");
+        queue.shutdown();
+
+        assertEquals(List.of(1L, 3L), written);
+        verify(writer).writeDeadLetter(argThat(m -> m.getChatId() == 2L), any(IllegalStateException.class));
+        assertEquals(1L, queue.getDeadLetterCount());
+        assertEquals(2L, queue.getFlushedMessageCount());
+        assertEquals(0L, queue.getFailedMessageCount());
+    }
+
+    @Test
+    void DB_장애시_dead_letter도_실패하면_재시도후_실패건수_집계() {
+        ChatMessageBatchWriter writer = mock(ChatMessageBatchWriter.class);
+        doThrow(new IllegalStateException("db down")).when(writer).write(anyList());
+        doThrow(new IllegalStateException("db down")).when(writer).writeDeadLetter(any(), any());
+
+        ChatMessageWriteBehindQueue queue = new ChatMessageWriteBehindQueue(writer, sequentialAllocator());
+        queue.start();
+        queue.submit(1L, 1L, "a");
+        queue.submit(1L, 1L, "b");
+        queue.shutdown();
+
+        assertEquals(2L, queue.getFailedMessageCount());
+        assertEquals(0L, queue.getDeadLetterCount());
+    }
+
+    @Test
+    void 대기열이_가득_차면_호출_스레드에서_기록하지_않고_거절() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ChatMessageBatchWriter writer = mock(ChatMessageBatchWriter.class);
+        doAnswer(inv -> {
+            writing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(writer).write(anyList());
+
+        ChatMessageWriteBehindQueue queue = new ChatMessageWriteBehindQueue(writer, sequentialAllocator(), 1);
+        queue.start();
+        queue.submit(1L, 1L, "a");                       // 플러시 스레드가 기록 중 (대기)
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+        queue.submit(1L, 1L, "b");                       // 대기열 1칸 사용
+
+        assertThrows(ChatMessageQueueFullException.class, () -> queue.submit(1L, 1L, "c"));
+        assertEquals(1L, queue.getRejectedCount());
+
+        release.countDown();
+        queue.shutdown();
+        verify(writer, times(2)).write(anyList());
+    }
+
+    @Test
+    void ID_대역_예약은_적재_잠금_밖에서_수행() throws Exception {
+        CountDownLatch reserving = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicLong sequence = new AtomicLong();
+        ChatIdAllocator allocator = mock(ChatIdAllocator.class);
+        doAnswer(inv -> {
+            if ("slow".equals(Thread.currentThread().getName())) {   // 이 스레드만 DB 예약이 느린 상황
+                reserving.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return null;
+        }).when(allocator).ensureAvailable();
+        when(allocator.tryNextId()).thenAnswer(inv -> sequence.incrementAndGet());
+
+        ChatMessageWriteBehindQueue queue = new ChatMessageWriteBehindQueue(mock(ChatMessageBatchWriter.class), allocator);
+        queue.start();
+        Thread slow = new Thread(() -> queue.submit(1L, 1L, "slow"), "slow");
+        slow.start();
+        assertTrue(reserving.await(5, TimeUnit.SECONDS));
+
+        // 다른 발신자는 느린 예약을 기다리지 않음
+        assertEquals(1L, queue.submit(2L, 2L, "fast").getChatId());
+
+        release.countDown();
+        slow.join(5_000);
+        queue.shutdown();
+    }
+
+    @Test
+    void 지표_스냅샷에_대기열과_플러시_지표_포함() {
+        ChatMessageWriteBehindQueue queue = new ChatMessageWriteBehindQueue(mock(ChatMessageBatchWriter.class), sequentialAllocator());
+        queue.start();
+        queue.submit(1L, 1L, "a");
+        queue.shutdown();
+
+        Map<String, Object> snapshot = queue.snapshot();
+        assertEquals(1L, snapshot.get("flushedMessageCount"));
+        assertEquals(0, snapshot.get("queueDepth"));
+        assertTrue(snapshot.containsKey("averageFlushMillis"));
+        assertTrue(snapshot.containsKey("rejectedCount"));
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.backend.chat.service;
+
+import org.example.backend.chat.persistence.ChatMessageWriteBehindQueue;
+import org.example.backend.common.AuthenticatedMemberResolver;
+import org.example.backend.entity.ChatRoom;
+import org.example.backend.repository.ChatMessageRepository;
+import org.example.backend.repository.ChatRoomRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.access.AccessDeniedException;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ChatMessageServiceTest {
+
+    private ChatMessageRepository chatMessageRepository;
+    private ChatRoomRepository chatRoomRepository;
+    private ChatMessageService chatMessageService;
+
+    @BeforeEach
+    void setup() {
+        chatMessageRepository = mock(ChatMessageRepository.class);
+        chatRoomRepository = mock(ChatRoomRepository.class);
+        AuthenticatedMemberResolver authenticatedMemberResolver = mock(AuthenticatedMemberResolver.class);
+        chatMessageService = new ChatMessageService(chatMessageRepository, chatRoomRepository, authenticatedMemberResolver,
+                mock(ChatMessageWriteBehindQueue.class), mock(ChatRoomAccessService.class));
+
+        when(authenticatedMemberResolver.resolveMemberId("user@test.com")).thenReturn(7L);
+        when(chatRoomRepository.findById(10L)).thenReturn(Optional.of(mock(ChatRoom.class)));
+    }
+
+    @Test
+    void 참여자가_아니면_메시지_조회_거부() {
+        when(chatRoomRepository.existsMemberInRoom(10L, 7L)).thenReturn(false);
+
+        assertThrows(AccessDeniedException.class,
+                () -> chatMessageService.getMessages("user@test.com", 10L, null, null, null));
+        verifyNoInteractions(chatMessageRepository);
+    }
+
+    @Test
+    void 커서와_limit이_없으면_최근_메시지_기본_개수만_조회() {
+        when(chatRoomRepository.existsMemberInRoom(10L, 7L)).thenReturn(true);
+        when(chatMessageRepository.findMessagesBefore(eq(10L), isNull(), any())).thenReturn(List.of());
+
+        chatMessageService.getMessages("user@test.com", 10L, null, null, null);
+
+        verify(chatMessageRepository).findMessagesBefore(eq(10L), isNull(), argThat(p -> p.isPaged() && p.getPageSize() == 50));
+        verify(chatMessageRepository, never()).findMessagesAfter(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void limit만_지정하면_최근_메시지부터_페이지_조회() {
+        when(chatRoomRepository.existsMemberInRoom(10L, 7L)).thenReturn(true);
+        when(chatMessageRepository.findMessagesBefore(eq(10L), isNull(), any())).thenReturn(List.of());
+
+        chatMessageService.getMessages("user@test.com", 10L, null, null, 500);
+
+        verify(chatMessageRepository).findMessagesBefore(eq(10L), isNull(), argThat(p -> p.getPageSize() == 200));
+    }
+}
@@ -0,0 +1,102 @@
+package org.example.backend.chat.service;
+
+import org.example.backend.chat.broker.ChatBroadcaster;
+import org.example.backend.chat.dto.ChatTypingEvent;
+import org.example.backend.chat.persistence.ChatReadMarkWriter;
+import org.example.backend.chat.persistence.ReadMark;
+import org.example.backend.chat.persistence.RoomMemberKey;
+import org.example.backend.chat.websocket.ChatSessionContext;
+import org.example.backend.repository.ChatMessageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ChatPresenceServiceTest {
+
+    private ChatBroadcaster broadcaster;
+    private ChatReadMarkWriter writer;
+    private ChatPresenceService presenceService;
+    private ChatSessionContext context;
+
+    @BeforeEach
+    void setup() {
+        broadcaster = mock(ChatBroadcaster.class);
+        writer = mock(ChatReadMarkWriter.class);
+        ChatMessageRepository chatMessageRepository = mock(ChatMessageRepository.class);
+        when(chatMessageRepository.findMaxChatIdByRoomId(10L)).thenReturn(100L);
+        presenceService = new ChatPresenceService(mock(ChatRoomAccessService.class), broadcaster, writer, chatMessageRepository);
+
+        context = new ChatSessionContext("user@test.com");
+        context.resolve(7L, "유저", List.of(10L));
+    }
+
+    @Test
+    void 연속된_입력_이벤트는_한번만_브로드캐스트하고_종료도_한번() {
+        presenceService.typing(context, 10L);
+        presenceService.typing(context, 10L);
+        presenceService.typing(context, 10L);
+
+        presenceService.stopTyping(10L, 7L);
+        presenceService.stopTyping(10L, 7L);
+
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(broadcaster, times(2)).broadcast(eq("/topic/chatroom.10"), captor.capture());
+        assertTrue(((ChatTypingEvent) captor.getAllValues().get(0)).isTyping());
+        assertFalse(((ChatTypingEvent) captor.getAllValues().get(1)).isTyping());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 읽음_이벤트는_모아서_한번에_기록하고_실패하면_다음_주기에_재시도() {
+        presenceService.markRead(context, 10L, 50L);
+        presenceService.markRead(context, 10L, 40L);
+
+        doThrow(new RuntimeException("db down")).when(writer).write(anyMap(), anyMap());
+        presenceService.flush();
+
+        doNothing().when(writer).write(anyMap(), anyMap());
+        presenceService.flush();
+
+        ArgumentCaptor<Map<RoomMemberKey, ReadMark>> reads = ArgumentCaptor.forClass(Map.class);
+        verify(writer, times(2)).write(reads.capture(), anyMap());
+        assertEquals(1, reads.getAllValues().get(1).size());
+        assertEquals(50L, reads.getAllValues().get(1).get(new RoomMemberKey(10L, 7L)).getUpToChatId());
+
+        // 기록이 끝나면 대기 중인 항목 없음
+        presenceService.flush();
+        verify(writer, times(3)).write(reads.capture(), anyMap());
+        assertTrue(reads.getValue().isEmpty());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 읽은_위치를_지정하지_않으면_채팅방에_기록된_마지막_메시지까지_읽음() {
+        presenceService.markRead(context, 10L, null);
+        presenceService.flush();
+
+        ArgumentCaptor<Map<RoomMemberKey, ReadMark>> reads = ArgumentCaptor.forClass(Map.class);
+        verify(writer).write(reads.capture(), anyMap());
+        assertEquals(100L, reads.getValue().get(new RoomMemberKey(10L, 7L)).getUpToChatId());
+    }
+
+    @Test
+    void 마지막_세션이_끊기면_오프라인_처리하고_입력_중_상태_정리() {
+        presenceService.connected("s1", context);
+        presenceService.connected("s2", context);
+        presenceService.typing(context, 10L);
+
+        presenceService.disconnected("s1");
+        assertTrue(presenceService.isOnline("user@test.com"));
+
+        presenceService.disconnected("s2");
+        assertFalse(presenceService.isOnline("user@test.com"));
+        verify(broadcaster, times(2)).broadcast(eq("/topic/chatroom.10"), any());
+    }
+}
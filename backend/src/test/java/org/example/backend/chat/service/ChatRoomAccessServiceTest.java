@@ -0,0 +1,71 @@
+package org.example.backend.chat.service;
+
+import org.example.backend.chat.websocket.ChatSessionContext;
+import org.example.backend.entity.Member;
+import org.example.backend.repository.ChatRoomRepository;
+import org.example.backend.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class ChatRoomAccessServiceTest {
+
+    private MemberRepository memberRepository;
+    private ChatRoomRepository chatRoomRepository;
+    private ChatRoomAccessService accessService;
+
+    @BeforeEach
+    void setup() {
+        memberRepository = mock(MemberRepository.class);
+        chatRoomRepository = mock(ChatRoomRepository.class);
+        accessService = new ChatRoomAccessService(memberRepository, chatRoomRepository);
+
+        Member member = Member.create("user@test.com", "pw", "유저", "010-0000-0000", null);
+        ReflectionTestUtils.setField(member, "memberId", 7L);
+        when(memberRepository.findByEmail("user@test.com")).thenReturn(Optional.of(member));
+        when(chatRoomRepository.findRoomIdsByMemberId(7L)).thenReturn(List.of(30L, 10L, 20L));
+    }
+
+    @Test
+    void authorize_최초_적재_이후_DB_조회_없음() {
+        ChatSessionContext context = new ChatSessionContext("user@test.com");
+
+        accessService.authorize(context, 10L);
+        accessService.authorize(context, 30L);
+        accessService.authorize(context, 20L);
+
+        assertEquals(7L, context.getMemberId());
+        assertEquals("유저", context.getNickname());
+        verify(memberRepository, times(1)).findByEmail(any());
+        verify(chatRoomRepository, times(1)).findRoomIdsByMemberId(7L);
+        verify(chatRoomRepository, never()).existsMemberInRoom(anyLong(), anyLong());
+    }
+
+    @Test
+    void authorize_연결_후_생긴_채팅방은_한번만_확인() {
+        when(chatRoomRepository.existsMemberInRoom(40L, 7L)).thenReturn(true);
+        ChatSessionContext context = new ChatSessionContext("user@test.com");
+
+        accessService.authorize(context, 40L);
+        accessService.authorize(context, 40L);
+
+        assertTrue(context.isAuthorized(40L));
+        verify(chatRoomRepository, times(1)).existsMemberInRoom(40L, 7L);
+    }
+
+    @Test
+    void authorize_참여하지_않은_채팅방은_예외() {
+        ChatSessionContext context = new ChatSessionContext("user@test.com");
+
+        assertThrows(IllegalArgumentException.class, () -> accessService.authorize(context, 99L));
+        assertFalse(context.isAuthorized(99L));
+    }
+}
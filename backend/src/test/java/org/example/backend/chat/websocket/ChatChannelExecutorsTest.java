@@ -0,0 +1,56 @@
+package org.example.backend.chat.websocket;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChatChannelExecutorsTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 풀과_큐가_가득차면_호출_스레드가_직접_처리() throws Exception {
+        ChatChannelExecutors executors = new ChatChannelExecutors("platform", 1, 1, 1, 1, 1, 1);
+        ThreadPoolTaskExecutor inbound = executors.inbound();
+        inbound.initialize();
+
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            inbound.execute(() -> await(release));  // 스레드 1개 점유
+            inbound.execute(() -> await(release));  // 큐 1칸 점유
+
+            AtomicReference<Thread> ranOn = new AtomicReference<>();
+            inbound.execute(() -> ranOn.set(Thread.currentThread()));
+
+            assertSame(Thread.currentThread(), ranOn.get());
+            Map<String, Object> stats = (Map<String, Object>) executors.snapshot().get("inbound");
+            assertEquals(1L, stats.get("callerRunsCount"));
+            assertEquals(1, stats.get("queueSize"));
+        } finally {
+            release.countDown();
+            inbound.shutdown();
+        }
+    }
+
+    @Test
+    void 가상_스레드를_지원하지_않는_런타임에서는_platform으로_동작() {
+        ChatChannelExecutors executors = new ChatChannelExecutors("virtual", 0, 0, 10, 0, 0, 10);
+
+        boolean virtualSupported = Runtime.version().feature() >= 21;
+        assertEquals(virtualSupported ? "virtual" : "platform", executors.snapshot().get("mode"));
+        assertTrue(executors.inbound().getMaxPoolSize() >= executors.inbound().getCorePoolSize());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package org.example.backend.chat.websocket;
+
+import org.example.backend.common.LatencyHistogram;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class StompTracerTest {
+
+    private final MessageChannel channel = mock(MessageChannel.class);
+    private final MessageHandler handler = mock(MessageHandler.class);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void destination별로_프레임수와_처리시간을_집계() {
+        StompTracer tracer = new StompTracer(1.0, 512);
+        ExecutorChannelInterceptor inbound = tracer.inboundInterceptor();
+
+        for (long roomId = 1; roomId <= 3; roomId++) {
+            Message<byte[]> message = stomp(StompCommand.SEND, "/pub/chat/" + roomId);
+            inbound.preSend(message, channel);
+            inbound.beforeHandle(message, channel, handler);
+            inbound.afterMessageHandled(message, channel, handler, null);
+        }
+
+        Map<String, StompTracer.TraceStats> frames = (Map<String, StompTracer.TraceStats>) tracer.snapshot().get("frames");
+        StompTracer.TraceStats stats = frames.get("inbound " + SimpMessageType.MESSAGE + " /pub/chat/{id}");
+        assertNotNull(stats);
+        assertEquals(3, stats.getFrames());
+        assertEquals(3, stats.getSampled());
+        assertEquals(0, stats.getErrors());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 샘플링_비율이_0이면_카운터만_증가하고_하트비트는_따로_집계() {
+        StompTracer tracer = new StompTracer(0.0, 512);
+        ExecutorChannelInterceptor inbound = tracer.inboundInterceptor();
+
+        Message<byte[]> message = stomp(StompCommand.SEND, "/pub/chat/1");
+        inbound.preSend(message, channel);
+        inbound.beforeHandle(message, channel, handler);
+        inbound.afterMessageHandled(message, channel, handler, null);
+
+        StompHeaderAccessor heartbeat = StompHeaderAccessor.createForHeartbeat();
+        inbound.preSend(MessageBuilder.createMessage(new byte[0], heartbeat.getMessageHeaders()), channel);
+
+        Map<String, Object> snapshot = tracer.snapshot();
+        Map<String, StompTracer.TraceStats> frames = (Map<String, StompTracer.TraceStats>) snapshot.get("frames");
+        StompTracer.TraceStats stats = frames.get("inbound " + SimpMessageType.MESSAGE + " /pub/chat/{id}");
+        assertEquals(1, stats.getFrames());
+        assertEquals(0, stats.getSampled());
+        assertEquals(1L, snapshot.get("heartbeats"));
+    }
+
+    @Test
+    void 페이로드_로그는_기간을_지정해_켜고_0이면_끔() {
+        StompTracer tracer = new StompTracer(1.0, 512);
+        assertFalse(tracer.isPayloadCaptureEnabled());
+
+        tracer.enablePayloadCapture(10);
+        assertTrue(tracer.isPayloadCaptureEnabled());
+
+        tracer.enablePayloadCapture(0);
+        assertFalse(tracer.isPayloadCaptureEnabled());
+    }
+
+    @Test
+    void 히스토그램_백분위수는_버킷_상한으로_근사() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 99; i++) {
+            histogram.record(800);      // 1ms 버킷
+        }
+        histogram.record(40_000);       // 50ms 버킷
+
+        assertEquals(1.0, histogram.percentileMillis(0.5));
+        assertEquals(1.0, histogram.percentileMillis(0.99));
+        assertEquals(50.0, histogram.percentileMillis(1.0));
+        assertEquals(40.0, histogram.getMaxMillis());
+    }
+
+    private static Message<byte[]> stomp(StompCommand command, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setDestination(destination);
+        accessor.setSessionId("s1");
+        return MessageBuilder.createMessage("{\"message\":\"hi\"}".getBytes(), accessor.getMessageHeaders());
+    }
+}
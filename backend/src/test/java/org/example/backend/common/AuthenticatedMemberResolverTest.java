@@ -0,0 +1,92 @@
+package org.example.backend.common;
+
+import org.example.backend.entity.Member;
+import org.example.backend.exception.customException.MemberNotFoundException;
+import org.example.backend.jwt.AuthenticatedMember;
+import org.example.backend.repository.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class AuthenticatedMemberResolverTest {
+
+    private MemberRepository memberRepository;
+    private MemberSnapshotCache snapshotCache;
+    private AuthenticatedMemberResolver resolver;
+    private Member member;
+
+    @BeforeEach
+    void setup() {
+        memberRepository = mock(MemberRepository.class);
+        snapshotCache = new MemberSnapshotCache(memberRepository);
+        resolver = new AuthenticatedMemberResolver(memberRepository, snapshotCache);
+
+        member = Member.create("user@test.com", "pw", "유저", "010-0000-0000", null);
+        ReflectionTestUtils.setField(member, "memberId", 7L);
+        when(memberRepository.findByEmail("user@test.com")).thenReturn(Optional.of(member));
+        when(memberRepository.findById(7L)).thenReturn(Optional.of(member));
+    }
+
+    @AfterEach
+    void clear() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 토큰에_회원ID가_있으면_DB_조회_없이_스냅샷_캐시_사용() {
+        authenticate(new AuthenticatedMember(7L, "user@test.com", "USER", "ACTIVE"));
+
+        assertEquals("유저", resolver.resolveSnapshot("user@test.com").getNickname());
+        assertEquals("유저", resolver.resolveSnapshot("user@test.com").getNickname());
+
+        verify(memberRepository, never()).findByEmail(any());
+        verify(memberRepository, times(1)).findById(7L);
+    }
+
+    @Test
+    void 회원ID_클레임이_없는_이전_토큰은_이메일로_조회() {
+        authenticate(new AuthenticatedMember(null, "user@test.com", "USER", null));
+
+        assertEquals(7L, resolver.resolveMemberId("user@test.com"));
+        assertEquals("유저", resolver.resolveSnapshot("user@test.com").getNickname());
+
+        verify(memberRepository, times(2)).findByEmail("user@test.com");
+        verify(memberRepository, never()).findById(any());
+    }
+
+    @Test
+    void evict_이후에는_다시_조회() {
+        authenticate(new AuthenticatedMember(7L, "user@test.com", "USER", "ACTIVE"));
+        resolver.resolveSnapshot("user@test.com");
+
+        member.updateNickname("변경");
+        snapshotCache.evict(7L);
+
+        assertEquals("변경", resolver.resolveSnapshot("user@test.com").getNickname());
+        verify(memberRepository, times(2)).findById(7L);
+    }
+
+    @Test
+    void 삭제된_회원의_토큰이면_참조_대신_회원없음_예외() {
+        authenticate(new AuthenticatedMember(8L, "gone@test.com", "USER", "ACTIVE"));
+        when(memberRepository.findById(8L)).thenReturn(Optional.empty());
+
+        assertThrows(MemberNotFoundException.class, () -> resolver.resolveReference("gone@test.com"));
+        verify(memberRepository, never()).getReferenceById(any());
+    }
+
+    private void authenticate(AuthenticatedMember principal) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+    }
+}
@@ -1,5 +1,8 @@
 package org.example.backend.expert;
 
+import org.example.backend.common.AuthenticatedMemberResolver;
+import org.example.backend.common.MemberSnapshot;
+import org.example.backend.common.MemberSnapshotCache;
 import org.example.backend.constant.Role;
 import org.example.backend.entity.*;
 import org.example.backend.expert.dto.request.ExpertRequestDto;
@@ -38,6 +41,8 @@ class ExpertServiceTest {
     @Mock private PortfolioRepository portfolioRepository;
 
     @Mock private ExpertProfileRepositoryCustom expertProfileRepositoryCustom;
+    @Mock private AuthenticatedMemberResolver authenticatedMemberResolver;
+    @Mock private MemberSnapshotCache memberSnapshotCache;
 
     private Member testMember;
     private ExpertRequestDto requestDto;
@@ -152,7 +157,8 @@ class ExpertServiceTest {
                 "oldUrl", "oldFb", "oldX", "oldInsta"
         );
 
-        when(memberRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testMember));
+        when(authenticatedMemberResolver.resolveSnapshot("test@example.com")).thenReturn(MemberSnapshot.from(testMember));
+        when(authenticatedMemberResolver.resolveReference("test@example.com")).thenReturn(testMember);
         when(expertProfileRepository.findByMember(testMember)).thenReturn(Optional.of(existingProfile));
 
         // Specialty 및 DetailField mock 설정
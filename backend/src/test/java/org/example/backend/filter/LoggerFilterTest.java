@@ -0,0 +1,118 @@
+package org.example.backend.filter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StreamUtils;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class LoggerFilterTest {
+
+    private HttpLogAppender appender;
+
+    @BeforeEach
+    void setup() {
+        appender = mock(HttpLogAppender.class);
+    }
+
+    @Test
+    void 본문은_최대크기까지만_캡처하고_응답은_그대로_전달() throws Exception {
+        LoggerFilter filter = new LoggerFilter(appender, 1.0, "", 8);
+        MockHttpServletRequest request = jsonRequest("/api/content", "{\"title\":\"long title\"}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain(new EchoServlet()));
+
+        assertEquals("{\"title\":\"long title\"}", response.getContentAsString());
+
+        HttpLogEntry entry = captureEntry();
+        assertEquals(200, entry.getStatus());
+        assertEquals(8, entry.getRequestBody().length);
+        assertEquals(8, entry.getResponseBody().length);
+        assertEquals(22, entry.getResponseBytes());
+        assertTrue(entry.format().contains("...(truncated)"));
+    }
+
+    @Test
+    void multipart_요청은_본문을_캡처하지_않음() throws Exception {
+        LoggerFilter filter = new LoggerFilter(appender, 1.0, "", 1024);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/mypage/profile-image");
+        request.setContentType("multipart/form-data; boundary=xyz");
+        request.setContent(new byte[4096]);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain(new EchoServlet()));
+
+        HttpLogEntry entry = captureEntry();
+        assertNull(entry.getRequestBody());
+        assertEquals(0, entry.getResponseBody().length);
+        assertEquals(4096, entry.getResponseBytes());
+        assertEquals(4096, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void 샘플링에서_제외된_경로는_5xx만_기록() throws Exception {
+        LoggerFilter filter = new LoggerFilter(appender, 1.0, "/api/chat/**=0", 1024);
+
+        filter.doFilter(jsonRequest("/api/chat/rooms", "{}"), new MockHttpServletResponse(),
+                new MockFilterChain(new EchoServlet()));
+        verify(appender, never()).append(any());
+
+        MockHttpServletResponse failed = new MockHttpServletResponse();
+        filter.doFilter(jsonRequest("/api/chat/rooms", "{}"), failed, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                resp.setStatus(500);
+            }
+        }));
+
+        HttpLogEntry entry = captureEntry();
+        assertEquals(500, entry.getStatus());
+        assertNull(entry.getResponseBody());
+    }
+
+    @Test
+    void 링버퍼가_가득차면_오래된_레코드부터_버림() {
+        HttpLogAppender ring = new HttpLogAppender();
+        for (int i = 0; i < HttpLogAppender.CAPACITY + 10; i++) {
+            ring.append(new HttpLogEntry("GET", "/" + i, 200, 1, 0, 0, null, null, false, false));
+        }
+
+        assertEquals(HttpLogAppender.CAPACITY, ring.getBufferedCount());
+        assertEquals(10, ring.getDroppedCount());
+    }
+
+    private HttpLogEntry captureEntry() {
+        ArgumentCaptor<HttpLogEntry> captor = ArgumentCaptor.forClass(HttpLogEntry.class);
+        verify(appender).append(captor.capture());
+        return captor.getValue();
+    }
+
+    private static MockHttpServletRequest jsonRequest(String uri, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    // 요청 본문을 그대로 응답으로 돌려주는 서블릿
+    private static class EchoServlet extends HttpServlet {
+        @Override
+        protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            resp.setContentType(req.getContentType());
+            StreamUtils.copy(req.getInputStream(), resp.getOutputStream());
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package org.example.backend.firebase;
+
+import org.example.backend.exception.customException.ImageUploadException;
+import org.example.backend.outbox.OutboxService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class FirebaseImageServiceTest {
+
+    @TempDir
+    Path root;
+
+    private final ImageProcessor processor = new ImageProcessor(2, 8, 100_000_000);
+    private final DriverManagerDataSource dataSource = h2DataSource();
+    private final DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+    private final ImageBlobRegistry registry = new ImageBlobRegistry(new JdbcTemplate(dataSource), transactionManager);
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    private final TransactionTemplate dispatcher = requiresNew();
+    private FirebaseImageService service;
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.shutdown();
+        }
+        processor.shutdown();
+    }
+
+    @Test
+    void 일괄_업로드는_병렬로_처리하고_요청_순서대로_URL_반환() throws IOException {
+        // 세 업로드가 동시에 진행 중이어야만 통과하는 저장소
+        CountDownLatch allStarted = new CountDownLatch(3);
+        LocalImageStorage local = new LocalImageStorage(root.toString());
+        service = create(new DelegatingStorage(local) {
+            @Override
+            public String put(String path, InputStream content, String contentType) throws IOException {
+                allStarted.countDown();
+                try {
+                    assertTrue(allStarted.await(5, TimeUnit.SECONDS), "업로드가 병렬로 실행되지 않음");
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                return super.put(path, content, contentType);
+            }
+        });
+
+        List<String> urls = service.uploadImages(List.of(
+                request("a.jpg", "first"), request("b.jpg", "second"), request("c.jpg", "third")));
+
+        assertEquals(3, urls.size());
+        assertEquals("first", Files.readString(Paths.get(URI.create(urls.get(0)))));
+        assertEquals("second", Files.readString(Paths.get(URI.create(urls.get(1)))));
+        assertEquals("third", Files.readString(Paths.get(URI.create(urls.get(2)))));
+    }
+
+    @Test
+    void 하나라도_실패하면_성공한_업로드를_삭제() throws IOException {
+        service = create(new LocalImageStorage(root.toString()));
+        MockMultipartFile broken = new MockMultipartFile("images", "broken.jpg", "image/jpeg", new byte[0]) {
+            @Override
+            public InputStream getInputStream() throws IOException {
+                throw new IOException("disk error");
+            }
+        };
+
+        assertThrows(ImageUploadException.class, () -> service.uploadImages(List.of(
+                request("a.jpg", "first"), new ImageUploadRequest(broken, "content/1/image"), request("c.jpg", "third"))));
+
+        assertEquals(0, storedFileCount());
+    }
+
+    @Test
+    void 트랜잭션이_롤백되면_업로드한_이미지를_삭제() throws IOException {
+        service = create(new LocalImageStorage(root.toString()));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.uploadImages(List.of(request("a.jpg", "first"), request("b.jpg", "second")));
+            assertEquals(2, storedFileCount());
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(0, storedFileCount());
+    }
+
+    @Test
+    void 변형_업로드는_상세_카드_썸네일을_저장하고_디코딩할_수_없으면_원본만_저장() throws IOException {
+        service = create(new LocalImageStorage(root.toString()));
+        ByteArrayOutputStream jpeg = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(2000, 1000, BufferedImage.TYPE_INT_RGB), "jpg", jpeg);
+
+        List<StoredImage> stored = service.uploadProcessedImages(List.of(
+                new ImageUploadRequest(new MockMultipartFile("images", "photo.jpg", "image/jpeg", jpeg.toByteArray()), "content/1/image"),
+                request("note.jpg", "not an image")));
+
+        StoredImage photo = stored.get(0);
+        assertEquals(1600, ImageIO.read(Paths.get(URI.create(photo.getImageUrl())).toFile()).getWidth());
+        assertEquals(640, ImageIO.read(Paths.get(URI.create(photo.getCardUrl())).toFile()).getWidth());
+        assertEquals(240, ImageIO.read(Paths.get(URI.create(photo.getThumbnailUrl())).toFile()).getWidth());
+
+        StoredImage original = stored.get(1);
+        assertNull(original.getCardUrl());
+        assertEquals(original.getImageUrl(), original.getListImageUrl());
+        assertEquals(4, storedFileCount());
+    }
+
+    @Test
+    void 같은_내용은_한번만_전송하고_마지막_참조가_해제될_때_삭제() throws IOException {
+        AtomicInteger puts = new AtomicInteger();
+        service = create(countingStorage(puts));
+
+        String first = service.uploadImages(List.of(request("a.jpg", "same"))).get(0);
+        String second = service.uploadImages(List.of(request("b.jpg", "same"))).get(0);
+
+        assertEquals(first, second);
+        assertEquals(1, puts.get());
+
+        service.deleteImage(first);
+        assertEquals(1, storedFileCount());
+        service.deleteImage(second);
+        assertEquals(0, storedFileCount());
+    }
+
+    @Test
+    void 같은_이미지를_다시_올리면_변형_생성과_전송을_생략하고_변형은_참조_하나로_해제() throws IOException {
+        AtomicInteger puts = new AtomicInteger();
+        service = create(countingStorage(puts));
+        ByteArrayOutputStream jpeg = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(800, 600, BufferedImage.TYPE_INT_RGB), "jpg", jpeg);
+        MockMultipartFile photo = new MockMultipartFile("images", "photo.jpg", "image/jpeg", jpeg.toByteArray());
+
+        StoredImage first = service.uploadProcessedImages(List.of(new ImageUploadRequest(photo, "content/1/image"))).get(0);
+        StoredImage second = service.uploadProcessedImages(List.of(new ImageUploadRequest(photo, "content/2/image"))).get(0);
+
+        assertEquals(first.urls(), second.urls());
+        assertEquals(3, puts.get());
+
+        service.deleteImages(first.getImageUrl(), first.getCardUrl(), first.getThumbnailUrl());
+        assertEquals(3, storedFileCount());
+        service.deleteImages(second.getImageUrl(), second.getCardUrl(), second.getThumbnailUrl());
+        assertEquals(0, storedFileCount());
+    }
+
+    @Test
+    void 트랜잭션_안에서_뺀_이미지를_다시_올려도_막히지_않고_재사용() throws IOException {
+        service = create(new LocalImageStorage(root.toString()));
+        String url = service.uploadImages(List.of(request("a.jpg", "same"))).get(0);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        String reuploaded = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> transaction.execute(status -> {
+            service.deleteImage(url);
+            return service.uploadImages(List.of(request("b.jpg", "same"))).get(0);
+        }));
+
+        assertEquals(url, reuploaded);
+        assertEquals(1, refCount(url));
+        assertEquals(1, storedFileCount());
+        service.deleteImage(reuploaded);
+        assertEquals(0, storedFileCount());
+    }
+
+    @Test
+    void 같은_해제가_다시_전달돼도_참조는_한번만_줄어듦() throws IOException {
+        service = create(new LocalImageStorage(root.toString()));
+        String url = service.uploadImages(List.of(request("a.jpg", "same"))).get(0);
+        service.uploadImages(List.of(request("b.jpg", "same")));
+        String path = new LocalImageStorage(root.toString()).pathOf(url);
+        ImageReleasePayload payload = new ImageReleasePayload(UUID.randomUUID().toString(), stemOf(path), path);
+
+        service.applyRelease(payload);
+        service.applyRelease(payload);
+
+        assertEquals(1, refCount(url));
+        assertEquals(1, storedFileCount());
+    }
+
+    private int refCount(String imageUrl) {
+        return jdbcTemplate.queryForObject("SELECT ref_count FROM image_blob WHERE image_url = ?", Integer.class, imageUrl);
+    }
+
+    private static String stemOf(String path) {
+        return path.substring(0, "images/".length() + 64 + 1 + 8);
+    }
+
+    // 아웃박스에 예약된 삭제는 바로 저장소에 반영, 참조 해제는 트랜잭션이 커밋된 뒤 별도 트랜잭션으로 반영
+    private FirebaseImageService create(ImageStorage storage) {
+        OutboxService outboxService = mock(OutboxService.class);
+        when(outboxService.enqueue(eq(ImageDeleteOutboxHandler.EVENT_TYPE), anyString(), any())).thenAnswer(invocation ->
+                storage.delete(invocation.<ImageDeletePayload>getArgument(2).getPath()));
+        FirebaseImageService[] created = new FirebaseImageService[1];
+        when(outboxService.enqueue(eq(ImageReleaseOutboxHandler.EVENT_TYPE), anyString(), any())).thenAnswer(invocation -> {
+            ImageReleasePayload payload = invocation.getArgument(2);
+            if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+                created[0].applyRelease(payload);
+                return true;
+            }
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatcher.executeWithoutResult(status -> created[0].applyRelease(payload));
+                }
+            });
+            return true;
+        });
+        created[0] = new FirebaseImageService(storage, processor, registry, outboxService, transactionManager, 4, 8, 10);
+        return created[0];
+    }
+
+    private TransactionTemplate requiresNew() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+
+    private ImageStorage countingStorage(AtomicInteger puts) {
+        return new DelegatingStorage(new LocalImageStorage(root.toString())) {
+            @Override
+            public String put(String path, InputStream content, String contentType) throws IOException {
+                puts.incrementAndGet();
+                return super.put(path, content, contentType);
+            }
+        };
+    }
+
+    // image_blob, image_blob_release 테이블만 있는 인메모리 H2
+    private static DriverManagerDataSource h2DataSource() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE image_blob (content_key VARCHAR(80) PRIMARY KEY, stem VARCHAR(100) NOT NULL UNIQUE, " +
+                "image_url VARCHAR(512) NOT NULL, card_url VARCHAR(512), thumbnail_url VARCHAR(512), " +
+                "ref_count INT NOT NULL, created_at TIMESTAMP NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE image_blob_release (release_id VARCHAR(36) PRIMARY KEY, stem VARCHAR(100) NOT NULL, " +
+                "applied_at TIMESTAMP NOT NULL)");
+        return dataSource;
+    }
+
+    private static ImageUploadRequest request(String fileName, String body) {
+        return new ImageUploadRequest(new MockMultipartFile("images", fileName, "image/jpeg", body.getBytes()), "content/1/image");
+    }
+
+    private long storedFileCount() throws IOException {
+        try (Stream<Path> files = Files.walk(root)) {
+            return files.filter(Files::isRegularFile).count();
+        }
+    }
+
+    private static class DelegatingStorage implements ImageStorage {
+        private final ImageStorage delegate;
+
+        DelegatingStorage(ImageStorage delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String put(String path, InputStream content, String contentType) throws IOException {
+            return delegate.put(path, content, contentType);
+        }
+
+        @Override
+        public boolean delete(String path) {
+            return delegate.delete(path);
+        }
+
+        @Override
+        public String pathOf(String url) {
+            return delegate.pathOf(url);
+        }
+    }
+}
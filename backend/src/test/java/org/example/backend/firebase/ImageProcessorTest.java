@@ -0,0 +1,70 @@
+package org.example.backend.firebase;
+
+import org.example.backend.exception.customException.InvalidFileException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImageProcessorTest {
+
+    private final ImageProcessor processor = new ImageProcessor(1, 4, 10_000_000);
+
+    @AfterEach
+    void tearDown() {
+        processor.shutdown();
+    }
+
+    @Test
+    void 긴_변_기준으로_축소하고_작은_이미지는_키우지_않음() throws IOException {
+        ProcessedImage processed = processor.process(new ByteArrayInputStream(encode(800, 3200, "jpg", BufferedImage.TYPE_INT_RGB))).orElseThrow();
+
+        assertEquals(".jpg", processed.getExtension());
+        assertSize(processed, ImageVariant.DETAIL, 400, 1600);
+        assertSize(processed, ImageVariant.CARD, 160, 640);
+        assertSize(processed, ImageVariant.THUMBNAIL, 60, 240);
+
+        ProcessedImage small = processor.process(new ByteArrayInputStream(encode(100, 50, "jpg", BufferedImage.TYPE_INT_RGB))).orElseThrow();
+        assertSize(small, ImageVariant.DETAIL, 100, 50);
+        assertSize(small, ImageVariant.THUMBNAIL, 100, 50);
+    }
+
+    @Test
+    void 투명도가_있으면_PNG로_인코딩() throws IOException {
+        ProcessedImage processed = processor.process(new ByteArrayInputStream(encode(300, 300, "png", BufferedImage.TYPE_INT_ARGB))).orElseThrow();
+
+        assertEquals("image/png", processed.getContentType());
+        assertTrue(read(processed, ImageVariant.CARD).getColorModel().hasAlpha());
+    }
+
+    @Test
+    void 처리할_수_없는_형식은_empty_해상도가_너무_크면_예외() throws IOException {
+        assertTrue(processor.process(new ByteArrayInputStream("plain text".getBytes())).isEmpty());
+        assertTrue(processor.process(new ByteArrayInputStream(encode(10, 10, "gif", BufferedImage.TYPE_INT_RGB))).isEmpty());
+
+        assertThrows(InvalidFileException.class,
+                () -> processor.process(new ByteArrayInputStream(encode(5000, 2001, "png", BufferedImage.TYPE_INT_RGB))));
+    }
+
+    private static void assertSize(ProcessedImage processed, ImageVariant variant, int width, int height) throws IOException {
+        BufferedImage image = read(processed, variant);
+        assertEquals(width, image.getWidth());
+        assertEquals(height, image.getHeight());
+    }
+
+    private static BufferedImage read(ProcessedImage processed, ImageVariant variant) throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(processed.getVariants().get(variant)));
+    }
+
+    private static byte[] encode(int width, int height, String format, int type) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, type), format, out);
+        return out.toByteArray();
+    }
+}
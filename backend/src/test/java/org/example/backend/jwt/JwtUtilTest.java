@@ -0,0 +1,52 @@
+package org.example.backend.jwt;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtUtilTest {
+
+    private final JwtUtil jwtUtil = new JwtUtil("test-secret-key-test-secret-key-test-secret-key");
+
+    @Test
+    void verify_클레임을_한번에_추출() {
+        TokenInfo tokenInfo = jwtUtil.createToken("user@test.com", "USER");
+
+        VerifiedToken verified = jwtUtil.verify(tokenInfo.getToken());
+
+        assertNotNull(verified);
+        assertEquals("user@test.com", verified.getEmail());
+        assertEquals("USER", verified.getRole());
+        assertEquals(tokenInfo.getJti(), verified.getJti());
+    }
+
+    @Test
+    void verify_같은_토큰은_캐시된_결과_재사용() {
+        String token = jwtUtil.createToken("user@test.com", "USER").getToken();
+
+        assertSame(jwtUtil.verify(token), jwtUtil.verify(token));
+    }
+
+    @Test
+    void verify_서명이_다른_토큰은_거부() {
+        String foreign = new JwtUtil("other-secret-key-other-secret-key-other-secret")
+                .createToken("user@test.com", "ADMIN").getToken();
+
+        assertNull(jwtUtil.verify(foreign));
+        assertFalse(jwtUtil.validateToken(foreign));
+    }
+
+    @Test
+    void verify_캐시는_최대_개수를_넘지_않음() {
+        for (int i = 0; i < JwtUtil.VERIFIED_CACHE_SIZE + 50; i++) {
+            assertNotNull(jwtUtil.verify(jwtUtil.createToken("user" + i + "@test.com", "USER").getToken()));
+        }
+
+        Map<?, ?> cache = (Map<?, ?>) ReflectionTestUtils.getField(jwtUtil, "verifiedCache");
+        assertNotNull(cache);
+        assertTrue(cache.size() <= JwtUtil.VERIFIED_CACHE_SIZE);
+    }
+}
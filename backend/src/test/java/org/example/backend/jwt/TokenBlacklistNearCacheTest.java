@@ -0,0 +1,107 @@
+package org.example.backend.jwt;
+
+import org.example.backend.redis.RedisService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class TokenBlacklistNearCacheTest {
+
+    private RedisService redisService;
+    private TokenBlacklistNearCache nearCache;
+
+    @BeforeEach
+    void setup() {
+        redisService = mock(RedisService.class);
+        nearCache = new TokenBlacklistNearCache(redisService, mock(RedisMessageListenerContainer.class));
+    }
+
+    @Test
+    void 적재_전에는_Redis로_확인() {
+        when(redisService.isBlacklisted("jti-1")).thenReturn(true);
+
+        assertTrue(nearCache.isBlacklisted("jti-1"));
+        verify(redisService).isBlacklisted("jti-1");
+    }
+
+    @Test
+    void 적재_후_폐기되지_않은_토큰은_Redis_조회_없음() {
+        when(redisService.scanBlacklistedJtis()).thenReturn(Set.of("revoked-1", "revoked-2"));
+        nearCache.rebuild();
+
+        for (int i = 0; i < 1_000; i++) {
+            nearCache.isBlacklisted("active-" + i);
+        }
+
+        // Bloom filter 오탐(1%)만 Redis로 확인
+        verify(redisService, atMost(30)).isBlacklisted(anyString());
+    }
+
+    @Test
+    void 적재된_블랙리스트는_Redis로_확정() {
+        when(redisService.scanBlacklistedJtis()).thenReturn(Set.of("revoked-1"));
+        when(redisService.isBlacklisted("revoked-1")).thenReturn(true);
+        nearCache.rebuild();
+
+        assertTrue(nearCache.isBlacklisted("revoked-1"));
+    }
+
+    @Test
+    void 전파된_폐기는_로컬에서_확정() {
+        when(redisService.scanBlacklistedJtis()).thenReturn(Set.of());
+        nearCache.rebuild();
+
+        nearCache.publish(Map.of("jti-a", 60_000L));
+        String body = "jti-b|" + (System.currentTimeMillis() + 60_000) + "\n";
+        nearCache.onMessage(new DefaultMessage(TokenBlacklistNearCache.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8)), null);
+
+        assertTrue(nearCache.isBlacklisted("jti-a"));
+        assertTrue(nearCache.isBlacklisted("jti-b"));
+        verify(redisService, never()).isBlacklisted(anyString());
+        verify(redisService).publish(eq(TokenBlacklistNearCache.CHANNEL), anyString());
+    }
+
+    @Test
+    void 전파_실패는_재시도하고_끝내_실패하면_세대_번호_갱신() {
+        doThrow(new RuntimeException("redis down")).when(redisService).publish(anyString(), anyString());
+
+        nearCache.publish(Map.of("jti-a", 60_000L));
+
+        verify(redisService, times(3)).publish(eq(TokenBlacklistNearCache.CHANNEL), anyString());
+        verify(redisService).incrementRevocationEpoch();
+        assertEquals(1L, nearCache.snapshot().get("publishFailureCount"));
+        assertEquals(2L, nearCache.snapshot().get("publishRetryCount"));
+    }
+
+    @Test
+    void 세대_번호가_바뀌면_Redis_조회로_전환하고_다시_적재() {
+        when(redisService.scanBlacklistedJtis()).thenReturn(Set.of());
+        nearCache.rebuild();
+
+        // 다른 인스턴스의 전파 실패로 세대 번호 증가, 재적재는 실패
+        when(redisService.getRevocationEpoch()).thenReturn(1L);
+        when(redisService.scanBlacklistedJtis()).thenThrow(new RuntimeException("scan failed"));
+        assertThrows(RuntimeException.class, () -> nearCache.checkEpoch());
+
+        when(redisService.isBlacklisted("jti-missed")).thenReturn(true);
+        assertTrue(nearCache.isBlacklisted("jti-missed"));
+        assertEquals(false, nearCache.snapshot().get("ready"));
+
+        // 다음 확인에서 재적재 성공
+        doReturn(Set.of("jti-missed")).when(redisService).scanBlacklistedJtis();
+        nearCache.checkEpoch();
+        assertEquals(true, nearCache.snapshot().get("ready"));
+        assertEquals(1L, nearCache.snapshot().get("loadedEpoch"));
+        assertEquals(1L, nearCache.snapshot().get("epochRebuildCount"));
+    }
+}
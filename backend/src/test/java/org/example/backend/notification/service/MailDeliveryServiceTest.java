@@ -0,0 +1,170 @@
+package org.example.backend.notification.service;
+
+import org.example.backend.constant.MailTemplate;
+import org.example.backend.notification.dto.MailPayload;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessagePreparator;
+
+import javax.mail.internet.MimeMessage;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MailDeliveryServiceTest {
+
+    private final RecordingMailSender mailSender = new RecordingMailSender();
+    private final MailDeliveryMetrics metrics = new MailDeliveryMetrics();
+    private MailDeliveryService deliveryService;
+
+    @AfterEach
+    void tearDown() {
+        if (deliveryService != null) {
+            deliveryService.shutdown();
+        }
+    }
+
+    @Test
+    void batch_크기만큼_묶어_연결_하나로_전송() {
+        deliveryService = new MailDeliveryService(mailSender, metrics, 2, 2, 0);
+
+        Map<Integer, Exception> failures = deliveryService.deliver(mails(5));
+
+        assertTrue(failures.isEmpty());
+        assertEquals(List.of(1, 2, 2), mailSender.batches.stream()
+                .map(batch -> batch.length).sorted().collect(Collectors.toList()));
+        assertEquals(5, metrics.snapshot().getSent());
+        assertEquals(3, metrics.snapshot().getBatches());
+    }
+
+    @Test
+    void 일부_메일만_실패하면_실패한_메일만_돌려줌() {
+        deliveryService = new MailDeliveryService(mailSender, metrics, 1, 10, 0);
+        mailSender.behavior = batch -> {
+            throw new MailSendException(Map.of(batch[1], new IllegalStateException("mailbox full")));
+        };
+
+        Map<Integer, Exception> failures = deliveryService.deliver(mails(3));
+
+        assertEquals(Map.of(1, "mailbox full"), failures.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().getMessage())));
+        assertEquals(2, metrics.snapshot().getSent());
+        assertEquals(1, metrics.snapshot().getFailed());
+    }
+
+    @Test
+    void 연결_실패는_batch_전체_실패() {
+        deliveryService = new MailDeliveryService(mailSender, metrics, 1, 10, 0);
+        mailSender.behavior = batch -> {
+            throw new MailSendException("connection refused");
+        };
+
+        assertEquals(3, deliveryService.deliver(mails(3)).size());
+    }
+
+    @Test
+    void 초당_발송_수를_넘지_않도록_대기() {
+        deliveryService = new MailDeliveryService(mailSender, metrics, 1, 1, 20);
+
+        long startedAt = System.nanoTime();
+        deliveryService.deliver(mails(4));
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        // 20통/초 → 첫 메일 이후 50ms 간격
+        assertTrue(elapsedMillis >= 140, "elapsed " + elapsedMillis);
+        assertTrue(metrics.snapshot().getThrottledMillis() > 0);
+    }
+
+    @Test
+    void 템플릿은_인자를_순서대로_채움() {
+        MailPayload mail = new MailTemplateRenderer().render("client@test.com", MailTemplate.PAYMENT_COMPLETED, "홍길동", "청소");
+
+        assertEquals("client@test.com", mail.getTo());
+        assertEquals("[결제 완료] 매칭이 수락되었습니다", mail.getSubject());
+        assertEquals("의뢰자 '홍길동'님이 '청소' 콘텐츠에 대해 결제를 완료했습니다.", mail.getText());
+    }
+
+    @Test
+    void 템플릿_인자_수가_다르면_바로_실패() {
+        MailTemplateRenderer renderer = new MailTemplateRenderer();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> renderer.render("client@test.com", MailTemplate.PAYMENT_COMPLETED, "홍길동"));
+        assertThrows(IllegalArgumentException.class,
+                () -> renderer.render("client@test.com", MailTemplate.PAYMENT_COMPLETED, "홍길동", "청소", "추가"));
+        assertThrows(IllegalArgumentException.class,
+                () -> renderer.render("client@test.com", MailTemplate.WORK_COMPLETED, "홍길동"));
+    }
+
+    @Test
+    void 인자가_없는_템플릿과_중괄호가_든_인자도_그대로_렌더링() {
+        MailTemplateRenderer renderer = new MailTemplateRenderer();
+
+        assertEquals("작업이 완료되었습니다.",
+                renderer.render("client@test.com", MailTemplate.WORK_COMPLETED).getText());
+        assertEquals("전문가 '{1}'님이 작업을 완료했습니다. 확인해 주세요.",
+                renderer.render("client@test.com", MailTemplate.WORK_COMPLETED_BY_EXPERT, "{1}").getText());
+    }
+
+    // SMTP 대신 batch 단위 호출만 기록
+    private static class RecordingMailSender implements JavaMailSender {
+        private final List<SimpleMailMessage[]> batches = new CopyOnWriteArrayList<>();
+        private volatile Consumer<SimpleMailMessage[]> behavior = batch -> { };
+
+        @Override
+        public void send(SimpleMailMessage... simpleMessages) {
+            batches.add(simpleMessages);
+            behavior.accept(simpleMessages);
+        }
+
+        @Override
+        public void send(SimpleMailMessage simpleMessage) {
+            send(new SimpleMailMessage[]{simpleMessage});
+        }
+
+        @Override
+        public MimeMessage createMimeMessage() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public MimeMessage createMimeMessage(InputStream contentStream) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void send(MimeMessage mimeMessage) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void send(MimeMessage... mimeMessages) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void send(MimeMessagePreparator mimeMessagePreparator) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void send(MimeMessagePreparator... mimeMessagePreparators) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static List<MailPayload> mails(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new MailPayload("user" + i + "@test.com", "subject", "text"))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,197 @@
+package org.example.backend.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class OutboxDispatcherTest {
+
+    private final JdbcTemplate jdbcTemplate = h2JdbcTemplate();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final OutboxService outboxService = new OutboxService(jdbcTemplate, objectMapper, eventPublisher);
+
+    @Test
+    void 커밋된_이벤트를_한_배치로_처리하고_완료_표시() {
+        List<String> handled = new CopyOnWriteArrayList<>();
+        OutboxDispatcher dispatcher = dispatcher(new TestHandler(payload -> handled.add(payload.getValue())), 10);
+
+        outboxService.enqueue("TEST", "k1", new TestPayload("a"));
+        outboxService.enqueue("TEST", "k2", new TestPayload("b"));
+        outboxService.enqueue("TEST", "k3", new TestPayload("c"));
+
+        assertEquals(3, dispatcher.dispatchOnce());
+        assertEquals(List.of("a", "b", "c"), handled.stream().sorted().collect(Collectors.toList()));
+        assertEquals(3, count("status = 'DONE' AND attempts = 1 AND claimed_by IS NULL AND processed_at IS NOT NULL"));
+
+        // 다시 처리하지 않음
+        assertEquals(0, dispatcher.dispatchOnce());
+        assertEquals(3, handled.size());
+    }
+
+    @Test
+    void 같은_키는_한번만_기록() {
+        assertTrue(outboxService.enqueue("TEST", "matching:1:paid", new TestPayload("a")));
+        assertFalse(outboxService.enqueue("TEST", "matching:1:paid", new TestPayload("a")));
+
+        assertEquals(1, count("1 = 1"));
+        verify(eventPublisher, times(1)).publishEvent(any(OutboxEnqueuedEvent.class));
+    }
+
+    @Test
+    void 실패하면_backoff_후_재시도하고_최대_횟수를_넘으면_실패로_남김() {
+        OutboxDispatcher dispatcher = dispatcher(new TestHandler(payload -> {
+            throw new IllegalStateException("smtp down");
+        }), 2);
+        outboxService.enqueue("TEST", "k1", new TestPayload("a"));
+
+        assertEquals(1, dispatcher.dispatchOnce());
+        Map<String, Object> row = jdbcTemplate.queryForMap("SELECT * FROM outbox_event");
+        assertEquals("PENDING", row.get("STATUS"));
+        assertEquals(1, row.get("ATTEMPTS"));
+        assertEquals("smtp down", row.get("LAST_ERROR"));
+        assertTrue(((Timestamp) row.get("NEXT_ATTEMPT_AT")).toLocalDateTime().isAfter(LocalDateTime.now()));
+
+        // backoff 중에는 가져가지 않음
+        assertEquals(0, dispatcher.dispatchOnce());
+
+        jdbcTemplate.update("UPDATE outbox_event SET next_attempt_at = ?", Timestamp.valueOf(LocalDateTime.now().minusSeconds(1)));
+        assertEquals(1, dispatcher.dispatchOnce());
+        assertEquals(1, count("status = 'FAILED' AND attempts = 2"));
+        assertEquals(0, dispatcher.dispatchOnce());
+    }
+
+    @Test
+    void 처리기가_없는_이벤트는_실패로_기록() {
+        OutboxDispatcher dispatcher = dispatcher(new TestHandler(payload -> { }), 10);
+        outboxService.enqueue("UNKNOWN", "k1", new TestPayload("a"));
+
+        assertEquals(1, dispatcher.dispatchOnce());
+        assertEquals(1, count("status = 'PENDING' AND attempts = 1 AND last_error LIKE '%UNKNOWN%'"));
+    }
+
+    @Test
+    void 다른_디스패처가_임대_중인_이벤트는_가져가지_않고_임대가_끝나면_가져감() {
+        List<String> handled = new CopyOnWriteArrayList<>();
+        OutboxDispatcher dispatcher = dispatcher(new TestHandler(payload -> handled.add(payload.getValue())), 10);
+        outboxService.enqueue("TEST", "k1", new TestPayload("a"));
+        jdbcTemplate.update("UPDATE outbox_event SET claimed_by = 'other', claimed_until = ?",
+                Timestamp.valueOf(LocalDateTime.now().plusMinutes(1)));
+
+        assertEquals(0, dispatcher.dispatchOnce());
+
+        jdbcTemplate.update("UPDATE outbox_event SET claimed_until = ?", Timestamp.valueOf(LocalDateTime.now().minusSeconds(1)));
+        assertEquals(1, dispatcher.dispatchOnce());
+        assertEquals(List.of("a"), handled);
+    }
+
+    @Test
+    void 일괄_처리기는_같은_유형을_한번에_받고_실패한_항목만_재시도() {
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        OutboxBatchHandler<TestPayload> handler = new OutboxBatchHandler<>() {
+            @Override
+            public String eventType() {
+                return "TEST";
+            }
+
+            @Override
+            public Class<TestPayload> payloadType() {
+                return TestPayload.class;
+            }
+
+            @Override
+            public Map<Integer, Exception> handleBatch(List<TestPayload> payloads) {
+                batchSizes.add(payloads.size());
+                return Map.of(1, new IllegalStateException("bounced"));
+            }
+        };
+        OutboxDispatcher dispatcher = new OutboxDispatcher(jdbcTemplate, objectMapper, List.of(handler),
+                100, 1000, 2, 60, 1000, 60_000, 10, 7);
+        outboxService.enqueue("TEST", "k1", new TestPayload("a"));
+        outboxService.enqueue("TEST", "k2", new TestPayload("b"));
+        outboxService.enqueue("TEST", "k3", new TestPayload("c"));
+
+        assertEquals(3, dispatcher.dispatchOnce());
+        assertEquals(List.of(3), batchSizes);
+        assertEquals(2, count("status = 'DONE'"));
+        assertEquals(1, count("status = 'PENDING' AND idempotency_key = 'k2' AND last_error = 'bounced'"));
+    }
+
+    @Test
+    void backoff는_지수로_늘어나고_상한을_넘지_않음() {
+        OutboxDispatcher dispatcher = dispatcher(new TestHandler(payload -> { }), 10);
+
+        assertTrue(dispatcher.backoffMs(1) >= 800 && dispatcher.backoffMs(1) <= 1200);
+        assertTrue(dispatcher.backoffMs(3) >= 3200 && dispatcher.backoffMs(3) <= 4800);
+        assertTrue(dispatcher.backoffMs(40) <= 60_000 * 6 / 5);
+    }
+
+    // 워커 풀 없이(start 호출 없이) 호출한 스레드에서 처리
+    private OutboxDispatcher dispatcher(OutboxHandler<?> handler, int maxAttempts) {
+        return new OutboxDispatcher(jdbcTemplate, objectMapper, List.of(handler),
+                100, 1000, 2, 60, 1000, 60_000, maxAttempts, 7);
+    }
+
+    private int count(String condition) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_event WHERE " + condition, Integer.class);
+    }
+
+    // outbox_event 테이블만 있는 인메모리 H2
+    private static JdbcTemplate h2JdbcTemplate() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE outbox_event (id BIGINT AUTO_INCREMENT PRIMARY KEY, event_type VARCHAR(50) NOT NULL, " +
+                "idempotency_key VARCHAR(200) NOT NULL UNIQUE, payload TEXT NOT NULL, status VARCHAR(20) NOT NULL, " +
+                "attempts INT NOT NULL, next_attempt_at TIMESTAMP NOT NULL, last_error VARCHAR(500), claimed_by VARCHAR(64), " +
+                "claimed_until TIMESTAMP, created_at TIMESTAMP NOT NULL, processed_at TIMESTAMP)");
+        return jdbcTemplate;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class TestPayload {
+        private String value;
+    }
+
+    private static class TestHandler implements OutboxHandler<TestPayload> {
+        private final Consumer<TestPayload> action;
+
+        TestHandler(Consumer<TestPayload> action) {
+            this.action = action;
+        }
+
+        @Override
+        public String eventType() {
+            return "TEST";
+        }
+
+        @Override
+        public Class<TestPayload> payloadType() {
+            return TestPayload.class;
+        }
+
+        @Override
+        public void handle(TestPayload payload) {
+            action.accept(payload);
+        }
+    }
+}
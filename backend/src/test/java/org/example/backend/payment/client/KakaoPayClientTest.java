@@ -0,0 +1,219 @@
+package org.example.backend.payment.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.example.backend.exception.customException.PaymentGatewayException;
+import org.example.backend.exception.customException.PaymentGatewayUnavailableException;
+import org.example.backend.payment.dto.KakaoPayApproveRequest;
+import org.example.backend.payment.dto.KakaoPayReadyRequest;
+import org.example.backend.payment.dto.KakaoPayReadyResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KakaoPayClientTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final PaymentGatewayMetrics metrics = new PaymentGatewayMetrics();
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicReference<String> lastAuthorization = new AtomicReference<>();
+    private final AtomicReference<String> lastBody = new AtomicReference<>();
+    private volatile StubResponse stub = new StubResponse(200, "{}", 0);
+    private HttpServer server;
+    private KakaoPayClient client;
+
+    @BeforeEach
+    void setup() throws IOException {
+        // 카카오페이 API 대신 응답하는 로컬 스텁
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", this::respond);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (client != null) {
+            client.shutdown();
+        }
+        server.stop(0);
+    }
+
+    @Test
+    void 준비_요청은_JSON으로_보내고_응답을_읽음() {
+        client = client(10, 5);
+        stub = new StubResponse(200, "{\"tid\":\"T123\",\"next_redirect_pc_url\":\"https://pay\",\"extra\":1}", 0);
+
+        KakaoPayReadyRequest request = new KakaoPayReadyRequest();
+        request.setCid("TC0ONETIME");
+        request.setTotal_amount("1000");
+        KakaoPayReadyResponse response = client.ready(request);
+
+        assertEquals("T123", response.getTid());
+        assertEquals("DEV_SECRET_KEY test-secret", lastAuthorization.get());
+        assertTrue(lastBody.get().contains("\"total_amount\":\"1000\""));
+        assertEquals(1, metrics.snapshot().get(KakaoPayClient.READY).getCalls());
+        assertEquals(0, metrics.snapshot().get(KakaoPayClient.READY).getFailures());
+    }
+
+    @Test
+    void 연속_5xx면_회로를_열고_호출하지_않고_거절() {
+        client = client(10, 3);
+        stub = new StubResponse(503, "{\"error_code\":-1}", 0);
+
+        for (int i = 0; i < 3; i++) {
+            assertThrows(PaymentGatewayException.class, () -> client.approve(approveRequest()));
+        }
+        assertEquals("OPEN", client.circuitState());
+
+        assertThrows(PaymentGatewayUnavailableException.class, () -> client.approve(approveRequest()));
+        assertEquals(3, hits.get());
+        assertEquals(1, metrics.snapshot().get(KakaoPayClient.APPROVE).getRejected());
+    }
+
+    @Test
+    void 클라이언트_오류_4xx는_회로_차단_판단에_넣지_않음() {
+        client = client(10, 2);
+        stub = new StubResponse(400, "{\"error_code\":-780}", 0);
+
+        for (int i = 0; i < 3; i++) {
+            assertThrows(PaymentGatewayException.class, () -> client.approve(approveRequest()));
+        }
+        assertEquals("CLOSED", client.circuitState());
+        assertEquals(3, hits.get());
+    }
+
+    @Test
+    void 응답이_늦으면_읽기_시간_초과로_실패() {
+        client = client(10, 5);
+        stub = new StubResponse(200, "{}", 2_000);
+
+        long startedAt = System.nanoTime();
+        assertThrows(PaymentGatewayException.class, () -> client.approve(approveRequest()));
+
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt) < 1_500);
+        assertEquals(1, metrics.snapshot().get(KakaoPayClient.APPROVE).getFailures());
+    }
+
+    @Test
+    void 동시_호출_한도를_넘으면_기다리지_않고_거절() throws Exception {
+        client = client(1, 5);
+        CountDownLatch release = new CountDownLatch(1);
+        stub = new StubResponse(200, "{}", 0, release);
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> client.approve(approveRequest()));
+        waitUntil(() -> hits.get() == 1);
+
+        assertThrows(PaymentGatewayUnavailableException.class, () -> client.approve(approveRequest()));
+        release.countDown();
+        assertEquals("{}", first.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void 로그용_본문에서_민감_항목을_가림() {
+        client = client(10, 5);
+        KakaoPayApproveRequest request = approveRequest();
+
+        String logged = client.redact(objectMapper.valueToTree(request));
+
+        assertTrue(logged.contains("\"pg_token\":\"****\""));
+        assertFalse(logged.contains("pg-secret"));
+        assertTrue(logged.contains("\"tid\":\"T1\""));
+    }
+
+    @Test
+    void 회로가_열린_뒤_시간이_지나면_시험_호출_하나만_허용() {
+        AtomicLong now = new AtomicLong();
+        CircuitBreaker breaker = new CircuitBreaker(1, 30, now::get);
+        breaker.tryAcquire();
+        breaker.onFailure();
+        assertFalse(breaker.tryAcquire());
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(31));
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+        breaker.onSuccess();
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    private KakaoPayClient client(int maxConcurrent, int failureThreshold) {
+        return new KakaoPayClient(objectMapper, metrics, "http://127.0.0.1:" + server.getAddress().getPort() + "/payment",
+                "test-secret", 4, 500, 300, maxConcurrent, 50, failureThreshold, 30);
+    }
+
+    private static KakaoPayApproveRequest approveRequest() {
+        KakaoPayApproveRequest request = new KakaoPayApproveRequest();
+        request.setTid("T1");
+        request.setPg_token("pg-secret");
+        return request;
+    }
+
+    private void respond(HttpExchange exchange) throws IOException {
+        hits.incrementAndGet();
+        lastAuthorization.set(exchange.getRequestHeaders().getFirst("Authorization"));
+        lastBody.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+        StubResponse response = stub;
+        try {
+            if (response.delayMs > 0) {
+                Thread.sleep(response.delayMs);
+            }
+            if (response.release != null) {
+                response.release.await(5, TimeUnit.SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] body = response.body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        try (OutputStream out = exchange.getResponseBody()) {
+            exchange.sendResponseHeaders(response.status, body.length);
+            out.write(body);
+        } catch (IOException e) {
+            // 클라이언트가 시간 초과로 먼저 끊은 경우
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+
+    private static class StubResponse {
+        private final int status;
+        private final String body;
+        private final long delayMs;
+        private final CountDownLatch release;
+
+        StubResponse(int status, String body, long delayMs) {
+            this(status, body, delayMs, null);
+        }
+
+        StubResponse(int status, String body, long delayMs, CountDownLatch release) {
+            this.status = status;
+            this.body = body;
+            this.delayMs = delayMs;
+            this.release = release;
+        }
+    }
+}
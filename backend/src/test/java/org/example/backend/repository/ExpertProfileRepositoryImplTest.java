@@ -122,12 +122,15 @@ class ExpertProfileRepositoryImplTest {
         // PortfolioImage 생성 및 저장 (썸네일)
         PortfolioImage portfolioImage = new PortfolioImage(portfolio, "https://thumbnail.url/portfolio1.jpg",true);
         portfolioImageRepository.save(portfolioImage);
+        portfolio.setThumbnailUrl(portfolioImage.getImageUrl());
+        portfolioRepository.save(portfolio);
 
         // Content 생성 및 저장
         Content content = new Content();
         setField(content, "member", member);
         setField(content, "title", "컨텐츠 제목");
         setField(content, "category", "카테고리");
+        setField(content, "thumbnailUrl", "https://thumbnail.url/content1.jpg");
         contentRepository.save(content);
 
         // ContentImage 생성 및 저장 (orderIndex=0 썸네일)
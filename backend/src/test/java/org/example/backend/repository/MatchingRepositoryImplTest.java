@@ -0,0 +1,123 @@
+package org.example.backend.repository;
+
+import org.example.backend.config.AuditConfig;
+import org.example.backend.config.QuerydslConfig;
+import org.example.backend.constant.JoinType;
+import org.example.backend.constant.MatchingStatus;
+import org.example.backend.constant.Status;
+import org.example.backend.entity.*;
+import org.example.backend.matchinghistory.dto.request.MatchingSearchCondition;
+import org.example.backend.matchinghistory.dto.response.MatchingSummaryBaseDto;
+import org.example.backend.matchinghistory.dto.response.MatchingSummaryExpertDto;
+import org.example.backend.matchinghistory.dto.response.MatchingSummaryUserDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@Import({QuerydslConfig.class, AuditConfig.class})
+class MatchingRepositoryImplTest {
+
+    @Autowired
+    private MatchingRepository matchingRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private Matching withoutItems;
+    private Matching withThreeItems;
+    private Matching withOneItem;
+
+    @BeforeEach
+    void setUp() {
+        Member expert = em.persist(Member.createExpert("expert@example.com", "pw", "전문가", "01011112222", JoinType.NORMAL));
+        Member user = em.persist(Member.create("user@example.com", "pw", "의뢰인", "01033334444", JoinType.NORMAL));
+        Category category = em.persist(new Category("디자인", null));
+        Content content = em.persist(Content.builder()
+                .member(expert)
+                .title("로고 디자인")
+                .status(Status.ACTIVE)
+                .category(category)
+                .thumbnailUrl("https://thumbnail.url/content1.jpg")
+                .build());
+
+        // 견적서(고른 상품) 없음 / 고른 상품 3개 / 고른 상품 1개 (매칭 ID 내림차순이면 1개, 3개, 없음 순)
+        withoutItems = em.persist(new Matching(user, content, MatchingStatus.ACCEPTED, LocalDate.of(2025, 1, 10), null));
+        withThreeItems = em.persist(new Matching(user, content, MatchingStatus.IN_PROGRESS, LocalDate.of(2025, 2, 10), null));
+        withOneItem = em.persist(new Matching(user, content, MatchingStatus.CONFIRMED, LocalDate.of(2025, 3, 10), null));
+        persistEstimate(withThreeItems, 60_000L, "기본 시안", "추가 수정", "원본 파일");
+        persistEstimate(withOneItem, 30_000L, "기본 시안");
+
+        em.flush();
+        em.clear();
+    }
+
+    private void persistEstimate(Matching matching, Long totalPrice, String... itemNames) {
+        EstimateRecord estimateRecord = EstimateRecord.builder()
+                .matching(matching)
+                .totalPrice(totalPrice)
+                .build();
+        for (int i = 0; i < itemNames.length; i++) {
+            estimateRecord.getSelectedProducts().add(SelectedProduct.builder()
+                    .estimateRecord(estimateRecord)
+                    .name(itemNames[i])
+                    .price(10_000L * (i + 1))
+                    .build());
+        }
+        em.persist(estimateRecord);
+    }
+
+    private static List<String> itemNames(MatchingSummaryBaseDto dto) {
+        return dto.getSelectedItems().stream()
+                .map(MatchingSummaryBaseDto.SelectedItemDto::getItemName)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void 전문가_매칭내역_페이지_크기는_고른_상품_수와_무관() {
+        Page<MatchingSummaryUserDto> firstPage = matchingRepository.findExpertMatchingSummaries(
+                "expert@example.com", new MatchingSearchCondition(), PageRequest.of(0, 2));
+
+        // 고른 상품 조인으로 행이 늘어나도 매칭 2건이 한 페이지에 담김
+        assertEquals(3, firstPage.getTotalElements());
+        assertEquals(2, firstPage.getTotalPages());
+        assertEquals(List.of(withOneItem.getMatchingId(), withThreeItems.getMatchingId()),
+                firstPage.getContent().stream().map(MatchingSummaryBaseDto::getMatchingId).collect(Collectors.toList()));
+        assertEquals(List.of("기본 시안"), itemNames(firstPage.getContent().get(0)));
+        assertEquals(List.of("기본 시안", "추가 수정", "원본 파일"), itemNames(firstPage.getContent().get(1)));
+        assertEquals(60_000, firstPage.getContent().get(1).getTotalPrice());
+
+        Page<MatchingSummaryUserDto> secondPage = matchingRepository.findExpertMatchingSummaries(
+                "expert@example.com", new MatchingSearchCondition(), PageRequest.of(1, 2));
+
+        // 견적서가 없는 매칭은 빈 상품 목록
+        assertEquals(1, secondPage.getContent().size());
+        assertEquals(withoutItems.getMatchingId(), secondPage.getContent().get(0).getMatchingId());
+        assertTrue(secondPage.getContent().get(0).getSelectedItems().isEmpty());
+        assertNull(secondPage.getContent().get(0).getTotalPrice());
+    }
+
+    @Test
+    void 유저_매칭내역도_매칭별로_고른_상품을_묶어서_조회() {
+        Page<MatchingSummaryExpertDto> page = matchingRepository.findUserMatchingSummaries(
+                "user@example.com", new MatchingSearchCondition(), PageRequest.of(0, 10));
+
+        assertEquals(3, page.getTotalElements());
+        assertEquals(3, page.getContent().size());
+        assertEquals(List.of(1, 3, 0), page.getContent().stream()
+                .map(dto -> dto.getSelectedItems().size())
+                .collect(Collectors.toList()));
+        assertEquals("전문가", page.getContent().get(0).getExpertName());
+    }
+}
@@ -0,0 +1,60 @@
+package org.example.backend.search;
+
+import org.example.backend.category.service.CategoryService;
+import org.example.backend.repository.ContentRepository;
+import org.example.backend.search.dto.response.SearchContentResponse;
+import org.example.backend.search.dto.response.SearchCursorResponse;
+import org.example.backend.search.index.ContentSearchIndex;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SearchServiceTest {
+
+    private final CategoryService categoryService = mock(CategoryService.class);
+    private final ContentRepository contentRepository = mock(ContentRepository.class);
+    private final ContentSearchIndex contentSearchIndex = mock(ContentSearchIndex.class);
+    private final SearchService searchService = new SearchService(categoryService, contentRepository, contentSearchIndex);
+
+    @Test
+    void 페이지_크기는_1에서_상한_사이로_보정() {
+        when(categoryService.getAllSubCategoryIds(1L)).thenReturn(List.of(10L));
+        when(contentRepository.findContentsByCategoryIdsAfter(anyList(), any(), anyInt()))
+                .thenReturn(List.of(row(3L), row(2L)));
+
+        SearchCursorResponse response = searchService.searchByCategoryWithCursor(1L, null, 0, false);
+        assertEquals(1, response.getContent().size());
+        assertTrue(response.isHasNext());
+        assertNotNull(response.getNextCursor());
+        verify(contentRepository).findContentsByCategoryIdsAfter(List.of(10L), null, 2);
+
+        searchService.searchByCategoryWithCursor(1L, null, 10_000, false);
+        verify(contentRepository).findContentsByCategoryIdsAfter(List.of(10L), null, 101);
+    }
+
+    @Test
+    void 인덱스_적재_전에는_DB_키워드_커서_검색으로_대체() {
+        when(contentSearchIndex.isReady()).thenReturn(false);
+        when(contentRepository.findContentsByKeywordAfter("청소", null, 13)).thenReturn(List.of(row(5L)));
+        when(contentRepository.countContentsByKeyword("청소")).thenReturn(1L);
+
+        SearchCursorResponse response = searchService.searchByKeywordWithCursor("청소", null, 12, true);
+
+        assertEquals(1, response.getContent().size());
+        assertFalse(response.isHasNext());
+        assertEquals(1L, response.getTotalElements());
+        verify(contentSearchIndex, never()).searchAfter(any(), any(), any(), anyInt());
+    }
+
+    private static SearchContentResponse row(Long contentId) {
+        SearchContentResponse response = new SearchContentResponse();
+        response.setContentId(contentId);
+        response.setUpdateTime(LocalDateTime.now());
+        return response;
+    }
+}
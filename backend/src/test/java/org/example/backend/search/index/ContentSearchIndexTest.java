@@ -0,0 +1,111 @@
+package org.example.backend.search.index;
+
+import org.example.backend.constant.Status;
+import org.example.backend.repository.ContentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ContentSearchIndexTest {
+
+    private ContentSearchIndex index;
+
+    @BeforeEach
+    void setup() {
+        index = new ContentSearchIndex(mock(ContentRepository.class));
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 0, 0);
+        index.index(1L, "고퀄리티 로고디자인 제작", "전문 디자이너가 직접 제작합니다.", now);
+        index.index(2L, "JavaScript 웹 개발", "React, Spring 기반 웹사이트 제작", now.plusDays(1));
+        index.index(3L, "명함 제작", "로고 디자인 포함 명함 디자인", now.plusDays(2));
+    }
+
+    @Test
+    void tokenize_한글은_bigram_영문은_소문자_단어() {
+        assertEquals(List.of("로고", "고디", "디자", "자인", "java"), ContentTokenizer.tokenize("로고디자인, Java!"));
+        assertEquals(List.of("앱"), ContentTokenizer.tokenize("앱"));
+    }
+
+    @Test
+    void search_띄어쓰기와_무관하게_한글_부분일치() {
+        ContentSearchHits hits = index.search("디자인", 0, 10);
+
+        assertEquals(2, hits.getTotal());
+        assertTrue(hits.getContentIds().containsAll(List.of(1L, 3L)));
+    }
+
+    @Test
+    void search_제목_매칭이_설명_매칭보다_우선() {
+        ContentSearchHits hits = index.search("명함", 0, 10);
+
+        assertEquals(List.of(3L), hits.getContentIds());
+        assertEquals(1L, index.search("로고디자인", 0, 10).getContentIds().get(0));
+    }
+
+    @Test
+    void search_영문_접두어_확장() {
+        assertEquals(List.of(2L), index.search("java", 0, 10).getContentIds());
+        assertEquals(List.of(2L), index.search("SPRING", 0, 10).getContentIds());
+    }
+
+    @Test
+    void search_모든_토큰이_매칭되어야_함() {
+        assertEquals(0, index.search("명함 react", 0, 10).getTotal());
+    }
+
+    @Test
+    void search_페이징() {
+        ContentSearchHits hits = index.search("제작", 1, 1);
+
+        assertEquals(3, hits.getTotal());
+        assertEquals(1, hits.getContentIds().size());
+    }
+
+    @Test
+    void searchAfter_최근_수정순_커서_이어보기() {
+        ContentSearchHits first = index.searchAfter("제작", null, null, 2);
+        assertEquals(List.of(3L, 2L), first.getContentIds());
+        assertEquals(3, first.getTotal());
+
+        LocalDateTime lastUpdateTime = LocalDateTime.of(2025, 1, 2, 0, 0);
+        ContentSearchHits next = index.searchAfter("제작", lastUpdateTime, 2L, 2);
+        assertEquals(List.of(1L), next.getContentIds());
+    }
+
+    @Test
+    void remove_및_재색인() {
+        index.remove(3L);
+        assertEquals(List.of(1L), index.search("디자인", 0, 10).getContentIds());
+
+        index.index(1L, "명함 제작", "", LocalDateTime.now());
+        assertEquals(0, index.search("로고", 0, 10).getTotal());
+        assertEquals(List.of(1L), index.search("명함", 0, 10).getContentIds());
+    }
+
+    @Test
+    void rebuild_적재_중_들어온_변경은_교체_후에도_유지() {
+        ContentRepository repository = mock(ContentRepository.class);
+        ContentSearchIndex rebuilding = new ContentSearchIndex(repository);
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 0, 0);
+        rebuilding.index(1L, "명함 제작", "명함 디자인", now);
+
+        // DB 조회 도중 4번 등록, 1번 삭제가 커밋됨 (조회 결과에는 반영되지 않은 상태)
+        when(repository.findSearchDocumentsByStatus(Status.ACTIVE)).thenAnswer(invocation -> {
+            rebuilding.index(4L, "명함 인쇄", "고급 명함", now.plusDays(1));
+            rebuilding.remove(1L);
+            return List.of(new ContentSearchDocument(1L, "명함 제작", "명함 디자인", now));
+        });
+        rebuilding.rebuild();
+
+        assertEquals(List.of(4L), rebuilding.search("명함", 0, 10).getContentIds());
+
+        // 재적재가 끝난 뒤의 변경은 로그에 쌓이지 않고 바로 반영
+        rebuilding.remove(4L);
+        assertEquals(0, rebuilding.search("명함", 0, 10).getTotal());
+    }
+}
@@ -26,11 +26,16 @@ import axiosInstance from "../../lib/axios.js";
     };
 */
 
+// ✅ 메시지 한 번에 불러올 개수 (서버 기본/최대 제한 이내)
+const MESSAGE_PAGE_SIZE = 50;
+
 const ChatPage = () => {
   const { roomId: initialRoomId } = useParams();
   const [rooms, setRooms] = useState([]);
   const [currentRoom, setCurrentRoom] = useState(initialRoomId || null);
   const [messages, setMessages] = useState([]);
+  const [hasOlderMessages, setHasOlderMessages] = useState(false);
+  const [isLoadingOlder, setIsLoadingOlder] = useState(false);
   const [inputMessage, setInputMessage] = useState("");
   const [stompClient, setStompClient] = useState(null);
   const [isConnected, setIsConnected] = useState(false);
@@ -40,6 +45,7 @@ const ChatPage = () => {
   const [isUserLoading, setIsUserLoading] = useState(true);
 
   const messagesEndRef = useRef(null);
+  const keepScrollRef = useRef(false);
 
   useEffect(() => {
     axiosInstance
@@ -63,6 +69,11 @@ const ChatPage = () => {
   };
 
   useEffect(() => {
+    // 이전 메시지를 위에 붙일 때는 현재 위치 유지
+    if (keepScrollRef.current) {
+      keepScrollRef.current = false;
+      return;
+    }
     scrollToBottom();
   }, [messages]);
 
@@ -81,16 +92,38 @@ const ChatPage = () => {
     }
   }, [isUserLoading, userInfo, fetchChatRooms]);
 
+  // ✅ 최근 메시지 한 페이지 조회
   const fetchMessages = useCallback(async (roomId) => {
     if (!roomId || roomId === "undefined" || isNaN(Number(roomId))) return;
     try {
-      const res = await axiosInstance.get(`/api/chat/rooms/${roomId}/messages`);
+      const res = await axiosInstance.get(`/api/chat/rooms/${roomId}/messages`, {
+        params: { limit: MESSAGE_PAGE_SIZE },
+      });
       setMessages(res.data);
+      setHasOlderMessages(res.data.length === MESSAGE_PAGE_SIZE);
     } catch (err) {
       console.error("❌ 메시지 불러오기 실패:", err);
     }
   }, []);
 
+  // ✅ 가장 오래된 메시지 이전 페이지 조회 (before 커서)
+  const fetchOlderMessages = async () => {
+    if (!currentRoom || isLoadingOlder || messages.length === 0) return;
+    setIsLoadingOlder(true);
+    try {
+      const res = await axiosInstance.get(`/api/chat/rooms/${currentRoom}/messages`, {
+        params: { before: messages[0].chatId, limit: MESSAGE_PAGE_SIZE },
+      });
+      keepScrollRef.current = true;
+      setMessages((prev) => [...res.data, ...prev]);
+      setHasOlderMessages(res.data.length === MESSAGE_PAGE_SIZE);
+    } catch (err) {
+      console.error("❌ 이전 메시지 불러오기 실패:", err);
+    } finally {
+      setIsLoadingOlder(false);
+    }
+  };
+
   const connectWebSocket = useCallback(
       (roomId) => {
         if (!roomId || roomId === "undefined" || isNaN(Number(roomId))) return;
@@ -106,7 +139,7 @@ const ChatPage = () => {
           onConnect: () => {
             setIsConnected(true);
 
-            client.subscribe(`/sub/chatroom/${roomId}`, (msg) => {
+            client.subscribe(`/topic/chatroom.${roomId}`, (msg) => {
               const newMessage = JSON.parse(msg.body);
               setMessages((prev) => [...prev, newMessage]);
             });
@@ -212,6 +245,11 @@ const ChatPage = () => {
               <>
                 <div className="chatHeader">{rooms.find((r) => r.roomId === currentRoom)?.opponentName || `채팅방 #${currentRoom}`}</div>
                 <div className="messagesContainer">
+                  {hasOlderMessages && (
+                      <button onClick={fetchOlderMessages} disabled={isLoadingOlder} className="loadOlderButton">
+                        {isLoadingOlder ? "불러오는 중..." : "이전 메시지 더 보기"}
+                      </button>
+                  )}
                   {groupMessages(messages).map((group, idx) => {
                     const isMine = group.senderEmail === myEmail;
                     const opponent = rooms.find((r) => r.roomId === currentRoom);